@@ -35,7 +35,7 @@ public class BatchFactory {
 
   public Batch createBatch(final TargetChain chain, final UInt64 start, final UInt64 count) {
     eventThread.checkOnEventThread();
-    final SyncSourceSelector syncSourceProvider = chain::selectRandomPeer;
+    final SyncSourceSelector syncSourceProvider = chain::selectPeer;
     return new EventThreadOnlyBatch(
         eventThread,
         new SyncSourceBatch(
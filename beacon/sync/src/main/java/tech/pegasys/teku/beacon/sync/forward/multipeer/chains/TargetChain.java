@@ -17,14 +17,19 @@ import com.google.common.base.MoreObjects;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.Set;
 import tech.pegasys.teku.networking.eth2.peers.SyncSource;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 
 /** A chain which some set of peers claim to have that may be used as a target to sync to. */
 public class TargetChain {
+  private static final double MIN_WEIGHT_RATIO = 0.05;
+
   private final SlotAndBlockRoot chainHead;
   private final Set<SyncSource> peers = new HashSet<>();
 
@@ -60,6 +65,48 @@ public class TargetChain {
         .findFirst();
   }
 
+  /**
+   * Selects a peer at random, weighted by the blocks by range throughput each peer has delivered so
+   * faster peers serve proportionally more requests. Peers which haven't been measured yet are
+   * weighted as the average measured peer so they still get requests and a measurement.
+   */
+  public Optional<SyncSource> selectPeer(final SyncSource... excluding) {
+    final Set<SyncSource> excludedPeers = Set.of(excluding);
+    final List<SyncSource> candidates =
+        peers.stream().filter(peer -> !excludedPeers.contains(peer)).toList();
+    if (candidates.isEmpty()) {
+      return Optional.empty();
+    }
+    final OptionalDouble averageThroughput =
+        candidates.stream()
+            .map(SyncSource::getBlocksByRangeThroughputBytesPerSecond)
+            .filter(OptionalLong::isPresent)
+            .mapToLong(OptionalLong::getAsLong)
+            .average();
+    if (averageThroughput.isEmpty() || averageThroughput.getAsDouble() <= 0) {
+      return Optional.of(candidates.get((int) (candidates.size() * Math.random())));
+    }
+    final double defaultWeight = averageThroughput.getAsDouble();
+    final double[] weights = new double[candidates.size()];
+    double totalWeight = 0;
+    for (int i = 0; i < weights.length; i++) {
+      // keep a minimal weight so a peer with a poor measurement can still improve it
+      final OptionalLong throughput =
+          candidates.get(i).getBlocksByRangeThroughputBytesPerSecond();
+      weights[i] =
+          Math.max(throughput.orElse((long) defaultWeight), defaultWeight * MIN_WEIGHT_RATIO);
+      totalWeight += weights[i];
+    }
+    double selection = totalWeight * Math.random();
+    for (int i = 0; i < weights.length; i++) {
+      selection -= weights[i];
+      if (selection < 0) {
+        return Optional.of(candidates.get(i));
+      }
+    }
+    return Optional.of(candidates.getLast());
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -171,6 +172,11 @@ public class ThrottlingSyncSource implements SyncSource {
     delegate.adjustReputation(adjustment);
   }
 
+  @Override
+  public OptionalLong getBlocksByRangeThroughputBytesPerSecond() {
+    return delegate.getBlocksByRangeThroughputBytesPerSecond();
+  }
+
   @Override
   public String toString() {
     return delegate.toString();
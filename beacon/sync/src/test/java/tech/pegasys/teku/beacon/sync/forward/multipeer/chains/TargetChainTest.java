@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beacon.sync.forward.multipeer.chains;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.beacon.sync.forward.multipeer.chains.TargetChainTestUtil.chainWith;
+
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.networking.eth2.peers.SyncSource;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class TargetChainTest {
+  private static final int SELECTIONS = 1000;
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createDefault());
+  private final SyncSource fastPeer = mock(SyncSource.class);
+  private final SyncSource slowPeer = mock(SyncSource.class);
+  private final SyncSource unmeasuredPeer = mock(SyncSource.class);
+
+  @Test
+  void selectPeer_shouldReturnEmptyWhenAllPeersExcluded() {
+    final TargetChain chain =
+        chainWith(dataStructureUtil.randomSlotAndBlockRoot(), fastPeer, slowPeer);
+
+    assertThat(chain.selectPeer(fastPeer, slowPeer)).isEmpty();
+  }
+
+  @Test
+  void selectPeer_shouldPreferFasterPeers() {
+    when(fastPeer.getBlocksByRangeThroughputBytesPerSecond())
+        .thenReturn(OptionalLong.of(1_000_000));
+    when(slowPeer.getBlocksByRangeThroughputBytesPerSecond()).thenReturn(OptionalLong.of(10_000));
+    final TargetChain chain =
+        chainWith(dataStructureUtil.randomSlotAndBlockRoot(), fastPeer, slowPeer);
+
+    int fastSelections = 0;
+    for (int i = 0; i < SELECTIONS; i++) {
+      if (chain.selectPeer().orElseThrow() == fastPeer) {
+        fastSelections++;
+      }
+    }
+
+    assertThat(fastSelections).isGreaterThan(SELECTIONS * 9 / 10).isLessThan(SELECTIONS);
+  }
+
+  @Test
+  void selectPeer_shouldStillSelectUnmeasuredPeers() {
+    when(fastPeer.getBlocksByRangeThroughputBytesPerSecond())
+        .thenReturn(OptionalLong.of(1_000_000));
+    final TargetChain chain =
+        chainWith(dataStructureUtil.randomSlotAndBlockRoot(), fastPeer, unmeasuredPeer);
+
+    int unmeasuredSelections = 0;
+    for (int i = 0; i < SELECTIONS; i++) {
+      if (chain.selectPeer().orElseThrow() == unmeasuredPeer) {
+        unmeasuredSelections++;
+      }
+    }
+
+    assertThat(unmeasuredSelections).isGreaterThan(SELECTIONS / 4);
+  }
+
+  @Test
+  void selectPeer_shouldRespectExclusions() {
+    when(fastPeer.getBlocksByRangeThroughputBytesPerSecond())
+        .thenReturn(OptionalLong.of(1_000_000));
+    when(slowPeer.getBlocksByRangeThroughputBytesPerSecond()).thenReturn(OptionalLong.of(10_000));
+    final TargetChain chain =
+        chainWith(dataStructureUtil.randomSlotAndBlockRoot(), fastPeer, slowPeer);
+
+    assertThat(chain.selectPeer(fastPeer)).contains(slowPeer);
+  }
+}
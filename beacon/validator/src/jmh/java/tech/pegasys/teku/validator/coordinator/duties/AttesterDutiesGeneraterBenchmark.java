@@ -80,10 +80,10 @@ public class AttesterDutiesGeneraterBenchmark {
 
   IntList validatorIndices = new IntArrayList();
 
-  @Param({"20000"})
+  @Param({"20000", "1000000"})
   int validatorsCount = 20_000;
 
-  @Param({"20000"})
+  @Param({"20000", "50000"})
   int querySize = 20_000;
 
   @Setup(Level.Trial)
@@ -94,7 +94,8 @@ public class AttesterDutiesGeneraterBenchmark {
         BeaconStateBellatrix.required(
             new GenesisStateBuilder()
                 .spec(spec)
-                .signDeposits(true)
+                // BLS verification is disabled so skip signing a deposit for every validator
+                .signDeposits(false)
                 .addValidators(validatorKeys)
                 .build());
     final MutableBeaconStateBellatrix mutableState = state.createWritableCopy();
@@ -103,8 +104,10 @@ public class AttesterDutiesGeneraterBenchmark {
 
     System.out.println("active validators: " + state.getValidators().size());
 
-    for (int i = 0; i < querySize; i++) {
-      validatorIndices.add(i);
+    // spread the requested validators over the whole registry
+    final int step = Math.max(1, validatorsCount / querySize);
+    for (int i = 0; i < querySize && i * step < validatorsCount; i++) {
+      validatorIndices.add(i * step);
     }
 
     attesterDutiesGenerator = new AttesterDutiesGenerator(spec);
@@ -128,6 +131,16 @@ public class AttesterDutiesGeneraterBenchmark {
     bh.consume(attesterDutiesFromIndicesAndState);
   }
 
+  @Benchmark
+  @Warmup(iterations = 5, time = 2000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10)
+  public void computeAttesterDutiesWithoutCachedAssignments(Blackhole bh) {
+    // a new generator has no cached assignments so has to traverse all committees again
+    bh.consume(
+        new AttesterDutiesGenerator(spec)
+            .getAttesterDutiesFromIndicesAndState(state, epoch, validatorIndices, false));
+  }
+
   private AttesterDuties computeAttesterDuties() {
     return attesterDutiesGenerator.getAttesterDutiesFromIndicesAndState(
         state, epoch, validatorIndices, false);
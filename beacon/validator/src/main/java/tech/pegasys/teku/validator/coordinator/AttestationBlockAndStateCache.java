@@ -0,0 +1,113 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+
+/**
+ * Caches the block and state attestations are produced from, keyed by slot for the current chain
+ * head.
+ *
+ * <p>Validator clients connected to the same beacon node all request attestation data for the same
+ * slot at roughly the same time. Only the first request for a slot resolves the block and state,
+ * concurrent and later requests share its result. Entries are dropped as soon as a request observes
+ * a different head root and failed results are never retained.
+ */
+public class AttestationBlockAndStateCache {
+  private static final String HIT = "hit";
+  private static final String MISS = "miss";
+  private static final int MAX_CACHED_SLOTS = 4;
+
+  private final Map<UInt64, SafeFuture<Optional<BeaconBlockAndState>>> cache =
+      LimitedMap.createNonSynchronized(MAX_CACHED_SLOTS);
+  private Optional<Bytes32> cachedHeadRoot = Optional.empty();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final LabelledMetric<OperationTimer> waitTimer;
+
+  public AttestationBlockAndStateCache(final MetricsSystem metricsSystem) {
+    final LabelledMetric<Counter> requestCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "attestation_data_cache_requests_total",
+            "Total number of attestation data requests, broken down by cache result",
+            "result");
+    this.hitCounter = requestCounter.labels(HIT);
+    this.missCounter = requestCounter.labels(MISS);
+    this.waitTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.VALIDATOR,
+            "attestation_data_cache_wait_time",
+            "Time spent waiting for the block and state to produce attestation data from",
+            "result");
+  }
+
+  public SafeFuture<Optional<BeaconBlockAndState>> get(
+      final UInt64 slot,
+      final Bytes32 headRoot,
+      final Supplier<SafeFuture<Optional<BeaconBlockAndState>>> loader) {
+    final SafeFuture<Optional<BeaconBlockAndState>> cached;
+    final SafeFuture<Optional<BeaconBlockAndState>> pending = new SafeFuture<>();
+    synchronized (this) {
+      if (!cachedHeadRoot.map(headRoot::equals).orElse(false)) {
+        cache.clear();
+        cachedHeadRoot = Optional.of(headRoot);
+      }
+      cached = cache.putIfAbsent(slot, pending);
+    }
+
+    if (cached != null) {
+      hitCounter.inc();
+      return timed(HIT, cached);
+    }
+
+    missCounter.inc();
+    pending.finish(__ -> {}, __ -> evict(slot, pending));
+    try {
+      loader.get().propagateTo(pending);
+    } catch (final Throwable t) {
+      pending.completeExceptionally(t);
+    }
+    return timed(MISS, pending);
+  }
+
+  synchronized int size() {
+    return cache.size();
+  }
+
+  private synchronized void evict(
+      final UInt64 slot, final SafeFuture<Optional<BeaconBlockAndState>> future) {
+    cache.remove(slot, future);
+  }
+
+  private SafeFuture<Optional<BeaconBlockAndState>> timed(
+      final String result, final SafeFuture<Optional<BeaconBlockAndState>> future) {
+    final OperationTimer.TimingContext timingContext = waitTimer.labels(result).startTimer();
+    future.always(timingContext::stopTimer);
+    return future;
+  }
+}
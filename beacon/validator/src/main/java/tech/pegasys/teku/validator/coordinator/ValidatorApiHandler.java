@@ -71,6 +71,7 @@ import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.attestation.ValidatableAttestation;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockContainer;
 import tech.pegasys.teku.spec.datastructures.builder.SignedValidatorRegistration;
@@ -140,6 +141,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
   private final SyncCommitteeContributionPool syncCommitteeContributionPool;
   private final ProposersDataManager proposersDataManager;
   private final BlockPublisher blockPublisher;
+  private final AttestationBlockAndStateCache attestationBlockAndStateCache;
 
   private final AttesterDutiesGenerator attesterDutiesGenerator;
 
@@ -164,7 +166,8 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
       final SyncCommitteeSubscriptionManager syncCommitteeSubscriptionManager,
       final BlockProductionAndPublishingPerformanceFactory
           blockProductionAndPublishingPerformanceFactory,
-      final BlockPublisher blockPublisher) {
+      final BlockPublisher blockPublisher,
+      final AttestationBlockAndStateCache attestationBlockAndStateCache) {
     this.blockProductionAndPublishingPerformanceFactory =
         blockProductionAndPublishingPerformanceFactory;
     this.chainDataProvider = chainDataProvider;
@@ -186,6 +189,7 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
     this.syncCommitteeSubscriptionManager = syncCommitteeSubscriptionManager;
     this.proposersDataManager = proposersDataManager;
     this.blockPublisher = blockPublisher;
+    this.attestationBlockAndStateCache = attestationBlockAndStateCache;
     this.attesterDutiesGenerator = new AttesterDutiesGenerator(spec);
   }
 
@@ -428,53 +432,71 @@ public class ValidatorApiHandler implements ValidatorApiChannel {
             ATTESTATION_PRODUCTION.getName(),
             CREATE.getName());
 
-    final UInt64 epoch = spec.computeEpochAtSlot(slot);
-    final UInt64 minQuerySlot = spec.computeStartSlotAtEpoch(epoch);
-
     final SafeFuture<Optional<AttestationData>> result =
         forkChoiceTrigger
             .prepareForAttestationProduction(slot)
-            .thenCompose(
-                __ ->
-                    combinedChainDataClient
-                        .getSignedBlockAndStateInEffectAtSlot(slot)
-                        .thenCompose(
-                            maybeBlockAndState -> {
-                              if (maybeBlockAndState.isEmpty()) {
-                                return SafeFuture.completedFuture(Optional.empty());
-                              }
-                              final SignedBlockAndState blockAndState = maybeBlockAndState.get();
-                              final BeaconBlock block = blockAndState.getBlock().getMessage();
-
-                              // The head block must not be optimistically synced.
-                              if (combinedChainDataClient.isOptimisticBlock(block.getRoot())) {
-                                return NodeSyncingException.failedFuture();
-                              }
-                              if (blockAndState.getSlot().compareTo(minQuerySlot) < 0) {
-                                // The current effective block is too far in the past - so roll the
-                                // state forward to the current epoch. Ensures we have the latest
-                                // justified checkpoint
-                                return combinedChainDataClient
-                                    .getCheckpointState(epoch, blockAndState)
-                                    .thenApply(
-                                        checkpointState ->
-                                            Optional.of(
-                                                createAttestationData(
-                                                    block,
-                                                    checkpointState.getState(),
-                                                    slot,
-                                                    committeeIndex)));
-                              } else {
-                                final AttestationData attestationData =
-                                    createAttestationData(
-                                        block, blockAndState.getState(), slot, committeeIndex);
-                                return SafeFuture.completedFuture(Optional.of(attestationData));
-                              }
-                            }));
+            .thenCompose(__ -> getBlockAndStateForAttestation(slot))
+            .thenApply(
+                maybeBlockAndState ->
+                    maybeBlockAndState.map(
+                        blockAndState ->
+                            createAttestationData(
+                                blockAndState.getBlock(),
+                                blockAndState.getState(),
+                                slot,
+                                committeeIndex)));
     result.always(context::stopTimer);
     return result;
   }
 
+  private SafeFuture<Optional<BeaconBlockAndState>> getBlockAndStateForAttestation(
+      final UInt64 slot) {
+    // Fork choice has just been run so the block and state in effect are fully determined by the
+    // slot and the current head, allowing concurrent requests to share a single lookup
+    return combinedChainDataClient
+        .getBestBlockRoot()
+        .map(
+            headRoot ->
+                attestationBlockAndStateCache.get(
+                    slot, headRoot, () -> loadBlockAndStateForAttestation(slot)))
+        .orElseGet(() -> loadBlockAndStateForAttestation(slot));
+  }
+
+  private SafeFuture<Optional<BeaconBlockAndState>> loadBlockAndStateForAttestation(
+      final UInt64 slot) {
+    final UInt64 epoch = spec.computeEpochAtSlot(slot);
+    final UInt64 minQuerySlot = spec.computeStartSlotAtEpoch(epoch);
+
+    return combinedChainDataClient
+        .getSignedBlockAndStateInEffectAtSlot(slot)
+        .thenCompose(
+            maybeBlockAndState -> {
+              if (maybeBlockAndState.isEmpty()) {
+                return SafeFuture.completedFuture(Optional.empty());
+              }
+              final SignedBlockAndState blockAndState = maybeBlockAndState.get();
+              final BeaconBlock block = blockAndState.getBlock().getMessage();
+
+              // The head block must not be optimistically synced.
+              if (combinedChainDataClient.isOptimisticBlock(block.getRoot())) {
+                return NodeSyncingException.failedFuture();
+              }
+              if (blockAndState.getSlot().compareTo(minQuerySlot) < 0) {
+                // The current effective block is too far in the past - so roll the state forward to
+                // the current epoch. Ensures we have the latest justified checkpoint
+                return combinedChainDataClient
+                    .getCheckpointState(epoch, blockAndState)
+                    .thenApply(
+                        checkpointState ->
+                            Optional.of(
+                                new BeaconBlockAndState(block, checkpointState.getState())));
+              } else {
+                return SafeFuture.completedFuture(
+                    Optional.of(new BeaconBlockAndState(block, blockAndState.getState())));
+              }
+            });
+  }
+
   private AttestationData createAttestationData(
       final BeaconBlock block,
       final BeaconState state,
@@ -0,0 +1,108 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.duties;
+
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Arrays;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
+
+/**
+ * Attester committee assignments of every validator for an epoch, built in a single pass over the
+ * epoch's committees.
+ *
+ * <p>Assignments are kept in a primitive array indexed by validator index, each entry packing the
+ * committee (slot offset and committee index) and the validator's position in it, so duties for
+ * any number of validators are answered without traversing committees again.
+ */
+final class AttesterAssignments {
+  private static final int UNASSIGNED = -1;
+  private static final int POSITION_BITS = 16;
+  private static final int POSITION_MASK = (1 << POSITION_BITS) - 1;
+
+  private final UInt64 startSlot;
+  private final int committeesPerSlot;
+  private final int[] assignmentByValidator;
+  private final int[] committeeSizes;
+
+  private AttesterAssignments(
+      final UInt64 startSlot,
+      final int committeesPerSlot,
+      final int[] assignmentByValidator,
+      final int[] committeeSizes) {
+    this.startSlot = startSlot;
+    this.committeesPerSlot = committeesPerSlot;
+    this.assignmentByValidator = assignmentByValidator;
+    this.committeeSizes = committeeSizes;
+  }
+
+  static AttesterAssignments create(final Spec spec, final BeaconState state, final UInt64 epoch) {
+    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
+    final int committeesPerSlot =
+        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
+    final int slotsPerEpoch = spec.slotsPerEpoch(epoch);
+    final UInt64 startSlot = spec.computeStartSlotAtEpoch(epoch);
+
+    final int[] assignmentByValidator = new int[state.getValidators().size()];
+    Arrays.fill(assignmentByValidator, UNASSIGNED);
+    final int[] committeeSizes = new int[slotsPerEpoch * committeesPerSlot];
+    for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
+      final UInt64 slot = startSlot.plus(slotOffset);
+      for (int committeeIndex = 0; committeeIndex < committeesPerSlot; committeeIndex++) {
+        final int committee = slotOffset * committeesPerSlot + committeeIndex;
+        final IntList members =
+            beaconStateAccessors.getBeaconCommittee(state, slot, UInt64.valueOf(committeeIndex));
+        committeeSizes[committee] = members.size();
+        for (int position = 0; position < members.size(); position++) {
+          assignmentByValidator[members.getInt(position)] =
+              (committee << POSITION_BITS) | position;
+        }
+      }
+    }
+    return new AttesterAssignments(
+        startSlot, committeesPerSlot, assignmentByValidator, committeeSizes);
+  }
+
+  boolean isAssigned(final int validatorIndex) {
+    return validatorIndex >= 0
+        && validatorIndex < assignmentByValidator.length
+        && assignmentByValidator[validatorIndex] != UNASSIGNED;
+  }
+
+  int getCommitteesPerSlot() {
+    return committeesPerSlot;
+  }
+
+  UInt64 getSlot(final int validatorIndex) {
+    return startSlot.plus(getCommittee(validatorIndex) / committeesPerSlot);
+  }
+
+  int getCommitteeIndex(final int validatorIndex) {
+    return getCommittee(validatorIndex) % committeesPerSlot;
+  }
+
+  int getCommitteeSize(final int validatorIndex) {
+    return committeeSizes[getCommittee(validatorIndex)];
+  }
+
+  int getCommitteePosition(final int validatorIndex) {
+    return assignmentByValidator[validatorIndex] & POSITION_MASK;
+  }
+
+  private int getCommittee(final int validatorIndex) {
+    return assignmentByValidator[validatorIndex] >>> POSITION_BITS;
+  }
+}
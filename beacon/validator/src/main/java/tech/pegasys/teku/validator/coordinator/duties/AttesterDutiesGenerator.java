@@ -13,23 +13,28 @@
 
 package tech.pegasys.teku.validator.coordinator.duties;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.IntCollection;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
-import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
-import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateAccessors;
 
 public class AttesterDutiesGenerator {
+  // Enough for the previous, current and next epoch plus a competing fork
+  private static final int ASSIGNMENTS_CACHE_SIZE = 4;
+
   private final Spec spec;
 
+  // Committee shuffling for an epoch is fully determined by its dependent root
+  private final Map<AssignmentsKey, AttesterAssignments> assignmentsCache =
+      LimitedMap.createSynchronizedLRU(ASSIGNMENTS_CACHE_SIZE);
+
   public AttesterDutiesGenerator(final Spec spec) {
     this.spec = spec;
   }
@@ -43,45 +48,48 @@ public class AttesterDutiesGenerator {
         epoch.isGreaterThan(spec.getCurrentEpoch(state))
             ? spec.atEpoch(epoch).getBeaconStateUtil().getCurrentDutyDependentRoot(state)
             : spec.atEpoch(epoch).getBeaconStateUtil().getPreviousDutyDependentRoot(state);
-    final List<AttesterDuty> duties = createAttesterDuties(state, epoch, validatorIndices);
+    final AttesterAssignments assignments = getAssignments(state, epoch, dependentRoot);
+    final List<AttesterDuty> duties = createAttesterDuties(state, assignments, validatorIndices);
     return new AttesterDuties(isChainHeadOptimistic, dependentRoot, duties);
   }
 
+  private AttesterAssignments getAssignments(
+      final BeaconState state, final UInt64 epoch, final Bytes32 dependentRoot) {
+    final AssignmentsKey key = new AssignmentsKey(epoch, dependentRoot);
+    final AttesterAssignments cachedAssignments = assignmentsCache.get(key);
+    if (cachedAssignments != null) {
+      return cachedAssignments;
+    }
+    // Created outside the cache lock, concurrent requests may both compute the same assignments
+    final AttesterAssignments assignments = AttesterAssignments.create(spec, state, epoch);
+    assignmentsCache.put(key, assignments);
+    return assignments;
+  }
+
   private List<AttesterDuty> createAttesterDuties(
-      final BeaconState state, final UInt64 epoch, final IntCollection validatorIndices) {
-    final List<AttesterDuty> attesterDutyList = new ArrayList<>();
-    final BeaconStateAccessors beaconStateAccessors = spec.atEpoch(epoch).beaconStateAccessors();
-    final UInt64 committeeCountPerSlot =
-        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch);
-    final Int2ObjectMap<CommitteeAssignment> validatorIndexToCommitteeAssignmentMap =
-        spec.getValidatorIndexToCommitteeAssignmentMap(state, epoch);
+      final BeaconState state,
+      final AttesterAssignments assignments,
+      final IntCollection validatorIndices) {
+    final List<AttesterDuty> attesterDutyList = new ArrayList<>(validatorIndices.size());
     for (final int validatorIndex : validatorIndices) {
-      final CommitteeAssignment committeeAssignment =
-          validatorIndexToCommitteeAssignmentMap.get(validatorIndex);
-      if (committeeAssignment != null) {
-        attesterDutyFromCommitteeAssignment(
-                committeeAssignment, validatorIndex, committeeCountPerSlot, state)
-            .ifPresent(attesterDutyList::add);
+      if (!assignments.isAssigned(validatorIndex)) {
+        continue;
       }
+      spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
+          .ifPresent(
+              publicKey ->
+                  attesterDutyList.add(
+                      new AttesterDuty(
+                          publicKey,
+                          validatorIndex,
+                          assignments.getCommitteeSize(validatorIndex),
+                          assignments.getCommitteeIndex(validatorIndex),
+                          assignments.getCommitteesPerSlot(),
+                          assignments.getCommitteePosition(validatorIndex),
+                          assignments.getSlot(validatorIndex))));
     }
     return attesterDutyList;
   }
 
-  private Optional<AttesterDuty> attesterDutyFromCommitteeAssignment(
-      final CommitteeAssignment committeeAssignment,
-      final int validatorIndex,
-      final UInt64 committeeCountPerSlot,
-      final BeaconState state) {
-    return spec.getValidatorPubKey(state, UInt64.valueOf(validatorIndex))
-        .map(
-            publicKey ->
-                new AttesterDuty(
-                    publicKey,
-                    validatorIndex,
-                    committeeAssignment.committee().size(),
-                    committeeAssignment.committeeIndex().intValue(),
-                    committeeCountPerSlot.intValue(),
-                    committeeAssignment.committee().indexOf(validatorIndex),
-                    committeeAssignment.slot()));
-  }
+  private record AssignmentsKey(UInt64 epoch, Bytes32 dependentRoot) {}
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockAndState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class AttestationBlockAndStateCacheTest {
+  private static final UInt64 SLOT = UInt64.valueOf(10);
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final AttestationBlockAndStateCache cache =
+      new AttestationBlockAndStateCache(metricsSystem);
+
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+  private final List<SafeFuture<Optional<BeaconBlockAndState>>> loads = new ArrayList<>();
+
+  @Test
+  void shouldShareInFlightLoadBetweenConcurrentRequests() {
+    final SafeFuture<Optional<BeaconBlockAndState>> first = get(SLOT, headRoot);
+    final SafeFuture<Optional<BeaconBlockAndState>> second = get(SLOT, headRoot);
+
+    assertThat(loads).hasSize(1);
+    assertThat(first).isNotDone();
+    assertThat(second).isNotDone();
+
+    final BeaconBlockAndState blockAndState = dataStructureUtil.randomBlockAndState(SLOT);
+    loads.get(0).complete(Optional.of(blockAndState));
+
+    assertThat(safeJoin(first)).contains(blockAndState);
+    assertThat(safeJoin(second)).contains(blockAndState);
+    assertThat(getRequestCount("hit")).isEqualTo(1);
+    assertThat(getRequestCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReuseCompletedLoadForSameSlotAndHead() {
+    get(SLOT, headRoot);
+    loads.get(0).complete(Optional.empty());
+
+    assertThat(safeJoin(get(SLOT, headRoot))).isEmpty();
+    assertThat(loads).hasSize(1);
+  }
+
+  @Test
+  void shouldLoadSeparatelyForDifferentSlots() {
+    get(SLOT, headRoot);
+    get(SLOT.plus(1), headRoot);
+
+    assertThat(loads).hasSize(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldInvalidateWhenHeadChanges() {
+    get(SLOT, headRoot);
+    get(SLOT.plus(1), headRoot);
+
+    get(SLOT, dataStructureUtil.randomBytes32());
+
+    assertThat(loads).hasSize(3);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldNotRetainFailedLoads() {
+    final SafeFuture<Optional<BeaconBlockAndState>> first = get(SLOT, headRoot);
+    final SafeFuture<Optional<BeaconBlockAndState>> second = get(SLOT, headRoot);
+    loads.get(0).completeExceptionally(new IllegalStateException("Nope"));
+
+    assertThatSafeFuture(first).isCompletedExceptionallyWith(IllegalStateException.class);
+    assertThatSafeFuture(second).isCompletedExceptionallyWith(IllegalStateException.class);
+    assertThat(cache.size()).isZero();
+
+    get(SLOT, headRoot);
+    assertThat(loads).hasSize(2);
+  }
+
+  @Test
+  void shouldNotRetainLoaderThatThrows() {
+    final SafeFuture<Optional<BeaconBlockAndState>> result =
+        cache.get(
+            SLOT,
+            headRoot,
+            () -> {
+              throw new IllegalStateException("Nope");
+            });
+
+    assertThatSafeFuture(result).isCompletedExceptionallyWith(IllegalStateException.class);
+    assertThat(cache.size()).isZero();
+  }
+
+  private SafeFuture<Optional<BeaconBlockAndState>> get(final UInt64 slot, final Bytes32 root) {
+    return cache.get(
+        slot,
+        root,
+        () -> {
+          final SafeFuture<Optional<BeaconBlockAndState>> load = new SafeFuture<>();
+          loads.add(load);
+          return load;
+        });
+  }
+
+  private long getRequestCount(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.VALIDATOR, "attestation_data_cache_requests_total", result);
+  }
+}
@@ -140,6 +140,8 @@ class ValidatorApiHandlerTest {
   private final NodeDataProvider nodeDataProvider = mock(NodeDataProvider.class);
   private final NetworkDataProvider networkDataProvider = mock(NetworkDataProvider.class);
   private final DutyMetrics dutyMetrics = mock(DutyMetrics.class);
+  private final AttestationBlockAndStateCache attestationBlockAndStateCache =
+      new AttestationBlockAndStateCache(new StubMetricsSystem());
   private final ForkChoiceTrigger forkChoiceTrigger = mock(ForkChoiceTrigger.class);
   private final ProposersDataManager proposersDataManager = mock(ProposersDataManager.class);
   private final SyncCommitteeMessagePool syncCommitteeMessagePool =
@@ -189,7 +191,8 @@ class ValidatorApiHandlerTest {
             syncCommitteeContributionPool,
             syncCommitteeSubscriptionManager,
             blockProductionPerformanceFactory,
-            blockPublisher);
+            blockPublisher,
+            attestationBlockAndStateCache);
 
     when(syncStateProvider.getCurrentSyncState()).thenReturn(SyncState.IN_SYNC);
     when(forkChoiceTrigger.prepareForBlockProduction(any(), any())).thenReturn(SafeFuture.COMPLETE);
@@ -441,7 +444,8 @@ class ValidatorApiHandlerTest {
             syncCommitteeContributionPool,
             syncCommitteeSubscriptionManager,
             blockProductionPerformanceFactory,
-            blockPublisher);
+            blockPublisher,
+            attestationBlockAndStateCache);
     // Best state is still in Phase0
     final BeaconState state =
         dataStructureUtil.stateBuilderPhase0().slot(previousEpochStartSlot.minus(1)).build();
@@ -655,6 +659,28 @@ class ValidatorApiHandlerTest {
     inOrder.verify(chainDataClient).getSignedBlockAndStateInEffectAtSlot(slot);
   }
 
+  @Test
+  public void createAttestationData_shouldShareBlockAndStateLookupForSameSlotAndHead() {
+    final UInt64 slot = spec.computeStartSlotAtEpoch(EPOCH).plus(ONE);
+    when(chainDataClient.getCurrentSlot()).thenReturn(slot);
+
+    final SignedBlockAndState blockAndState =
+        dataStructureUtil.randomSignedBlockAndState(epochStartSlot);
+    when(chainDataClient.getBestBlockRoot()).thenReturn(Optional.of(blockAndState.getRoot()));
+    when(chainDataClient.getSignedBlockAndStateInEffectAtSlot(slot))
+        .thenReturn(completedFuture(Optional.of(blockAndState)));
+    when(forkChoiceTrigger.prepareForAttestationProduction(slot)).thenReturn(SafeFuture.COMPLETE);
+
+    final SafeFuture<Optional<AttestationData>> result1 =
+        validatorApiHandler.createAttestationData(slot, 0);
+    final SafeFuture<Optional<AttestationData>> result2 =
+        validatorApiHandler.createAttestationData(slot, 0);
+
+    assertThat(safeJoin(result1)).isPresent();
+    assertThat(safeJoin(result2)).isEqualTo(safeJoin(result1));
+    verify(chainDataClient).getSignedBlockAndStateInEffectAtSlot(slot);
+  }
+
   @Test
   public void createAttestationData_shouldRejectRequestWhenSlotIsInTheFuture() {
     final UInt64 slot = spec.computeStartSlotAtEpoch(EPOCH).plus(ONE);
@@ -843,7 +869,8 @@ class ValidatorApiHandlerTest {
             syncCommitteeContributionPool,
             syncCommitteeSubscriptionManager,
             blockProductionPerformanceFactory,
-            blockPublisher);
+            blockPublisher,
+            attestationBlockAndStateCache);
 
     final Attestation attestation = dataStructureUtil.randomSingleAttestation();
     final Attestation convertedAttestation = dataStructureUtil.randomAttestation();
@@ -0,0 +1,134 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.coordinator.duties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
+import tech.pegasys.teku.infrastructure.ssz.SszMutableList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfig;
+import tech.pegasys.teku.spec.datastructures.state.CommitteeAssignment;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class AttesterDutiesGeneratorTest {
+  private static final int VALIDATOR_COUNT = 64;
+
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final AttesterDutiesGenerator generator = new AttesterDutiesGenerator(spec);
+
+  @Test
+  void shouldMatchCommitteeAssignments() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final AttesterDuties duties =
+        generator.getAttesterDutiesFromIndicesAndState(
+            state, epoch, allValidatorIndices(), false);
+
+    assertThat(duties.getDuties()).hasSize(VALIDATOR_COUNT);
+    final int committeesAtSlot = spec.getCommitteeCountPerSlot(state, epoch).intValue();
+    for (final AttesterDuty duty : duties.getDuties()) {
+      final CommitteeAssignment assignment =
+          spec.getCommitteeAssignment(state, epoch, duty.getValidatorIndex()).orElseThrow();
+      assertThat(duty.getSlot()).isEqualTo(assignment.slot());
+      assertThat(duty.getCommitteeIndex()).isEqualTo(assignment.committeeIndex().intValue());
+      assertThat(duty.getCommitteeLength()).isEqualTo(assignment.committee().size());
+      assertThat(duty.getValidatorCommitteeIndex())
+          .isEqualTo(assignment.committee().indexOf(duty.getValidatorIndex()));
+      assertThat(duty.getCommitteesAtSlot()).isEqualTo(committeesAtSlot);
+      assertThat(Optional.of(duty.getPublicKey()))
+          .isEqualTo(spec.getValidatorPubKey(state, UInt64.valueOf(duty.getValidatorIndex())));
+    }
+  }
+
+  @Test
+  void shouldSkipUnknownValidators() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final AttesterDuties duties =
+        generator.getAttesterDutiesFromIndicesAndState(
+            state, epoch, IntList.of(-1, 3, VALIDATOR_COUNT, VALIDATOR_COUNT + 1000), false);
+
+    assertThat(duties.getDuties()).extracting(AttesterDuty::getValidatorIndex).containsExactly(3);
+  }
+
+  @Test
+  void shouldReturnSameDutiesWhenAssignmentsAreCached() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state);
+
+    final AttesterDuties first =
+        generator.getAttesterDutiesFromIndicesAndState(
+            state, epoch, allValidatorIndices(), false);
+    final AttesterDuties second =
+        generator.getAttesterDutiesFromIndicesAndState(
+            state, epoch, allValidatorIndices(), false);
+
+    assertThat(second).isEqualTo(first);
+  }
+
+  @Test
+  void shouldComputeDutiesForNextEpoch() {
+    final BeaconState state = createStateWithActiveValidators();
+    final UInt64 epoch = spec.getCurrentEpoch(state).increment();
+
+    final AttesterDuties duties =
+        generator.getAttesterDutiesFromIndicesAndState(state, epoch, IntList.of(5), false);
+
+    final CommitteeAssignment assignment =
+        spec.getCommitteeAssignment(state, epoch, 5).orElseThrow();
+    assertThat(duties.getDependentRoot()).isEqualTo(spec.getCurrentDutyDependentRoot(state));
+    assertThat(duties.getDuties()).hasSize(1);
+    assertThat(duties.getDuties().getFirst().getSlot()).isEqualTo(assignment.slot());
+  }
+
+  private IntList allValidatorIndices() {
+    final IntList indices = new IntArrayList();
+    for (int i = 0; i < VALIDATOR_COUNT; i++) {
+      indices.add(i);
+    }
+    return indices;
+  }
+
+  private BeaconState createStateWithActiveValidators() {
+    return dataStructureUtil
+        .randomBeaconState(VALIDATOR_COUNT)
+        .updated(
+            state -> {
+              final SszMutableList<Validator> validators = state.getValidators();
+              for (int i = 0; i < validators.size(); i++) {
+                validators.update(
+                    i,
+                    validator ->
+                        validator
+                            .withActivationEligibilityEpoch(UInt64.ZERO)
+                            .withActivationEpoch(UInt64.ZERO)
+                            .withExitEpoch(SpecConfig.FAR_FUTURE_EPOCH)
+                            .withWithdrawableEpoch(SpecConfig.FAR_FUTURE_EPOCH));
+              }
+            });
+  }
+}
@@ -247,6 +247,7 @@ public abstract class AbstractDataBackedRestAPIIntegrationTest {
             eventChannels,
             asyncRunner,
             StubTimeProvider.withTimeInMillis(1000),
+            new StubMetricsSystem(),
             spec);
     assertThat(beaconRestApi.start()).isCompleted();
     client = new OkHttpClient.Builder().readTimeout(0, TimeUnit.SECONDS).build();
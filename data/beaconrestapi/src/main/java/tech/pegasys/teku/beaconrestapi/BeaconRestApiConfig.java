@@ -15,6 +15,7 @@ package tech.pegasys.teku.beaconrestapi;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +30,12 @@ public class BeaconRestApiConfig {
 
   public static final int DEFAULT_REST_API_PORT = 5051;
   public static final int DEFAULT_MAX_EVENT_QUEUE_SIZE = 250;
+  public static final long DEFAULT_MAX_PENDING_EVENT_BYTES = 16 * 1024 * 1024;
+  public static final int DEFAULT_EVENT_FLUSH_INTERVAL_MS = 0;
+  public static final long DEFAULT_RESPONSE_CACHE_SIZE_BYTES = 64 * 1024 * 1024;
+  public static final boolean DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED = false;
+  public static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT = 0;
+  public static final int DEFAULT_MAX_REQUEST_QUEUE_TIME_MS = 1000;
   public static final int DEFAULT_MAX_URL_LENGTH = 65535;
   public static final String DEFAULT_REST_API_INTERFACE = "127.0.0.1";
   public static final List<String> DEFAULT_REST_API_HOST_ALLOWLIST =
@@ -49,6 +56,12 @@ public class BeaconRestApiConfig {
   private final Eth1Address eth1DepositContractAddress;
   private final int maxUrlLength;
   private final int maxPendingEvents;
+  private final long maxPendingEventBytes;
+  private final int eventFlushIntervalMs;
+  private final long responseCacheSizeBytes;
+  private final boolean restApiVirtualThreadsEnabled;
+  private final int maxConcurrentRequestsPerEndpoint;
+  private final int maxRequestQueueTimeMs;
   private final Optional<Integer> validatorThreads;
 
   private BeaconRestApiConfig(
@@ -62,6 +75,12 @@ public class BeaconRestApiConfig {
       final Eth1Address eth1DepositContractAddress,
       final int maxUrlLength,
       final int maxPendingEvents,
+      final long maxPendingEventBytes,
+      final int eventFlushIntervalMs,
+      final long responseCacheSizeBytes,
+      final boolean restApiVirtualThreadsEnabled,
+      final int maxConcurrentRequestsPerEndpoint,
+      final int maxRequestQueueTimeMs,
       final Optional<Integer> validatorThreads,
       final boolean beaconLivenessTrackingEnabled) {
     this.restApiPort = restApiPort;
@@ -74,6 +93,12 @@ public class BeaconRestApiConfig {
     this.eth1DepositContractAddress = eth1DepositContractAddress;
     this.maxUrlLength = maxUrlLength;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingEventBytes = maxPendingEventBytes;
+    this.eventFlushIntervalMs = eventFlushIntervalMs;
+    this.responseCacheSizeBytes = responseCacheSizeBytes;
+    this.restApiVirtualThreadsEnabled = restApiVirtualThreadsEnabled;
+    this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+    this.maxRequestQueueTimeMs = maxRequestQueueTimeMs;
     this.validatorThreads = validatorThreads;
     this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
   }
@@ -118,6 +143,30 @@ public class BeaconRestApiConfig {
     return maxPendingEvents;
   }
 
+  public long getMaxPendingEventBytes() {
+    return maxPendingEventBytes;
+  }
+
+  public Duration getEventFlushInterval() {
+    return Duration.ofMillis(eventFlushIntervalMs);
+  }
+
+  public long getResponseCacheSizeBytes() {
+    return responseCacheSizeBytes;
+  }
+
+  public boolean isRestApiVirtualThreadsEnabled() {
+    return restApiVirtualThreadsEnabled;
+  }
+
+  public int getMaxConcurrentRequestsPerEndpoint() {
+    return maxConcurrentRequestsPerEndpoint;
+  }
+
+  public Duration getMaxRequestQueueTime() {
+    return Duration.ofMillis(maxRequestQueueTimeMs);
+  }
+
   public int getMaxUrlLength() {
     return maxUrlLength;
   }
@@ -152,6 +201,12 @@ public class BeaconRestApiConfig {
     private List<String> restApiHostAllowlist = DEFAULT_REST_API_HOST_ALLOWLIST;
     private List<String> restApiCorsAllowedOrigins = DEFAULT_REST_API_CORS_ALLOWED_ORIGINS;
     private int maxPendingEvents = DEFAULT_MAX_EVENT_QUEUE_SIZE;
+    private long maxPendingEventBytes = DEFAULT_MAX_PENDING_EVENT_BYTES;
+    private int eventFlushIntervalMs = DEFAULT_EVENT_FLUSH_INTERVAL_MS;
+    private long responseCacheSizeBytes = DEFAULT_RESPONSE_CACHE_SIZE_BYTES;
+    private boolean restApiVirtualThreadsEnabled = DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED;
+    private int maxConcurrentRequestsPerEndpoint = DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT;
+    private int maxRequestQueueTimeMs = DEFAULT_MAX_REQUEST_QUEUE_TIME_MS;
     private int maxUrlLength = DEFAULT_MAX_URL_LENGTH;
     private Optional<Integer> validatorThreads = Optional.empty();
     private Eth1Address eth1DepositContractAddress;
@@ -224,6 +279,59 @@ public class BeaconRestApiConfig {
       return this;
     }
 
+    public BeaconRestApiConfigBuilder maxPendingEventBytes(final long maxPendingEventBytes) {
+      if (maxPendingEventBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid maxPendingEventBytes: %d", maxPendingEventBytes));
+      }
+      this.maxPendingEventBytes = maxPendingEventBytes;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder eventFlushIntervalMs(final int eventFlushIntervalMs) {
+      if (eventFlushIntervalMs < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid eventFlushIntervalMs: %d", eventFlushIntervalMs));
+      }
+      this.eventFlushIntervalMs = eventFlushIntervalMs;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder responseCacheSizeBytes(final long responseCacheSizeBytes) {
+      if (responseCacheSizeBytes < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid responseCacheSizeBytes: %d", responseCacheSizeBytes));
+      }
+      this.responseCacheSizeBytes = responseCacheSizeBytes;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder restApiVirtualThreadsEnabled(
+        final boolean restApiVirtualThreadsEnabled) {
+      this.restApiVirtualThreadsEnabled = restApiVirtualThreadsEnabled;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder maxConcurrentRequestsPerEndpoint(
+        final int maxConcurrentRequestsPerEndpoint) {
+      if (maxConcurrentRequestsPerEndpoint < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid maxConcurrentRequestsPerEndpoint: %d", maxConcurrentRequestsPerEndpoint));
+      }
+      this.maxConcurrentRequestsPerEndpoint = maxConcurrentRequestsPerEndpoint;
+      return this;
+    }
+
+    public BeaconRestApiConfigBuilder maxRequestQueueTimeMs(final int maxRequestQueueTimeMs) {
+      if (maxRequestQueueTimeMs < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid maxRequestQueueTimeMs: %d", maxRequestQueueTimeMs));
+      }
+      this.maxRequestQueueTimeMs = maxRequestQueueTimeMs;
+      return this;
+    }
+
     public BeaconRestApiConfigBuilder beaconLivenessTrackingEnabled(
         final boolean beaconLivenessTrackingEnabled) {
       this.beaconLivenessTrackingEnabled = beaconLivenessTrackingEnabled;
@@ -260,6 +368,12 @@ public class BeaconRestApiConfig {
           eth1DepositContractAddress,
           maxUrlLength,
           maxPendingEvents,
+          maxPendingEventBytes,
+          eventFlushIntervalMs,
+          responseCacheSizeBytes,
+          restApiVirtualThreadsEnabled,
+          maxConcurrentRequestsPerEndpoint,
+          maxRequestQueueTimeMs,
           validatorThreads,
           beaconLivenessTrackingEnabled);
     }
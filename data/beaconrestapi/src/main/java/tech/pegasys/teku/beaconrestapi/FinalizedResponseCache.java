@@ -0,0 +1,112 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheableResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.ResponseBodyCache;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+
+/**
+ * Caches serialized response bodies for finalized chain data, keyed by endpoint, object root and
+ * content type. Finalized objects never change so entries don't need invalidating; the cache is
+ * bounded by the total size of the stored bodies and evicts the least recently used entries.
+ */
+public class FinalizedResponseCache implements ResponseBodyCache {
+  private final long maxSizeBytes;
+  private final Map<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private long sizeBytes = 0;
+
+  public FinalizedResponseCache(final MetricsSystem metricsSystem, final long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+    final LabelledMetric<Counter> requests =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_response_cache_requests_total",
+            "Number of lookups in the finalized REST API response cache",
+            "result");
+    this.hitCounter = requests.labels("hit");
+    this.missCounter = requests.labels("miss");
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "rest_api_response_cache_size_bytes",
+        "Total size of the response bodies held in the finalized REST API response cache",
+        this::getSizeBytes);
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "rest_api_response_cache_entries",
+        "Number of response bodies held in the finalized REST API response cache",
+        this::getEntryCount);
+  }
+
+  /**
+   * Creates a response for {@code response}, allowing it to be served from this cache when it
+   * describes finalized, non-optimistic data which can't change anymore.
+   */
+  public AsyncApiResponse respondOk(
+      final String endpointId, final Bytes32 root, final ObjectAndMetaData<?> response) {
+    if (maxSizeBytes == 0 || !response.isFinalized() || response.isExecutionOptimistic()) {
+      return AsyncApiResponse.respondOk(response);
+    }
+    return AsyncApiResponse.respondOk(
+        response, new CacheableResponse(this, endpointId + ":" + root.toHexString()));
+  }
+
+  @Override
+  public synchronized Optional<byte[]> get(final String key) {
+    final Optional<byte[]> body = Optional.ofNullable(entries.get(key));
+    if (body.isPresent()) {
+      hitCounter.inc();
+    } else {
+      missCounter.inc();
+    }
+    return body;
+  }
+
+  @Override
+  public synchronized void put(final String key, final byte[] body) {
+    if (body.length > maxSizeBytes) {
+      return;
+    }
+    final byte[] previous = entries.put(key, body);
+    if (previous != null) {
+      sizeBytes -= previous.length;
+    }
+    sizeBytes += body.length;
+    final Iterator<byte[]> iterator = entries.values().iterator();
+    while (sizeBytes > maxSizeBytes && iterator.hasNext()) {
+      sizeBytes -= iterator.next().length;
+      iterator.remove();
+    }
+  }
+
+  synchronized long getSizeBytes() {
+    return sizeBytes;
+  }
+
+  synchronized int getEntryCount() {
+    return entries.size();
+  }
+}
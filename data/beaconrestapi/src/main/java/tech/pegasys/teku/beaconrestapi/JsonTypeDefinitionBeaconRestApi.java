@@ -15,10 +15,12 @@ package tech.pegasys.teku.beaconrestapi;
 
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.List;
 import org.apache.commons.lang3.StringUtils;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.api.exceptions.BadRequestException;
 import tech.pegasys.teku.api.exceptions.ServiceUnavailableException;
@@ -146,10 +148,18 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     restApi =
         create(
-            config, dataProvider, eth1DataProvider, eventChannels, asyncRunner, timeProvider, spec);
+            config,
+            dataProvider,
+            eth1DataProvider,
+            eventChannels,
+            asyncRunner,
+            timeProvider,
+            metricsSystem,
+            spec);
   }
 
   @Override
@@ -174,8 +184,11 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
       final Spec spec) {
     final SchemaDefinitionCache schemaCache = new SchemaDefinitionCache(spec);
+    final FinalizedResponseCache responseCache =
+        new FinalizedResponseCache(metricsSystem, config.getResponseCacheSizeBytes());
     RestApiBuilder builder =
         new RestApiBuilder()
             .openApiInfo(
@@ -193,6 +206,10 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .maxUrlLength(config.getMaxUrlLength())
             .corsAllowedOrigins(config.getRestApiCorsAllowedOrigins())
             .hostAllowlist(config.getRestApiHostAllowlist())
+            .metricsSystem(metricsSystem)
+            .useVirtualThreads(config.isRestApiVirtualThreadsEnabled())
+            // Validators poll these endpoints on a deadline, never queue them behind slow queries
+            .priorityTag(TAG_VALIDATOR_REQUIRED)
             .exceptionHandler(
                 ChainDataUnavailableException.class, (throwable) -> HttpErrorResponse.noContent())
             .exceptionHandler(
@@ -221,7 +238,7 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .endpoint(new GetGenesis(dataProvider))
             .endpoint(new GetStateRoot(dataProvider))
             .endpoint(new GetStateFork(dataProvider))
-            .endpoint(new GetStateFinalityCheckpoints(dataProvider))
+            .endpoint(new GetStateFinalityCheckpoints(dataProvider, responseCache))
             .endpoint(new GetStateValidators(dataProvider))
             .endpoint(new PostStateValidators(dataProvider))
             .endpoint(new GetStateValidator(dataProvider))
@@ -232,12 +249,12 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .endpoint(new GetStateSyncCommittees(dataProvider))
             .endpoint(new GetStateRandao(dataProvider))
             .endpoint(new GetBlockHeaders(dataProvider))
-            .endpoint(new GetBlockHeader(dataProvider))
+            .endpoint(new GetBlockHeader(dataProvider, responseCache))
             .endpoint(new PostBlock(dataProvider, spec, schemaCache))
             .endpoint(new PostBlindedBlock(dataProvider, spec, schemaCache))
             .endpoint(new PostBlockV2(dataProvider, spec, schemaCache))
             .endpoint(new PostBlindedBlockV2(dataProvider, spec, schemaCache))
-            .endpoint(new GetBlock(dataProvider, schemaCache))
+            .endpoint(new GetBlock(dataProvider, schemaCache, responseCache))
             .endpoint(new GetBlindedBlock(dataProvider, schemaCache))
             .endpoint(new GetFinalizedCheckpointState(dataProvider, spec))
             .endpoint(new GetBlockRoot(dataProvider))
@@ -270,7 +287,10 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
                     eventChannels,
                     asyncRunner,
                     timeProvider,
-                    config.getMaxPendingEvents()))
+                    metricsSystem,
+                    config.getMaxPendingEvents(),
+                    config.getMaxPendingEventBytes(),
+                    config.getEventFlushInterval()))
             // Node Handlers
             .endpoint(new GetHealth(dataProvider))
             .endpoint(new GetIdentity(dataProvider, spec.getNetworkingConfig()))
@@ -329,6 +349,12 @@ public class JsonTypeDefinitionBeaconRestApi implements BeaconRestApi {
             .endpoint(new GetValidatorInclusion(dataProvider))
             .endpoint(new AddPeer(dataProvider));
 
+    if (config.getMaxConcurrentRequestsPerEndpoint() > 0) {
+      builder =
+          builder.maxConcurrentRequestsPerEndpoint(
+              config.getMaxConcurrentRequestsPerEndpoint(), config.getMaxRequestQueueTime());
+    }
+
     builder = applyAddons(builder, config, spec, dataProvider, schemaCache);
     return builder.build();
   }
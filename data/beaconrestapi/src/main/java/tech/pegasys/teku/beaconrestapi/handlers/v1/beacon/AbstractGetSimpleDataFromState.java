@@ -43,7 +43,11 @@ public abstract class AbstractGetSimpleDataFromState extends RestApiEndpoint {
         future.thenApply(
             maybeStateAndMetadata ->
                 maybeStateAndMetadata
-                    .map(AsyncApiResponse::respondOk)
+                    .map(this::createResponse)
                     .orElseGet(AsyncApiResponse::respondNotFound)));
   }
+
+  protected AsyncApiResponse createResponse(final StateAndMetaData stateAndMetaData) {
+    return AsyncApiResponse.respondOk(stateAndMetaData);
+  }
 }
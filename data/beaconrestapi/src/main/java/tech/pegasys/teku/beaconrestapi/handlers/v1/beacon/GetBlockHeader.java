@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -47,11 +48,15 @@ public class GetBlockHeader extends RestApiEndpoint {
           .withField(FINALIZED, BOOLEAN_TYPE, ObjectAndMetaData::isFinalized)
           .build();
 
-  public GetBlockHeader(final DataProvider dataProvider) {
-    this(dataProvider.getChainDataProvider());
+  private final FinalizedResponseCache responseCache;
+
+  public GetBlockHeader(
+      final DataProvider dataProvider, final FinalizedResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
   }
 
-  public GetBlockHeader(final ChainDataProvider chainDataProvider) {
+  public GetBlockHeader(
+      final ChainDataProvider chainDataProvider, final FinalizedResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getBlockHeader")
@@ -64,6 +69,7 @@ public class GetBlockHeader extends RestApiEndpoint {
             .withChainDataResponses()
             .build());
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -75,7 +81,12 @@ public class GetBlockHeader extends RestApiEndpoint {
         future.thenApply(
             maybeBlockAndMetaData ->
                 maybeBlockAndMetaData
-                    .map(AsyncApiResponse::respondOk)
+                    .map(
+                        blockAndMetaData ->
+                            responseCache.respondOk(
+                                getMetadata().getOperationId(),
+                                blockAndMetaData.getData().getRoot(),
+                                blockAndMetaData))
                     .orElse(AsyncApiResponse.respondNotFound())));
   }
 }
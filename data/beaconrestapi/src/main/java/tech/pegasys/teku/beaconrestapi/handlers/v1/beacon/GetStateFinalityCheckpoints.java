@@ -22,7 +22,9 @@ import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE
 
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
@@ -55,11 +57,15 @@ public class GetStateFinalityCheckpoints extends AbstractGetSimpleDataFromState
           .withField("data", DATA_TYPE, StateAndMetaData::getData)
           .build();
 
-  public GetStateFinalityCheckpoints(final DataProvider dataProvider) {
-    this(dataProvider.getChainDataProvider());
+  private final FinalizedResponseCache responseCache;
+
+  public GetStateFinalityCheckpoints(
+      final DataProvider dataProvider, final FinalizedResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), responseCache);
   }
 
-  GetStateFinalityCheckpoints(final ChainDataProvider chainDataProvider) {
+  GetStateFinalityCheckpoints(
+      final ChainDataProvider chainDataProvider, final FinalizedResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getStateFinalityCheckpoints")
@@ -73,5 +79,14 @@ public class GetStateFinalityCheckpoints extends AbstractGetSimpleDataFromState
             .withChainDataResponses()
             .build(),
         chainDataProvider);
+    this.responseCache = responseCache;
+  }
+
+  @Override
+  protected AsyncApiResponse createResponse(final StateAndMetaData stateAndMetaData) {
+    return responseCache.respondOk(
+        getMetadata().getOperationId(),
+        stateAndMetaData.getData().hashTreeRoot(),
+        stateAndMetaData);
   }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.lightclient;
+
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.MILESTONE_TYPE;
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.sszResponseType;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_BEACON;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EXPERIMENTAL;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+
+public class GetLightClientOptimisticUpdate extends RestApiEndpoint {
+  public static final String ROUTE = "/eth/v1/beacon/light_client/optimistic_update";
+  private final ChainDataProvider chainDataProvider;
+
+  public GetLightClientOptimisticUpdate(
+      final DataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(provider.getChainDataProvider(), schemaDefinitionCache);
+  }
+
+  public GetLightClientOptimisticUpdate(
+      final ChainDataProvider chainDataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache) {
+    super(
+        EndpointMetadata.get(ROUTE)
+            .operationId("getLightClientOptimisticUpdate")
+            .summary("Get the latest known `LightClientOptimisticUpdate`")
+            .description(
+                "Requests the latest [`LightClientOptimisticUpdate`](https://github.com/ethereum/consensus-specs/blob/v1.2.0-rc.3/specs/altair/light-client/sync-protocol.md#lightclientoptimisticupdate) known by the server. Depending on the `Accept` header it can be returned either as JSON or SSZ-serialized bytes.")
+            .tags(TAG_BEACON, TAG_EXPERIMENTAL)
+            .response(
+                SC_OK,
+                "Request successful",
+                getResponseType(schemaDefinitionCache),
+                sszResponseType())
+            .withNotFoundResponse()
+            .withNotAcceptedResponse()
+            .withNotImplementedResponse()
+            .withChainDataResponses()
+            .build());
+    this.chainDataProvider = chainDataProvider;
+  }
+
+  @Override
+  public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
+    request.respondAsync(
+        chainDataProvider
+            .getLightClientOptimisticUpdate()
+            .thenApply(
+                maybeUpdate ->
+                    maybeUpdate
+                        .map(
+                            updateAndMetaData -> {
+                              request.header(
+                                  HEADER_CONSENSUS_VERSION,
+                                  updateAndMetaData.getMilestone().lowerCaseName());
+                              return AsyncApiResponse.respondOk(updateAndMetaData);
+                            })
+                        .orElseGet(AsyncApiResponse::respondNotFound)));
+  }
+
+  private static SerializableTypeDefinition<ObjectAndMetaData<LightClientOptimisticUpdate>>
+      getResponseType(final SchemaDefinitionCache schemaDefinitionCache) {
+    final SerializableTypeDefinition<LightClientOptimisticUpdate> updateType =
+        SchemaDefinitionsAltair.required(
+                schemaDefinitionCache.getSchemaDefinition(SpecMilestone.ALTAIR))
+            .getLightClientOptimisticUpdateSchema()
+            .getJsonTypeDefinition();
+
+    return SerializableTypeDefinition.<ObjectAndMetaData<LightClientOptimisticUpdate>>object()
+        .name("GetLightClientOptimisticUpdateResponse")
+        .withField("version", MILESTONE_TYPE, ObjectAndMetaData::getMilestone)
+        .withField("data", updateType, ObjectAndMetaData::getData)
+        .build();
+  }
+}
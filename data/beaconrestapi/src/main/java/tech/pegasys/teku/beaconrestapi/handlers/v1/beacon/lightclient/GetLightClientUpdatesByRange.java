@@ -23,24 +23,35 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EXPERIM
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Collections;
 import java.util.List;
+import tech.pegasys.teku.api.ChainDataProvider;
+import tech.pegasys.teku.api.DataProvider;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequest;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.JsonResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.OctetStreamResponseContentTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.openapi.response.ResponseContentTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
-import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponse;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionCache;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
 
 public class GetLightClientUpdatesByRange extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v1/beacon/light_client/updates";
+  private final ChainDataProvider chainDataProvider;
 
-  public GetLightClientUpdatesByRange(final SchemaDefinitionCache schemaDefinitionCache) {
+  public GetLightClientUpdatesByRange(
+      final DataProvider provider, final SchemaDefinitionCache schemaDefinitionCache) {
+    this(provider.getChainDataProvider(), schemaDefinitionCache);
+  }
+
+  public GetLightClientUpdatesByRange(
+      final ChainDataProvider chainDataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getLightClientUpdatesByRange")
@@ -53,15 +64,25 @@ public class GetLightClientUpdatesByRange extends RestApiEndpoint {
             .response(
                 SC_OK,
                 "Request successful",
-                List.of(getJsonResponseType(schemaDefinitionCache), getSszResponseType()))
+                List.of(
+                    getJsonResponseType(schemaDefinitionCache),
+                    getSszResponseType(chainDataProvider)))
             .withNotAcceptedResponse()
             .withNotImplementedResponse()
+            .withChainDataResponses()
             .build());
+    this.chainDataProvider = chainDataProvider;
   }
 
   @Override
   public void handleRequest(final RestApiRequest request) throws JsonProcessingException {
-    request.respondError(501, "Not implemented");
+    final UInt64 startPeriod = request.getQueryParameter(START_PERIOD_PARAMETER);
+    final UInt64 count = request.getQueryParameter(COUNT_PARAMETER);
+
+    request.respondAsync(
+        chainDataProvider
+            .getLightClientUpdates(startPeriod, count)
+            .thenApply(AsyncApiResponse::respondOk));
   }
 
   private static ResponseContentTypeDefinition<List<ObjectAndMetaData<LightClientUpdate>>>
@@ -83,12 +104,15 @@ public class GetLightClientUpdatesByRange extends RestApiEndpoint {
         SerializableTypeDefinition.listOf(lightClientUpdateObjectType));
   }
 
-  private static ResponseContentTypeDefinition<List<LightClientUpdateResponse>>
-      getSszResponseType() {
-    OctetStreamResponseContentTypeDefinition.OctetStreamSerializer<List<LightClientUpdateResponse>>
+  private static ResponseContentTypeDefinition<List<ObjectAndMetaData<LightClientUpdate>>>
+      getSszResponseType(final ChainDataProvider chainDataProvider) {
+    final OctetStreamResponseContentTypeDefinition.OctetStreamSerializer<
+            List<ObjectAndMetaData<LightClientUpdate>>>
         serializer =
             (data, out) ->
-                data.stream().forEachOrdered(lcuResponse -> lcuResponse.sszSerialize(out));
+                data.stream()
+                    .map(chainDataProvider::createLightClientUpdateResponse)
+                    .forEachOrdered(lcuResponse -> lcuResponse.sszSerialize(out));
 
     return new OctetStreamResponseContentTypeDefinition<>(serializer, __ -> Collections.emptyMap());
   }
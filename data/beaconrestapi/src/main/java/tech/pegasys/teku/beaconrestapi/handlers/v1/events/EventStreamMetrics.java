@@ -0,0 +1,51 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+class EventStreamMetrics {
+  private final Counter eventsSent;
+  private final Counter writes;
+  private final Counter slowSubscribersDisconnected;
+
+  EventStreamMetrics(final MetricsSystem metricsSystem) {
+    this.eventsSent =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "event_stream_events_sent_total",
+            "Total number of events written to event stream subscribers");
+    this.writes =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "event_stream_writes_total",
+            "Total number of flushed writes to event stream subscribers");
+    this.slowSubscribersDisconnected =
+        metricsSystem.createCounter(
+            TekuMetricCategory.BEACON,
+            "event_stream_slow_subscribers_disconnected_total",
+            "Total number of event stream subscribers disconnected for exceeding pending limits");
+  }
+
+  void onEventsWritten(final int eventCount) {
+    writes.inc();
+    eventsSent.inc(eventCount);
+  }
+
+  void onSlowSubscriberDisconnected() {
+    slowSubscribersDisconnected.inc();
+  }
+}
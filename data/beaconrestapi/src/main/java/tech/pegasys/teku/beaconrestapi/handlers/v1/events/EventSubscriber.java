@@ -13,35 +13,63 @@
 
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.base.Throwables;
 import io.javalin.http.sse.SseClient;
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.response.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 
+/**
+ * Queues events for a single SSE client and writes them out asynchronously.
+ *
+ * <p>Events queued while a write is pending are coalesced: each write carries as many complete
+ * {@code event:}/{@code data:} frames as are queued (up to {@link #MAX_WRITE_BYTES}) and is flushed
+ * once. The pending queue is bounded both by event count and by serialized size; a client which
+ * stays over either limit for longer than {@link #EXCESSIVE_QUEUING_TOLERANCE_MS} is disconnected.
+ *
+ * <p>The frames are written straight to the response, since the SSE client flushes after every
+ * event, so all writes and comments to the client are serialized by {@code writeLock}.
+ */
 public class EventSubscriber {
 
   private static final Logger LOG = LogManager.getLogger();
   static final int EXCESSIVE_QUEUING_TOLERANCE_MS = 1000;
   static final int SANITY_LIMIT = 4;
+  static final int MAX_WRITE_BYTES = 256 * 1024;
+  private static final byte[] FRAME_END = "\n\n".getBytes(UTF_8);
+  private final Object writeLock = new Object();
   private final AtomicBoolean stopped = new AtomicBoolean(false);
-  private final List<EventType> eventTypes;
+  private final Set<EventType> eventTypes;
   private final SseClient sseClient;
   private final Queue<QueuedEvent> queuedEvents;
+  private final AtomicInteger pendingEventCount = new AtomicInteger(0);
+  private final AtomicLong pendingBytes = new AtomicLong(0);
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final long maxPendingBytes;
+  private final Duration flushInterval;
+  private final EventStreamMetrics metrics;
   private final AtomicBoolean processingQueue;
   private final AsyncRunner asyncRunner;
   private final AtomicLong excessiveQueueingDisconnectionTime = new AtomicLong(Long.MAX_VALUE);
@@ -53,11 +81,18 @@ public class EventSubscriber {
       final Runnable closeCallback,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
-    this.eventTypes = EventType.getTopics(eventTypes);
+      final int maxPendingEvents,
+      final long maxPendingBytes,
+      final Duration flushInterval,
+      final EventStreamMetrics metrics) {
+    this.eventTypes = EnumSet.noneOf(EventType.class);
+    this.eventTypes.addAll(EventType.getTopics(eventTypes));
     this.sseClient = sseClient;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingBytes = maxPendingBytes;
+    this.flushInterval = flushInterval;
+    this.metrics = metrics;
     this.queuedEvents = new ConcurrentLinkedQueue<>();
     this.processingQueue = new AtomicBoolean(false);
     this.asyncRunner = asyncRunner;
@@ -75,7 +110,8 @@ public class EventSubscriber {
     if (!eventTypes.contains(eventType)) {
       return;
     }
-    final boolean queueSizeBelowLimit = queuedEvents.size() < maxPendingEvents;
+    final boolean queueSizeBelowLimit =
+        pendingEventCount.get() < maxPendingEvents && pendingBytes.get() < maxPendingBytes;
     final long now = timeProvider.getTimeInMillis().longValue();
     final long queuingDisconnectTime = excessiveQueueingDisconnectionTime.get();
     if (queueSizeBelowLimit) {
@@ -85,6 +121,7 @@ public class EventSubscriber {
       // Had excessive queuing for too long, disconnect.
       if (stopped.compareAndSet(false, true)) {
         LOG.debug("Closing event connection due to exceeding the pending message limit");
+        metrics.onSlowSubscriberDisconnected();
         terminateSseClient();
       }
     } else {
@@ -102,7 +139,10 @@ public class EventSubscriber {
 
   private void addEventToQueue(final EventType eventType, final EventSource<?> message)
       throws JsonProcessingException {
-    queuedEvents.add(QueuedEvent.of(eventType, message.get()));
+    final Bytes messageData = message.get();
+    pendingEventCount.incrementAndGet();
+    pendingBytes.addAndGet(messageData.size());
+    queuedEvents.add(QueuedEvent.of(eventType, messageData));
     processEventQueue();
   }
 
@@ -110,27 +150,24 @@ public class EventSubscriber {
     return sseClient;
   }
 
+  public Set<EventType> getEventTypes() {
+    return eventTypes;
+  }
+
+  int getPendingEventCount() {
+    return pendingEventCount.get();
+  }
+
+  long getPendingBytes() {
+    return pendingBytes.get();
+  }
+
   private void processEventQueue() {
     if (!stopped.get() && !processingQueue.compareAndSet(false, true)) {
       // any queue processing in progress will clear the queue, no need to run another instance
       return;
     }
-    asyncRunner
-        .runAsync(
-            () -> {
-              LOG.trace(
-                  "Processing queue with {} elements for event client {}",
-                  queuedEvents.size(),
-                  sseClient.hashCode());
-              QueuedEvent event = queuedEvents.poll();
-              while (event != null && !stopped.get()) {
-                sseClient.sendEvent(
-                    event.getEventType().name(),
-                    new ByteArrayInputStream(event.getMessageData().toArrayUnsafe()));
-                event = queuedEvents.poll();
-              }
-              successiveFailureCounter.set(0);
-            })
+    scheduleFlush()
         .alwaysRun(
             () -> {
               processingQueue.set(false);
@@ -145,7 +182,7 @@ public class EventSubscriber {
                 LOG.warn(
                     "Failed to process event queue for client {}, terminating connection with {} queued events after {} failed attempts to send events.",
                     sseClient::hashCode,
-                    queuedEvents::size,
+                    pendingEventCount::get,
                     () -> counter);
                 terminateSseClient();
               } else {
@@ -160,6 +197,69 @@ public class EventSubscriber {
             });
   }
 
+  private SafeFuture<Void> scheduleFlush() {
+    if (flushInterval.isZero()) {
+      return asyncRunner.runAsync(this::flushQueuedEvents);
+    }
+    return asyncRunner.runAfterDelay(this::flushQueuedEvents, flushInterval);
+  }
+
+  private void flushQueuedEvents() {
+    LOG.trace(
+        "Processing queue with {} elements for event client {}",
+        pendingEventCount::get,
+        sseClient::hashCode);
+    List<QueuedEvent> batch = pollBatch();
+    while (!batch.isEmpty() && !stopped.get()) {
+      sendBatch(batch);
+      batch = pollBatch();
+    }
+    successiveFailureCounter.set(0);
+  }
+
+  private List<QueuedEvent> pollBatch() {
+    final List<QueuedEvent> batch = new ArrayList<>();
+    long batchBytes = 0;
+    while (batchBytes < MAX_WRITE_BYTES) {
+      final QueuedEvent event = queuedEvents.poll();
+      if (event == null) {
+        break;
+      }
+      final int size = event.getMessageData().size();
+      pendingEventCount.decrementAndGet();
+      pendingBytes.addAndGet(-size);
+      batch.add(event);
+      batchBytes += size;
+    }
+    return batch;
+  }
+
+  /**
+   * Writes all events of the batch as {@code event: <type>\ndata: <data>\n\n} frames, the same
+   * framing the SSE client uses for a single event, with a single flush.
+   */
+  private void sendBatch(final List<QueuedEvent> batch) {
+    final ByteArrayOutputStream frames = new ByteArrayOutputStream();
+    for (final QueuedEvent event : batch) {
+      frames.writeBytes(("event: " + event.getEventType().name() + "\ndata: ").getBytes(UTF_8));
+      frames.writeBytes(event.getMessageData().toArrayUnsafe());
+      frames.writeBytes(FRAME_END);
+    }
+    synchronized (writeLock) {
+      try {
+        final OutputStream output = sseClient.ctx().res().getOutputStream();
+        frames.writeTo(output);
+        output.flush();
+      } catch (final IOException e) {
+        // The client has gone away, closing runs the close callback which unsubscribes it
+        LOG.trace("Failed to write events to client {}", sseClient.hashCode(), e);
+        sseClient.close();
+        return;
+      }
+    }
+    metrics.onEventsWritten(batch.size());
+  }
+
   @SuppressWarnings("FutureReturnValueIgnored")
   private void keepAlive() {
     final int retryInSeconds = 30;
@@ -169,7 +269,7 @@ public class EventSubscriber {
               () -> {
                 // Don't send a keep alive if we already have messages to send
                 if (!stopped.get() && queuedEvents.isEmpty() && !processingQueue.get()) {
-                  sseClient.sendComment("");
+                  sendComment("");
                 }
               },
               Duration.ofSeconds(retryInSeconds))
@@ -201,7 +301,13 @@ public class EventSubscriber {
   */
   public void sendReadyComment() {
     if (!stopped.get()) {
-      asyncRunner.runAsync(() -> sseClient.sendComment("ready")).ifExceptionGetsHereRaiseABug();
+      asyncRunner.runAsync(() -> sendComment("ready")).ifExceptionGetsHereRaiseABug();
+    }
+  }
+
+  private void sendComment(final String comment) {
+    synchronized (writeLock) {
+      sseClient.sendComment(comment);
     }
   }
 }
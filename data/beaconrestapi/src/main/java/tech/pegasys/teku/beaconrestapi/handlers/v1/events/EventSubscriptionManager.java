@@ -18,14 +18,20 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TOPICS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.sse.SseClient;
+import java.time.Duration;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
@@ -35,6 +41,7 @@ import tech.pegasys.teku.beacon.sync.events.SyncState;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -68,8 +75,14 @@ public class EventSubscriptionManager
   private final AsyncRunner asyncRunner;
   private final TimeProvider timeProvider;
   private final int maxPendingEvents;
+  private final long maxPendingEventBytes;
+  private final Duration eventFlushInterval;
+  private final EventStreamMetrics eventStreamMetrics;
   // collection of subscribers
   private final Collection<EventSubscriber> eventSubscribers;
+  // subscribers indexed by topic, so events are only dispatched to interested subscribers
+  private final Map<EventType, Collection<EventSubscriber>> eventSubscribersByTopic =
+      new EnumMap<>(EventType.class);
 
   public EventSubscriptionManager(
       final Spec spec,
@@ -80,14 +93,24 @@ public class EventSubscriptionManager
       final AsyncRunner asyncRunner,
       final EventChannels eventChannels,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final MetricsSystem metricsSystem,
+      final int maxPendingEvents,
+      final long maxPendingEventBytes,
+      final Duration eventFlushInterval) {
     this.spec = spec;
     this.provider = chainDataProvider;
     this.asyncRunner = asyncRunner;
     this.timeProvider = timeProvider;
     this.maxPendingEvents = maxPendingEvents;
+    this.maxPendingEventBytes = maxPendingEventBytes;
+    this.eventFlushInterval = eventFlushInterval;
+    this.eventStreamMetrics = new EventStreamMetrics(metricsSystem);
     this.eventSubscribers = new ConcurrentLinkedQueue<>();
+    for (final EventType eventType : EventType.values()) {
+      eventSubscribersByTopic.put(eventType, new CopyOnWriteArrayList<>());
+    }
     this.configProvider = configProvider;
+    registerMetrics(metricsSystem);
     eventChannels.subscribe(ChainHeadChannel.class, this);
     eventChannels.subscribe(FinalizedCheckpointChannel.class, this);
     eventChannels.subscribe(ReceivedBlockEventsChannel.class, this);
@@ -114,15 +137,47 @@ public class EventSubscriptionManager
             sseClient,
             () -> {
               eventSubscribers.removeIf(sub -> sub.getSseClient().equals(sseClient));
+              eventSubscribersByTopic
+                  .values()
+                  .forEach(
+                      subscribers ->
+                          subscribers.removeIf(sub -> sub.getSseClient().equals(sseClient)));
               LOG.trace("disconnected " + sseClient.hashCode());
             },
             asyncRunner,
             timeProvider,
-            maxPendingEvents);
+            maxPendingEvents,
+            maxPendingEventBytes,
+            eventFlushInterval,
+            eventStreamMetrics);
     eventSubscribers.add(subscriber);
+    subscriber
+        .getEventTypes()
+        .forEach(eventType -> eventSubscribersByTopic.get(eventType).add(subscriber));
     subscriber.sendReadyComment();
   }
 
+  private void registerMetrics(final MetricsSystem metricsSystem) {
+    final LabelledSuppliedMetric subscribersGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.BEACON,
+            "event_stream_subscribers",
+            "Number of event stream subscribers by topic",
+            "topic");
+    eventSubscribersByTopic.forEach(
+        (eventType, subscribers) -> subscribersGauge.labels(subscribers::size, eventType.name()));
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "event_stream_pending_events",
+        "Number of events queued for all event stream subscribers",
+        () -> eventSubscribers.stream().mapToLong(EventSubscriber::getPendingEventCount).sum());
+    metricsSystem.createGauge(
+        TekuMetricCategory.BEACON,
+        "event_stream_pending_bytes",
+        "Size in bytes of events queued for all event stream subscribers",
+        () -> eventSubscribers.stream().mapToLong(EventSubscriber::getPendingBytes).sum());
+  }
+
   @Override
   public void chainHeadUpdated(
       final UInt64 slot,
@@ -289,9 +344,13 @@ public class EventSubscriptionManager
   }
 
   private void notifySubscribersOfEvent(final EventType eventType, final Event<?> event) {
+    final Collection<EventSubscriber> subscribers = eventSubscribersByTopic.get(eventType);
+    if (subscribers.isEmpty()) {
+      return;
+    }
     final EventSource<?> eventSource = new EventSource<>(event);
     try {
-      for (EventSubscriber subscriber : eventSubscribers) {
+      for (EventSubscriber subscriber : subscribers) {
         subscriber.onEvent(eventType, eventSource);
       }
     } catch (final JsonProcessingException e) {
@@ -19,6 +19,8 @@ import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_EVENTS;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.TAG_VALIDATOR_REQUIRED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.Duration;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.DataProvider;
@@ -43,7 +45,10 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final MetricsSystem metricsSystem,
+      final int maxPendingEvents,
+      final long maxPendingEventBytes,
+      final Duration eventFlushInterval) {
     this(
         spec,
         dataProvider.getNodeDataProvider(),
@@ -53,7 +58,10 @@ public class GetEvents extends RestApiEndpoint {
         eventChannels,
         asyncRunner,
         timeProvider,
-        maxPendingEvents);
+        metricsSystem,
+        maxPendingEvents,
+        maxPendingEventBytes,
+        eventFlushInterval);
   }
 
   GetEvents(
@@ -65,7 +73,10 @@ public class GetEvents extends RestApiEndpoint {
       final EventChannels eventChannels,
       final AsyncRunner asyncRunner,
       final TimeProvider timeProvider,
-      final int maxPendingEvents) {
+      final MetricsSystem metricsSystem,
+      final int maxPendingEvents,
+      final long maxPendingEventBytes,
+      final Duration eventFlushInterval) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getEvents")
@@ -91,7 +102,10 @@ public class GetEvents extends RestApiEndpoint {
             asyncRunner,
             eventChannels,
             timeProvider,
-            maxPendingEvents);
+            metricsSystem,
+            maxPendingEvents,
+            maxPendingEventBytes,
+            eventFlushInterval);
   }
 
   @Override
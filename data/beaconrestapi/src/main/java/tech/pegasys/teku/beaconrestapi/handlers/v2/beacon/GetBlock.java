@@ -28,6 +28,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import java.util.Optional;
 import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.DataProvider;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
@@ -42,15 +43,19 @@ import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
 public class GetBlock extends RestApiEndpoint {
   public static final String ROUTE = "/eth/v2/beacon/blocks/{block_id}";
   private final ChainDataProvider chainDataProvider;
+  private final FinalizedResponseCache responseCache;
 
   public GetBlock(
-      final DataProvider dataProvider, final SchemaDefinitionCache schemaDefinitionCache) {
-    this(dataProvider.getChainDataProvider(), schemaDefinitionCache);
+      final DataProvider dataProvider,
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final FinalizedResponseCache responseCache) {
+    this(dataProvider.getChainDataProvider(), schemaDefinitionCache, responseCache);
   }
 
   public GetBlock(
       final ChainDataProvider chainDataProvider,
-      final SchemaDefinitionCache schemaDefinitionCache) {
+      final SchemaDefinitionCache schemaDefinitionCache,
+      final FinalizedResponseCache responseCache) {
     super(
         EndpointMetadata.get(ROUTE)
             .operationId("getBlockV2")
@@ -67,6 +72,7 @@ public class GetBlock extends RestApiEndpoint {
             .withChainDataResponses()
             .build());
     this.chainDataProvider = chainDataProvider;
+    this.responseCache = responseCache;
   }
 
   @Override
@@ -83,7 +89,10 @@ public class GetBlock extends RestApiEndpoint {
                           request.header(
                               HEADER_CONSENSUS_VERSION,
                               blockAndMetaData.getMilestone().lowerCaseName());
-                          return AsyncApiResponse.respondOk(blockAndMetaData);
+                          return responseCache.respondOk(
+                              getMetadata().getOperationId(),
+                              blockAndMetaData.getData().getRoot(),
+                              blockAndMetaData);
                         })
                     .orElseGet(AsyncApiResponse::respondNotFound)));
   }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class FinalizedResponseCacheTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SignedBeaconBlock block = dataStructureUtil.randomSignedBeaconBlock(1);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final FinalizedResponseCache cache = new FinalizedResponseCache(metricsSystem, 10);
+
+  @Test
+  void shouldOnlyCacheFinalizedNonOptimisticResponses() {
+    assertThat(respondOk(cache, false, true).getCacheableResponse()).isPresent();
+    assertThat(respondOk(cache, false, false).getCacheableResponse()).isEmpty();
+    assertThat(respondOk(cache, true, true).getCacheableResponse()).isEmpty();
+  }
+
+  @Test
+  void shouldNotCacheWhenDisabled() {
+    final FinalizedResponseCache disabledCache =
+        new FinalizedResponseCache(new StubMetricsSystem(), 0);
+    assertThat(respondOk(disabledCache, false, true).getCacheableResponse()).isEmpty();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntriesWhenFull() {
+    cache.put("a", new byte[4]);
+    cache.put("b", new byte[4]);
+    assertThat(cache.get("a")).isPresent();
+
+    cache.put("c", new byte[4]);
+
+    assertThat(cache.get("b")).isEmpty();
+    assertThat(cache.get("a")).isPresent();
+    assertThat(cache.get("c")).isPresent();
+    assertThat(cache.getSizeBytes()).isEqualTo(8);
+    assertThat(cache.getEntryCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotStoreBodiesLargerThanCache() {
+    cache.put("a", new byte[4]);
+    cache.put("large", new byte[11]);
+
+    assertThat(cache.get("large")).isEmpty();
+    assertThat(cache.get("a")).isPresent();
+  }
+
+  @Test
+  void shouldReplaceExistingEntry() {
+    cache.put("a", new byte[4]);
+    cache.put("a", new byte[6]);
+
+    assertThat(cache.getSizeBytes()).isEqualTo(6);
+    assertThat(cache.getEntryCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldTrackHitsAndMisses() {
+    cache.put("a", new byte[4]);
+    cache.get("a");
+    cache.get("b");
+    cache.get("b");
+
+    assertThat(requests("hit")).isEqualTo(1);
+    assertThat(requests("miss")).isEqualTo(2);
+  }
+
+  private long requests(final String result) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.BEACON, "rest_api_response_cache_requests_total", result);
+  }
+
+  private AsyncApiResponse respondOk(
+      final FinalizedResponseCache cache,
+      final boolean executionOptimistic,
+      final boolean finalized) {
+    return cache.respondOk(
+        "getBlockV2",
+        block.getRoot(),
+        new ObjectAndMetaData<>(
+            block, SpecMilestone.PHASE0, executionOptimistic, true, finalized));
+  }
+}
@@ -32,8 +32,10 @@ import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.json.JsonTestUtil;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
@@ -52,7 +54,9 @@ class GetBlockHeaderTest extends AbstractMigratedBeaconHandlerWithChainDataProvi
   void setup() {
     initialise(SpecMilestone.PHASE0);
     genesis();
-    setHandler(new GetBlockHeader(chainDataProvider));
+    setHandler(
+        new GetBlockHeader(
+            chainDataProvider, new FinalizedResponseCache(new StubMetricsSystem(), 0)));
     request.setPathParameter("block_id", "head");
   }
 
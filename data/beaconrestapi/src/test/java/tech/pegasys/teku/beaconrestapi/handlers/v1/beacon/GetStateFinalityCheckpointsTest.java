@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.metadata.StateAndMetaData;
@@ -53,7 +55,9 @@ public class GetStateFinalityCheckpointsTest
     responseData =
         new StateAndMetaData(beaconState, spec.getGenesisSpec().getMilestone(), false, true, false);
 
-    setHandler(new GetStateFinalityCheckpoints(chainDataProvider));
+    setHandler(
+        new GetStateFinalityCheckpoints(
+            chainDataProvider, new FinalizedResponseCache(new StubMetricsSystem(), 0)));
   }
 
   @Test
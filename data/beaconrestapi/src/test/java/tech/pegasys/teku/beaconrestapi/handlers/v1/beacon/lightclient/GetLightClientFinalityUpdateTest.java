@@ -0,0 +1,114 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.lightclient;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_ACCEPTABLE;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
+import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.getResponseSszFromMetadata;
+import static tech.pegasys.teku.infrastructure.restapi.MetadataTestUtil.verifyMetadataErrorResponse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.io.IOException;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerTest;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class GetLightClientFinalityUpdateTest extends AbstractMigratedBeaconHandlerTest {
+
+  @BeforeEach
+  void setup() {
+    setHandler(new GetLightClientFinalityUpdate(chainDataProvider, schemaDefinitionCache));
+    dataStructureUtil = new DataStructureUtil(TestSpecFactory.createMinimalAltair());
+  }
+
+  @Test
+  void shouldReturnLightClientFinalityUpdate() throws Exception {
+    final LightClientFinalityUpdate update =
+        dataStructureUtil.randomLightClientFinalityUpdate(UInt64.ONE);
+    final ObjectAndMetaData<LightClientFinalityUpdate> responseData =
+        new ObjectAndMetaData<>(update, SpecMilestone.ALTAIR, false, true, false);
+    when(chainDataProvider.getLightClientFinalityUpdate())
+        .thenReturn(SafeFuture.completedFuture(Optional.of(responseData)));
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(request.getResponseBody()).isEqualTo(responseData);
+    assertThat(request.getResponseHeaders(HEADER_CONSENSUS_VERSION))
+        .isEqualTo(SpecMilestone.ALTAIR.lowerCaseName());
+  }
+
+  @Test
+  void shouldReturnNotFoundWhenNoUpdateIsKnown() throws Exception {
+    when(chainDataProvider.getLightClientFinalityUpdate())
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_NOT_FOUND);
+  }
+
+  @Test
+  void metadata_shouldHandleSsz200() throws IOException {
+    final LightClientFinalityUpdate update =
+        dataStructureUtil.randomLightClientFinalityUpdate(UInt64.ONE);
+    final ObjectAndMetaData<LightClientFinalityUpdate> responseData =
+        new ObjectAndMetaData<>(update, SpecMilestone.ALTAIR, false, true, false);
+
+    final byte[] data = getResponseSszFromMetadata(handler, SC_OK, responseData);
+
+    assertThat(Bytes.of(data)).isEqualTo(update.sszSerialize());
+  }
+
+  @Test
+  void metadata_shouldHandle400() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_BAD_REQUEST);
+  }
+
+  @Test
+  void metadata_shouldHandle404() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_NOT_FOUND);
+  }
+
+  @Test
+  void metadata_shouldHandle406() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_NOT_ACCEPTABLE);
+  }
+
+  @Test
+  void metadata_shouldHandle500() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  public void metadata_shouldHandle501() throws JsonProcessingException {
+    verifyMetadataErrorResponse(handler, SC_NOT_IMPLEMENTED);
+  }
+}
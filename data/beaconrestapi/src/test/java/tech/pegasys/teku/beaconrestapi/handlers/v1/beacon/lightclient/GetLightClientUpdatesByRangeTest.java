@@ -14,6 +14,7 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.beacon.lightclient;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_BAD_REQUEST;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_ACCEPTABLE;
@@ -31,6 +32,7 @@ import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerTest;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.TestSpecFactory;
@@ -43,12 +45,29 @@ public class GetLightClientUpdatesByRangeTest extends AbstractMigratedBeaconHand
 
   @BeforeEach
   void setup() {
-    setHandler(new GetLightClientUpdatesByRange(schemaDefinitionCache));
+    setHandler(new GetLightClientUpdatesByRange(chainDataProvider, schemaDefinitionCache));
     dataStructureUtil = new DataStructureUtil(TestSpecFactory.createMinimalAltair());
     request.setQueryParameter("start_period", "1");
     request.setQueryParameter("count", "1");
   }
 
+  @Test
+  void shouldReturnLightClientUpdates() throws Exception {
+    final LightClientUpdate lightClientUpdate =
+        dataStructureUtil.randomLightClientUpdate(UInt64.ONE);
+    final List<ObjectAndMetaData<LightClientUpdate>> responseData =
+        List.of(
+            new ObjectAndMetaData<>(lightClientUpdate, SpecMilestone.ALTAIR, false, true, false));
+
+    when(chainDataProvider.getLightClientUpdates(UInt64.ONE, UInt64.ONE))
+        .thenReturn(SafeFuture.completedFuture(responseData));
+
+    handler.handleRequest(request);
+
+    assertThat(request.getResponseCode()).isEqualTo(SC_OK);
+    assertThat(request.getResponseBody()).isEqualTo(responseData);
+  }
+
   @Test
   void metadata_shouldHandleJson200() throws IOException {
     LightClientUpdate lightClientUpdate = dataStructureUtil.randomLightClientUpdate(UInt64.ONE);
@@ -69,7 +88,16 @@ public class GetLightClientUpdatesByRangeTest extends AbstractMigratedBeaconHand
   void metadata_shouldHandleSsz200() throws IOException {
     LightClientUpdateResponse responseData =
         dataStructureUtil.randomLightClientUpdateResponse(UInt64.ONE);
-    List<LightClientUpdateResponse> response = List.of(responseData);
+    ObjectAndMetaData<LightClientUpdate> updateAndMetaData =
+        new ObjectAndMetaData<>(
+            dataStructureUtil.randomLightClientUpdate(UInt64.ONE),
+            SpecMilestone.ALTAIR,
+            false,
+            true,
+            false);
+    when(chainDataProvider.createLightClientUpdateResponse(updateAndMetaData))
+        .thenReturn(responseData);
+    List<ObjectAndMetaData<LightClientUpdate>> response = List.of(updateAndMetaData);
 
     final byte[] actual = getResponseSszFromMetadata(handler, SC_OK, response);
     final byte[] expected = responseData.sszSerialize().toArray();
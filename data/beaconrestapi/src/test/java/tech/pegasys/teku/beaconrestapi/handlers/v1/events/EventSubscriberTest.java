@@ -14,22 +14,21 @@
 package tech.pegasys.teku.beaconrestapi.handlers.v1.events;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atMostOnce;
-import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
 import io.javalin.http.sse.SseClient;
 import jakarta.servlet.AsyncContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,10 +38,13 @@ import org.junit.jupiter.params.provider.EnumSource;
 import tech.pegasys.teku.api.response.EventType;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.EventSubscriptionManager.EventSource;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 
 public class EventSubscriberTest {
   private static final int MAX_PENDING_EVENTS = 10;
+  private static final long MAX_PENDING_BYTES = 1024;
   private final AsyncContext asyncContext = mock(AsyncContext.class);
   private final HttpServletRequest req = mock(HttpServletRequest.class);
   private final HttpServletResponse res = mock(HttpServletResponse.class);
@@ -52,6 +54,8 @@ public class EventSubscriberTest {
 
   private final Context context = new StubContext(req, res);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final EventStreamMetrics metrics = new EventStreamMetrics(metricsSystem);
   private final List<EventType> allEventTypes = Arrays.stream(EventType.values()).toList();
 
   private SseClient sseClient;
@@ -144,15 +148,16 @@ public class EventSubscriberTest {
   }
 
   @Test
-  void shouldTerminateConnectionIfSendKeepsFailing() throws JsonProcessingException {
+  void shouldTerminateConnectionIfSendKeepsFailing() throws IOException {
     final SseClient failingSseClient = mock(SseClient.class);
     final Context ctx = mock(Context.class);
+    final HttpServletResponse failingResponse = mock(HttpServletResponse.class);
     when(failingSseClient.ctx()).thenReturn(ctx);
     when(ctx.req()).thenReturn(req);
+    when(ctx.res()).thenReturn(failingResponse);
     when(req.getAsyncContext()).thenReturn(asyncContext);
-    doThrow(new IllegalStateException("computer says no"))
-        .when(failingSseClient)
-        .sendEvent(any(), any());
+    when(failingResponse.getOutputStream())
+        .thenThrow(new IllegalStateException("computer says no"));
     final EventSubscriber eventSubscriber =
         new EventSubscriber(
             List.of("head"),
@@ -160,7 +165,10 @@ public class EventSubscriberTest {
             onCloseCallback,
             asyncRunner,
             timeProvider,
-            MAX_PENDING_EVENTS);
+            MAX_PENDING_EVENTS,
+            MAX_PENDING_BYTES,
+            Duration.ZERO,
+            metrics);
 
     for (int i = 0; i < MAX_PENDING_EVENTS; i++) {
       eventSubscriber.onEvent(EventType.head, event("test"));
@@ -168,7 +176,9 @@ public class EventSubscriberTest {
 
     assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
     for (int i = 0; i <= EventSubscriber.SANITY_LIMIT; i++) {
+      // each attempt drains all queued events in a single write, so keep the queue populated
       asyncRunner.executeQueuedActions();
+      eventSubscriber.onEvent(EventType.head, event("test"));
     }
     verify(asyncContext).complete();
     verify(failingSseClient).close();
@@ -233,6 +243,98 @@ public class EventSubscriberTest {
     assertThat(outputStream.countComments()).isEqualTo(1);
   }
 
+  @Test
+  void shouldCoalesceQueuedEventsIntoSingleWrite() throws IOException {
+    final EventSubscriber eventSubscriber = createSubscriber("head", "block");
+
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.block, event("test"));
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    assertThat(eventSubscriber.getPendingEventCount()).isEqualTo(3);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(outputStream.getString())
+        .isEqualTo(
+            "event: head\ndata: {}\n\nevent: block\ndata: {}\n\nevent: head\ndata: {}\n\n");
+    assertThat(eventSubscriber.getPendingEventCount()).isZero();
+    assertThat(eventSubscriber.getPendingBytes()).isZero();
+    assertThat(getCounterValue("event_stream_writes_total")).isEqualTo(1);
+    assertThat(getCounterValue("event_stream_events_sent_total")).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWriteCoalescedEventsAsSeparateSseEvents() throws IOException {
+    final EventSubscriber eventSubscriber =
+        createSubscriber("head", "block", "finalized_checkpoint");
+    eventSubscriber.sendReadyComment();
+    asyncRunner.executeQueuedActions();
+
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.block, event("test"));
+    eventSubscriber.onEvent(EventType.finalized_checkpoint, event("test"));
+    final int flushesBeforeWrite = outputStream.getFlushCounter();
+    asyncRunner.executeQueuedActions();
+
+    assertThat(parseSseEvents(outputStream.getString()))
+        .containsExactly(
+            new SseEvent("head", "{}"),
+            new SseEvent("block", "{}"),
+            new SseEvent("finalized_checkpoint", "{}"));
+    assertThat(outputStream.getFlushCounter() - flushesBeforeWrite).isEqualTo(1);
+  }
+
+  @Test
+  void shouldDisconnectWhenPendingBytesTooLargeForTooLong() throws Exception {
+    // each test event serializes to 2 bytes
+    final EventSubscriber eventSubscriber =
+        new EventSubscriber(
+            List.of("head"),
+            sseClient,
+            onCloseCallback,
+            asyncRunner,
+            timeProvider,
+            MAX_PENDING_EVENTS,
+            4,
+            Duration.ZERO,
+            metrics);
+
+    for (int i = 0; i < 3; i++) {
+      eventSubscriber.onEvent(EventType.head, event("test"));
+    }
+    assertThat(eventSubscriber.getPendingBytes()).isEqualTo(6);
+    verifyNoInteractions(onCloseCallback);
+
+    timeProvider.advanceTimeByMillis(EventSubscriber.EXCESSIVE_QUEUING_TOLERANCE_MS);
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    verify(onCloseCallback).run();
+    assertThat(getCounterValue("event_stream_slow_subscribers_disconnected_total"))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldDelayWriteUntilFlushInterval() throws IOException {
+    final EventSubscriber eventSubscriber =
+        new EventSubscriber(
+            List.of("head"),
+            sseClient,
+            onCloseCallback,
+            asyncRunner,
+            timeProvider,
+            MAX_PENDING_EVENTS,
+            MAX_PENDING_BYTES,
+            Duration.ofMillis(100),
+            metrics);
+
+    eventSubscriber.onEvent(EventType.head, event("test"));
+    eventSubscriber.onEvent(EventType.head, event("test"));
+
+    // keep alive and a single delayed flush
+    assertThat(asyncRunner.countDelayedActions()).isEqualTo(2);
+    asyncRunner.executeQueuedActions();
+    assertThat(outputStream.countEvents()).isEqualTo(2);
+    assertThat(getCounterValue("event_stream_writes_total")).isEqualTo(1);
+  }
+
   @Test
   void shouldSendKeepAlive() {
     createSubscriber(EventType.voluntary_exit.name());
@@ -258,10 +360,45 @@ public class EventSubscriberTest {
     assertThat(asyncRunner.countDelayedActions()).isZero();
   }
 
+  /** Parses an event stream as an SSE client would, ignoring comments. */
+  private static List<SseEvent> parseSseEvents(final String stream) {
+    final List<SseEvent> events = new ArrayList<>();
+    String eventType = "message";
+    final StringBuilder data = new StringBuilder();
+    boolean hasData = false;
+    for (final String line : stream.split("\n", -1)) {
+      if (line.isEmpty()) {
+        if (hasData) {
+          events.add(new SseEvent(eventType, data.toString()));
+        }
+        eventType = "message";
+        data.setLength(0);
+        hasData = false;
+      } else if (line.startsWith("event: ")) {
+        eventType = line.substring("event: ".length());
+      } else if (line.startsWith("data: ")) {
+        if (hasData) {
+          data.append('\n');
+        }
+        data.append(line.substring("data: ".length()));
+        hasData = true;
+      } else {
+        assertThat(line).describedAs("Unexpected SSE line").startsWith(":");
+      }
+    }
+    return events;
+  }
+
+  private record SseEvent(String type, String data) {}
+
   private EventSource<String> event(final String message) {
     return new EventSource<>(new TestEvent(message));
   }
 
+  private long getCounterValue(final String name) {
+    return metricsSystem.getCounterValue(TekuMetricCategory.BEACON, name);
+  }
+
   private EventSubscriber createSubscriber(final String... eventTypes) {
     return new EventSubscriber(
         List.of(eventTypes),
@@ -269,6 +406,9 @@ public class EventSubscriberTest {
         onCloseCallback,
         asyncRunner,
         timeProvider,
-        MAX_PENDING_EVENTS);
+        MAX_PENDING_EVENTS,
+        MAX_PENDING_BYTES,
+        Duration.ZERO,
+        metrics);
   }
 }
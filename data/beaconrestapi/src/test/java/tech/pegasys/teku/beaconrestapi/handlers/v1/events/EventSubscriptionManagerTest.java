@@ -24,6 +24,7 @@ import jakarta.servlet.AsyncContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
@@ -33,7 +34,9 @@ import tech.pegasys.teku.api.ChainDataProvider;
 import tech.pegasys.teku.api.ConfigProvider;
 import tech.pegasys.teku.api.NodeDataProvider;
 import tech.pegasys.teku.api.SyncDataProvider;
+import tech.pegasys.teku.api.response.EventType;
 import tech.pegasys.teku.beacon.sync.events.SyncState;
+import tech.pegasys.teku.beaconrestapi.BeaconRestApiConfig;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.PayloadAttributesEvent.Data;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.PayloadAttributesEvent.PayloadAttributes;
 import tech.pegasys.teku.beaconrestapi.handlers.v1.events.PayloadAttributesEvent.PayloadAttributesData;
@@ -41,6 +44,8 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
 import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -160,6 +165,7 @@ public class EventSubscriptionManagerTest {
   private final TestServletOutputStream outputStream = new TestServletOutputStream();
   private final Context ctx = new StubContext(req, res);
   private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
   private SseClient client1;
 
   private EventSubscriptionManager manager;
@@ -179,7 +185,10 @@ public class EventSubscriptionManagerTest {
             asyncRunner,
             channels,
             StubTimeProvider.withTimeInMillis(1000),
-            10);
+            metricsSystem,
+            10,
+            BeaconRestApiConfig.DEFAULT_MAX_PENDING_EVENT_BYTES,
+            Duration.ZERO);
     client1 = new SseClient(ctx);
   }
 
@@ -222,6 +231,20 @@ public class EventSubscriptionManagerTest {
     assertThat(events.get(1)).contains("event: head\n");
   }
 
+  @Test
+  void shouldIndexSubscribersByTopic() {
+    when(req.getQueryString()).thenReturn("&topics=head,block");
+    manager.registerClient(client1);
+
+    assertThat(getSubscriberCount(EventType.head)).isEqualTo(1);
+    assertThat(getSubscriberCount(EventType.block)).isEqualTo(1);
+    assertThat(getSubscriberCount(EventType.attestation)).isZero();
+
+    client1.close();
+    assertThat(getSubscriberCount(EventType.head)).isZero();
+    assertThat(getSubscriberCount(EventType.block)).isZero();
+  }
+
   @Test
   void shouldPropagateMultipleMessagesIfSubscribed() {
     when(req.getQueryString()).thenReturn("&topics=chain_reorg,finalized_checkpoint");
@@ -551,6 +574,13 @@ public class EventSubscriptionManagerTest {
     asyncRunner.executeQueuedActions();
   }
 
+  private double getSubscriberCount(final EventType eventType) {
+    return metricsSystem
+        .getLabelledGauge(TekuMetricCategory.BEACON, "event_stream_subscribers")
+        .getValue(eventType.name())
+        .orElseThrow();
+  }
+
   private <T, E extends Event<T>> void checkEvent(final String eventType, final E event)
       throws JsonProcessingException {
     final String eventString = outputStream.getString();
@@ -23,6 +23,7 @@ import org.apache.commons.lang3.StringUtils;
 public class TestServletOutputStream extends ServletOutputStream {
   private final StringBuilder builder = new StringBuilder();
   private int writeCounter = 0;
+  private int flushCounter = 0;
 
   @Override
   public boolean isReady() {
@@ -38,6 +39,11 @@ public class TestServletOutputStream extends ServletOutputStream {
     builder.append((char) i);
   }
 
+  @Override
+  public void flush() {
+    flushCounter++;
+  }
+
   public String getString() {
     return builder.toString();
   }
@@ -46,6 +52,10 @@ public class TestServletOutputStream extends ServletOutputStream {
     return writeCounter;
   }
 
+  public int getFlushCounter() {
+    return flushCounter;
+  }
+
   public int countEvents() {
     return StringUtils.countMatches(getString(), "event: ");
   }
@@ -32,7 +32,10 @@ import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.beaconrestapi.AbstractMigratedBeaconHandlerWithChainDataProviderTest;
+import tech.pegasys.teku.beaconrestapi.FinalizedResponseCache;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.json.JsonTestUtil;
+import tech.pegasys.teku.infrastructure.restapi.StubRestApiRequest;
 import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
@@ -44,7 +47,11 @@ class GetBlockTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTes
     initialise(SpecMilestone.ALTAIR);
     genesis();
 
-    setHandler(new GetBlock(chainDataProvider, schemaDefinitionCache));
+    setHandler(
+        new GetBlock(
+            chainDataProvider,
+            schemaDefinitionCache,
+            new FinalizedResponseCache(new StubMetricsSystem(), 1024 * 1024)));
     request.setPathParameter("block_id", "head");
   }
 
@@ -60,6 +67,23 @@ class GetBlockTest extends AbstractMigratedBeaconHandlerWithChainDataProviderTes
     assertThat(request.getResponseBody()).isEqualTo(blockAndMetaData);
   }
 
+  @Test
+  void shouldAllowFinalizedBlockToBeServedFromCache() throws Exception {
+    final ObjectAndMetaData<SignedBeaconBlock> blockAndMetaData =
+        chainDataProvider.getBlock("finalized").get().orElseThrow();
+    final StubRestApiRequest finalizedRequest =
+        StubRestApiRequest.builder()
+            .metadata(handler.getMetadata())
+            .pathParameter("block_id", "finalized")
+            .build();
+
+    handler.handleRequest(finalizedRequest);
+
+    assertThat(finalizedRequest.getResponseBody()).isEqualTo(blockAndMetaData);
+    assertThat(finalizedRequest.getCacheableResponse().orElseThrow().getKey())
+        .isEqualTo("getBlockV2:" + blockAndMetaData.getData().getRoot());
+  }
+
   @Test
   void metadata_shouldHandle400() throws JsonProcessingException {
     verifyMetadataErrorResponse(handler, SC_BAD_REQUEST);
@@ -56,6 +56,8 @@ import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.bytes.Bytes4;
 import tech.pegasys.teku.infrastructure.ssz.Merkleizable;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes4;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.SpecMilestone;
@@ -66,6 +68,10 @@ import tech.pegasys.teku.spec.datastructures.execution.versions.capella.Withdraw
 import tech.pegasys.teku.spec.datastructures.forkchoice.ProtoNodeData;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponse;
 import tech.pegasys.teku.spec.datastructures.metadata.BlobSidecarsAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockAndMetaData;
 import tech.pegasys.teku.spec.datastructures.metadata.DataColumnSidecarsAndMetaData;
@@ -81,6 +87,8 @@ import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingParti
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsAltair;
+import tech.pegasys.teku.statetransition.lightclient.LightClientDataProducer;
 import tech.pegasys.teku.storage.client.BlobSidecarReconstructionProvider;
 import tech.pegasys.teku.storage.client.ChainDataUnavailableException;
 import tech.pegasys.teku.storage.client.CombinedChainDataClient;
@@ -88,6 +96,8 @@ import tech.pegasys.teku.storage.client.RecentChainData;
 
 public class ChainDataProvider {
   private static final Logger LOG = LogManager.getLogger();
+  // MAX_REQUEST_LIGHT_CLIENT_UPDATES from the altair light client networking spec
+  static final int MAX_REQUEST_LIGHT_CLIENT_UPDATES = 128;
   private final BlockSelectorFactory blockSelectorFactory;
   private final StateSelectorFactory stateSelectorFactory;
   private final BlobSidecarSelectorFactory blobSidecarSelectorFactory;
@@ -96,6 +106,7 @@ public class ChainDataProvider {
   private final CombinedChainDataClient combinedChainDataClient;
   private final RecentChainData recentChainData;
   private final RewardCalculator rewardCalculator;
+  private final Optional<LightClientDataProducer> lightClientDataProducer;
 
   public ChainDataProvider(
       final Spec spec,
@@ -103,6 +114,22 @@ public class ChainDataProvider {
       final CombinedChainDataClient combinedChainDataClient,
       final RewardCalculator rewardCalculator,
       final BlobSidecarReconstructionProvider blobSidecarReconstructionProvider) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        rewardCalculator,
+        blobSidecarReconstructionProvider,
+        Optional.empty());
+  }
+
+  public ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final RewardCalculator rewardCalculator,
+      final BlobSidecarReconstructionProvider blobSidecarReconstructionProvider,
+      final Optional<LightClientDataProducer> lightClientDataProducer) {
     this(
         spec,
         recentChainData,
@@ -112,7 +139,8 @@ public class ChainDataProvider {
         new BlobSidecarSelectorFactory(
             spec, combinedChainDataClient, blobSidecarReconstructionProvider),
         new DataColumnSidecarSelectorFactory(spec, combinedChainDataClient),
-        rewardCalculator);
+        rewardCalculator,
+        lightClientDataProducer);
   }
 
   @VisibleForTesting
@@ -125,6 +153,28 @@ public class ChainDataProvider {
       final BlobSidecarSelectorFactory blobSidecarSelectorFactory,
       final DataColumnSidecarSelectorFactory dataColumnSidecarSelectorFactory,
       final RewardCalculator rewardCalculator) {
+    this(
+        spec,
+        recentChainData,
+        combinedChainDataClient,
+        blockSelectorFactory,
+        stateSelectorFactory,
+        blobSidecarSelectorFactory,
+        dataColumnSidecarSelectorFactory,
+        rewardCalculator,
+        Optional.empty());
+  }
+
+  private ChainDataProvider(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final CombinedChainDataClient combinedChainDataClient,
+      final BlockSelectorFactory blockSelectorFactory,
+      final StateSelectorFactory stateSelectorFactory,
+      final BlobSidecarSelectorFactory blobSidecarSelectorFactory,
+      final DataColumnSidecarSelectorFactory dataColumnSidecarSelectorFactory,
+      final RewardCalculator rewardCalculator,
+      final Optional<LightClientDataProducer> lightClientDataProducer) {
     this.spec = spec;
     this.combinedChainDataClient = combinedChainDataClient;
     this.recentChainData = recentChainData;
@@ -133,6 +183,7 @@ public class ChainDataProvider {
     this.blobSidecarSelectorFactory = blobSidecarSelectorFactory;
     this.dataColumnSidecarSelectorFactory = dataColumnSidecarSelectorFactory;
     this.rewardCalculator = rewardCalculator;
+    this.lightClientDataProducer = lightClientDataProducer;
   }
 
   public UInt64 getCurrentEpoch(final BeaconState state) {
@@ -538,6 +589,20 @@ public class ChainDataProvider {
 
   public SafeFuture<Optional<ObjectAndMetaData<LightClientBootstrap>>> getLightClientBoostrap(
       final Bytes32 blockRootParam) {
+    final Optional<LightClientBootstrap> maybeCachedBootstrap =
+        lightClientDataProducer.flatMap(producer -> producer.getBootstrap(blockRootParam));
+    if (maybeCachedBootstrap.isPresent()) {
+      final LightClientBootstrap bootstrap = maybeCachedBootstrap.get();
+      return SafeFuture.completedFuture(
+          Optional.of(
+              new ObjectAndMetaData<>(
+                  bootstrap,
+                  spec.atSlot(bootstrap.getLightClientHeader().getBeacon().getSlot())
+                      .getMilestone(),
+                  false,
+                  true,
+                  true)));
+    }
     return stateSelectorFactory
         .blockRootSelector(blockRootParam)
         .getState()
@@ -550,6 +615,87 @@ public class ChainDataProvider {
         .map(clientUtil -> stateAndMetaData.map(clientUtil::getLightClientBootstrap));
   }
 
+  /**
+   * Returns the best known update for each sync committee period in {@code [startPeriod,
+   * startPeriod + count)}, stopping at the first period without an update so the result is
+   * contiguous.
+   */
+  public SafeFuture<List<ObjectAndMetaData<LightClientUpdate>>> getLightClientUpdates(
+      final UInt64 startPeriod, final UInt64 count) {
+    final int limit = count.min(MAX_REQUEST_LIGHT_CLIENT_UPDATES).intValue();
+    return SafeFuture.collectAll(
+            IntStream.range(0, limit).mapToObj(i -> getLightClientUpdate(startPeriod.plus(i))))
+        .thenApply(
+            updates ->
+                updates.stream()
+                    .takeWhile(Optional::isPresent)
+                    .map(Optional::get)
+                    .map(
+                        update ->
+                            new ObjectAndMetaData<>(
+                                update,
+                                spec.atSlot(update.getAttestedHeader().getBeacon().getSlot())
+                                    .getMilestone(),
+                                false,
+                                true,
+                                false))
+                    .toList());
+  }
+
+  public SafeFuture<Optional<ObjectAndMetaData<LightClientFinalityUpdate>>>
+      getLightClientFinalityUpdate() {
+    return SafeFuture.completedFuture(
+        lightClientDataProducer
+            .flatMap(LightClientDataProducer::getLatestFinalityUpdate)
+            .map(
+                update ->
+                    new ObjectAndMetaData<>(
+                        update,
+                        spec.atSlot(update.getAttestedHeader().getBeacon().getSlot())
+                            .getMilestone(),
+                        false,
+                        true,
+                        false)));
+  }
+
+  public SafeFuture<Optional<ObjectAndMetaData<LightClientOptimisticUpdate>>>
+      getLightClientOptimisticUpdate() {
+    return SafeFuture.completedFuture(
+        lightClientDataProducer
+            .flatMap(LightClientDataProducer::getLatestOptimisticUpdate)
+            .map(
+                update ->
+                    new ObjectAndMetaData<>(
+                        update,
+                        spec.atSlot(update.getAttestedHeader().getBeacon().getSlot())
+                            .getMilestone(),
+                        false,
+                        true,
+                        false)));
+  }
+
+  private SafeFuture<Optional<LightClientUpdate>> getLightClientUpdate(final UInt64 period) {
+    return lightClientDataProducer
+        .map(producer -> producer.getBestUpdate(period))
+        .orElseGet(() -> combinedChainDataClient.getLightClientUpdate(period));
+  }
+
+  public LightClientUpdateResponse createLightClientUpdateResponse(
+      final ObjectAndMetaData<LightClientUpdate> updateAndMetaData) {
+    final LightClientUpdate update = updateAndMetaData.getData();
+    final Bytes4 forkDigest =
+        recentChainData
+            .getForkDigestByMilestone(updateAndMetaData.getMilestone())
+            .orElseThrow(ChainDataUnavailableException::new);
+    return SchemaDefinitionsAltair.required(
+            spec.forMilestone(SpecMilestone.ALTAIR).getSchemaDefinitions())
+        .getLightClientUpdateResponseSchema()
+        .create(
+            SszUInt64.of(UInt64.valueOf(Bytes4.SIZE + update.getSszSize())),
+            SszBytes4.of(forkDigest),
+            update);
+  }
+
   public SafeFuture<Optional<ObjectAndMetaData<StateSyncCommitteesData>>> getStateSyncCommittees(
       final String stateIdParam, final Optional<UInt64> epoch) {
     return fromState(stateIdParam, state -> getSyncCommitteesFromState(state, epoch));
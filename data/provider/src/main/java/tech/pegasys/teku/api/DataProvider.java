@@ -15,6 +15,7 @@ package tech.pegasys.teku.api;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.Optional;
 import java.util.function.IntSupplier;
 import tech.pegasys.teku.beacon.sync.SyncService;
 import tech.pegasys.teku.networking.eth2.Eth2P2PNetwork;
@@ -30,6 +31,7 @@ import tech.pegasys.teku.statetransition.blobs.BlockBlobSidecarsTrackersPool;
 import tech.pegasys.teku.statetransition.datacolumns.DataColumnSidecarManager;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ProposersDataManager;
+import tech.pegasys.teku.statetransition.lightclient.LightClientDataProducer;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.statetransition.validatorcache.ActiveValidatorChannel;
 import tech.pegasys.teku.storage.client.BlobSidecarReconstructionProvider;
@@ -120,6 +122,7 @@ public class DataProvider {
     private IntSupplier rejectedExecutionSupplier;
     private BlobSidecarReconstructionProvider blobSidecarReconstructionProvider;
     private DataColumnSidecarManager dataColumnSidecarManager;
+    private Optional<LightClientDataProducer> lightClientDataProducer = Optional.empty();
 
     public Builder recentChainData(final RecentChainData recentChainData) {
       this.recentChainData = recentChainData;
@@ -233,6 +236,12 @@ public class DataProvider {
       return this;
     }
 
+    public Builder lightClientDataProducer(
+        final Optional<LightClientDataProducer> lightClientDataProducer) {
+      this.lightClientDataProducer = lightClientDataProducer;
+      return this;
+    }
+
     public DataProvider build() {
       final ConfigProvider configProvider = new ConfigProvider(spec);
       final NetworkDataProvider networkDataProvider = new NetworkDataProvider(p2pNetwork);
@@ -259,7 +268,8 @@ public class DataProvider {
               recentChainData,
               combinedChainDataClient,
               rewardCalculator,
-              blobSidecarReconstructionProvider);
+              blobSidecarReconstructionProvider,
+              lightClientDataProducer);
       final SyncDataProvider syncDataProvider =
           new SyncDataProvider(syncService, rejectedExecutionSupplier);
       final ValidatorDataProvider validatorDataProvider =
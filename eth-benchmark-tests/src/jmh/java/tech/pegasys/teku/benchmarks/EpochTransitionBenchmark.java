@@ -18,6 +18,9 @@ import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -28,6 +31,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -53,7 +57,6 @@ import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
-import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.results.BlockImportResult;
 import tech.pegasys.teku.statetransition.BeaconChainUtil;
 import tech.pegasys.teku.statetransition.blobs.BlobSidecarManager;
@@ -97,10 +100,18 @@ public class EpochTransitionBenchmark {
   @Param({"400000"})
   int validatorsCount = 400000;
 
+  // Chunked epoch processing runs on the fork-join pool of the calling task, so running the
+  // benchmarks within a dedicated pool limits them to the given number of cores
+  @Param({"1", "2", "4", "8"})
+  int parallelism = Runtime.getRuntime().availableProcessors();
+
+  ForkJoinPool forkJoinPool;
+
   @Setup(Level.Trial)
   @SuppressWarnings("deprecation")
   public void init() throws Exception {
     AbstractBlockProcessor.depositSignatureVerifier = BLSSignatureVerifier.NO_OP;
+    forkJoinPool = new ForkJoinPool(parallelism);
 
     spec = TestSpecFactory.createMainnetAltair();
     asyncRunner = DelayedExecutorAsyncRunner.create();
@@ -166,32 +177,36 @@ public class EpochTransitionBenchmark {
     System.out.println("Done!");
   }
 
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    forkJoinPool.shutdown();
+  }
+
   @Benchmark
   public void epochTransition(Blackhole bh) {
-    try {
-      preEpochTransitionState = epochProcessor.processEpoch(preEpochTransitionState);
-      bh.consume(preEpochTransitionState.hashTreeRoot());
-    } catch (EpochProcessingException e) {
-      throw new RuntimeException(e);
-    }
+    preEpochTransitionState = runInPool(() -> epochProcessor.processEpoch(preEpochTransitionState));
+    bh.consume(preEpochTransitionState.hashTreeRoot());
   }
 
   @Benchmark
   public void createValidatorStatuses(Blackhole bh) {
     final ValidatorStatuses statuses =
-        spec.atSlot(preEpochTransitionState.getSlot())
-            .getValidatorStatusFactory()
-            .createValidatorStatuses(preEpochTransitionState);
+        runInPool(
+            () ->
+                spec.atSlot(preEpochTransitionState.getSlot())
+                    .getValidatorStatusFactory()
+                    .createValidatorStatuses(preEpochTransitionState));
     bh.consume(statuses);
   }
 
   @Benchmark
   public void processRewardsAndPenalties(Blackhole bh) {
-    try {
-      epochProcessor.processRewardsAndPenalties(preEpochTransitionMutableState, validatorStatuses);
-    } catch (EpochProcessingException e) {
-      throw new RuntimeException(e);
-    }
+    runInPool(
+        () -> {
+          epochProcessor.processRewardsAndPenalties(
+              preEpochTransitionMutableState, validatorStatuses);
+          return null;
+        });
   }
 
   @Benchmark
@@ -205,10 +220,19 @@ public class EpochTransitionBenchmark {
     }
   }
 
+  private <T> T runInPool(final Callable<T> task) {
+    try {
+      return forkJoinPool.submit(task).get();
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static void main(String[] args) throws Exception {
     EpochTransitionBenchmark benchmark = new EpochTransitionBenchmark();
     benchmark.init();
 
     new CustomRunner(20, 100000).withBench(benchmark::epochTransition).run();
+    benchmark.tearDown();
   }
 }
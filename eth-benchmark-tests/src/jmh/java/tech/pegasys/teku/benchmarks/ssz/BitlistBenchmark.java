@@ -20,6 +20,7 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.ssz.collections.LongBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
 
@@ -34,6 +35,9 @@ public class BitlistBenchmark {
       createBitlist(
           1, 2, 6, 16, 23, 33, 65, 87, 96, 100, 101, 102, 103, 104, 110, 115, 120, 121, 125);
 
+  private static final LongBitlist LAST_BIT_SET_LONG = LongBitlist.fromSszBitlist(LAST_BIT_SET);
+  private static final LongBitlist MANY_BITS_SET_LONG = LongBitlist.fromSszBitlist(MANY_BITS_SET);
+
   @Benchmark
   @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
   @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -63,6 +67,52 @@ public class BitlistBenchmark {
     bh.consume(MANY_BITS_SET.getBitCount());
   }
 
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void isSuperSetOf(Blackhole bh) {
+    bh.consume(MANY_BITS_SET.isSuperSetOf(LAST_BIT_SET));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void longBitlistIsDisjoint(Blackhole bh) {
+    bh.consume(LAST_BIT_SET_LONG.isDisjoint(LAST_BIT_SET_LONG));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void longBitlistSetAllBits(Blackhole bh) {
+    final LongBitlist target = LongBitlist.create(BITLIST_SIZE);
+    target.or(MANY_BITS_SET_LONG);
+    bh.consume(target);
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void longBitlistCountSetBits(Blackhole bh) {
+    bh.consume(MANY_BITS_SET_LONG.popcount());
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void longBitlistIsSuperSetOf(Blackhole bh) {
+    bh.consume(MANY_BITS_SET_LONG.isSuperSetOf(LAST_BIT_SET_LONG));
+  }
+
+  @Benchmark
+  @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  @Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+  public void longBitlistAndNot(Blackhole bh) {
+    final LongBitlist target = MANY_BITS_SET_LONG.copy();
+    target.andNot(LAST_BIT_SET_LONG);
+    bh.consume(target);
+  }
+
   private static SszBitlist createBitlist(final int... setBits) {
     return BITLIST_SCHEMA.ofBits(BITLIST_SIZE, setBits);
   }
@@ -29,6 +29,7 @@ import tech.pegasys.teku.spec.constants.ParticipationFlags;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
@@ -43,6 +44,9 @@ public class RewardsTestExecutorAltair implements TestExecutor {
           "rewards/leak", new RewardsTestExecutorAltair(),
           "rewards/random", new RewardsTestExecutorAltair());
 
+  // Calculate each validator in its own chunk so the vectors cover every chunk boundary
+  protected static final ValidatorChunks SINGLE_VALIDATOR_CHUNKS = new ValidatorChunks(1);
+
   @Override
   public void runTest(final TestDefinition testDefinition) throws Throwable {
     final BeaconState preState = loadStateFromSsz(testDefinition, "pre.ssz_snappy");
@@ -66,7 +70,8 @@ public class RewardsTestExecutorAltair implements TestExecutor {
         BeaconStateAltair.required(preState),
         validatorStatuses,
         (MiscHelpersAltair) spec.miscHelpers(),
-        (BeaconStateAccessorsAltair) spec.beaconStateAccessors());
+        (BeaconStateAccessorsAltair) spec.beaconStateAccessors(),
+        SINGLE_VALIDATOR_CHUNKS);
   }
 
   private void runTest(
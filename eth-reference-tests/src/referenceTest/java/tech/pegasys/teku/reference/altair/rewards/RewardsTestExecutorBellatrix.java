@@ -43,6 +43,7 @@ public class RewardsTestExecutorBellatrix extends RewardsTestExecutorAltair {
         BeaconStateBellatrix.required(preState),
         validatorStatuses,
         (MiscHelpersAltair) spec.miscHelpers(),
-        (BeaconStateAccessorsAltair) spec.beaconStateAccessors());
+        (BeaconStateAccessorsAltair) spec.beaconStateAccessors(),
+        SINGLE_VALIDATOR_CHUNKS);
   }
 }
@@ -18,15 +18,18 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static tech.pegasys.teku.reference.TestDataUtils.loadStateFromSsz;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import tech.pegasys.teku.ethtests.finder.TestDefinition;
 import tech.pegasys.teku.reference.TestExecutor;
 import tech.pegasys.teku.spec.SpecVersion;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.EpochProcessor;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.SlotProcessingException;
 import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.StateTransitionException;
+import tech.pegasys.teku.spec.schemas.registry.SchemaRegistryBuilder;
 
 public class EpochProcessingTestExecutor implements TestExecutor {
 
@@ -89,6 +92,8 @@ public class EpochProcessingTestExecutor implements TestExecutor {
               new EpochProcessingTestExecutor(EpochOperation.PROPOSER_LOOKAHEAD))
           .build();
 
+  private static final ValidatorChunks SINGLE_VALIDATOR_CHUNKS = new ValidatorChunks(1);
+
   private final EpochOperation operation;
 
   public EpochProcessingTestExecutor(final EpochOperation operation) {
@@ -101,8 +106,28 @@ public class EpochProcessingTestExecutor implements TestExecutor {
     final String postStateFileName = "post.ssz_snappy";
 
     final SpecVersion genesisSpec = testDefinition.getSpec().getGenesisSpec();
-    final EpochProcessor epochProcessor = genesisSpec.getEpochProcessor();
-    final ValidatorStatusFactory validatorStatusFactory = genesisSpec.getValidatorStatusFactory();
+    // Also run with one validator per chunk so every chunk boundary is covered by the vectors
+    final SpecVersion singleValidatorChunkSpec =
+        SpecVersion.create(
+                genesisSpec.getMilestone(),
+                genesisSpec.getConfig(),
+                SchemaRegistryBuilder.create(),
+                SINGLE_VALIDATOR_CHUNKS)
+            .orElseThrow();
+
+    for (final SpecVersion spec : List.of(genesisSpec, singleValidatorChunkSpec)) {
+      runTest(testDefinition, preState, postStateFileName, spec);
+    }
+  }
+
+  private void runTest(
+      final TestDefinition testDefinition,
+      final BeaconState preState,
+      final String postStateFileName,
+      final SpecVersion spec)
+      throws Exception {
+    final EpochProcessor epochProcessor = spec.getEpochProcessor();
+    final ValidatorStatusFactory validatorStatusFactory = spec.getValidatorStatusFactory();
     final EpochProcessingExecutor processor =
         new EpochProcessingExecutor(epochProcessor, validatorStatusFactory);
 
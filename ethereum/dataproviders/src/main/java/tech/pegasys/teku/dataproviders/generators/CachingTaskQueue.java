@@ -56,11 +56,25 @@ public class CachingTaskQueue<K, V> {
       final String metricsPrefix,
       final IntSupplier activeTaskLimit,
       final int maxCacheSize) {
+    this(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        activeTaskLimit,
+        LimitedMap.<K, V>createSoft(maxCacheSize));
+  }
+
+  CachingTaskQueue(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final IntSupplier activeTaskLimit,
+      final Map<K, V> cache) {
     this.asyncRunner = asyncRunner;
     this.metricsSystem = metricsSystem;
     this.metricsPrefix = metricsPrefix;
     this.activeTaskLimit = activeTaskLimit;
-    this.cache = LimitedMap.createSoft(maxCacheSize);
+    this.cache = cache;
 
     final LabelledMetric<Counter> labelledCounter =
         metricsSystem.createLabelledCounter(
@@ -87,6 +101,23 @@ public class CachingTaskQueue<K, V> {
         maxCacheSize);
   }
 
+  /**
+   * Creates a queue which caches results in the supplied map. The map must be safe for concurrent
+   * access and enforce its own size limits.
+   */
+  public static <K, V> CachingTaskQueue<K, V> create(
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem,
+      final String metricsPrefix,
+      final Map<K, V> cache) {
+    return new CachingTaskQueue<>(
+        asyncRunner,
+        metricsSystem,
+        metricsPrefix,
+        () -> Math.max(2, Runtime.getRuntime().availableProcessors()),
+        cache);
+  }
+
   public void startMetrics() {
     final LabelledSuppliedMetric taskQueueMetrics =
         metricsSystem.createLabelledSuppliedGauge(
@@ -215,7 +246,10 @@ public class CachingTaskQueue<K, V> {
   }
 
   public void removeIf(final Predicate<K> removalCondition) {
-    cache.keySet().removeIf(removalCondition);
+    // synchronized limited maps require iteration to be synchronized on the map instance
+    synchronized (cache) {
+      cache.keySet().removeIf(removalCondition);
+    }
   }
 
   public void clear() {
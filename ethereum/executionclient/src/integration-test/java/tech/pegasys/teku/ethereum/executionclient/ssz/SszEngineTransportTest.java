@@ -0,0 +1,207 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.io.IOException;
+import java.util.List;
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.ethereum.executionclient.ExecutionEngineClient;
+import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV3;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV4Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadStatusV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.Response;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.bytes.Bytes8;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigDeneb;
+import tech.pegasys.teku.spec.datastructures.builder.versions.deneb.BlobsBundleDeneb;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequestsDataCodec;
+import tech.pegasys.teku.spec.executionlayer.ExecutionPayloadStatus;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+public class SszEngineTransportTest {
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaDefinitionsElectra schemaDefinitions =
+      SchemaDefinitionsElectra.required(
+          spec.forMilestone(SpecMilestone.ELECTRA).getSchemaDefinitions());
+  private final ExecutionRequestsDataCodec executionRequestsDataCodec =
+      new ExecutionRequestsDataCodec(schemaDefinitions.getExecutionRequestsSchema());
+  private final ExecutionEngineClient delegate = mock(ExecutionEngineClient.class);
+  private final MockWebServer mockWebServer = new MockWebServer();
+
+  private SszExecutionEngineClient client;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mockWebServer.start();
+    final SszEngineTransport transport =
+        new SszEngineTransport(new OkHttpClient(), "http://localhost:" + mockWebServer.getPort());
+    client = new SszExecutionEngineClient(delegate, transport, spec);
+    when(delegate.exchangeCapabilities(any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Response.fromPayloadReceivedAsJson(
+                    List.of("engine_newPayloadV4_ssz", "engine_getPayloadV4_ssz"))));
+    safeJoin(client.exchangeCapabilities(List.of()));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    mockWebServer.shutdown();
+  }
+
+  @Test
+  void newPayloadV4_shouldPostSszEncodedRequest() throws Exception {
+    final ExecutionPayload executionPayload = dataStructureUtil.randomExecutionPayload();
+    final List<VersionedHash> versionedHashes = dataStructureUtil.randomVersionedHashes(3);
+    final Bytes32 parentBeaconBlockRoot = dataStructureUtil.randomBytes32();
+    final ExecutionRequests executionRequests = dataStructureUtil.randomExecutionRequests();
+    final Bytes32 latestValidHash = dataStructureUtil.randomBytes32();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/json")
+            .setBody(
+                "{\"status\":\"VALID\",\"latestValidHash\":\""
+                    + latestValidHash.toHexString()
+                    + "\",\"validationError\":null}"));
+
+    final Response<PayloadStatusV1> response =
+        safeJoin(
+            client.newPayloadV4(
+                ExecutionPayloadV3.fromInternalExecutionPayload(executionPayload),
+                versionedHashes,
+                parentBeaconBlockRoot,
+                executionRequestsDataCodec.encode(executionRequests)));
+
+    assertThat(response.payload())
+        .isEqualTo(new PayloadStatusV1(ExecutionPayloadStatus.VALID, latestValidHash, null));
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getMethod()).isEqualTo("POST");
+    assertThat(request.getPath()).isEqualTo("/engine/ssz/engine_newPayloadV4");
+    assertThat(request.getHeader("Content-Type")).startsWith("application/octet-stream");
+    final SszNewPayloadRequest sentRequest =
+        new SszNewPayloadRequestSchema(
+                schemaDefinitions.getExecutionPayloadSchema(),
+                SpecConfigDeneb.required(spec.getGenesisSpecConfig())
+                    .getMaxBlobCommitmentsPerBlock(),
+                schemaDefinitions.getExecutionRequestsSchema())
+            .sszDeserialize(Bytes.wrap(request.getBody().readByteArray()));
+    assertThat(sentRequest.getExecutionPayload()).isEqualTo(executionPayload);
+    assertThat(sentRequest.getBlobVersionedHashes()).isEqualTo(versionedHashes);
+    assertThat(sentRequest.getParentBeaconBlockRoot()).isEqualTo(parentBeaconBlockRoot);
+    assertThat(sentRequest.getExecutionRequests()).isEqualTo(executionRequests);
+    verify(delegate, never()).newPayloadV4(any(), any(), any(), any());
+  }
+
+  @Test
+  void getPayloadV4_shouldDecodeSszResponse() throws Exception {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final ExecutionPayload executionPayload = dataStructureUtil.randomExecutionPayload();
+    final UInt256 blockValue = dataStructureUtil.randomUInt256();
+    final BlobsBundleDeneb blobsBundle = dataStructureUtil.randomBuilderBlobsBundle(2);
+    final ExecutionRequests executionRequests = dataStructureUtil.randomExecutionRequests();
+    final Bytes responseBody =
+        new SszGetPayloadResponseSchema(
+                schemaDefinitions.getExecutionPayloadSchema(),
+                schemaDefinitions.getBlobsBundleSchema(),
+                schemaDefinitions.getExecutionRequestsSchema())
+            .create(executionPayload, blockValue, blobsBundle, false, executionRequests)
+            .sszSerialize();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setHeader("Content-Type", "application/octet-stream")
+            .setBody(new Buffer().write(responseBody.toArrayUnsafe())));
+
+    final Response<GetPayloadV4Response> response = safeJoin(client.getPayloadV4(payloadId));
+
+    assertThat(response.receivedAsSsz()).isTrue();
+    assertThat(response.payload().executionPayload)
+        .isEqualTo(ExecutionPayloadV3.fromInternalExecutionPayload(executionPayload));
+    assertThat(response.payload().blockValue).isEqualTo(blockValue);
+    assertThat(response.payload().executionRequests)
+        .isEqualTo(executionRequestsDataCodec.encode(executionRequests));
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getPath()).isEqualTo("/engine/ssz/engine_getPayloadV4");
+    assertThat(Bytes.wrap(request.getBody().readByteArray()))
+        .isEqualTo(payloadId.getWrappedBytes());
+  }
+
+  @Test
+  void getPayloadV4_shouldFallbackToJsonWhenEndpointIsNotFound() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final Response<GetPayloadV4Response> jsonResponse = mockJsonGetPayloadV4(payloadId);
+    mockWebServer.enqueue(new MockResponse().setResponseCode(404));
+
+    assertThat(safeJoin(client.getPayloadV4(payloadId))).isSameAs(jsonResponse);
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isFalse();
+  }
+
+  @Test
+  void getPayloadV4_shouldFallbackToJsonWhenConnectionIsRefused() throws IOException {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final Response<GetPayloadV4Response> jsonResponse = mockJsonGetPayloadV4(payloadId);
+    mockWebServer.shutdown();
+
+    assertThat(safeJoin(client.getPayloadV4(payloadId))).isSameAs(jsonResponse);
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isFalse();
+  }
+
+  @Test
+  void getPayloadV4_shouldReportServerErrorWithoutFallback() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    mockWebServer.enqueue(
+        new MockResponse().setResponseCode(500).setBody("Unknown payload"));
+
+    final Response<GetPayloadV4Response> response = safeJoin(client.getPayloadV4(payloadId));
+
+    assertThat(response.isFailure()).isTrue();
+    assertThat(response.errorMessage()).isEqualTo("Unknown payload");
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isTrue();
+    verify(delegate, never()).getPayloadV4(any());
+  }
+
+  private Response<GetPayloadV4Response> mockJsonGetPayloadV4(final Bytes8 payloadId) {
+    final Response<GetPayloadV4Response> jsonResponse =
+        Response.fromPayloadReceivedAsJson(mock(GetPayloadV4Response.class));
+    when(delegate.getPayloadV4(payloadId)).thenReturn(SafeFuture.completedFuture(jsonResponse));
+    return jsonResponse;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compares decoding a blobs array with the in-place decoder against the String based path. */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class HexDeserializerBenchmark {
+  private static final int BLOB_SIZE = 131072;
+
+  @Param({"6", "48"})
+  int blobCount;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final BytesDeserializer deserializer = new BytesDeserializer();
+  private String json;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(1);
+    final StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < blobCount; i++) {
+      final byte[] blob = new byte[BLOB_SIZE];
+      random.nextBytes(blob);
+      sb.append(i == 0 ? "\"" : ",\"").append(Bytes.wrap(blob).toHexString()).append('"');
+    }
+    json = sb.append(']').toString();
+  }
+
+  @Benchmark
+  public void decodeInPlace(final Blackhole bh) throws IOException {
+    try (JsonParser parser = createParser()) {
+      while (parser.nextToken() == JsonToken.VALUE_STRING) {
+        bh.consume(deserializer.deserialize(parser, objectMapper.getDeserializationContext()));
+      }
+    }
+  }
+
+  @Benchmark
+  public void decodeViaString(final Blackhole bh) throws IOException {
+    try (JsonParser parser = createParser()) {
+      while (parser.nextToken() == JsonToken.VALUE_STRING) {
+        bh.consume(Bytes.fromHexString(parser.getValueAsString()));
+      }
+    }
+  }
+
+  private JsonParser createParser() throws IOException {
+    final JsonParser parser = objectMapper.getFactory().createParser(new StringReader(json));
+    parser.nextToken();
+    return parser;
+  }
+}
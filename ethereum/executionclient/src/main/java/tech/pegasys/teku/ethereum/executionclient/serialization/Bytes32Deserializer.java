@@ -24,6 +24,9 @@ public class Bytes32Deserializer extends JsonDeserializer<Bytes32> {
   @Override
   public Bytes32 deserialize(final JsonParser p, final DeserializationContext ctxt)
       throws IOException {
+    if (HexDecoder.canDecode(p)) {
+      return Bytes32.wrap(HexDecoder.decodeStrict(p, Bytes32.SIZE));
+    }
     return Bytes32.fromHexStringStrict(p.getValueAsString());
   }
 }
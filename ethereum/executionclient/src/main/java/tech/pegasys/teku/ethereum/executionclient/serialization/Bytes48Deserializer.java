@@ -24,6 +24,9 @@ public class Bytes48Deserializer extends JsonDeserializer<Bytes48> {
   @Override
   public Bytes48 deserialize(final JsonParser p, final DeserializationContext ctxt)
       throws IOException {
+    if (HexDecoder.canDecode(p)) {
+      return Bytes48.wrap(HexDecoder.decodeStrict(p, Bytes48.SIZE));
+    }
     return Bytes48.fromHexStringStrict(p.getValueAsString());
   }
 }
@@ -24,6 +24,9 @@ public class BytesDeserializer extends JsonDeserializer<Bytes> {
   @Override
   public Bytes deserialize(final JsonParser p, final DeserializationContext ctxt)
       throws IOException {
+    if (HexDecoder.canDecode(p)) {
+      return Bytes.wrap(HexDecoder.decode(p));
+    }
     return Bytes.fromHexString(p.getValueAsString());
   }
 }
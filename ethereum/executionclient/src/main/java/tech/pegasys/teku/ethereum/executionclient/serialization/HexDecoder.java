@@ -0,0 +1,129 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Decodes hex string values directly from the parser's character buffer.
+ *
+ * <p>Engine API responses carry blobs, proofs and transactions as hex strings, which for blob-heavy
+ * blocks add up to tens of megabytes. Going through {@link JsonParser#getValueAsString()} first
+ * materializes every value as a {@link String} before it is decoded again, so here the characters
+ * are read in place and decoded into a single, exactly sized {@code byte[]}.
+ */
+public final class HexDecoder {
+
+  private static final int[] HEX_VALUES = new int[128];
+
+  static {
+    Arrays.fill(HEX_VALUES, -1);
+    for (char c = '0'; c <= '9'; c++) {
+      HEX_VALUES[c] = c - '0';
+    }
+    for (char c = 'a'; c <= 'f'; c++) {
+      HEX_VALUES[c] = c - 'a' + 10;
+    }
+    for (char c = 'A'; c <= 'F'; c++) {
+      HEX_VALUES[c] = c - 'A' + 10;
+    }
+  }
+
+  private HexDecoder() {}
+
+  /**
+   * Decodes the current string token, accepting an optional {@code 0x} prefix and an odd number of
+   * digits (left padded with a zero nibble), consistent with {@code Bytes.fromHexString}.
+   */
+  public static byte[] decode(final JsonParser p) throws IOException {
+    return decode(p, -1, true);
+  }
+
+  /**
+   * Decodes the current string token which must represent exactly {@code expectedSize} bytes,
+   * consistent with {@code Bytes32.fromHexStringStrict}.
+   */
+  public static byte[] decodeStrict(final JsonParser p, final int expectedSize)
+      throws IOException {
+    return decode(p, expectedSize, false);
+  }
+
+  /**
+   * Returns {@code true} if the current token can be decoded in place. Other tokens should fall
+   * back to {@link JsonParser#getValueAsString()} so existing error handling is preserved.
+   */
+  public static boolean canDecode(final JsonParser p) {
+    return p.hasToken(JsonToken.VALUE_STRING);
+  }
+
+  private static byte[] decode(final JsonParser p, final int expectedSize, final boolean lenient)
+      throws IOException {
+    return decode(
+        p.getTextCharacters(), p.getTextOffset(), p.getTextLength(), expectedSize, lenient);
+  }
+
+  static byte[] decode(
+      final char[] chars,
+      final int offset,
+      final int length,
+      final int expectedSize,
+      final boolean lenient) {
+    int start = offset;
+    int digits = length;
+    if (digits >= 2 && chars[start] == '0' && chars[start + 1] == 'x') {
+      start += 2;
+      digits -= 2;
+    }
+    final boolean oddLength = (digits & 1) != 0;
+    if (oddLength && !lenient) {
+      throw new IllegalArgumentException("Invalid odd-length hex binary representation");
+    }
+    final int size = (digits + 1) >>> 1;
+    if (expectedSize >= 0 && size != expectedSize) {
+      throw new IllegalArgumentException(
+          "Expected " + expectedSize + " bytes from hex string but got " + size);
+    }
+
+    final byte[] result = new byte[size];
+    int charIndex = start;
+    int byteIndex = 0;
+    if (oddLength) {
+      result[byteIndex++] = (byte) hexValue(chars, charIndex++, start);
+    }
+    while (byteIndex < size) {
+      final int high = hexValue(chars, charIndex, start);
+      final int low = hexValue(chars, charIndex + 1, start);
+      result[byteIndex++] = (byte) ((high << 4) | low);
+      charIndex += 2;
+    }
+    return result;
+  }
+
+  private static int hexValue(final char[] chars, final int index, final int start) {
+    final char c = chars[index];
+    final int value = c < HEX_VALUES.length ? HEX_VALUES[c] : -1;
+    if (value < 0) {
+      throw new IllegalArgumentException(
+          "Illegal character '"
+              + c
+              + "' found at index "
+              + (index - start)
+              + " in hex binary representation");
+    }
+    return value;
+  }
+}
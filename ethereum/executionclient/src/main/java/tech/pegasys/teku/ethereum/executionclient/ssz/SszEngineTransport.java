@@ -0,0 +1,113 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import static java.util.Objects.requireNonNull;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_UNSUPPORTED_MEDIA_TYPE;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.ethereum.executionclient.schema.Response;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+
+/**
+ * Sends SSZ encoded engine API requests as {@code application/octet-stream} over HTTP.
+ *
+ * <p>Each method is posted to {@code <endpoint>/engine/ssz/<method>}. Successful responses are
+ * returned as raw bytes, flagged as {@link Response#receivedAsSsz()} when sent as {@code
+ * application/octet-stream}. A 404 or 415 status is reported as an unsupported media type error so
+ * callers can fall back to JSON-RPC.
+ */
+public class SszEngineTransport {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String SSZ_PATH_PREFIX = "engine/ssz/";
+  static final MediaType OCTET_STREAM_MEDIA_TYPE = MediaType.parse("application/octet-stream");
+
+  private final OkHttpClient httpClient;
+  private final HttpUrl baseEndpoint;
+
+  public SszEngineTransport(final OkHttpClient httpClient, final String baseEndpoint) {
+    this.httpClient = httpClient;
+    this.baseEndpoint = HttpUrl.get(baseEndpoint);
+  }
+
+  public SafeFuture<Response<Bytes>> post(
+      final String method, final Bytes requestBody, final Duration timeout) {
+    final Request request =
+        new Request.Builder()
+            .url(requireNonNull(baseEndpoint.newBuilder(SSZ_PATH_PREFIX + method)).build())
+            .post(RequestBody.create(requestBody.toArrayUnsafe(), OCTET_STREAM_MEDIA_TYPE))
+            .build();
+    final Call call = httpClient.newCall(request);
+    call.timeout().timeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+    final SafeFuture<Response<Bytes>> futureResponse = new SafeFuture<>();
+    call.enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(final Call call, final IOException ex) {
+            futureResponse.completeExceptionally(ex);
+          }
+
+          @Override
+          public void onResponse(final Call call, final okhttp3.Response response) {
+            LOG.trace("{} {} {}", request.method(), request.url(), response.code());
+            try (response) {
+              futureResponse.complete(handleResponse(response));
+            } catch (final Throwable ex) {
+              futureResponse.completeExceptionally(ex);
+            }
+          }
+        });
+    return futureResponse;
+  }
+
+  private Response<Bytes> handleResponse(final okhttp3.Response response) throws IOException {
+    if (response.code() == SC_NOT_FOUND || response.code() == SC_UNSUPPORTED_MEDIA_TYPE) {
+      return Response.fromUnsupportedMediaTypeError();
+    }
+    final ResponseBody responseBody = response.body();
+    final Bytes content = responseBody == null ? Bytes.EMPTY : Bytes.wrap(responseBody.bytes());
+    if (!response.isSuccessful()) {
+      return Response.fromErrorMessage(
+          content.isEmpty()
+              ? response.code() + ": " + response.message()
+              : new String(content.toArrayUnsafe(), StandardCharsets.UTF_8));
+    }
+    return responseBody != null && isOctetStream(responseBody.contentType())
+        ? Response.fromPayloadReceivedAsSsz(content)
+        : Response.fromPayloadReceivedAsJson(content);
+  }
+
+  private static boolean isOctetStream(final MediaType mediaType) {
+    return mediaType != null
+        && OCTET_STREAM_MEDIA_TYPE.type().equals(mediaType.type())
+        && OCTET_STREAM_MEDIA_TYPE.subtype().equals(mediaType.subtype());
+  }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import static tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil.getRootCauseMessage;
+import static tech.pegasys.teku.spec.config.Constants.EL_ENGINE_BLOCK_EXECUTION_TIMEOUT;
+import static tech.pegasys.teku.spec.config.Constants.EL_ENGINE_NON_BLOCK_EXECUTION_TIMEOUT;
+
+import com.google.common.base.Suppliers;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.web3j.protocol.ObjectMapperFactory;
+import tech.pegasys.teku.ethereum.executionclient.ExecutionEngineClient;
+import tech.pegasys.teku.ethereum.executionclient.schema.BlobAndProofV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.BlobAndProofV2;
+import tech.pegasys.teku.ethereum.executionclient.schema.BlobsBundleV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.BlobsBundleV2;
+import tech.pegasys.teku.ethereum.executionclient.schema.ClientVersionV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV2;
+import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV3;
+import tech.pegasys.teku.ethereum.executionclient.schema.ForkChoiceStateV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.ForkChoiceUpdatedResult;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV2Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV3Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV4Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV5Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadAttributesV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadAttributesV2;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadAttributesV3;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadStatusV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.Response;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.bytes.Bytes8;
+import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.config.SpecConfigDeneb;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.deneb.Blob;
+import tech.pegasys.teku.spec.datastructures.builder.versions.deneb.BlobsBundleDeneb;
+import tech.pegasys.teku.spec.datastructures.builder.versions.fulu.BlobsBundleFulu;
+import tech.pegasys.teku.spec.datastructures.execution.PowBlock;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequestsDataCodec;
+import tech.pegasys.teku.spec.datastructures.type.SszKZGCommitment;
+import tech.pegasys.teku.spec.datastructures.type.SszKZGProof;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
+
+/**
+ * Sends the payload carrying engine methods as SSZ over {@link SszEngineTransport} when the
+ * execution client supports it, and everything else through the JSON-RPC {@code delegate}.
+ *
+ * <p>Support is negotiated via {@code engine_exchangeCapabilities}: for each method handled here
+ * the capability {@code <method>_ssz} is advertised, and SSZ is only used for methods the execution
+ * client echoed back. If the SSZ endpoint rejects the request (404 or 415) or can't be reached, the
+ * same request is retried as JSON-RPC and SSZ stays disabled for that method until the next
+ * capabilities exchange. Other failures, such as timeouts or malformed responses, are reported as
+ * they are rather than resending the request.
+ */
+public class SszExecutionEngineClient implements ExecutionEngineClient {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String SSZ_CAPABILITY_SUFFIX = "_ssz";
+
+  static final String NEW_PAYLOAD_V4 = "engine_newPayloadV4";
+  static final String GET_PAYLOAD_V4 = "engine_getPayloadV4";
+  static final String GET_PAYLOAD_V5 = "engine_getPayloadV5";
+
+  private final ExecutionEngineClient delegate;
+  private final SszEngineTransport transport;
+  private final Set<String> sszEnabledMethods = ConcurrentHashMap.newKeySet();
+
+  private final Supplier<Optional<SszNewPayloadRequestSchema>> newPayloadV4RequestSchema;
+  private final Supplier<Optional<SszGetPayloadResponseSchema>> getPayloadV4ResponseSchema;
+  private final Supplier<Optional<SszGetPayloadResponseSchema>> getPayloadV5ResponseSchema;
+  private final Supplier<Optional<ExecutionRequestsDataCodec>> executionRequestsDataCodec;
+
+  public SszExecutionEngineClient(
+      final ExecutionEngineClient delegate, final SszEngineTransport transport, final Spec spec) {
+    this.delegate = delegate;
+    this.transport = transport;
+    this.newPayloadV4RequestSchema =
+        Suppliers.memoize(
+            () ->
+                getElectraSchemaDefinitions(spec, SpecMilestone.ELECTRA)
+                    .map(
+                        schemaDefinitions ->
+                            new SszNewPayloadRequestSchema(
+                                schemaDefinitions.getExecutionPayloadSchema(),
+                                SpecConfigDeneb.required(
+                                        spec.forMilestone(SpecMilestone.ELECTRA).getConfig())
+                                    .getMaxBlobCommitmentsPerBlock(),
+                                schemaDefinitions.getExecutionRequestsSchema())));
+    this.getPayloadV4ResponseSchema =
+        Suppliers.memoize(() -> createGetPayloadResponseSchema(spec, SpecMilestone.ELECTRA));
+    this.getPayloadV5ResponseSchema =
+        Suppliers.memoize(() -> createGetPayloadResponseSchema(spec, SpecMilestone.FULU));
+    this.executionRequestsDataCodec =
+        Suppliers.memoize(
+            () ->
+                getElectraSchemaDefinitions(spec, SpecMilestone.ELECTRA)
+                    .map(
+                        schemaDefinitions ->
+                            new ExecutionRequestsDataCodec(
+                                schemaDefinitions.getExecutionRequestsSchema())));
+  }
+
+  private static Optional<SchemaDefinitionsElectra> getElectraSchemaDefinitions(
+      final Spec spec, final SpecMilestone milestone) {
+    if (!spec.isMilestoneSupported(milestone)) {
+      return Optional.empty();
+    }
+    final SpecVersion specVersion = spec.forMilestone(milestone);
+    return Optional.of(SchemaDefinitionsElectra.required(specVersion.getSchemaDefinitions()));
+  }
+
+  private static Optional<SszGetPayloadResponseSchema> createGetPayloadResponseSchema(
+      final Spec spec, final SpecMilestone milestone) {
+    return getElectraSchemaDefinitions(spec, milestone)
+        .map(
+            schemaDefinitions ->
+                new SszGetPayloadResponseSchema(
+                    schemaDefinitions.getExecutionPayloadSchema(),
+                    schemaDefinitions.getBlobsBundleSchema(),
+                    schemaDefinitions.getExecutionRequestsSchema()));
+  }
+
+  @Override
+  public SafeFuture<PowBlock> getPowBlock(final Bytes32 blockHash) {
+    return delegate.getPowBlock(blockHash);
+  }
+
+  @Override
+  public SafeFuture<PowBlock> getPowChainHead() {
+    return delegate.getPowChainHead();
+  }
+
+  @Override
+  public SafeFuture<Response<ExecutionPayloadV1>> getPayloadV1(final Bytes8 payloadId) {
+    return delegate.getPayloadV1(payloadId);
+  }
+
+  @Override
+  public SafeFuture<Response<GetPayloadV2Response>> getPayloadV2(final Bytes8 payloadId) {
+    return delegate.getPayloadV2(payloadId);
+  }
+
+  @Override
+  public SafeFuture<Response<GetPayloadV3Response>> getPayloadV3(final Bytes8 payloadId) {
+    return delegate.getPayloadV3(payloadId);
+  }
+
+  @Override
+  public SafeFuture<Response<GetPayloadV4Response>> getPayloadV4(final Bytes8 payloadId) {
+    return requestWithJsonFallback(
+        GET_PAYLOAD_V4,
+        () ->
+            postSsz(
+                    GET_PAYLOAD_V4,
+                    payloadId.getWrappedBytes(),
+                    EL_ENGINE_NON_BLOCK_EXECUTION_TIMEOUT)
+                .thenApply(response -> decodeSsz(response, this::toGetPayloadV4Response)),
+        () -> delegate.getPayloadV4(payloadId));
+  }
+
+  @Override
+  public SafeFuture<Response<GetPayloadV5Response>> getPayloadV5(final Bytes8 payloadId) {
+    return requestWithJsonFallback(
+        GET_PAYLOAD_V5,
+        () ->
+            postSsz(
+                    GET_PAYLOAD_V5,
+                    payloadId.getWrappedBytes(),
+                    EL_ENGINE_NON_BLOCK_EXECUTION_TIMEOUT)
+                .thenApply(response -> decodeSsz(response, this::toGetPayloadV5Response)),
+        () -> delegate.getPayloadV5(payloadId));
+  }
+
+  @Override
+  public SafeFuture<Response<PayloadStatusV1>> newPayloadV1(
+      final ExecutionPayloadV1 executionPayload) {
+    return delegate.newPayloadV1(executionPayload);
+  }
+
+  @Override
+  public SafeFuture<Response<PayloadStatusV1>> newPayloadV2(
+      final ExecutionPayloadV2 executionPayload) {
+    return delegate.newPayloadV2(executionPayload);
+  }
+
+  @Override
+  public SafeFuture<Response<PayloadStatusV1>> newPayloadV3(
+      final ExecutionPayloadV3 executionPayload,
+      final List<VersionedHash> blobVersionedHashes,
+      final Bytes32 parentBeaconBlockRoot) {
+    return delegate.newPayloadV3(executionPayload, blobVersionedHashes, parentBeaconBlockRoot);
+  }
+
+  @Override
+  public SafeFuture<Response<PayloadStatusV1>> newPayloadV4(
+      final ExecutionPayloadV3 executionPayload,
+      final List<VersionedHash> blobVersionedHashes,
+      final Bytes32 parentBeaconBlockRoot,
+      final List<Bytes> executionRequests) {
+    return requestWithJsonFallback(
+        NEW_PAYLOAD_V4,
+        () -> {
+          final SszNewPayloadRequestSchema requestSchema =
+              newPayloadV4RequestSchema.get().orElseThrow();
+          final SszNewPayloadRequest request =
+              requestSchema.create(
+                  executionPayload.asInternalExecutionPayload(
+                      requestSchema.getExecutionPayloadSchema()),
+                  blobVersionedHashes,
+                  parentBeaconBlockRoot,
+                  executionRequestsDataCodec.get().orElseThrow().decode(executionRequests));
+          return postSsz(NEW_PAYLOAD_V4, request.sszSerialize(), EL_ENGINE_BLOCK_EXECUTION_TIMEOUT)
+              .thenApply(response -> decodeJson(response, PayloadStatusV1.class));
+        },
+        () ->
+            delegate.newPayloadV4(
+                executionPayload, blobVersionedHashes, parentBeaconBlockRoot, executionRequests));
+  }
+
+  @Override
+  public SafeFuture<Response<ForkChoiceUpdatedResult>> forkChoiceUpdatedV1(
+      final ForkChoiceStateV1 forkChoiceState,
+      final Optional<PayloadAttributesV1> payloadAttributes) {
+    return delegate.forkChoiceUpdatedV1(forkChoiceState, payloadAttributes);
+  }
+
+  @Override
+  public SafeFuture<Response<ForkChoiceUpdatedResult>> forkChoiceUpdatedV2(
+      final ForkChoiceStateV1 forkChoiceState,
+      final Optional<PayloadAttributesV2> payloadAttributes) {
+    return delegate.forkChoiceUpdatedV2(forkChoiceState, payloadAttributes);
+  }
+
+  @Override
+  public SafeFuture<Response<ForkChoiceUpdatedResult>> forkChoiceUpdatedV3(
+      final ForkChoiceStateV1 forkChoiceState,
+      final Optional<PayloadAttributesV3> payloadAttributes) {
+    return delegate.forkChoiceUpdatedV3(forkChoiceState, payloadAttributes);
+  }
+
+  @Override
+  public SafeFuture<Response<List<String>>> exchangeCapabilities(final List<String> capabilities) {
+    final List<String> sszCapabilities = getSupportedSszMethods();
+    final List<String> requestedCapabilities = new ArrayList<>(capabilities);
+    sszCapabilities.forEach(method -> requestedCapabilities.add(method + SSZ_CAPABILITY_SUFFIX));
+    return delegate
+        .exchangeCapabilities(requestedCapabilities)
+        .thenPeek(
+            response -> {
+              if (response.isSuccess() && response.payload() != null) {
+                updateSszEnabledMethods(sszCapabilities, response.payload());
+              }
+            });
+  }
+
+  @Override
+  public SafeFuture<Response<List<ClientVersionV1>>> getClientVersionV1(
+      final ClientVersionV1 clientVersion) {
+    return delegate.getClientVersionV1(clientVersion);
+  }
+
+  @Override
+  public SafeFuture<Response<List<BlobAndProofV1>>> getBlobsV1(
+      final List<VersionedHash> blobVersionedHashes) {
+    return delegate.getBlobsV1(blobVersionedHashes);
+  }
+
+  @Override
+  public SafeFuture<Response<List<BlobAndProofV2>>> getBlobsV2(
+      final List<VersionedHash> blobVersionedHashes) {
+    return delegate.getBlobsV2(blobVersionedHashes);
+  }
+
+  boolean isSszEnabled(final String method) {
+    return sszEnabledMethods.contains(method);
+  }
+
+  private List<String> getSupportedSszMethods() {
+    final List<String> methods = new ArrayList<>();
+    if (newPayloadV4RequestSchema.get().isPresent()) {
+      methods.add(NEW_PAYLOAD_V4);
+    }
+    if (getPayloadV4ResponseSchema.get().isPresent()) {
+      methods.add(GET_PAYLOAD_V4);
+    }
+    if (getPayloadV5ResponseSchema.get().isPresent()) {
+      methods.add(GET_PAYLOAD_V5);
+    }
+    return methods;
+  }
+
+  private void updateSszEnabledMethods(
+      final List<String> sszMethods, final List<String> engineCapabilities) {
+    for (final String method : sszMethods) {
+      if (engineCapabilities.contains(method + SSZ_CAPABILITY_SUFFIX)) {
+        if (sszEnabledMethods.add(method)) {
+          LOG.info("Execution client supports SSZ for {}, switching from JSON-RPC", method);
+        }
+      } else {
+        sszEnabledMethods.remove(method);
+      }
+    }
+  }
+
+  private <T> SafeFuture<Response<T>> requestWithJsonFallback(
+      final String method,
+      final Supplier<SafeFuture<Response<T>>> sszRequest,
+      final Supplier<SafeFuture<Response<T>>> jsonRequest) {
+    if (!sszEnabledMethods.contains(method)) {
+      return jsonRequest.get();
+    }
+    SafeFuture<Response<T>> sszResponse;
+    try {
+      sszResponse = sszRequest.get();
+    } catch (final RuntimeException e) {
+      sszResponse = SafeFuture.failedFuture(e);
+    }
+    return sszResponse.thenCompose(
+        response ->
+            response.isUnsupportedMediaTypeError()
+                ? fallbackToJson(method, response.errorMessage(), jsonRequest)
+                : SafeFuture.completedFuture(response));
+  }
+
+  /**
+   * Reports transport failures, such as a refused connection, like a rejected endpoint so the
+   * request is retried as JSON-RPC. Timeouts are not retried as the execution client may still be
+   * processing the request.
+   */
+  private SafeFuture<Response<Bytes>> postSsz(
+      final String method, final Bytes requestBody, final Duration timeout) {
+    return transport
+        .post(method, requestBody, timeout)
+        .exceptionallyCompose(
+            error -> {
+              if (!isTransportError(error)) {
+                return SafeFuture.failedFuture(error);
+              }
+              return SafeFuture.completedFuture(
+                  new Response<>(null, getRootCauseMessage(error), false, true));
+            });
+  }
+
+  private static boolean isTransportError(final Throwable error) {
+    return ExceptionUtil.hasCause(error, IOException.class)
+        && !ExceptionUtil.hasCause(error, InterruptedIOException.class);
+  }
+
+  private <T> SafeFuture<Response<T>> fallbackToJson(
+      final String method,
+      final String reason,
+      final Supplier<SafeFuture<Response<T>>> jsonRequest) {
+    if (sszEnabledMethods.remove(method)) {
+      LOG.warn(
+          "SSZ request for {} failed, falling back to JSON-RPC "
+              + "until the next capabilities exchange: {}",
+          method,
+          reason);
+    }
+    return jsonRequest.get();
+  }
+
+  private static <T> Response<T> decodeSsz(
+      final Response<Bytes> response, final Function<Bytes, T> decoder) {
+    if (response.isFailure()) {
+      return new Response<>(
+          null, response.errorMessage(), false, response.isUnsupportedMediaTypeError());
+    }
+    if (!response.receivedAsSsz()) {
+      // the execution client replied with something else, let the caller retry as JSON-RPC
+      return Response.fromUnsupportedMediaTypeError();
+    }
+    return Response.fromPayloadReceivedAsSsz(decoder.apply(response.payload()));
+  }
+
+  private static <T> Response<T> decodeJson(final Response<Bytes> response, final Class<T> type) {
+    if (response.isFailure()) {
+      return new Response<>(
+          null, response.errorMessage(), false, response.isUnsupportedMediaTypeError());
+    }
+    try {
+      return Response.fromPayloadReceivedAsJson(
+          ObjectMapperFactory.getObjectMapper()
+              .readValue(response.payload().toArrayUnsafe(), type));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private GetPayloadV4Response toGetPayloadV4Response(final Bytes body) {
+    final SszGetPayloadResponse response =
+        getPayloadV4ResponseSchema.get().orElseThrow().sszDeserialize(body);
+    final BlobsBundleDeneb blobsBundle = (BlobsBundleDeneb) response.getBlobsBundle();
+    return new GetPayloadV4Response(
+        ExecutionPayloadV3.fromInternalExecutionPayload(response.getExecutionPayload()),
+        response.getBlockValue(),
+        new BlobsBundleV1(
+            getCommitments(blobsBundle.getCommitments().asList()),
+            getProofs(blobsBundle.getProofs().asList()),
+            getBlobs(blobsBundle.getBlobs().asList())),
+        response.getShouldOverrideBuilder(),
+        encodeExecutionRequests(response));
+  }
+
+  private GetPayloadV5Response toGetPayloadV5Response(final Bytes body) {
+    final SszGetPayloadResponse response =
+        getPayloadV5ResponseSchema.get().orElseThrow().sszDeserialize(body);
+    final BlobsBundleFulu blobsBundle = (BlobsBundleFulu) response.getBlobsBundle();
+    return new GetPayloadV5Response(
+        ExecutionPayloadV3.fromInternalExecutionPayload(response.getExecutionPayload()),
+        response.getBlockValue(),
+        new BlobsBundleV2(
+            getCommitments(blobsBundle.getCommitments().asList()),
+            getProofs(blobsBundle.getProofs().asList()),
+            getBlobs(blobsBundle.getBlobs().asList())),
+        response.getShouldOverrideBuilder(),
+        encodeExecutionRequests(response));
+  }
+
+  private List<Bytes> encodeExecutionRequests(final SszGetPayloadResponse getPayloadResponse) {
+    return executionRequestsDataCodec
+        .get()
+        .orElseThrow()
+        .encode(getPayloadResponse.getExecutionRequests());
+  }
+
+  private static List<Bytes48> getCommitments(
+      final List<SszKZGCommitment> commitments) {
+    return commitments.stream().map(SszKZGCommitment::getBytes).toList();
+  }
+
+  private static List<Bytes48> getProofs(final List<SszKZGProof> proofs) {
+    return proofs.stream().map(SszKZGProof::getBytes).toList();
+  }
+
+  private static List<Bytes> getBlobs(final List<Blob> blobs) {
+    return blobs.stream().map(Blob::getBytes).toList();
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.containers.Container5;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBit;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt256;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+
+public class SszGetPayloadResponse
+    extends Container5<
+        SszGetPayloadResponse,
+        ExecutionPayload,
+        SszUInt256,
+        SszContainer,
+        SszBit,
+        ExecutionRequests> {
+
+  SszGetPayloadResponse(final SszGetPayloadResponseSchema schema, final TreeNode backingNode) {
+    super(schema, backingNode);
+  }
+
+  SszGetPayloadResponse(
+      final SszGetPayloadResponseSchema schema,
+      final ExecutionPayload executionPayload,
+      final SszUInt256 blockValue,
+      final SszContainer blobsBundle,
+      final SszBit shouldOverrideBuilder,
+      final ExecutionRequests executionRequests) {
+    super(
+        schema,
+        executionPayload,
+        blockValue,
+        blobsBundle,
+        shouldOverrideBuilder,
+        executionRequests);
+  }
+
+  public ExecutionPayload getExecutionPayload() {
+    return getField0();
+  }
+
+  public UInt256 getBlockValue() {
+    return getField1().get();
+  }
+
+  public SszContainer getBlobsBundle() {
+    return getField2();
+  }
+
+  public boolean getShouldOverrideBuilder() {
+    return getField3().get();
+  }
+
+  public ExecutionRequests getExecutionRequests() {
+    return getField4();
+  }
+
+  @Override
+  public SszGetPayloadResponseSchema getSchema() {
+    return (SszGetPayloadResponseSchema) super.getSchema();
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import org.apache.tuweni.units.bigints.UInt256;
+import tech.pegasys.teku.infrastructure.ssz.SszContainer;
+import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema5;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBit;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt256;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.builder.BlobsBundleSchema;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadSchema;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequestsSchema;
+
+/**
+ * SSZ encoding of the {@code engine_getPayloadV4} and {@code engine_getPayloadV5} results. The
+ * blobs bundle is the milestone specific {@link BlobsBundleSchema}.
+ */
+public class SszGetPayloadResponseSchema
+    extends ContainerSchema5<
+        SszGetPayloadResponse,
+        ExecutionPayload,
+        SszUInt256,
+        SszContainer,
+        SszBit,
+        ExecutionRequests> {
+
+  public SszGetPayloadResponseSchema(
+      final ExecutionPayloadSchema<?> executionPayloadSchema,
+      final BlobsBundleSchema<?> blobsBundleSchema,
+      final ExecutionRequestsSchema executionRequestsSchema) {
+    super(
+        "GetPayloadResponse",
+        namedSchema(
+            "execution_payload", SszSchema.as(ExecutionPayload.class, executionPayloadSchema)),
+        namedSchema("block_value", SszPrimitiveSchemas.UINT256_SCHEMA),
+        namedSchema("blobs_bundle", SszSchema.as(SszContainer.class, blobsBundleSchema)),
+        namedSchema("should_override_builder", SszPrimitiveSchemas.BIT_SCHEMA),
+        namedSchema("execution_requests", executionRequestsSchema));
+  }
+
+  public SszGetPayloadResponse create(
+      final ExecutionPayload executionPayload,
+      final UInt256 blockValue,
+      final SszContainer blobsBundle,
+      final boolean shouldOverrideBuilder,
+      final ExecutionRequests executionRequests) {
+    return new SszGetPayloadResponse(
+        this,
+        executionPayload,
+        SszUInt256.of(blockValue),
+        blobsBundle,
+        SszBit.of(shouldOverrideBuilder),
+        executionRequests);
+  }
+
+  @Override
+  public SszGetPayloadResponse createFromBackingNode(final TreeNode node) {
+    return new SszGetPayloadResponse(this, node);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.containers.Container4;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+
+public class SszNewPayloadRequest
+    extends Container4<
+        SszNewPayloadRequest,
+        ExecutionPayload,
+        SszList<SszBytes32>,
+        SszBytes32,
+        ExecutionRequests> {
+
+  SszNewPayloadRequest(final SszNewPayloadRequestSchema schema, final TreeNode backingNode) {
+    super(schema, backingNode);
+  }
+
+  SszNewPayloadRequest(
+      final SszNewPayloadRequestSchema schema,
+      final ExecutionPayload executionPayload,
+      final SszList<SszBytes32> blobVersionedHashes,
+      final SszBytes32 parentBeaconBlockRoot,
+      final ExecutionRequests executionRequests) {
+    super(schema, executionPayload, blobVersionedHashes, parentBeaconBlockRoot, executionRequests);
+  }
+
+  public ExecutionPayload getExecutionPayload() {
+    return getField0();
+  }
+
+  public List<VersionedHash> getBlobVersionedHashes() {
+    return getField1().stream().map(hash -> new VersionedHash(hash.get())).toList();
+  }
+
+  public Bytes32 getParentBeaconBlockRoot() {
+    return getField2().get();
+  }
+
+  public ExecutionRequests getExecutionRequests() {
+    return getField3();
+  }
+
+  @Override
+  public SszNewPayloadRequestSchema getSchema() {
+    return (SszNewPayloadRequestSchema) super.getSchema();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema4;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszListSchema;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadSchema;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequestsSchema;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+
+/** SSZ encoding of the parameters of {@code engine_newPayloadV4}. */
+public class SszNewPayloadRequestSchema
+    extends ContainerSchema4<
+        SszNewPayloadRequest,
+        ExecutionPayload,
+        SszList<SszBytes32>,
+        SszBytes32,
+        ExecutionRequests> {
+
+  public SszNewPayloadRequestSchema(
+      final ExecutionPayloadSchema<?> executionPayloadSchema,
+      final int maxBlobCommitmentsPerBlock,
+      final ExecutionRequestsSchema executionRequestsSchema) {
+    super(
+        "NewPayloadRequest",
+        namedSchema(
+            "execution_payload", SszSchema.as(ExecutionPayload.class, executionPayloadSchema)),
+        namedSchema(
+            "blob_versioned_hashes",
+            SszListSchema.create(SszPrimitiveSchemas.BYTES32_SCHEMA, maxBlobCommitmentsPerBlock)),
+        namedSchema("parent_beacon_block_root", SszPrimitiveSchemas.BYTES32_SCHEMA),
+        namedSchema("execution_requests", executionRequestsSchema));
+  }
+
+  public SszNewPayloadRequest create(
+      final ExecutionPayload executionPayload,
+      final List<VersionedHash> blobVersionedHashes,
+      final Bytes32 parentBeaconBlockRoot,
+      final ExecutionRequests executionRequests) {
+    return new SszNewPayloadRequest(
+        this,
+        executionPayload,
+        getBlobVersionedHashesSchema()
+            .createFromElements(
+                blobVersionedHashes.stream()
+                    .map(
+                        versionedHash ->
+                            SszBytes32.of(
+                                Bytes32.wrap(
+                                    Bytes.wrap(
+                                        versionedHash.getVersion(), versionedHash.getValue()))))
+                    .toList()),
+        SszBytes32.of(parentBeaconBlockRoot),
+        executionRequests);
+  }
+
+  public ExecutionPayloadSchema<?> getExecutionPayloadSchema() {
+    return (ExecutionPayloadSchema<?>) getChildSchema(getFieldIndex("execution_payload"));
+  }
+
+  @SuppressWarnings("unchecked")
+  public SszListSchema<SszBytes32, ?> getBlobVersionedHashesSchema() {
+    return (SszListSchema<SszBytes32, ?>) getChildSchema(getFieldIndex("blob_versioned_hashes"));
+  }
+
+  @Override
+  public SszNewPayloadRequest createFromBackingNode(final TreeNode node) {
+    return new SszNewPayloadRequest(this, node);
+  }
+}
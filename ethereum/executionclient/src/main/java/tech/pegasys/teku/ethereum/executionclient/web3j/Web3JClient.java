@@ -19,6 +19,7 @@ import java.net.ConnectException;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.concurrent.TimeoutException;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
@@ -26,6 +27,7 @@ import org.web3j.protocol.core.Request;
 import org.web3j.protocol.exceptions.ClientConnectionException;
 import tech.pegasys.teku.ethereum.events.ExecutionClientEventsChannel;
 import tech.pegasys.teku.ethereum.executionclient.schema.Response;
+import tech.pegasys.teku.ethereum.executionclient.ssz.SszEngineTransport;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
@@ -167,6 +169,14 @@ public abstract class Web3JClient {
     return false;
   }
 
+  /**
+   * Creates a transport sending SSZ encoded engine requests to the same endpoint, if the endpoint
+   * is reached over HTTP.
+   */
+  public Optional<SszEngineTransport> createSszEngineTransport() {
+    return Optional.empty();
+  }
+
   private boolean isAuthenticationException(final Throwable exception) {
     if (!(exception instanceof ClientConnectionException)) {
       return false;
@@ -25,12 +25,16 @@ import org.web3j.protocol.http.HttpService;
 import tech.pegasys.teku.ethereum.events.ExecutionClientEventsChannel;
 import tech.pegasys.teku.ethereum.executionclient.OkHttpClientCreator;
 import tech.pegasys.teku.ethereum.executionclient.auth.JwtConfig;
+import tech.pegasys.teku.ethereum.executionclient.ssz.SszEngineTransport;
 import tech.pegasys.teku.infrastructure.logging.EventLogger;
 import tech.pegasys.teku.infrastructure.time.TimeProvider;
 
 class Web3jHttpClient extends Web3JClient {
   private static final Logger LOG = LogManager.getLogger();
 
+  private final URI endpoint;
+  private final OkHttpClient okHttpClient;
+
   Web3jHttpClient(
       final EventLogger eventLog,
       final URI endpoint,
@@ -40,9 +44,14 @@ class Web3jHttpClient extends Web3JClient {
       final ExecutionClientEventsChannel executionClientEventsPublisher,
       final Collection<String> nonCriticalMethods) {
     super(eventLog, timeProvider, executionClientEventsPublisher, nonCriticalMethods);
-    final OkHttpClient okHttpClient =
-        OkHttpClientCreator.create(timeout, LOG, jwtConfig, timeProvider);
+    this.endpoint = endpoint;
+    this.okHttpClient = OkHttpClientCreator.create(timeout, LOG, jwtConfig, timeProvider);
     final Web3jService httpService = new HttpService(endpoint.toString(), okHttpClient);
     initWeb3jService(httpService);
   }
+
+  @Override
+  public Optional<SszEngineTransport> createSszEngineTransport() {
+    return Optional.of(new SszEngineTransport(okHttpClient, endpoint.toString()));
+  }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.bytes.Bytes48;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HexDecoderTest {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Random random = new Random(42);
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0x", "", "0x00", "0x1", "abc", "0xDeadBeef", "0x0123456789abcdef"})
+  void decode_shouldMatchBytesFromHexString(final String hex) {
+    assertThat(Bytes.wrap(decode(hex))).isEqualTo(Bytes.fromHexString(hex));
+  }
+
+  @Test
+  void decode_shouldRejectInvalidCharacters() {
+    assertThatThrownBy(() -> decode("0x01zz"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Illegal character 'z' found at index 2");
+    assertThatThrownBy(() -> decode("0x01\u00e9f")).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void decodeStrict_shouldRejectUnexpectedSize() {
+    final String hex = Bytes.random(47).toHexString();
+
+    assertThatThrownBy(() -> decodeStrict(hex, 48))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected 48 bytes from hex string but got 47");
+  }
+
+  @Test
+  void decodeStrict_shouldRejectOddLength() {
+    assertThatThrownBy(() -> decodeStrict("0x123", 2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid odd-length hex binary representation");
+  }
+
+  @Test
+  void decodeStrict_shouldDecodeExpectedSize() {
+    final Bytes48 bytes = Bytes48.random();
+
+    assertThat(Bytes48.wrap(decodeStrict(bytes.toHexString(), Bytes48.SIZE))).isEqualTo(bytes);
+  }
+
+  @Test
+  void bytesDeserializer_shouldDecodeLargeValues() throws IOException {
+    // larger than the parser's input buffer so the value spans several reads
+    final Bytes blob = randomBytes(131072);
+
+    final JsonParser parser = createParser("\"" + blob.toHexString() + "\"");
+    final Bytes result =
+        new BytesDeserializer().deserialize(parser, objectMapper.getDeserializationContext());
+
+    assertThat(result).isEqualTo(blob);
+  }
+
+  @Test
+  void bytes32Deserializer_shouldDecodeUnprefixedValue() throws IOException {
+    final Bytes32 bytes = Bytes32.random();
+
+    final JsonParser parser = createParser("\"" + bytes.toUnprefixedHexString() + "\"");
+    final Bytes32 result =
+        new Bytes32Deserializer().deserialize(parser, objectMapper.getDeserializationContext());
+
+    assertThat(result).isEqualTo(bytes);
+  }
+
+  @Test
+  void bytes48Deserializer_shouldRejectShortValue() throws IOException {
+    final JsonParser parser = createParser("\"" + Bytes32.random().toHexString() + "\"");
+
+    assertThatThrownBy(
+            () ->
+                new Bytes48Deserializer()
+                    .deserialize(parser, objectMapper.getDeserializationContext()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Bytes randomBytes(final int size) {
+    final byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return Bytes.wrap(bytes);
+  }
+
+  private JsonParser createParser(final String json) throws IOException {
+    // use a reader so the parser works on a char buffer as it does for HTTP responses
+    final JsonParser parser = objectMapper.getFactory().createParser(new StringReader(json));
+    parser.nextToken();
+    return parser;
+  }
+
+  private static byte[] decode(final String hex) {
+    return HexDecoder.decode(hex.toCharArray(), 0, hex.length(), -1, true);
+  }
+
+  private static byte[] decodeStrict(final String hex, final int expectedSize) {
+    return HexDecoder.decode(hex.toCharArray(), 0, hex.length(), expectedSize, false);
+  }
+}
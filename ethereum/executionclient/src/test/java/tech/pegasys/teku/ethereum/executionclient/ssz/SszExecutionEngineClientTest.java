@@ -0,0 +1,265 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.executionclient.ssz;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
+import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import tech.pegasys.teku.ethereum.executionclient.ExecutionEngineClient;
+import tech.pegasys.teku.ethereum.executionclient.schema.ExecutionPayloadV3;
+import tech.pegasys.teku.ethereum.executionclient.schema.GetPayloadV4Response;
+import tech.pegasys.teku.ethereum.executionclient.schema.PayloadStatusV1;
+import tech.pegasys.teku.ethereum.executionclient.schema.Response;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.bytes.Bytes8;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigDeneb;
+import tech.pegasys.teku.spec.datastructures.builder.versions.deneb.BlobsBundleDeneb;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequests;
+import tech.pegasys.teku.spec.datastructures.execution.versions.electra.ExecutionRequestsDataCodec;
+import tech.pegasys.teku.spec.executionlayer.ExecutionPayloadStatus;
+import tech.pegasys.teku.spec.logic.versions.deneb.types.VersionedHash;
+import tech.pegasys.teku.spec.schemas.SchemaDefinitionsElectra;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class SszExecutionEngineClientTest {
+  private static final String NEW_PAYLOAD_V4_SSZ = "engine_newPayloadV4_ssz";
+  private static final String GET_PAYLOAD_V4_SSZ = "engine_getPayloadV4_ssz";
+
+  private final Spec spec = TestSpecFactory.createMinimalElectra();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final SchemaDefinitionsElectra schemaDefinitions =
+      SchemaDefinitionsElectra.required(
+          spec.forMilestone(SpecMilestone.ELECTRA).getSchemaDefinitions());
+  private final ExecutionRequestsDataCodec executionRequestsDataCodec =
+      new ExecutionRequestsDataCodec(schemaDefinitions.getExecutionRequestsSchema());
+  private final ExecutionEngineClient delegate = mock(ExecutionEngineClient.class);
+  private final SszEngineTransport transport = mock(SszEngineTransport.class);
+
+  private final SszExecutionEngineClient client =
+      new SszExecutionEngineClient(delegate, transport, spec);
+
+  @BeforeEach
+  void setUp() {
+    when(delegate.exchangeCapabilities(any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Response.fromPayloadReceivedAsJson(
+                    List.of(
+                        "engine_newPayloadV4", NEW_PAYLOAD_V4_SSZ, GET_PAYLOAD_V4_SSZ))));
+  }
+
+  @Test
+  void exchangeCapabilities_shouldAdvertiseSszMethodsForSupportedForks() {
+    safeJoin(client.exchangeCapabilities(List.of("engine_newPayloadV4")));
+
+    verify(delegate)
+        .exchangeCapabilities(
+            List.of("engine_newPayloadV4", NEW_PAYLOAD_V4_SSZ, GET_PAYLOAD_V4_SSZ));
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.NEW_PAYLOAD_V4)).isTrue();
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isTrue();
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V5)).isFalse();
+  }
+
+  @Test
+  void exchangeCapabilities_shouldDisableSszWhenNoLongerAdvertised() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    when(delegate.exchangeCapabilities(any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Response.fromPayloadReceivedAsJson(List.of(GET_PAYLOAD_V4_SSZ))));
+
+    safeJoin(client.exchangeCapabilities(List.of()));
+
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.NEW_PAYLOAD_V4)).isFalse();
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isTrue();
+  }
+
+  @Test
+  void getPayloadV4_shouldUseJsonUntilSszIsNegotiated() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final SafeFuture<Response<GetPayloadV4Response>> jsonResponse = new SafeFuture<>();
+    when(delegate.getPayloadV4(payloadId)).thenReturn(jsonResponse);
+
+    assertThat(client.getPayloadV4(payloadId)).isSameAs(jsonResponse);
+    verifyNoInteractions(transport);
+  }
+
+  @Test
+  void getPayloadV4_shouldDecodeSszResponse() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final ExecutionPayload executionPayload = dataStructureUtil.randomExecutionPayload();
+    final UInt256 blockValue = dataStructureUtil.randomUInt256();
+    final BlobsBundleDeneb blobsBundle = dataStructureUtil.randomBuilderBlobsBundle(2);
+    final ExecutionRequests executionRequests = dataStructureUtil.randomExecutionRequests();
+    final SszGetPayloadResponseSchema responseSchema =
+        new SszGetPayloadResponseSchema(
+            schemaDefinitions.getExecutionPayloadSchema(),
+            schemaDefinitions.getBlobsBundleSchema(),
+            schemaDefinitions.getExecutionRequestsSchema());
+    final Bytes responseBody =
+        responseSchema
+            .create(executionPayload, blockValue, blobsBundle, true, executionRequests)
+            .sszSerialize();
+    when(transport.post(eq(SszExecutionEngineClient.GET_PAYLOAD_V4), any(), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(Response.fromPayloadReceivedAsSsz(responseBody)));
+
+    final Response<GetPayloadV4Response> response = safeJoin(client.getPayloadV4(payloadId));
+
+    assertThat(response.receivedAsSsz()).isTrue();
+    final GetPayloadV4Response payloadResponse = response.payload();
+    assertThat(payloadResponse.executionPayload)
+        .isEqualTo(ExecutionPayloadV3.fromInternalExecutionPayload(executionPayload));
+    assertThat(payloadResponse.blockValue).isEqualTo(blockValue);
+    assertThat(
+            payloadResponse
+                .blobsBundle
+                .asInternalBlobsBundle(schemaDefinitions.getBlobSchema())
+                .getBlobs())
+        .isEqualTo(blobsBundle.getBlobs().asList());
+    assertThat(payloadResponse.shouldOverrideBuilder).isTrue();
+    assertThat(payloadResponse.executionRequests)
+        .isEqualTo(executionRequestsDataCodec.encode(executionRequests));
+    verify(transport)
+        .post(eq(SszExecutionEngineClient.GET_PAYLOAD_V4), eq(payloadId.getWrappedBytes()), any());
+    verify(delegate, never()).getPayloadV4(any());
+  }
+
+  @Test
+  void getPayloadV4_shouldFallbackToJsonWhenSszIsRejected() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final Response<GetPayloadV4Response> jsonResponse =
+        Response.fromPayloadReceivedAsJson(mock(GetPayloadV4Response.class));
+    when(transport.post(any(), any(), any()))
+        .thenReturn(SafeFuture.completedFuture(Response.fromUnsupportedMediaTypeError()));
+    when(delegate.getPayloadV4(payloadId)).thenReturn(SafeFuture.completedFuture(jsonResponse));
+
+    assertThat(safeJoin(client.getPayloadV4(payloadId))).isSameAs(jsonResponse);
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isFalse();
+
+    // subsequent requests go straight to JSON-RPC
+    safeJoin(client.getPayloadV4(payloadId));
+    verify(transport).post(any(), any(), any());
+  }
+
+  @Test
+  void getPayloadV4_shouldFallbackToJsonWhenSszEndpointIsUnreachable() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final Response<GetPayloadV4Response> jsonResponse =
+        Response.fromPayloadReceivedAsJson(mock(GetPayloadV4Response.class));
+    when(transport.post(any(), any(), any()))
+        .thenReturn(SafeFuture.failedFuture(new ConnectException("Connection refused")));
+    when(delegate.getPayloadV4(payloadId)).thenReturn(SafeFuture.completedFuture(jsonResponse));
+
+    assertThat(safeJoin(client.getPayloadV4(payloadId))).isSameAs(jsonResponse);
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isFalse();
+  }
+
+  @Test
+  void getPayloadV4_shouldNotFallbackToJsonWhenSszRequestTimesOut() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    when(transport.post(any(), any(), any()))
+        .thenReturn(SafeFuture.failedFuture(new SocketTimeoutException("timeout")));
+
+    assertThatSafeFuture(client.getPayloadV4(payloadId))
+        .isCompletedExceptionallyWith(SocketTimeoutException.class);
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isTrue();
+    verify(delegate, never()).getPayloadV4(any());
+  }
+
+  @Test
+  void getPayloadV4_shouldNotFallbackToJsonWhenSszResponseIsMalformed() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    when(transport.post(any(), any(), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(Response.fromPayloadReceivedAsSsz(Bytes.of(1, 2, 3))));
+
+    assertThatSafeFuture(client.getPayloadV4(payloadId)).isCompletedExceptionally();
+    assertThat(client.isSszEnabled(SszExecutionEngineClient.GET_PAYLOAD_V4)).isTrue();
+    verify(delegate, never()).getPayloadV4(any());
+  }
+
+  @Test
+  void newPayloadV4_shouldSendSszEncodedRequest() {
+    safeJoin(client.exchangeCapabilities(List.of()));
+    final ExecutionPayload executionPayload = dataStructureUtil.randomExecutionPayload();
+    final List<VersionedHash> versionedHashes = dataStructureUtil.randomVersionedHashes(3);
+    final Bytes32 parentBeaconBlockRoot = dataStructureUtil.randomBytes32();
+    final ExecutionRequests executionRequests = dataStructureUtil.randomExecutionRequests();
+    final Bytes32 latestValidHash = dataStructureUtil.randomBytes32();
+    when(transport.post(any(), any(), any()))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Response.fromPayloadReceivedAsJson(
+                    Bytes.wrap(
+                        ("{\"status\":\"VALID\",\"latestValidHash\":\""
+                                + latestValidHash.toHexString()
+                                + "\",\"validationError\":null}")
+                            .getBytes(StandardCharsets.UTF_8)))));
+
+    final Response<PayloadStatusV1> response =
+        safeJoin(
+            client.newPayloadV4(
+                ExecutionPayloadV3.fromInternalExecutionPayload(executionPayload),
+                versionedHashes,
+                parentBeaconBlockRoot,
+                executionRequestsDataCodec.encode(executionRequests)));
+
+    assertThat(response.payload())
+        .isEqualTo(new PayloadStatusV1(ExecutionPayloadStatus.VALID, latestValidHash, null));
+
+    final ArgumentCaptor<Bytes> requestBody = ArgumentCaptor.forClass(Bytes.class);
+    verify(transport)
+        .post(eq(SszExecutionEngineClient.NEW_PAYLOAD_V4), requestBody.capture(), any());
+    final SszNewPayloadRequest request =
+        new SszNewPayloadRequestSchema(
+                schemaDefinitions.getExecutionPayloadSchema(),
+                SpecConfigDeneb.required(spec.getGenesisSpecConfig())
+                    .getMaxBlobCommitmentsPerBlock(),
+                schemaDefinitions.getExecutionRequestsSchema())
+            .sszDeserialize(requestBody.getValue());
+    assertThat(request.getExecutionPayload()).isEqualTo(executionPayload);
+    assertThat(request.getBlobVersionedHashes()).isEqualTo(versionedHashes);
+    assertThat(request.getParentBeaconBlockRoot()).isEqualTo(parentBeaconBlockRoot);
+    assertThat(request.getExecutionRequests()).isEqualTo(executionRequests);
+    verify(delegate, never()).newPayloadV4(any(), any(), any(), any());
+  }
+}
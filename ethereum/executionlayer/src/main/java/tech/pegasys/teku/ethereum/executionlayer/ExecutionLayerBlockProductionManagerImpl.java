@@ -16,6 +16,8 @@ package tech.pegasys.teku.ethereum.executionlayer;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import tech.pegasys.teku.ethereum.events.SlotEventsChannel;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockPublishingPerformance;
@@ -33,6 +35,7 @@ import tech.pegasys.teku.spec.executionlayer.ExecutionLayerChannel;
 
 public class ExecutionLayerBlockProductionManagerImpl
     implements ExecutionLayerBlockProductionManager, SlotEventsChannel {
+  private static final Logger LOG = LogManager.getLogger();
 
   private static final UInt64 EXECUTION_RESULT_CACHE_RETENTION_SLOTS = UInt64.valueOf(2);
   private static final UInt64 BUILDER_RESULT_CACHE_RETENTION_SLOTS = UInt64.valueOf(2);
@@ -43,6 +46,9 @@ public class ExecutionLayerBlockProductionManagerImpl
   private final NavigableMap<UInt64, BuilderPayloadOrFallbackData> builderResultCache =
       new ConcurrentSkipListMap<>();
 
+  private final NavigableMap<UInt64, PrefetchedPayload> prefetchedPayloads =
+      new ConcurrentSkipListMap<>();
+
   private final ExecutionLayerChannel executionLayerChannel;
 
   public ExecutionLayerBlockProductionManagerImpl(
@@ -58,6 +64,7 @@ public class ExecutionLayerBlockProductionManagerImpl
     builderResultCache
         .headMap(slot.minusMinZero(BUILDER_RESULT_CACHE_RETENTION_SLOTS), false)
         .clear();
+    prefetchedPayloads.headMap(slot, false).clear();
   }
 
   @Override
@@ -79,6 +86,34 @@ public class ExecutionLayerBlockProductionManagerImpl
     return result;
   }
 
+  @Override
+  public void prefetchPayload(final ExecutionPayloadContext context) {
+    final UInt64 slot = context.getPayloadBuildingAttributes().getProposalSlot();
+    final PrefetchedPayload existing = prefetchedPayloads.get(slot);
+    if (existing != null && existing.context().equals(context)) {
+      return;
+    }
+    LOG.debug("Prefetching execution payload {} for slot {}", context.getPayloadId(), slot);
+    final SafeFuture<GetPayloadResponse> getPayloadResponseFuture =
+        executionLayerChannel.engineGetPayloadForSlot(context, slot);
+    getPayloadResponseFuture.finish(
+        error ->
+            LOG.debug(
+                "Failed to prefetch execution payload {} for slot {}",
+                context.getPayloadId(),
+                slot,
+                error));
+    prefetchedPayloads.put(slot, new PrefetchedPayload(context, getPayloadResponseFuture));
+  }
+
+  @Override
+  public void discardPrefetchedPayload(final ExecutionPayloadContext context) {
+    prefetchedPayloads.computeIfPresent(
+        context.getPayloadBuildingAttributes().getProposalSlot(),
+        (__, prefetchedPayload) ->
+            prefetchedPayload.context().equals(context) ? null : prefetchedPayload);
+  }
+
   @Override
   public Optional<ExecutionPayloadResult> getCachedPayloadResult(final UInt64 slot) {
     return Optional.ofNullable(executionResultCache.get(slot));
@@ -106,13 +141,33 @@ public class ExecutionLayerBlockProductionManagerImpl
       final BeaconState blockSlotState,
       final BlockProductionPerformance blockProductionPerformance) {
     final SafeFuture<GetPayloadResponse> getPayloadResponseFuture =
-        executionLayerChannel
-            .engineGetPayload(context, blockSlotState)
+        takePrefetchedPayload(context, blockSlotState.getSlot())
+            .orElseGet(() -> executionLayerChannel.engineGetPayload(context, blockSlotState))
             .alwaysRun(blockProductionPerformance::engineGetPayload);
 
     return ExecutionPayloadResult.createForLocalFlow(context, getPayloadResponseFuture);
   }
 
+  /**
+   * A prefetched payload is only served if it was requested with the same payload id, head and
+   * payload attributes (including the parent beacon block root) and didn't fail. Otherwise, the
+   * payload is requested again.
+   */
+  private Optional<SafeFuture<GetPayloadResponse>> takePrefetchedPayload(
+      final ExecutionPayloadContext context, final UInt64 slot) {
+    final PrefetchedPayload prefetchedPayload = prefetchedPayloads.remove(slot);
+    if (prefetchedPayload == null
+        || !prefetchedPayload.context().equals(context)
+        || prefetchedPayload.getPayloadResponse().isCompletedExceptionally()) {
+      return Optional.empty();
+    }
+    LOG.debug("Using prefetched execution payload {} for slot {}", context.getPayloadId(), slot);
+    return Optional.of(
+        prefetchedPayload
+            .getPayloadResponse()
+            .thenPeek(__ -> executionLayerChannel.onPrefetchedPayloadUsed()));
+  }
+
   private ExecutionPayloadResult executeBuilderFlow(
       final ExecutionPayloadContext context,
       final BeaconState blockSlotState,
@@ -124,4 +179,7 @@ public class ExecutionLayerBlockProductionManagerImpl
 
     return ExecutionPayloadResult.createForBuilderFlow(context, builderBidOrFallbackDataFuture);
   }
+
+  private record PrefetchedPayload(
+      ExecutionPayloadContext context, SafeFuture<GetPayloadResponse> getPayloadResponse) {}
 }
@@ -36,6 +36,8 @@ import tech.pegasys.teku.ethereum.executionclient.metrics.MetricRecordingExecuti
 import tech.pegasys.teku.ethereum.executionclient.rest.RestBuilderClient;
 import tech.pegasys.teku.ethereum.executionclient.rest.RestBuilderClientOptions;
 import tech.pegasys.teku.ethereum.executionclient.rest.RestClient;
+import tech.pegasys.teku.ethereum.executionclient.ssz.SszEngineTransport;
+import tech.pegasys.teku.ethereum.executionclient.ssz.SszExecutionEngineClient;
 import tech.pegasys.teku.ethereum.executionclient.web3j.Web3JClient;
 import tech.pegasys.teku.ethereum.executionclient.web3j.Web3JExecutionEngineClient;
 import tech.pegasys.teku.ethereum.performance.trackers.BlockProductionPerformance;
@@ -117,13 +119,42 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
       final Web3JClient web3JClient,
       final TimeProvider timeProvider,
       final MetricsSystem metricsSystem) {
-    final ExecutionEngineClient engineClient = new Web3JExecutionEngineClient(web3JClient);
+    return createEngineClient(web3JClient, timeProvider, metricsSystem, Optional.empty());
+  }
+
+  /**
+   * @param sszTransportSpec when present, payload carrying engine methods are sent as SSZ once the
+   *     execution client advertises support for it
+   */
+  public static ExecutionEngineClient createEngineClient(
+      final Web3JClient web3JClient,
+      final TimeProvider timeProvider,
+      final MetricsSystem metricsSystem,
+      final Optional<Spec> sszTransportSpec) {
+    final ExecutionEngineClient jsonEngineClient = new Web3JExecutionEngineClient(web3JClient);
+    final ExecutionEngineClient engineClient =
+        sszTransportSpec
+            .flatMap(spec -> createSszEngineClient(jsonEngineClient, web3JClient, spec))
+            .orElse(jsonEngineClient);
     final ExecutionEngineClient metricEngineClient =
         new MetricRecordingExecutionEngineClient(engineClient, timeProvider, metricsSystem);
     return new ThrottlingExecutionEngineClient(
         metricEngineClient, MAXIMUM_CONCURRENT_EE_REQUESTS, metricsSystem);
   }
 
+  private static Optional<ExecutionEngineClient> createSszEngineClient(
+      final ExecutionEngineClient jsonEngineClient,
+      final Web3JClient web3JClient,
+      final Spec spec) {
+    final Optional<SszEngineTransport> sszEngineTransport = web3JClient.createSszEngineTransport();
+    if (sszEngineTransport.isEmpty()) {
+      LOG.warn("SSZ engine transport is only supported for HTTP endpoints, using JSON-RPC");
+      return Optional.empty();
+    }
+    return Optional.of(
+        new SszExecutionEngineClient(jsonEngineClient, sszEngineTransport.get(), spec));
+  }
+
   public static BuilderClient createBuilderClient(
       final RestClient restClient,
       final Spec spec,
@@ -197,6 +228,17 @@ public class ExecutionLayerManagerImpl implements ExecutionLayerManager {
         .thenPeek(__ -> recordExecutionPayloadFallbackSource(Source.LOCAL_EL, FallbackReason.NONE));
   }
 
+  @Override
+  public SafeFuture<GetPayloadResponse> engineGetPayloadForSlot(
+      final ExecutionPayloadContext executionPayloadContext, final UInt64 slot) {
+    return engineGetPayload(executionPayloadContext, slot);
+  }
+
+  @Override
+  public void onPrefetchedPayloadUsed() {
+    recordExecutionPayloadFallbackSource(Source.LOCAL_EL, FallbackReason.NONE);
+  }
+
   SafeFuture<GetPayloadResponse> engineGetPayloadForFallback(
       final ExecutionPayloadContext executionPayloadContext, final UInt64 slot) {
     return engineGetPayload(executionPayloadContext, slot);
@@ -19,6 +19,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -395,6 +396,124 @@ class ExecutionLayerBlockProductionManagerImplTest {
     verify(builderClient).getPayload(signedBlindedBeaconBlock);
   }
 
+  @Test
+  public void prefetchPayload_shouldServeLocalFlowFromPrefetchedPayload() throws Exception {
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getPayloadBuildingAttributes().getProposalSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    final GetPayloadResponse getPayloadResponse =
+        prepareEngineGetPayloadResponse(executionPayloadContext, executionPayloadValue, slot);
+
+    blockProductionManager.prefetchPayload(executionPayloadContext);
+    // prefetching the same context again is a no-op
+    blockProductionManager.prefetchPayload(executionPayloadContext);
+    verify(executionClientHandler).engineGetPayload(executionPayloadContext, slot);
+    // not recorded until the prefetched payload is used
+    assertThat(getSourceCounterValue(Source.LOCAL_EL, FallbackReason.NONE)).isZero();
+
+    final ExecutionPayloadResult executionPayloadResult =
+        blockProductionManager.initiateBlockProduction(
+            executionPayloadContext,
+            state,
+            false,
+            Optional.empty(),
+            BlockProductionPerformance.NOOP);
+
+    assertThat(executionPayloadResult.getExecutionPayloadFutureFromLocalFlow().orElseThrow())
+        .isCompletedWithValue(getPayloadResponse.getExecutionPayload());
+    verifyNoMoreInteractions(executionClientHandler);
+    verifySourceCounter(Source.LOCAL_EL, FallbackReason.NONE);
+  }
+
+  @Test
+  public void prefetchPayload_shouldRequestPayloadAgainWhenDiscarded() throws Exception {
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getPayloadBuildingAttributes().getProposalSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    final GetPayloadResponse getPayloadResponse =
+        prepareEngineGetPayloadResponse(executionPayloadContext, executionPayloadValue, slot);
+
+    blockProductionManager.prefetchPayload(executionPayloadContext);
+    blockProductionManager.discardPrefetchedPayload(executionPayloadContext);
+
+    final ExecutionPayloadResult executionPayloadResult =
+        blockProductionManager.initiateBlockProduction(
+            executionPayloadContext,
+            state,
+            false,
+            Optional.empty(),
+            BlockProductionPerformance.NOOP);
+
+    assertThat(executionPayloadResult.getExecutionPayloadFutureFromLocalFlow().orElseThrow())
+        .isCompletedWithValue(getPayloadResponse.getExecutionPayload());
+    verify(executionClientHandler, times(2)).engineGetPayload(executionPayloadContext, slot);
+    verifySourceCounter(Source.LOCAL_EL, FallbackReason.NONE);
+  }
+
+  @Test
+  public void prefetchPayload_shouldIgnorePrefetchedPayloadForDifferentContext() throws Exception {
+    final ExecutionPayloadContext prefetchedContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = prefetchedContext.getPayloadBuildingAttributes().getProposalSlot();
+    final ExecutionPayloadContext executionPayloadContext =
+        new ExecutionPayloadContext(
+            dataStructureUtil.randomBytes8(),
+            prefetchedContext.getForkChoiceState(),
+            prefetchedContext.getPayloadBuildingAttributes());
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    prepareEngineGetPayloadResponse(prefetchedContext, executionPayloadValue, slot);
+    final GetPayloadResponse getPayloadResponse =
+        prepareEngineGetPayloadResponse(executionPayloadContext, executionPayloadValue, slot);
+
+    blockProductionManager.prefetchPayload(prefetchedContext);
+
+    final ExecutionPayloadResult executionPayloadResult =
+        blockProductionManager.initiateBlockProduction(
+            executionPayloadContext,
+            state,
+            false,
+            Optional.empty(),
+            BlockProductionPerformance.NOOP);
+
+    assertThat(executionPayloadResult.getExecutionPayloadFutureFromLocalFlow().orElseThrow())
+        .isCompletedWithValue(getPayloadResponse.getExecutionPayload());
+    verify(executionClientHandler).engineGetPayload(executionPayloadContext, slot);
+    // only the payload actually used is recorded
+    verifySourceCounter(Source.LOCAL_EL, FallbackReason.NONE);
+  }
+
+  @Test
+  public void prefetchPayload_shouldRequestPayloadAgainWhenPrefetchFailed() throws Exception {
+    final ExecutionPayloadContext executionPayloadContext =
+        dataStructureUtil.randomPayloadExecutionContext(false, true);
+    final UInt64 slot = executionPayloadContext.getPayloadBuildingAttributes().getProposalSlot();
+    final BeaconState state = dataStructureUtil.randomBeaconState(slot);
+
+    when(executionClientHandler.engineGetPayload(executionPayloadContext, slot))
+        .thenReturn(SafeFuture.failedFuture(new IllegalStateException("timeout")));
+    blockProductionManager.prefetchPayload(executionPayloadContext);
+
+    final GetPayloadResponse getPayloadResponse =
+        prepareEngineGetPayloadResponse(executionPayloadContext, executionPayloadValue, slot);
+
+    final ExecutionPayloadResult executionPayloadResult =
+        blockProductionManager.initiateBlockProduction(
+            executionPayloadContext,
+            state,
+            false,
+            Optional.empty(),
+            BlockProductionPerformance.NOOP);
+
+    assertThat(executionPayloadResult.getExecutionPayloadFutureFromLocalFlow().orElseThrow())
+        .isCompletedWithValue(getPayloadResponse.getExecutionPayload());
+    verify(executionClientHandler, times(2)).engineGetPayload(executionPayloadContext, slot);
+  }
+
   private void setupDeneb() {
     this.spec = TestSpecFactory.createMinimalDeneb();
     this.dataStructureUtil = new DataStructureUtil(spec);
@@ -569,12 +688,14 @@ class ExecutionLayerBlockProductionManagerImplTest {
   }
 
   private void verifySourceCounter(final Source source, final FallbackReason reason) {
-    final long actualCount =
-        stubMetricsSystem.getCounterValue(
-            TekuMetricCategory.BEACON,
-            "execution_payload_source_total",
-            source.toString(),
-            reason.toString());
-    assertThat(actualCount).isOne();
+    assertThat(getSourceCounterValue(source, reason)).isOne();
+  }
+
+  private long getSourceCounterValue(final Source source, final FallbackReason reason) {
+    return stubMetricsSystem.getCounterValue(
+        TekuMetricCategory.BEACON,
+        "execution_payload_source_total",
+        source.toString(),
+        reason.toString());
   }
 }
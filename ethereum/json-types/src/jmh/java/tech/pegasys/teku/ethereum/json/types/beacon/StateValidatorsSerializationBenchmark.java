@@ -0,0 +1,153 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.ethereum.json.types.beacon;
+
+import static tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorDataBuilder.STATE_VALIDATORS_RESPONSE_TYPE;
+import static tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorDataBuilder.STATE_VALIDATOR_DATA_OBJECT_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.BOOLEAN_TYPE;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.api.response.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.SerializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.metadata.ObjectAndMetaData;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/**
+ * Compares serializing a GetStateValidators sized response through the response type, which uses
+ * the specialized validator data serializer, through the generic object type definitions it
+ * replaces, and through a fully hand written serializer producing the same output.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+public class StateValidatorsSerializationBenchmark {
+  private static final int DISTINCT_VALIDATORS = 1024;
+
+  private static final SerializableTypeDefinition<ObjectAndMetaData<List<StateValidatorData>>>
+      OBJECT_RESPONSE_TYPE =
+          SerializableTypeDefinition.<ObjectAndMetaData<List<StateValidatorData>>>object()
+              .withField(
+                  "execution_optimistic", BOOLEAN_TYPE, ObjectAndMetaData::isExecutionOptimistic)
+              .withField("finalized", BOOLEAN_TYPE, ObjectAndMetaData::isFinalized)
+              .withField(
+                  "data",
+                  SerializableTypeDefinition.listOf(STATE_VALIDATOR_DATA_OBJECT_TYPE),
+                  ObjectAndMetaData::getData)
+              .build();
+
+  @Param({"10000", "500000"})
+  int validatorCount;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private ObjectAndMetaData<List<StateValidatorData>> response;
+
+  @Setup
+  public void setup() {
+    final Spec spec = TestSpecFactory.createMinimalPhase0();
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    final List<Validator> validators = new ArrayList<>(DISTINCT_VALIDATORS);
+    for (int i = 0; i < DISTINCT_VALIDATORS; i++) {
+      validators.add(dataStructureUtil.randomValidator());
+    }
+    final List<StateValidatorData> data = new ArrayList<>(validatorCount);
+    for (int i = 0; i < validatorCount; i++) {
+      data.add(
+          new StateValidatorData(
+              UInt64.valueOf(i),
+              dataStructureUtil.randomUInt64(),
+              ValidatorStatus.active_ongoing,
+              validators.get(i % DISTINCT_VALIDATORS)));
+    }
+    response = new ObjectAndMetaData<>(data, SpecMilestone.PHASE0, false, true, false);
+  }
+
+  @Benchmark
+  public void typeDefinition(final Blackhole bh) throws IOException {
+    out.reset();
+    JsonUtil.serializeToBytesChecked(response, STATE_VALIDATORS_RESPONSE_TYPE, out);
+    bh.consume(out.size());
+  }
+
+  @Benchmark
+  public void objectTypeDefinition(final Blackhole bh) throws IOException {
+    out.reset();
+    JsonUtil.serializeToBytesChecked(response, OBJECT_RESPONSE_TYPE, out);
+    bh.consume(out.size());
+  }
+
+  @Benchmark
+  public void handWritten(final Blackhole bh) throws IOException {
+    out.reset();
+    try (final JsonGenerator gen = JsonUtil.FACTORY.createGenerator(out)) {
+      gen.writeStartObject();
+      gen.writeBooleanField("execution_optimistic", response.isExecutionOptimistic());
+      gen.writeBooleanField("finalized", response.isFinalized());
+      gen.writeArrayFieldStart("data");
+      for (final StateValidatorData data : response.getData()) {
+        writeValidatorData(data, gen);
+      }
+      gen.writeEndArray();
+      gen.writeEndObject();
+    }
+    bh.consume(out.size());
+  }
+
+  private static void writeValidatorData(final StateValidatorData data, final JsonGenerator gen)
+      throws IOException {
+    final Validator validator = data.getValidator();
+    gen.writeStartObject();
+    gen.writeStringField("index", data.getIndex().toString());
+    gen.writeStringField("balance", data.getBalance().toString());
+    gen.writeStringField("status", data.getStatus().toString());
+    gen.writeObjectFieldStart("validator");
+    gen.writeStringField("pubkey", validator.getPubkeyBytes().toHexString());
+    gen.writeStringField(
+        "withdrawal_credentials", validator.getWithdrawalCredentials().toHexString());
+    gen.writeStringField("effective_balance", validator.getEffectiveBalance().toString());
+    gen.writeBooleanField("slashed", validator.isSlashed());
+    gen.writeStringField(
+        "activation_eligibility_epoch", validator.getActivationEligibilityEpoch().toString());
+    gen.writeStringField("activation_epoch", validator.getActivationEpoch().toString());
+    gen.writeStringField("exit_epoch", validator.getExitEpoch().toString());
+    gen.writeStringField("withdrawable_epoch", validator.getWithdrawableEpoch().toString());
+    gen.writeEndObject();
+    gen.writeEndObject();
+  }
+}
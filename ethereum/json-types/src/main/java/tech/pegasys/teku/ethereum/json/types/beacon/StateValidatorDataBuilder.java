@@ -31,7 +31,7 @@ public class StateValidatorDataBuilder {
   private static final DeserializableTypeDefinition<ValidatorStatus> STATUS_TYPE =
       DeserializableTypeDefinition.enumOf(ValidatorStatus.class);
 
-  public static final DeserializableTypeDefinition<StateValidatorData> STATE_VALIDATOR_DATA_TYPE =
+  static final DeserializableTypeDefinition<StateValidatorData> STATE_VALIDATOR_DATA_OBJECT_TYPE =
       DeserializableTypeDefinition.object(StateValidatorData.class, StateValidatorDataBuilder.class)
           .initializer(StateValidatorDataBuilder::new)
           .finisher(StateValidatorDataBuilder::build)
@@ -54,6 +54,9 @@ public class StateValidatorDataBuilder {
               StateValidatorDataBuilder::validator)
           .build();
 
+  public static final DeserializableTypeDefinition<StateValidatorData> STATE_VALIDATOR_DATA_TYPE =
+      new StateValidatorDataTypeDefinition(STATE_VALIDATOR_DATA_OBJECT_TYPE);
+
   public static final DeserializableTypeDefinition<ObjectAndMetaData<List<StateValidatorData>>>
       STATE_VALIDATORS_RESPONSE_TYPE =
           DeserializableTypeDefinition
@@ -0,0 +1,123 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.ethereum.json.types.beacon;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.io.IOException;
+import org.apache.tuweni.bytes.Bytes;
+import tech.pegasys.teku.infrastructure.json.types.DelegatingOpenApiTypeDefinition;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+
+/**
+ * Serializes {@link StateValidatorData} with field names and accessors written out directly
+ * instead of walking the generic object and SSZ container definitions, as validators responses can
+ * hold every validator in the registry. Deserialization and the OpenAPI schema are delegated to the
+ * generic definition, whose output this matches exactly.
+ */
+class StateValidatorDataTypeDefinition extends DelegatingOpenApiTypeDefinition
+    implements DeserializableTypeDefinition<StateValidatorData> {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  private static final SerializableString INDEX = new SerializedString("index");
+  private static final SerializableString BALANCE = new SerializedString("balance");
+  private static final SerializableString STATUS = new SerializedString("status");
+  private static final SerializableString VALIDATOR = new SerializedString("validator");
+  private static final SerializableString PUBKEY = new SerializedString("pubkey");
+  private static final SerializableString WITHDRAWAL_CREDENTIALS =
+      new SerializedString("withdrawal_credentials");
+  private static final SerializableString EFFECTIVE_BALANCE =
+      new SerializedString("effective_balance");
+  private static final SerializableString SLASHED = new SerializedString("slashed");
+  private static final SerializableString ACTIVATION_ELIGIBILITY_EPOCH =
+      new SerializedString("activation_eligibility_epoch");
+  private static final SerializableString ACTIVATION_EPOCH =
+      new SerializedString("activation_epoch");
+  private static final SerializableString EXIT_EPOCH = new SerializedString("exit_epoch");
+  private static final SerializableString WITHDRAWABLE_EPOCH =
+      new SerializedString("withdrawable_epoch");
+
+  private final DeserializableTypeDefinition<StateValidatorData> delegate;
+
+  StateValidatorDataTypeDefinition(
+      final DeserializableTypeDefinition<StateValidatorData> delegate) {
+    super(delegate);
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void serialize(final StateValidatorData value, final JsonGenerator gen)
+      throws IOException {
+    final Validator validator = value.getValidator();
+    gen.writeStartObject();
+    gen.writeFieldName(INDEX);
+    gen.writeString(value.getIndex().toString());
+    gen.writeFieldName(BALANCE);
+    gen.writeString(value.getBalance().toString());
+    gen.writeFieldName(STATUS);
+    gen.writeString(value.getStatus().toString());
+    gen.writeFieldName(VALIDATOR);
+    gen.writeStartObject();
+    gen.writeFieldName(PUBKEY);
+    writeHex(validator.getPubkeyBytes(), gen);
+    gen.writeFieldName(WITHDRAWAL_CREDENTIALS);
+    writeHex(validator.getWithdrawalCredentials(), gen);
+    gen.writeFieldName(EFFECTIVE_BALANCE);
+    gen.writeString(validator.getEffectiveBalance().toString());
+    gen.writeFieldName(SLASHED);
+    gen.writeBoolean(validator.isSlashed());
+    gen.writeFieldName(ACTIVATION_ELIGIBILITY_EPOCH);
+    gen.writeString(validator.getActivationEligibilityEpoch().toString());
+    gen.writeFieldName(ACTIVATION_EPOCH);
+    gen.writeString(validator.getActivationEpoch().toString());
+    gen.writeFieldName(EXIT_EPOCH);
+    gen.writeString(validator.getExitEpoch().toString());
+    gen.writeFieldName(WITHDRAWABLE_EPOCH);
+    gen.writeString(validator.getWithdrawableEpoch().toString());
+    gen.writeEndObject();
+    gen.writeEndObject();
+  }
+
+  private static void writeHex(final Bytes bytes, final JsonGenerator gen) throws IOException {
+    // written from a char array to skip building an intermediate String for each value
+    final int size = bytes.size();
+    final char[] hex = new char[2 + size * 2];
+    hex[0] = '0';
+    hex[1] = 'x';
+    for (int i = 0; i < size; i++) {
+      final int b = bytes.get(i) & 0xff;
+      hex[2 + i * 2] = HEX_DIGITS[b >>> 4];
+      hex[3 + i * 2] = HEX_DIGITS[b & 0x0f];
+    }
+    gen.writeString(hex, 0, hex.length);
+  }
+
+  @Override
+  public StateValidatorData deserialize(final JsonParser parser) throws IOException {
+    return delegate.deserialize(parser);
+  }
+
+  @Override
+  public boolean isEquivalentToDeserializableType(final DeserializableTypeDefinition<?> type) {
+    return type == this || delegate.isEquivalentToDeserializableType(type);
+  }
+
+  @Override
+  public DeserializableTypeDefinition<StateValidatorData> withDescription(
+      final String description) {
+    return new StateValidatorDataTypeDefinition(delegate.withDescription(description));
+  }
+}
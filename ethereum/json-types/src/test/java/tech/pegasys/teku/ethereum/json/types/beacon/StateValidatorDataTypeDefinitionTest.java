@@ -0,0 +1,62 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.teku.ethereum.json.types.beacon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorDataBuilder.STATE_VALIDATOR_DATA_OBJECT_TYPE;
+import static tech.pegasys.teku.ethereum.json.types.beacon.StateValidatorDataBuilder.STATE_VALIDATOR_DATA_TYPE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tech.pegasys.teku.api.response.ValidatorStatus;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StateValidatorDataTypeDefinitionTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+
+  @ParameterizedTest
+  @EnumSource(ValidatorStatus.class)
+  void shouldSerializeSameAsObjectTypeDefinition(final ValidatorStatus status)
+      throws JsonProcessingException {
+    final StateValidatorData data = randomStateValidatorData(status);
+
+    assertThat(JsonUtil.serialize(data, STATE_VALIDATOR_DATA_TYPE))
+        .isEqualTo(JsonUtil.serialize(data, STATE_VALIDATOR_DATA_OBJECT_TYPE));
+  }
+
+  @ParameterizedTest
+  @EnumSource(ValidatorStatus.class)
+  void shouldRoundTrip(final ValidatorStatus status) throws JsonProcessingException {
+    final StateValidatorData data = randomStateValidatorData(status);
+
+    final String json = JsonUtil.serialize(data, STATE_VALIDATOR_DATA_TYPE);
+
+    assertThat(JsonUtil.parse(json, STATE_VALIDATOR_DATA_TYPE)).isEqualTo(data);
+  }
+
+  private StateValidatorData randomStateValidatorData(final ValidatorStatus status) {
+    final Validator validator =
+        dataStructureUtil.randomValidator().withSlashed(status.name().endsWith("slashed"));
+    return new StateValidatorData(
+        dataStructureUtil.randomValidatorIndex(),
+        dataStructureUtil.randomUInt64(),
+        status,
+        validator);
+  }
+}
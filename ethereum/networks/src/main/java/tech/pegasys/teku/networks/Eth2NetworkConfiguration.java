@@ -63,6 +63,9 @@ public class Eth2NetworkConfiguration {
       DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS = 150;
   public static final int
       DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS = 500;
+  public static final boolean DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_INCREMENTAL_PACKING_ENABLED =
+      false;
+  public static final int DEFAULT_EXECUTION_PAYLOAD_PREFETCH_LEAD_TIME_MILLIS = 0;
 
   // should fit attestations for a slot given validator set size
   // so DEFAULT_MAX_QUEUE_PENDING_ATTESTATIONS * slots_per_epoch should be >= validator set size
@@ -129,6 +132,8 @@ public class Eth2NetworkConfiguration {
   private final boolean aggregatingAttestationPoolProfilingEnabled;
   private final int aggregatingAttestationPoolV2BlockAggregationTimeLimit;
   private final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
+  private final boolean aggregatingAttestationPoolV2IncrementalPackingEnabled;
+  private final int executionPayloadPrefetchLeadTimeMillis;
 
   private Eth2NetworkConfiguration(
       final Spec spec,
@@ -162,7 +167,9 @@ public class Eth2NetworkConfiguration {
       final boolean aggregatingAttestationPoolV2Enabled,
       final boolean aggregatingAttestationPoolProfilingEnabled,
       final int aggregatingAttestationPoolV2BlockAggregationTimeLimit,
-      final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit) {
+      final int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit,
+      final boolean aggregatingAttestationPoolV2IncrementalPackingEnabled,
+      final int executionPayloadPrefetchLeadTimeMillis) {
     this.spec = spec;
     this.constants = constants;
     this.stateBoostrapConfig = stateBoostrapConfig;
@@ -201,6 +208,9 @@ public class Eth2NetworkConfiguration {
         aggregatingAttestationPoolV2BlockAggregationTimeLimit;
     this.aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit =
         aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
+    this.aggregatingAttestationPoolV2IncrementalPackingEnabled =
+        aggregatingAttestationPoolV2IncrementalPackingEnabled;
+    this.executionPayloadPrefetchLeadTimeMillis = executionPayloadPrefetchLeadTimeMillis;
 
     LOG.debug(
         "P2P async queue - {} threads, max queue size {} ", asyncP2pMaxThreads, asyncP2pMaxQueue);
@@ -331,6 +341,14 @@ public class Eth2NetworkConfiguration {
     return aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit;
   }
 
+  public boolean isAggregatingAttestationPoolV2IncrementalPackingEnabled() {
+    return aggregatingAttestationPoolV2IncrementalPackingEnabled;
+  }
+
+  public int getExecutionPayloadPrefetchLeadTimeMillis() {
+    return executionPayloadPrefetchLeadTimeMillis;
+  }
+
   public int getPendingAttestationsMaxQueue() {
     return pendingAttestationsMaxQueue;
   }
@@ -371,6 +389,9 @@ public class Eth2NetworkConfiguration {
             == that.aggregatingAttestationPoolV2BlockAggregationTimeLimit
         && aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit
             == that.aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit
+        && aggregatingAttestationPoolV2IncrementalPackingEnabled
+            == that.aggregatingAttestationPoolV2IncrementalPackingEnabled
+        && executionPayloadPrefetchLeadTimeMillis == that.executionPayloadPrefetchLeadTimeMillis
         && forkChoiceUpdatedAlwaysSendPayloadAttributes
             == that.forkChoiceUpdatedAlwaysSendPayloadAttributes
         && rustKzgEnabled == that.rustKzgEnabled
@@ -471,6 +492,10 @@ public class Eth2NetworkConfiguration {
         DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
     private int aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit =
         DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
+    private boolean aggregatingAttestationPoolV2IncrementalPackingEnabled =
+        DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_INCREMENTAL_PACKING_ENABLED;
+    private int executionPayloadPrefetchLeadTimeMillis =
+        DEFAULT_EXECUTION_PAYLOAD_PREFETCH_LEAD_TIME_MILLIS;
 
     public void spec(final Spec spec) {
       this.spec = spec;
@@ -576,7 +601,9 @@ public class Eth2NetworkConfiguration {
           aggregatingAttestationPoolV2Enabled,
           aggregatingAttestationPoolProfilingEnabled,
           aggregatingAttestationPoolV2BlockAggregationTimeLimit,
-          aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit);
+          aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit,
+          aggregatingAttestationPoolV2IncrementalPackingEnabled,
+          executionPayloadPrefetchLeadTimeMillis);
     }
 
     private void validateCommandLineParameters() {
@@ -1138,6 +1165,19 @@ public class Eth2NetworkConfiguration {
       return this;
     }
 
+    public Builder aggregatingAttestationPoolV2IncrementalPackingEnabled(
+        final boolean aggregatingAttestationPoolV2IncrementalPackingEnabled) {
+      this.aggregatingAttestationPoolV2IncrementalPackingEnabled =
+          aggregatingAttestationPoolV2IncrementalPackingEnabled;
+      return this;
+    }
+
+    public Builder executionPayloadPrefetchLeadTimeMillis(
+        final int executionPayloadPrefetchLeadTimeMillis) {
+      this.executionPayloadPrefetchLeadTimeMillis = executionPayloadPrefetchLeadTimeMillis;
+      return this;
+    }
+
     public Builder forkChoiceUpdatedAlwaysSendPayloadAttributes(
         final boolean forkChoiceUpdatedAlwaysSendPayloadAttributes) {
       this.forkChoiceUpdatedAlwaysSendPayloadAttributes =
@@ -25,6 +25,7 @@ import tech.pegasys.teku.spec.config.SpecConfigElectra;
 import tech.pegasys.teku.spec.config.SpecConfigFulu;
 import tech.pegasys.teku.spec.logic.DelegatingSpecLogic;
 import tech.pegasys.teku.spec.logic.SpecLogic;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.versions.altair.SpecLogicAltair;
 import tech.pegasys.teku.spec.logic.versions.bellatrix.SpecLogicBellatrix;
 import tech.pegasys.teku.spec.logic.versions.capella.SpecLogicCapella;
@@ -63,106 +64,180 @@ public class SpecVersion extends DelegatingSpecLogic {
       final SpecMilestone milestone,
       final SpecConfig specConfig,
       final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return create(milestone, specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  public static Optional<SpecVersion> create(
+      final SpecMilestone milestone,
+      final SpecConfig specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
 
     return switch (milestone) {
-      case PHASE0 -> Optional.of(createPhase0(specConfig, schemaRegistryBuilder));
+      case PHASE0 -> Optional.of(createPhase0(specConfig, schemaRegistryBuilder, validatorChunks));
       case ALTAIR ->
           specConfig
               .toVersionAltair()
-              .map(specConfigAltair -> createAltair(specConfigAltair, schemaRegistryBuilder));
+              .map(
+                  specConfigAltair ->
+                      createAltair(specConfigAltair, schemaRegistryBuilder, validatorChunks));
       case BELLATRIX ->
           specConfig
               .toVersionBellatrix()
               .map(
                   specConfigBellatrix ->
-                      createBellatrix(specConfigBellatrix, schemaRegistryBuilder));
+                      createBellatrix(specConfigBellatrix, schemaRegistryBuilder, validatorChunks));
       case CAPELLA ->
           specConfig
               .toVersionCapella()
-              .map(specConfigCapella -> createCapella(specConfigCapella, schemaRegistryBuilder));
+              .map(
+                  specConfigCapella ->
+                      createCapella(specConfigCapella, schemaRegistryBuilder, validatorChunks));
       case DENEB ->
           specConfig
               .toVersionDeneb()
-              .map(specConfigDeneb -> createDeneb(specConfigDeneb, schemaRegistryBuilder));
+              .map(
+                  specConfigDeneb ->
+                      createDeneb(specConfigDeneb, schemaRegistryBuilder, validatorChunks));
       case ELECTRA ->
           specConfig
               .toVersionElectra()
-              .map(specConfigElectra -> createElectra(specConfigElectra, schemaRegistryBuilder));
+              .map(
+                  specConfigElectra ->
+                      createElectra(specConfigElectra, schemaRegistryBuilder, validatorChunks));
       case FULU ->
           specConfig
               .toVersionFulu()
-              .map(specConfigFulu -> createFulu(specConfigFulu, schemaRegistryBuilder));
+              .map(
+                  specConfigFulu ->
+                      createFulu(specConfigFulu, schemaRegistryBuilder, validatorChunks));
     };
   }
 
   static SpecVersion createPhase0(
       final SpecConfig specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createPhase0(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createPhase0(
+      final SpecConfig specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.PHASE0, specConfig);
     final SchemaDefinitions schemaDefinitions = new SchemaDefinitionsPhase0(schemaRegistry);
     final SpecLogic specLogic =
-        SpecLogicPhase0.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicPhase0.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.PHASE0, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createAltair(
       final SpecConfigAltair specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createAltair(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createAltair(
+      final SpecConfigAltair specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.ALTAIR, specConfig);
     final SchemaDefinitionsAltair schemaDefinitions = new SchemaDefinitionsAltair(schemaRegistry);
     final SpecLogic specLogic =
-        SpecLogicAltair.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicAltair.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.ALTAIR, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createBellatrix(
       final SpecConfigBellatrix specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createBellatrix(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createBellatrix(
+      final SpecConfigBellatrix specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.BELLATRIX, specConfig);
     final SchemaDefinitionsBellatrix schemaDefinitions =
         new SchemaDefinitionsBellatrix(schemaRegistry);
     final SpecLogic specLogic =
-        SpecLogicBellatrix.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicBellatrix.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.BELLATRIX, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createCapella(
       final SpecConfigCapella specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createCapella(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createCapella(
+      final SpecConfigCapella specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.CAPELLA, specConfig);
     final SchemaDefinitionsCapella schemaDefinitions = new SchemaDefinitionsCapella(schemaRegistry);
     final SpecLogicCapella specLogic =
-        SpecLogicCapella.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicCapella.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.CAPELLA, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createDeneb(
       final SpecConfigDeneb specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createDeneb(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createDeneb(
+      final SpecConfigDeneb specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.DENEB, specConfig);
     final SchemaDefinitionsDeneb schemaDefinitions = new SchemaDefinitionsDeneb(schemaRegistry);
     final SpecLogicDeneb specLogic =
-        SpecLogicDeneb.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicDeneb.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.DENEB, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createElectra(
       final SpecConfigElectra specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createElectra(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createElectra(
+      final SpecConfigElectra specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.ELECTRA, specConfig);
     final SchemaDefinitionsElectra schemaDefinitions = new SchemaDefinitionsElectra(schemaRegistry);
     final SpecLogicElectra specLogic =
-        SpecLogicElectra.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicElectra.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.ELECTRA, specConfig, schemaDefinitions, specLogic);
   }
 
   static SpecVersion createFulu(
       final SpecConfigFulu specConfig, final SchemaRegistryBuilder schemaRegistryBuilder) {
+    return createFulu(specConfig, schemaRegistryBuilder, ValidatorChunks.DEFAULT);
+  }
+
+  static SpecVersion createFulu(
+      final SpecConfigFulu specConfig,
+      final SchemaRegistryBuilder schemaRegistryBuilder,
+      final ValidatorChunks validatorChunks) {
     final SchemaRegistry schemaRegistry =
         schemaRegistryBuilder.build(SpecMilestone.FULU, specConfig);
     final SchemaDefinitionsFulu schemaDefinitions = new SchemaDefinitionsFulu(schemaRegistry);
     final SpecLogicFulu specLogic =
-        SpecLogicFulu.create(specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER);
+        SpecLogicFulu.create(
+            specConfig, schemaDefinitions, SYSTEM_TIME_PROVIDER, validatorChunks);
     return new SpecVersion(SpecMilestone.FULU, specConfig, schemaDefinitions, specLogic);
   }
 
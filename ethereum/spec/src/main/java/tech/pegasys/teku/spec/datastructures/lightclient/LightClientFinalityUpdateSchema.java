@@ -0,0 +1,70 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.datastructures.lightclient;
+
+import static tech.pegasys.teku.spec.constants.LightClientConstants.FINALIZED_ROOT_GINDEX;
+
+import tech.pegasys.teku.infrastructure.ssz.collections.SszBytes32Vector;
+import tech.pegasys.teku.infrastructure.ssz.containers.ContainerSchema5;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
+import tech.pegasys.teku.infrastructure.ssz.schema.SszPrimitiveSchemas;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBytes32VectorSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregateSchema;
+import tech.pegasys.teku.spec.logic.common.helpers.MathHelpers;
+
+public class LightClientFinalityUpdateSchema
+    extends ContainerSchema5<
+        LightClientFinalityUpdate,
+        LightClientHeader,
+        LightClientHeader,
+        SszBytes32Vector,
+        SyncAggregate,
+        SszUInt64> {
+
+  public LightClientFinalityUpdateSchema(final SpecConfigAltair specConfigAltair) {
+    super(
+        "LightClientFinalityUpdate",
+        namedSchema("attested_header", new LightClientHeaderSchema()),
+        namedSchema("finalized_header", new LightClientHeaderSchema()),
+        namedSchema(
+            "finality_branch",
+            SszBytes32VectorSchema.create(MathHelpers.floorLog2(FINALIZED_ROOT_GINDEX))),
+        namedSchema(
+            "sync_aggregate", SyncAggregateSchema.create(specConfigAltair.getSyncCommitteeSize())),
+        namedSchema("signature_slot", SszPrimitiveSchemas.UINT64_SCHEMA));
+  }
+
+  public LightClientFinalityUpdate create(
+      final LightClientHeader attestedHeader,
+      final LightClientHeader finalizedHeader,
+      final SszBytes32Vector finalityBranch,
+      final SyncAggregate syncAggregate,
+      final SszUInt64 signatureSlot) {
+    return new LightClientFinalityUpdate(
+        this, attestedHeader, finalizedHeader, finalityBranch, syncAggregate, signatureSlot);
+  }
+
+  @SuppressWarnings("unchecked")
+  public SszBytes32VectorSchema<SszBytes32Vector> getFinalityBranchSchema() {
+    return (SszBytes32VectorSchema<SszBytes32Vector>) getChildSchema(2);
+  }
+
+  @Override
+  public LightClientFinalityUpdate createFromBackingNode(final TreeNode node) {
+    return new LightClientFinalityUpdate(this, node);
+  }
+}
@@ -17,6 +17,7 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszBytes32Vector;
 import tech.pegasys.teku.infrastructure.ssz.containers.Container7;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.ssz.tree.TreeNode;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 
@@ -54,4 +55,32 @@ public class LightClientUpdate
   protected LightClientUpdate(final LightClientUpdateSchema type, final TreeNode backingNode) {
     super(type, backingNode);
   }
+
+  public LightClientHeader getAttestedHeader() {
+    return getField0();
+  }
+
+  public SyncCommittee getNextSyncCommittee() {
+    return getField1();
+  }
+
+  public SszBytes32Vector getNextSyncCommitteeBranch() {
+    return getField2();
+  }
+
+  public LightClientHeader getFinalizedHeader() {
+    return getField3();
+  }
+
+  public SszBytes32Vector getFinalityBranch() {
+    return getField4();
+  }
+
+  public SyncAggregate getSyncAggregate() {
+    return getField5();
+  }
+
+  public UInt64 getSignatureSlot() {
+    return getField6().get();
+  }
 }
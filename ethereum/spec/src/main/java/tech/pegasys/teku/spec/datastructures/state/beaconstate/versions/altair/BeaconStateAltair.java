@@ -22,7 +22,9 @@ import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBytes32VectorSchema;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil;
 import tech.pegasys.teku.infrastructure.ssz.tree.MerkleUtil;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.common.BeaconStateFields;
@@ -61,15 +63,34 @@ public interface BeaconStateAltair extends BeaconState {
   }
 
   default SszBytes32Vector createCurrentSyncCommitteeProof() {
-    final List<Bytes32> currentSyncCommitteeProof =
-        MerkleUtil.constructMerkleProof(
-            getBackingNode(),
-            getSchema()
-                .getChildGeneralizedIndex(
-                    getSchema().getFieldIndex(BeaconStateFields.CURRENT_SYNC_COMMITTEE)));
-
-    return SszBytes32VectorSchema.create(currentSyncCommitteeProof.size())
-        .createFromElements(currentSyncCommitteeProof.stream().map(SszBytes32::of).toList());
+    return createProof(
+        getSchema()
+            .getChildGeneralizedIndex(
+                getSchema().getFieldIndex(BeaconStateFields.CURRENT_SYNC_COMMITTEE)));
+  }
+
+  default SszBytes32Vector createNextSyncCommitteeProof() {
+    return createProof(
+        getSchema()
+            .getChildGeneralizedIndex(
+                getSchema().getFieldIndex(BeaconStateFields.NEXT_SYNC_COMMITTEE)));
+  }
+
+  /** Creates the proof of {@code finalized_checkpoint.root} against the state root. */
+  default SszBytes32Vector createFinalizedRootProof() {
+    final long finalizedCheckpointGIndex =
+        getSchema()
+            .getChildGeneralizedIndex(
+                getSchema().getFieldIndex(BeaconStateFields.FINALIZED_CHECKPOINT));
+    return createProof(
+        GIndexUtil.gIdxCompose(
+            finalizedCheckpointGIndex, Checkpoint.SSZ_SCHEMA.getChildGeneralizedIndex(1)));
+  }
+
+  private SszBytes32Vector createProof(final long generalizedIndex) {
+    final List<Bytes32> proof = MerkleUtil.constructMerkleProof(getBackingNode(), generalizedIndex);
+    return SszBytes32VectorSchema.create(proof.size())
+        .createFromElements(proof.stream().map(SszBytes32::of).toList());
   }
 
   default SyncCommittee getNextSyncCommittee() {
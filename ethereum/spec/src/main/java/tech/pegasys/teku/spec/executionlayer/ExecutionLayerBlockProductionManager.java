@@ -43,6 +43,12 @@ public interface ExecutionLayerBlockProductionManager {
           return null;
         }
 
+        @Override
+        public void prefetchPayload(final ExecutionPayloadContext context) {}
+
+        @Override
+        public void discardPrefetchedPayload(final ExecutionPayloadContext context) {}
+
         @Override
         public Optional<ExecutionPayloadResult> getCachedPayloadResult(final UInt64 slot) {
           return Optional.empty();
@@ -79,6 +85,24 @@ public interface ExecutionLayerBlockProductionManager {
       Optional<UInt64> requestedBuilderBoostFactor,
       BlockProductionPerformance blockProductionPerformance);
 
+  /**
+   * Requests the local execution payload for an upcoming proposal ahead of time. A following
+   * {@link #initiateBlockProduction(ExecutionPayloadContext, BeaconState, boolean, Optional,
+   * BlockProductionPerformance)} for the proposal slot reuses the response as long as it is called
+   * with the same context and doesn't attempt the builder flow.
+   *
+   * @param context context obtained from the forkchoiceUpdated call preparing the proposal
+   */
+  void prefetchPayload(ExecutionPayloadContext context);
+
+  /**
+   * Drops the payload prefetched with {@link #prefetchPayload(ExecutionPayloadContext)}, so that a
+   * later block production requests a more recent payload instead.
+   *
+   * @param context context the payload was prefetched with
+   */
+  void discardPrefetchedPayload(ExecutionPayloadContext context);
+
   /**
    * Requires {@link #initiateBlockProduction(ExecutionPayloadContext, BeaconState, boolean,
    * Optional, BlockProductionPerformance)} to have been called first in order for a value to be
@@ -68,6 +68,15 @@ public interface ExecutionLayerChannel extends ChannelInterface {
           return SafeFuture.completedFuture(null);
         }
 
+        @Override
+        public SafeFuture<GetPayloadResponse> engineGetPayloadForSlot(
+            final ExecutionPayloadContext executionPayloadContext, final UInt64 slot) {
+          return SafeFuture.completedFuture(null);
+        }
+
+        @Override
+        public void onPrefetchedPayloadUsed() {}
+
         @Override
         public SafeFuture<PayloadStatus> engineNewPayload(
             final NewPayloadRequest newPayloadRequest, final UInt64 slot) {
@@ -146,6 +155,22 @@ public interface ExecutionLayerChannel extends ChannelInterface {
   SafeFuture<GetPayloadResponse> engineGetPayload(
       ExecutionPayloadContext executionPayloadContext, BeaconState state);
 
+  /**
+   * Same as {@link #engineGetPayload(ExecutionPayloadContext, BeaconState)} but only requires the
+   * slot of the block, so that the payload can be requested before the block slot state exists.
+   * The payload source isn't recorded until {@link #onPrefetchedPayloadUsed()} is called, as the
+   * payload may never be used. This is low level method, use {@link
+   * ExecutionLayerBlockProductionManager#prefetchPayload(ExecutionPayloadContext)} instead
+   */
+  SafeFuture<GetPayloadResponse> engineGetPayloadForSlot(
+      ExecutionPayloadContext executionPayloadContext, UInt64 slot);
+
+  /**
+   * Records that a payload obtained by {@link #engineGetPayloadForSlot(ExecutionPayloadContext,
+   * UInt64)} was used for block production.
+   */
+  void onPrefetchedPayloadUsed();
+
   // builder namespace
   SafeFuture<Void> builderRegisterValidators(
       SszList<SignedValidatorRegistration> signedValidatorRegistrations, UInt64 slot);
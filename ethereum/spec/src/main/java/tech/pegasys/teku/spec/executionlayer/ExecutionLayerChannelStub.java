@@ -258,6 +258,15 @@ public class ExecutionLayerChannelStub implements ExecutionLayerChannel {
   @Override
   public SafeFuture<GetPayloadResponse> engineGetPayload(
       final ExecutionPayloadContext executionPayloadContext, final BeaconState state) {
+    return engineGetPayloadForSlot(executionPayloadContext, state.getSlot());
+  }
+
+  @Override
+  public void onPrefetchedPayloadUsed() {}
+
+  @Override
+  public SafeFuture<GetPayloadResponse> engineGetPayloadForSlot(
+      final ExecutionPayloadContext executionPayloadContext, final UInt64 slot) {
     offlineCheck();
 
     if (!bellatrixActivationDetected) {
@@ -267,7 +276,6 @@ public class ExecutionLayerChannelStub implements ExecutionLayerChannel {
       // do the activation check to be able to respond to terminal block verification
       checkBellatrixActivation();
     }
-    final UInt64 slot = state.getSlot();
 
     final Optional<SchemaDefinitionsBellatrix> schemaDefinitionsBellatrix =
         spec.atSlot(slot).getSchemaDefinitions().toVersionBellatrix();
@@ -321,7 +329,7 @@ public class ExecutionLayerChannelStub implements ExecutionLayerChannel {
     LOG.info(
         "getPayload: payloadId: {} slot: {} -> executionPayload blockHash: {}",
         executionPayloadContext.getPayloadId(),
-        state.getSlot(),
+        slot,
         executionPayload.getBlockHash());
 
     final Optional<ExecutionRequests> maybeExecutionRequests = getExecutionRequests(slot);
@@ -70,6 +70,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
   // Used to log once per minute (throttlingPeriod = 60 seconds)
   private final Throttler<Logger> loggerThrottler = new Throttler<>(LOG, UInt64.valueOf(60));
   private final TimeProvider timeProvider;
+  protected final ValidatorChunks validatorChunks;
 
   protected AbstractEpochProcessor(
       final SpecConfig specConfig,
@@ -81,6 +82,30 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
       final TimeProvider timeProvider) {
+    this(
+        specConfig,
+        miscHelpers,
+        beaconStateAccessors,
+        beaconStateMutators,
+        validatorsUtil,
+        beaconStateUtil,
+        validatorStatusFactory,
+        schemaDefinitions,
+        timeProvider,
+        ValidatorChunks.DEFAULT);
+  }
+
+  protected AbstractEpochProcessor(
+      final SpecConfig specConfig,
+      final MiscHelpers miscHelpers,
+      final BeaconStateAccessors beaconStateAccessors,
+      final BeaconStateMutators beaconStateMutators,
+      final ValidatorsUtil validatorsUtil,
+      final BeaconStateUtil beaconStateUtil,
+      final ValidatorStatusFactory validatorStatusFactory,
+      final SchemaDefinitions schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     this.specConfig = specConfig;
     this.miscHelpers = miscHelpers;
     this.beaconStateAccessors = beaconStateAccessors;
@@ -91,6 +116,7 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     this.schemaDefinitions = schemaDefinitions;
     this.maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
     this.timeProvider = timeProvider;
+    this.validatorChunks = validatorChunks;
   }
 
   /**
@@ -342,15 +368,34 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
       final MutableBeaconState state, final RewardAndPenaltyDeltas attestationDeltas) {
     final SszMutableUInt64List balances = state.getBalances();
     // To optimize performance, calculate validator size once outside of the loop
-    int validatorsCount = state.getValidators().size();
-    for (int i = 0; i < validatorsCount; i++) {
-      final RewardAndPenalty delta = attestationDeltas.getDelta(i);
-      if (delta.isZero()) {
-        continue;
+    final int validatorsCount = state.getValidators().size();
+    final UInt64[] newBalances = new UInt64[validatorsCount];
+    validatorChunks.forEachChunk(
+        validatorsCount,
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final RewardAndPenalty delta = attestationDeltas.getDelta(i);
+            if (delta.isZero()) {
+              continue;
+            }
+            newBalances[i] =
+                balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty());
+          }
+        });
+    setChangedElements(balances, newBalances);
+  }
+
+  /**
+   * Writes the values computed by {@link ValidatorChunks} back to the state in index order. Indices
+   * without a new value ({@code null}) are left untouched.
+   */
+  protected static void setChangedElements(
+      final SszMutableUInt64List list, final UInt64[] newValues) {
+    for (int i = 0; i < newValues.length; i++) {
+      final UInt64 newValue = newValues[i];
+      if (newValue != null) {
+        list.setElement(i, newValue);
       }
-      final UInt64 newBalance =
-          balances.getElement(i).plus(delta.getReward()).minusMinZero(delta.getPenalty());
-      balances.setElement(i, newBalance);
     }
   }
 
@@ -496,30 +541,58 @@ public abstract class AbstractEpochProcessor implements EpochProcessor {
     final UInt64 maxEffectiveBalance = specConfig.getMaxEffectiveBalance();
     final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
-    for (int index = 0; index < statuses.size(); index++) {
-      final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
-      if (shouldDecreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance, hysteresisDownwardMultiplier)
-          || shouldIncreaseEffectiveBalance(
-              balance,
-              hysteresisIncrement,
-              currentEffectiveBalance,
-              hysteresisUpwardMultiplier,
-              maxEffectiveBalance)) {
-        final Validator validator = validators.get(index);
-        final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
-        final UInt64 newEffectiveBalance =
-            effectiveBalanceLimit.min(
-                balance.minus(balance.mod(effectiveBalanceIncrement)).min(maxEffectiveBalance));
-        BeaconStateCache.getTransitionCaches(state)
-            .getProgressiveTotalBalances()
-            .onEffectiveBalanceChange(status, newEffectiveBalance);
-        validators.set(index, validator.withEffectiveBalance(newEffectiveBalance));
+    final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
+    final UInt64[] newEffectiveBalances = new UInt64[statuses.size()];
+    validatorChunks.forEachChunk(
+        statuses.size(),
+        (startIndex, endIndex) -> {
+          for (int index = startIndex; index < endIndex; index++) {
+            final ValidatorStatus status = statuses.get(index);
+            final UInt64 balance = balances.getElement(index);
+
+            final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
+            if (shouldDecreaseEffectiveBalance(
+                    balance,
+                    hysteresisIncrement,
+                    currentEffectiveBalance,
+                    hysteresisDownwardMultiplier)
+                || shouldIncreaseEffectiveBalance(
+                    balance,
+                    hysteresisIncrement,
+                    currentEffectiveBalance,
+                    hysteresisUpwardMultiplier,
+                    maxEffectiveBalance)) {
+              final Validator validator = validators.get(index);
+              final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
+              newEffectiveBalances[index] =
+                  effectiveBalanceLimit.min(
+                      balance
+                          .minus(balance.mod(effectiveBalanceIncrement))
+                          .min(maxEffectiveBalance));
+            }
+          }
+        });
+    applyEffectiveBalanceUpdates(state, statuses, newEffectiveBalances);
+  }
+
+  /**
+   * Applies effective balance changes computed by {@link ValidatorChunks} in index order, so
+   * progressive total balances are updated exactly as with sequential processing.
+   */
+  protected void applyEffectiveBalanceUpdates(
+      final MutableBeaconState state,
+      final List<ValidatorStatus> statuses,
+      final UInt64[] newEffectiveBalances) {
+    final SszMutableList<Validator> validators = state.getValidators();
+    final ProgressiveTotalBalancesUpdates progressiveTotalBalances =
+        BeaconStateCache.getTransitionCaches(state).getProgressiveTotalBalances();
+    for (int index = 0; index < newEffectiveBalances.length; index++) {
+      final UInt64 newEffectiveBalance = newEffectiveBalances[index];
+      if (newEffectiveBalance == null) {
+        continue;
       }
+      progressiveTotalBalances.onEffectiveBalanceChange(statuses.get(index), newEffectiveBalance);
+      validators.update(index, validator -> validator.withEffectiveBalance(newEffectiveBalance));
     }
   }
 
@@ -0,0 +1,70 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.stream.IntStream;
+
+/**
+ * Splits the validator registry into contiguous index ranges which are processed in parallel on
+ * the fork-join pool of the calling thread (the common pool unless called from within another
+ * pool).
+ *
+ * <p>Actions must only read shared inputs and write to the indices of their own range. State
+ * collections, including mutable ones, may be read concurrently provided nothing modifies them
+ * until all chunks have completed. Results are expected to be collected into per-index arrays and
+ * applied to the state in index order once all chunks have completed, which keeps the resulting
+ * state identical to sequential processing. Registries which fit in a single chunk are processed on
+ * the calling thread.
+ */
+public class ValidatorChunks {
+  public static final int DEFAULT_CHUNK_SIZE = 4096;
+  public static final ValidatorChunks DEFAULT = new ValidatorChunks(DEFAULT_CHUNK_SIZE);
+
+  private final int chunkSize;
+
+  public ValidatorChunks(final int chunkSize) {
+    checkArgument(chunkSize > 0, "Chunk size must be positive");
+    this.chunkSize = chunkSize;
+  }
+
+  public int getChunkCount(final int validatorCount) {
+    return (int) ((validatorCount + (long) chunkSize - 1) / chunkSize);
+  }
+
+  public void forEachChunk(final int validatorCount, final IndexRangeAction action) {
+    final int chunkCount = getChunkCount(validatorCount);
+    if (chunkCount == 0) {
+      return;
+    }
+    if (chunkCount == 1) {
+      action.apply(0, validatorCount);
+      return;
+    }
+    IntStream.range(0, chunkCount)
+        .parallel()
+        .forEach(
+            chunk -> {
+              final int startIndex = chunk * chunkSize;
+              action.apply(startIndex, Math.min(startIndex + chunkSize, validatorCount));
+            });
+  }
+
+  @FunctionalInterface
+  public interface IndexRangeAction {
+    /** Processes validators from {@code startIndex} (inclusive) to {@code endIndex} (exclusive). */
+    void apply(int startIndex, int endIndex);
+  }
+}
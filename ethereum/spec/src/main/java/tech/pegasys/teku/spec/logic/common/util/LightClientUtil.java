@@ -13,11 +13,21 @@
 
 package tech.pegasys.teku.spec.logic.common.util;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.Optional;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBytes32Vector;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszUInt64;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeader;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.state.SyncCommittee;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
@@ -59,4 +69,164 @@ public class LightClientUtil {
         .getLightClientBootstrapSchema()
         .create(lightClientHeader, currentSyncCommittee, currentSyncCommitteeProof);
   }
+
+  /**
+   * Creates the update for the sync aggregate of a block at {@code signatureSlot}, following
+   * create_light_client_update.
+   *
+   * @param attestedState the post state of the block signed by the sync aggregate (the parent of
+   *     the block at {@code signatureSlot})
+   * @param finalizedHeader the header of the block at the attested state's finalized checkpoint,
+   *     empty if it is not available in which case the update carries no finality
+   * @throws IllegalArgumentException if the state's proofs don't match the Altair update schema,
+   *     which is the case from Electra onwards
+   */
+  public LightClientUpdate createLightClientUpdate(
+      final BeaconState attestedState,
+      final Optional<BeaconBlockHeader> finalizedHeader,
+      final SyncAggregate syncAggregate,
+      final UInt64 signatureSlot) {
+    final LightClientUpdateSchema updateSchema =
+        schemaDefinitionsAltair.getLightClientUpdateSchema();
+    final LightClientHeaderSchema headerSchema =
+        schemaDefinitionsAltair.getLightClientHeaderSchema();
+    final BeaconStateAltair state = BeaconStateAltair.required(attestedState);
+
+    SyncCommittee nextSyncCommittee = updateSchema.getNextSyncCommitteeSchema().getDefault();
+    SszBytes32Vector nextSyncCommitteeBranch =
+        updateSchema.getSyncCommitteeBranchSchema().getDefault();
+    if (syncCommitteeUtil
+        .computeSyncCommitteePeriodAtSlot(state.getSlot())
+        .equals(syncCommitteeUtil.computeSyncCommitteePeriodAtSlot(signatureSlot))) {
+      nextSyncCommittee = state.getNextSyncCommittee();
+      nextSyncCommitteeBranch = state.createNextSyncCommitteeProof();
+    }
+
+    LightClientHeader lightClientFinalizedHeader = headerSchema.getDefault();
+    SszBytes32Vector finalityBranch = updateSchema.getFinalityBranchSchema().getDefault();
+    final boolean finalizedAtGenesis = state.getFinalizedCheckpoint().getRoot().isZero();
+    if (finalizedHeader.isPresent() || finalizedAtGenesis) {
+      if (!finalizedAtGenesis) {
+        lightClientFinalizedHeader = headerSchema.create(finalizedHeader.get());
+      }
+      finalityBranch = state.createFinalizedRootProof();
+    }
+
+    checkArgument(
+        nextSyncCommitteeBranch.size() == updateSchema.getSyncCommitteeBranchSchema().getLength()
+            && finalityBranch.size() == updateSchema.getFinalityBranchSchema().getLength(),
+        "Light client updates are not supported for the state at slot %s",
+        state.getSlot());
+
+    return updateSchema.create(
+        headerSchema.create(BeaconBlockHeader.fromState(state)),
+        nextSyncCommittee,
+        nextSyncCommitteeBranch,
+        lightClientFinalizedHeader,
+        finalityBranch,
+        syncAggregate,
+        SszUInt64.of(signatureSlot));
+  }
+
+  public LightClientFinalityUpdate createLightClientFinalityUpdate(
+      final LightClientUpdate update) {
+    return schemaDefinitionsAltair
+        .getLightClientFinalityUpdateSchema()
+        .create(
+            update.getAttestedHeader(),
+            update.getFinalizedHeader(),
+            update.getFinalityBranch(),
+            update.getSyncAggregate(),
+            SszUInt64.of(update.getSignatureSlot()));
+  }
+
+  public LightClientOptimisticUpdate createLightClientOptimisticUpdate(
+      final LightClientUpdate update) {
+    return schemaDefinitionsAltair
+        .getLightClientOptimisticUpdateSchema()
+        .create(
+            update.getAttestedHeader(),
+            update.getSyncAggregate(),
+            SszUInt64.of(update.getSignatureSlot()));
+  }
+
+  /** Returns {@code true} if {@code newUpdate} should replace {@code oldUpdate}. */
+  public boolean isBetterUpdate(
+      final LightClientUpdate newUpdate, final LightClientUpdate oldUpdate) {
+    // Compare supermajority (> 2/3) sync committee participation
+    final int maxActiveParticipants = newUpdate.getSyncAggregate().getSyncCommitteeBits().size();
+    final int newActiveParticipants =
+        newUpdate.getSyncAggregate().getSyncCommitteeBits().getBitCount();
+    final int oldActiveParticipants =
+        oldUpdate.getSyncAggregate().getSyncCommitteeBits().getBitCount();
+    final boolean newHasSupermajority = newActiveParticipants * 3 >= maxActiveParticipants * 2;
+    final boolean oldHasSupermajority = oldActiveParticipants * 3 >= maxActiveParticipants * 2;
+    if (newHasSupermajority != oldHasSupermajority) {
+      return newHasSupermajority;
+    }
+    if (!newHasSupermajority && newActiveParticipants != oldActiveParticipants) {
+      return newActiveParticipants > oldActiveParticipants;
+    }
+
+    // Compare presence of relevant sync committee
+    final boolean newHasRelevantSyncCommittee = hasRelevantSyncCommittee(newUpdate);
+    if (newHasRelevantSyncCommittee != hasRelevantSyncCommittee(oldUpdate)) {
+      return newHasRelevantSyncCommittee;
+    }
+
+    // Compare indication of any finality
+    final boolean newHasFinality = isFinalityUpdate(newUpdate);
+    if (newHasFinality != isFinalityUpdate(oldUpdate)) {
+      return newHasFinality;
+    }
+
+    // Compare sync committee finality
+    if (newHasFinality) {
+      final boolean newHasSyncCommitteeFinality = hasSyncCommitteeFinality(newUpdate);
+      if (newHasSyncCommitteeFinality != hasSyncCommitteeFinality(oldUpdate)) {
+        return newHasSyncCommitteeFinality;
+      }
+    }
+
+    // Tiebreaker 1: Sync committee participation beyond supermajority
+    if (newActiveParticipants != oldActiveParticipants) {
+      return newActiveParticipants > oldActiveParticipants;
+    }
+
+    // Tiebreaker 2: Prefer older data (fewer changes to best)
+    final UInt64 newAttestedSlot = getAttestedSlot(newUpdate);
+    final UInt64 oldAttestedSlot = getAttestedSlot(oldUpdate);
+    if (!newAttestedSlot.equals(oldAttestedSlot)) {
+      return newAttestedSlot.isLessThan(oldAttestedSlot);
+    }
+    return newUpdate.getSignatureSlot().isLessThan(oldUpdate.getSignatureSlot());
+  }
+
+  public UInt64 getAttestedSyncCommitteePeriod(final LightClientUpdate update) {
+    return syncCommitteeUtil.computeSyncCommitteePeriodAtSlot(getAttestedSlot(update));
+  }
+
+  public boolean isFinalityUpdate(final LightClientUpdate update) {
+    return isNonZero(update.getFinalityBranch());
+  }
+
+  private boolean hasRelevantSyncCommittee(final LightClientUpdate update) {
+    return isNonZero(update.getNextSyncCommitteeBranch())
+        && getAttestedSyncCommitteePeriod(update)
+            .equals(syncCommitteeUtil.computeSyncCommitteePeriodAtSlot(update.getSignatureSlot()));
+  }
+
+  private boolean hasSyncCommitteeFinality(final LightClientUpdate update) {
+    return syncCommitteeUtil
+        .computeSyncCommitteePeriodAtSlot(update.getFinalizedHeader().getBeacon().getSlot())
+        .equals(getAttestedSyncCommitteePeriod(update));
+  }
+
+  private static UInt64 getAttestedSlot(final LightClientUpdate update) {
+    return update.getAttestedHeader().getBeacon().getSlot();
+  }
+
+  private static boolean isNonZero(final SszBytes32Vector branch) {
+    return branch.streamUnboxed().anyMatch(node -> !node.isZero());
+  }
 }
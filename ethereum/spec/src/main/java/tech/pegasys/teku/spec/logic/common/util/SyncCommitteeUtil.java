@@ -340,6 +340,10 @@ public class SyncCommitteeUtil {
     return nextSyncCommitteePeriodStart.plus(specConfig.getEpochsPerSyncCommitteePeriod()).minus(1);
   }
 
+  public UInt64 computeSyncCommitteePeriodAtSlot(final UInt64 slot) {
+    return computeSyncCommitteePeriod(miscHelpers.computeEpochAtSlot(slot));
+  }
+
   private UInt64 computeSyncCommitteePeriod(final UInt64 epoch) {
     return epoch.dividedBy(specConfig.getEpochsPerSyncCommitteePeriod());
   }
@@ -16,8 +16,6 @@ package tech.pegasys.teku.spec.logic.common.util;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.spec.logic.common.helpers.MathHelpers.bytesToUInt64;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
-import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Optional;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -77,27 +75,6 @@ public class ValidatorsUtil {
         state, epoch, validatorIndex, beaconStateAccessors.getCommitteeCountPerSlot(state, epoch));
   }
 
-  public Int2ObjectMap<CommitteeAssignment> getValidatorIndexToCommitteeAssignmentMap(
-      final BeaconState state, final UInt64 epoch) {
-    final Int2ObjectMap<CommitteeAssignment> assignmentMap = new Int2ObjectOpenHashMap<>();
-
-    final int slotsPerEpoch = specConfig.getSlotsPerEpoch();
-    final int committeeCountPerSlot =
-        beaconStateAccessors.getCommitteeCountPerSlot(state, epoch).intValue();
-    final UInt64 startSlot = miscHelpers.computeStartSlotAtEpoch(epoch);
-    for (int slotOffset = 0; slotOffset < slotsPerEpoch; slotOffset++) {
-      final UInt64 slot = startSlot.plus(slotOffset);
-      for (int i = 0; i < committeeCountPerSlot; i++) {
-        final UInt64 committeeIndex = UInt64.valueOf(i);
-        final IntList committee =
-            beaconStateAccessors.getBeaconCommittee(state, slot, committeeIndex);
-        committee.forEach(
-            j -> assignmentMap.put(j, new CommitteeAssignment(committee, committeeIndex, slot)));
-      }
-    }
-    return assignmentMap;
-  }
-
   /**
    * Return the committee assignment in the ``epoch`` for ``validator_index``. ``assignment``
    * returned is a tuple of the following form: ``assignment[0]`` is the list of validators in the
@@ -22,6 +22,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.AttestationDataValidator;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlockProposalUtil;
@@ -90,6 +91,14 @@ public class SpecLogicAltair extends AbstractSpecLogic {
       final SpecConfigAltair config,
       final SchemaDefinitionsAltair schemaDefinitions,
       final TimeProvider timeProvider) {
+    return create(config, schemaDefinitions, timeProvider, ValidatorChunks.DEFAULT);
+  }
+
+  public static SpecLogicAltair create(
+      final SpecConfigAltair config,
+      final SchemaDefinitionsAltair schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     // Helpers
     final Predicates predicates = new Predicates(config);
     final MiscHelpersAltair miscHelpers = new MiscHelpersAltair(config);
@@ -130,7 +139,8 @@ public class SpecLogicAltair extends AbstractSpecLogic {
             attestationUtil,
             predicates,
             miscHelpers,
-            beaconStateAccessors);
+            beaconStateAccessors,
+            validatorChunks);
     final EpochProcessorAltair epochProcessor =
         new EpochProcessorAltair(
             config,
@@ -141,7 +151,8 @@ public class SpecLogicAltair extends AbstractSpecLogic {
             beaconStateUtil,
             validatorStatusFactory,
             schemaDefinitions,
-            timeProvider);
+            timeProvider,
+            validatorChunks);
     final SyncCommitteeUtil syncCommitteeUtil =
         new SyncCommitteeUtil(
             beaconStateAccessors, validatorsUtil, config, miscHelpers, schemaDefinitions);
@@ -35,6 +35,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.AbstractEpochProcessor;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ProgressiveTotalBalancesAltair;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
@@ -64,6 +65,30 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
       final TimeProvider timeProvider) {
+    this(
+        specConfig,
+        miscHelpers,
+        beaconStateAccessors,
+        beaconStateMutators,
+        validatorsUtil,
+        beaconStateUtil,
+        validatorStatusFactory,
+        schemaDefinitions,
+        timeProvider,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public EpochProcessorAltair(
+      final SpecConfigAltair specConfig,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final BeaconStateMutators beaconStateMutators,
+      final ValidatorsUtil validatorsUtil,
+      final BeaconStateUtil beaconStateUtil,
+      final ValidatorStatusFactory validatorStatusFactory,
+      final SchemaDefinitions schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     super(
         specConfig,
         miscHelpers,
@@ -73,7 +98,8 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        validatorChunks);
     this.specConfigAltair = specConfig;
     this.miscHelpersAltair = miscHelpers;
     this.beaconStateAccessorsAltair = beaconStateAccessors;
@@ -92,7 +118,8 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
             state,
             validatorStatuses,
             miscHelpersAltair,
-            beaconStateAccessorsAltair);
+            beaconStateAccessorsAltair,
+            validatorChunks);
 
     return calculatorFunction.apply(calculator);
   }
@@ -179,28 +206,35 @@ public class EpochProcessorAltair extends AbstractEpochProcessor {
     final SszMutableUInt64List inactivityScores = state.getInactivityScores();
     final List<ValidatorStatus> statuses = validatorStatuses.getStatuses();
     final boolean isInInactivityLeak = beaconStateAccessors.isInactivityLeak(state);
-    for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus validatorStatus = statuses.get(i);
-      if (!validatorStatus.isEligibleValidator()) {
-        continue;
-      }
+    final UInt64[] newScores = new UInt64[statuses.size()];
+    validatorChunks.forEachChunk(
+        statuses.size(),
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final ValidatorStatus validatorStatus = statuses.get(i);
+            if (!validatorStatus.isEligibleValidator()) {
+              continue;
+            }
 
-      // Increase inactivity score of inactive validators
-      final UInt64 currentScore = inactivityScores.getElement(i);
-      UInt64 newScore;
-      if (validatorStatus.isNotSlashed() && validatorStatus.isPreviousEpochTargetAttester()) {
-        newScore = currentScore.minusMinZero(1);
-      } else {
-        newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
-      }
-      // Decrease the score of all validators for forgiveness when not during a leak
-      if (!isInInactivityLeak) {
-        newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
-      }
-      if (!currentScore.equals(newScore)) {
-        inactivityScores.setElement(i, newScore);
-      }
-    }
+            // Increase inactivity score of inactive validators
+            final UInt64 currentScore = inactivityScores.getElement(i);
+            UInt64 newScore;
+            if (validatorStatus.isNotSlashed()
+                && validatorStatus.isPreviousEpochTargetAttester()) {
+              newScore = currentScore.minusMinZero(1);
+            } else {
+              newScore = currentScore.plus(specConfigAltair.getInactivityScoreBias());
+            }
+            // Decrease the score of all validators for forgiveness when not during a leak
+            if (!isInInactivityLeak) {
+              newScore = newScore.minusMinZero(specConfigAltair.getInactivityScoreRecoveryRate());
+            }
+            if (!currentScore.equals(newScore)) {
+              newScores[i] = newScore;
+            }
+          }
+        });
+    setChangedElements(inactivityScores, newScores);
   }
 
   @Override
@@ -28,6 +28,7 @@ import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalt
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenalty.RewardComponent;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardsAndPenaltiesCalculator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.TotalBalances;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
@@ -40,6 +41,7 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
   private final BeaconStateAccessorsAltair beaconStateAccessorsAltair;
 
   private final BeaconStateAltair stateAltair;
+  private final ValidatorChunks validatorChunks;
 
   public RewardsAndPenaltiesCalculatorAltair(
       final SpecConfigAltair specConfig,
@@ -47,10 +49,27 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
       final ValidatorStatuses validatorStatuses,
       final MiscHelpersAltair miscHelpers,
       final BeaconStateAccessorsAltair beaconStateAccessors) {
+    this(
+        specConfig,
+        state,
+        validatorStatuses,
+        miscHelpers,
+        beaconStateAccessors,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public RewardsAndPenaltiesCalculatorAltair(
+      final SpecConfigAltair specConfig,
+      final BeaconStateAltair state,
+      final ValidatorStatuses validatorStatuses,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final ValidatorChunks validatorChunks) {
     super(specConfig, miscHelpers, beaconStateAccessors, state, validatorStatuses);
     this.stateAltair = state;
     this.specConfigAltair = specConfig;
     this.beaconStateAccessorsAltair = beaconStateAccessors;
+    this.validatorChunks = validatorChunks;
   }
 
   /** Return attestation reward/penalty deltas for each validator */
@@ -104,29 +123,33 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     // looking it up from there for every single validator is quite expensive.
     final UInt64 baseRewardPerIncrement =
         beaconStateAccessorsAltair.getBaseRewardPerIncrement(stateAltair);
-    for (int i = 0; i < statusList.size(); i++) {
-      final ValidatorStatus validator = statusList.get(i);
-      if (!validator.isEligibleValidator()) {
-        continue;
-      }
-      final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
-
-      final UInt64 baseReward =
-          getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
-      if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
-        if (!isInactivityLeak()) {
-          final UInt64 rewardNumerator =
-              baseReward.times(weight).times(unslashedParticipatingIncrements);
-          validatorDeltas.reward(
-              getComponentForParticipationFlagIndex(flagIndex),
-              rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
-        }
-      } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
-        validatorDeltas.penalize(
-            getComponentForParticipationFlagIndex(flagIndex),
-            baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
-      }
-    }
+    validatorChunks.forEachChunk(
+        statusList.size(),
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final ValidatorStatus validator = statusList.get(i);
+            if (!validator.isEligibleValidator()) {
+              continue;
+            }
+            final RewardAndPenalty validatorDeltas = deltas.getDelta(i);
+
+            final UInt64 baseReward =
+                getBaseReward(effectiveBalanceIncrement, baseRewardPerIncrement, validator);
+            if (isUnslashedPrevEpochParticipatingIndex(validator, flagIndex)) {
+              if (!isInactivityLeak()) {
+                final UInt64 rewardNumerator =
+                    baseReward.times(weight).times(unslashedParticipatingIncrements);
+                validatorDeltas.reward(
+                    getComponentForParticipationFlagIndex(flagIndex),
+                    rewardNumerator.dividedBy(activeIncrements.times(WEIGHT_DENOMINATOR)));
+              }
+            } else if (flagIndex != TIMELY_HEAD_FLAG_INDEX) {
+              validatorDeltas.penalize(
+                  getComponentForParticipationFlagIndex(flagIndex),
+                  baseReward.times(weight).dividedBy(WEIGHT_DENOMINATOR));
+            }
+          }
+        });
   }
 
   private RewardComponent getComponentForParticipationFlagIndex(final int index) {
@@ -169,21 +192,25 @@ public class RewardsAndPenaltiesCalculatorAltair extends RewardsAndPenaltiesCalc
     final SszUInt64List inactivityScores = stateAltair.getInactivityScores();
     final UInt64 penaltyDenominator =
         specConfigAltair.getInactivityScoreBias().times(getInactivityPenaltyQuotient());
-    for (int i = 0; i < statusList.size(); i++) {
-      final ValidatorStatus validator = statusList.get(i);
-      if (!validator.isEligibleValidator()) {
-        continue;
-      }
-      if (validator.isPreviousEpochTargetAttester() && !validator.isSlashed()) {
-        continue;
-      }
-
-      final UInt64 penaltyNumerator =
-          validator.getCurrentEpochEffectiveBalance().times(inactivityScores.get(i).get());
-
-      final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
-      deltas.getDelta(i).penalize(RewardComponent.INACTIVITY, penalty);
-    }
+    validatorChunks.forEachChunk(
+        statusList.size(),
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final ValidatorStatus validator = statusList.get(i);
+            if (!validator.isEligibleValidator()) {
+              continue;
+            }
+            if (validator.isPreviousEpochTargetAttester() && !validator.isSlashed()) {
+              continue;
+            }
+
+            final UInt64 penaltyNumerator =
+                validator.getCurrentEpochEffectiveBalance().times(inactivityScores.get(i).get());
+
+            final UInt64 penalty = penaltyNumerator.dividedBy(penaltyDenominator);
+            deltas.getDelta(i).penalize(RewardComponent.INACTIVITY, penalty);
+          }
+        });
   }
 
   protected UInt64 getInactivityPenaltyQuotient() {
@@ -22,6 +22,7 @@ import tech.pegasys.teku.spec.constants.ParticipationFlags;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.AbstractValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
@@ -31,6 +32,7 @@ import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
 
 public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory {
   private final MiscHelpersAltair miscHelpersAltair;
+  private final ValidatorChunks validatorChunks;
 
   public ValidatorStatusFactoryAltair(
       final SpecConfig specConfig,
@@ -39,8 +41,27 @@ public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory
       final Predicates predicates,
       final MiscHelpersAltair miscHelpers,
       final BeaconStateAccessorsAltair beaconStateAccessors) {
+    this(
+        specConfig,
+        beaconStateUtil,
+        attestationUtil,
+        predicates,
+        miscHelpers,
+        beaconStateAccessors,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public ValidatorStatusFactoryAltair(
+      final SpecConfig specConfig,
+      final BeaconStateUtil beaconStateUtil,
+      final AttestationUtil attestationUtil,
+      final Predicates predicates,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final ValidatorChunks validatorChunks) {
     super(specConfig, beaconStateUtil, attestationUtil, predicates, beaconStateAccessors);
     this.miscHelpersAltair = miscHelpers;
+    this.validatorChunks = validatorChunks;
   }
 
   @Override
@@ -53,40 +74,45 @@ public class ValidatorStatusFactoryAltair extends AbstractValidatorStatusFactory
 
     final SszList<SszByte> previousParticipation = state.getPreviousEpochParticipation();
     final SszList<SszByte> currentParticipation = state.getCurrentEpochParticipation();
-    for (int i = 0; i < statuses.size(); i++) {
-      final ValidatorStatus status = statuses.get(i);
+    // Each chunk only updates the statuses of its own validators
+    validatorChunks.forEachChunk(
+        statuses.size(),
+        (startIndex, endIndex) -> {
+          for (int i = startIndex; i < endIndex; i++) {
+            final ValidatorStatus status = statuses.get(i);
 
-      if (status.isActiveInPreviousEpoch()) {
-        final byte previousParticipationFlags = previousParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updatePreviousEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updatePreviousEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updatePreviousEpochHeadAttester(true);
-        }
-      }
+            if (status.isActiveInPreviousEpoch()) {
+              final byte previousParticipationFlags = previousParticipation.get(i).get();
+              if (miscHelpersAltair.hasFlag(
+                  previousParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+                status.updatePreviousEpochSourceAttester(true);
+              }
+              if (miscHelpersAltair.hasFlag(
+                  previousParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+                status.updatePreviousEpochTargetAttester(true);
+              }
+              if (miscHelpersAltair.hasFlag(
+                  previousParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+                status.updatePreviousEpochHeadAttester(true);
+              }
+            }
 
-      if (status.isActiveInCurrentEpoch()) {
-        final byte currentParticipationFlags = currentParticipation.get(i).get();
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
-          status.updateCurrentEpochSourceAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
-          status.updateCurrentEpochTargetAttester(true);
-        }
-        if (miscHelpersAltair.hasFlag(
-            currentParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
-          status.updateCurrentEpochHeadAttester(true);
-        }
-      }
-    }
+            if (status.isActiveInCurrentEpoch()) {
+              final byte currentParticipationFlags = currentParticipation.get(i).get();
+              if (miscHelpersAltair.hasFlag(
+                  currentParticipationFlags, ParticipationFlags.TIMELY_SOURCE_FLAG_INDEX)) {
+                status.updateCurrentEpochSourceAttester(true);
+              }
+              if (miscHelpersAltair.hasFlag(
+                  currentParticipationFlags, ParticipationFlags.TIMELY_TARGET_FLAG_INDEX)) {
+                status.updateCurrentEpochTargetAttester(true);
+              }
+              if (miscHelpersAltair.hasFlag(
+                  currentParticipationFlags, ParticipationFlags.TIMELY_HEAD_FLAG_INDEX)) {
+                status.updateCurrentEpochHeadAttester(true);
+              }
+            }
+          }
+        });
   }
 }
@@ -21,6 +21,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.AttestationDataValidator;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlindBlockUtil;
@@ -96,6 +97,14 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
       final SpecConfigBellatrix config,
       final SchemaDefinitionsBellatrix schemaDefinitions,
       final TimeProvider timeProvider) {
+    return create(config, schemaDefinitions, timeProvider, ValidatorChunks.DEFAULT);
+  }
+
+  public static SpecLogicBellatrix create(
+      final SpecConfigBellatrix config,
+      final SchemaDefinitionsBellatrix schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     // Helpers
     final Predicates predicates = new Predicates(config);
     final MiscHelpersBellatrix miscHelpers = new MiscHelpersBellatrix(config);
@@ -134,7 +143,8 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
             attestationUtil,
             predicates,
             miscHelpers,
-            beaconStateAccessors);
+            beaconStateAccessors,
+            validatorChunks);
     final EpochProcessorBellatrix epochProcessor =
         new EpochProcessorBellatrix(
             config,
@@ -145,7 +155,8 @@ public class SpecLogicBellatrix extends AbstractSpecLogic {
             beaconStateUtil,
             validatorStatusFactory,
             schemaDefinitions,
-            timeProvider);
+            timeProvider,
+            validatorChunks);
     final SyncCommitteeUtil syncCommitteeUtil =
         new SyncCommitteeUtil(
             beaconStateAccessors, validatorsUtil, config, miscHelpers, schemaDefinitions);
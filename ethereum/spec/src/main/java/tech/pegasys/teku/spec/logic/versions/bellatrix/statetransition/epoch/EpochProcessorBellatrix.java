@@ -19,6 +19,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.RewardAndPenaltyDeltas;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
@@ -42,6 +43,30 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
       final TimeProvider timeProvider) {
+    this(
+        specConfig,
+        miscHelpers,
+        beaconStateAccessors,
+        beaconStateMutators,
+        validatorsUtil,
+        beaconStateUtil,
+        validatorStatusFactory,
+        schemaDefinitions,
+        timeProvider,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public EpochProcessorBellatrix(
+      final SpecConfigBellatrix specConfig,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final BeaconStateMutators beaconStateMutators,
+      final ValidatorsUtil validatorsUtil,
+      final BeaconStateUtil beaconStateUtil,
+      final ValidatorStatusFactory validatorStatusFactory,
+      final SchemaDefinitions schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     super(
         specConfig,
         miscHelpers,
@@ -51,7 +76,8 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        validatorChunks);
     specConfigBellatrix = specConfig;
   }
 
@@ -65,7 +91,8 @@ public class EpochProcessorBellatrix extends EpochProcessorAltair {
             state,
             validatorStatuses,
             miscHelpersAltair,
-            beaconStateAccessorsAltair);
+            beaconStateAccessorsAltair,
+            validatorChunks);
 
     return calculator.getDeltas();
   }
@@ -16,6 +16,7 @@ package tech.pegasys.teku.spec.logic.versions.bellatrix.statetransition.epoch;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfigBellatrix;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.bellatrix.BeaconStateBellatrix;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.BeaconStateAccessorsAltair;
 import tech.pegasys.teku.spec.logic.versions.altair.helpers.MiscHelpersAltair;
@@ -31,7 +32,24 @@ public class RewardsAndPenaltiesCalculatorBellatrix extends RewardsAndPenaltiesC
       final ValidatorStatuses validatorStatuses,
       final MiscHelpersAltair miscHelpers,
       final BeaconStateAccessorsAltair beaconStateAccessors) {
-    super(specConfig, state, validatorStatuses, miscHelpers, beaconStateAccessors);
+    this(
+        specConfig,
+        state,
+        validatorStatuses,
+        miscHelpers,
+        beaconStateAccessors,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public RewardsAndPenaltiesCalculatorBellatrix(
+      final SpecConfigBellatrix specConfig,
+      final BeaconStateBellatrix state,
+      final ValidatorStatuses validatorStatuses,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final ValidatorChunks validatorChunks) {
+    super(
+        specConfig, state, validatorStatuses, miscHelpers, beaconStateAccessors, validatorChunks);
     specConfigBellatrix = specConfig;
   }
 
@@ -23,6 +23,7 @@ import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconStat
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.capella.MutableBeaconStateCapella;
 import tech.pegasys.teku.spec.datastructures.state.versions.capella.HistoricalSummary;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.ValidatorsUtil;
@@ -45,6 +46,30 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
       final TimeProvider timeProvider) {
+    this(
+        specConfig,
+        miscHelpers,
+        beaconStateAccessors,
+        beaconStateMutators,
+        validatorsUtil,
+        beaconStateUtil,
+        validatorStatusFactory,
+        schemaDefinitions,
+        timeProvider,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public EpochProcessorCapella(
+      final SpecConfigCapella specConfig,
+      final MiscHelpersAltair miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final BeaconStateMutators beaconStateMutators,
+      final ValidatorsUtil validatorsUtil,
+      final BeaconStateUtil beaconStateUtil,
+      final ValidatorStatusFactory validatorStatusFactory,
+      final SchemaDefinitions schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     super(
         specConfig,
         miscHelpers,
@@ -54,7 +79,8 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        validatorChunks);
     this.schemaDefinitions = schemaDefinitions;
   }
 
@@ -70,7 +96,8 @@ public class EpochProcessorCapella extends EpochProcessorBellatrix {
         processor.beaconStateUtil,
         processor.validatorStatusFactory,
         processor.schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        processor.validatorChunks);
     this.schemaDefinitions = processor.schemaDefinitions;
   }
 
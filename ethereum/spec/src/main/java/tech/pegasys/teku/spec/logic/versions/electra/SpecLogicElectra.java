@@ -22,6 +22,7 @@ import tech.pegasys.teku.spec.logic.common.helpers.Predicates;
 import tech.pegasys.teku.spec.logic.common.operations.OperationSignatureVerifier;
 import tech.pegasys.teku.spec.logic.common.operations.validation.AttestationDataValidator;
 import tech.pegasys.teku.spec.logic.common.operations.validation.OperationValidator;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.util.AttestationUtil;
 import tech.pegasys.teku.spec.logic.common.util.BeaconStateUtil;
 import tech.pegasys.teku.spec.logic.common.util.BlindBlockUtil;
@@ -97,6 +98,14 @@ public class SpecLogicElectra extends AbstractSpecLogic {
       final SpecConfigElectra config,
       final SchemaDefinitionsElectra schemaDefinitions,
       final TimeProvider timeProvider) {
+    return create(config, schemaDefinitions, timeProvider, ValidatorChunks.DEFAULT);
+  }
+
+  public static SpecLogicElectra create(
+      final SpecConfigElectra config,
+      final SchemaDefinitionsElectra schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     // Helpers
     final PredicatesElectra predicates = new PredicatesElectra(config);
     final MiscHelpersElectra miscHelpers =
@@ -137,7 +146,8 @@ public class SpecLogicElectra extends AbstractSpecLogic {
             attestationUtil,
             predicates,
             miscHelpers,
-            beaconStateAccessors);
+            beaconStateAccessors,
+            validatorChunks);
     final EpochProcessorElectra epochProcessor =
         new EpochProcessorElectra(
             config,
@@ -148,7 +158,8 @@ public class SpecLogicElectra extends AbstractSpecLogic {
             beaconStateUtil,
             validatorStatusFactory,
             schemaDefinitions,
-            timeProvider);
+            timeProvider,
+            validatorChunks);
     final SyncCommitteeUtil syncCommitteeUtil =
         new SyncCommitteeUtil(
             beaconStateAccessors, validatorsUtil, config, miscHelpers, schemaDefinitions);
@@ -30,12 +30,12 @@ import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.config.SpecConfig;
 import tech.pegasys.teku.spec.config.SpecConfigElectra;
 import tech.pegasys.teku.spec.datastructures.state.Validator;
-import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateCache;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.MutableBeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.electra.MutableBeaconStateElectra;
 import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingConsolidation;
 import tech.pegasys.teku.spec.datastructures.state.versions.electra.PendingDeposit;
 import tech.pegasys.teku.spec.logic.common.helpers.BeaconStateMutators;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatusFactory;
 import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
@@ -65,6 +65,30 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
       final ValidatorStatusFactory validatorStatusFactory,
       final SchemaDefinitions schemaDefinitions,
       final TimeProvider timeProvider) {
+    this(
+        specConfig,
+        miscHelpers,
+        beaconStateAccessors,
+        beaconStateMutators,
+        validatorsUtil,
+        beaconStateUtil,
+        validatorStatusFactory,
+        schemaDefinitions,
+        timeProvider,
+        ValidatorChunks.DEFAULT);
+  }
+
+  public EpochProcessorElectra(
+      final SpecConfigElectra specConfig,
+      final MiscHelpersElectra miscHelpers,
+      final BeaconStateAccessorsAltair beaconStateAccessors,
+      final BeaconStateMutators beaconStateMutators,
+      final ValidatorsUtil validatorsUtil,
+      final BeaconStateUtil beaconStateUtil,
+      final ValidatorStatusFactory validatorStatusFactory,
+      final SchemaDefinitions schemaDefinitions,
+      final TimeProvider timeProvider,
+      final ValidatorChunks validatorChunks) {
     super(
         specConfig,
         miscHelpers,
@@ -74,7 +98,8 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
         beaconStateUtil,
         validatorStatusFactory,
         schemaDefinitions,
-        timeProvider);
+        timeProvider,
+        validatorChunks);
     this.minActivationBalance =
         specConfig.toVersionElectra().orElseThrow().getMinActivationBalance();
     this.stateAccessorsElectra = BeaconStateAccessorsElectra.required(beaconStateAccessors);
@@ -154,32 +179,39 @@ public class EpochProcessorElectra extends EpochProcessorCapella {
     final UInt64 hysteresisDownwardMultiplier = specConfig.getHysteresisDownwardMultiplier();
     final UInt64 hysteresisQuotient = specConfig.getHysteresisQuotient();
     final UInt64 effectiveBalanceIncrement = specConfig.getEffectiveBalanceIncrement();
-    for (int index = 0; index < statuses.size(); index++) {
-      final ValidatorStatus status = statuses.get(index);
-      final UInt64 balance = balances.getElement(index);
-
-      final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
-      final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
-      final Validator validator = validators.get(index);
-      final UInt64 maxEffectiveBalance = getEffectiveBalanceLimitForValidator(validator);
-      if (shouldDecreaseEffectiveBalance(
-              balance, hysteresisIncrement, currentEffectiveBalance, hysteresisDownwardMultiplier)
-          || shouldIncreaseEffectiveBalance(
-              balance,
-              hysteresisIncrement,
-              currentEffectiveBalance,
-              hysteresisUpwardMultiplier,
-              maxEffectiveBalance)) {
-        final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
-        final UInt64 newEffectiveBalance =
-            effectiveBalanceLimit.min(
-                balance.minus(balance.mod(effectiveBalanceIncrement)).min(maxEffectiveBalance));
-        BeaconStateCache.getTransitionCaches(state)
-            .getProgressiveTotalBalances()
-            .onEffectiveBalanceChange(status, newEffectiveBalance);
-        validators.set(index, validator.withEffectiveBalance(newEffectiveBalance));
-      }
-    }
+    final UInt64 hysteresisIncrement = effectiveBalanceIncrement.dividedBy(hysteresisQuotient);
+    final UInt64[] newEffectiveBalances = new UInt64[statuses.size()];
+    validatorChunks.forEachChunk(
+        statuses.size(),
+        (startIndex, endIndex) -> {
+          for (int index = startIndex; index < endIndex; index++) {
+            final ValidatorStatus status = statuses.get(index);
+            final UInt64 balance = balances.getElement(index);
+
+            final UInt64 currentEffectiveBalance = status.getCurrentEpochEffectiveBalance();
+            final Validator validator = validators.get(index);
+            final UInt64 maxEffectiveBalance = getEffectiveBalanceLimitForValidator(validator);
+            if (shouldDecreaseEffectiveBalance(
+                    balance,
+                    hysteresisIncrement,
+                    currentEffectiveBalance,
+                    hysteresisDownwardMultiplier)
+                || shouldIncreaseEffectiveBalance(
+                    balance,
+                    hysteresisIncrement,
+                    currentEffectiveBalance,
+                    hysteresisUpwardMultiplier,
+                    maxEffectiveBalance)) {
+              final UInt64 effectiveBalanceLimit = getEffectiveBalanceLimitForValidator(validator);
+              newEffectiveBalances[index] =
+                  effectiveBalanceLimit.min(
+                      balance
+                          .minus(balance.mod(effectiveBalanceIncrement))
+                          .min(maxEffectiveBalance));
+            }
+          }
+        });
+    applyEffectiveBalanceUpdates(state, statuses, newEffectiveBalances);
   }
 
   /** apply_pending_deposit */
@@ -35,7 +35,9 @@ import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBodyBui
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.BeaconBlockBodySchema;
 import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.BeaconBlockBodyBuilderAltair;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrapSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponseSchema;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.networking.libp2p.rpc.metadata.MetadataMessageSchema;
@@ -75,6 +77,8 @@ public class SchemaDefinitionsAltair extends AbstractSchemaDefinitions {
   private final LightClientBootstrapSchema lightClientBootstrapSchema;
   private final LightClientUpdateSchema lightClientUpdateSchema;
   private final LightClientUpdateResponseSchema lightClientUpdateResponseSchema;
+  private final LightClientFinalityUpdateSchema lightClientFinalityUpdateSchema;
+  private final LightClientOptimisticUpdateSchema lightClientOptimisticUpdateSchema;
 
   public SchemaDefinitionsAltair(final SchemaRegistry schemaRegistry) {
     super(schemaRegistry);
@@ -98,6 +102,8 @@ public class SchemaDefinitionsAltair extends AbstractSchemaDefinitions {
     this.lightClientBootstrapSchema = new LightClientBootstrapSchema(specConfig);
     this.lightClientUpdateSchema = new LightClientUpdateSchema(specConfig);
     this.lightClientUpdateResponseSchema = new LightClientUpdateResponseSchema(specConfig);
+    this.lightClientFinalityUpdateSchema = new LightClientFinalityUpdateSchema(specConfig);
+    this.lightClientOptimisticUpdateSchema = new LightClientOptimisticUpdateSchema(specConfig);
   }
 
   public static SchemaDefinitionsAltair required(final SchemaDefinitions schemaDefinitions) {
@@ -241,6 +247,14 @@ public class SchemaDefinitionsAltair extends AbstractSchemaDefinitions {
     return lightClientUpdateResponseSchema;
   }
 
+  public LightClientFinalityUpdateSchema getLightClientFinalityUpdateSchema() {
+    return lightClientFinalityUpdateSchema;
+  }
+
+  public LightClientOptimisticUpdateSchema getLightClientOptimisticUpdateSchema() {
+    return lightClientOptimisticUpdateSchema;
+  }
+
   @Override
   long getMaxValidatorsPerAttestation(final SpecConfig specConfig) {
     return specConfig.getMaxValidatorsPerCommittee();
@@ -18,6 +18,7 @@ import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.StampedLock;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.ExceptionThrowingFutureSupplier;
@@ -69,6 +70,12 @@ public class DeletableSigner implements Signer {
     return sign(() -> delegate.signAttestationData(attestationData, forkInfo));
   }
 
+  @Override
+  public SafeFuture<BLSSignature> signAttestationData(
+      final AttestationData attestationData, final ForkInfo forkInfo, final Bytes signingRoot) {
+    return sign(() -> delegate.signAttestationData(attestationData, forkInfo, signingRoot));
+  }
+
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
     return sign(() -> delegate.signAggregationSlot(slot, forkInfo));
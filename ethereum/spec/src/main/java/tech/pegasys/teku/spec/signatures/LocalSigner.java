@@ -70,6 +70,12 @@ public class LocalSigner implements Signer {
     return sign(signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo));
   }
 
+  @Override
+  public SafeFuture<BLSSignature> signAttestationData(
+      final AttestationData attestationData, final ForkInfo forkInfo, final Bytes signingRoot) {
+    return sign(signingRoot);
+  }
+
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
     return sign(signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo));
@@ -15,6 +15,7 @@ package tech.pegasys.teku.spec.signatures;
 
 import java.net.URL;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -38,6 +39,16 @@ public interface Signer {
 
   SafeFuture<BLSSignature> signAttestationData(AttestationData attestationData, ForkInfo forkInfo);
 
+  /**
+   * Signs attestation data using a signing root already computed by the caller, so it can be shared
+   * between validators attesting to the same data. The signing root must match {@link
+   * SigningRootUtil#signingRootForSignAttestationData(AttestationData, ForkInfo)}.
+   */
+  default SafeFuture<BLSSignature> signAttestationData(
+      final AttestationData attestationData, final ForkInfo forkInfo, final Bytes signingRoot) {
+    return signAttestationData(attestationData, forkInfo);
+  }
+
   SafeFuture<BLSSignature> signAggregationSlot(UInt64 slot, ForkInfo forkInfo);
 
   SafeFuture<BLSSignature> signAggregateAndProof(
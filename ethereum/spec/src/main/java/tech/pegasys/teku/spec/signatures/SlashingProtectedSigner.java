@@ -17,6 +17,7 @@ import java.net.URL;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -66,6 +67,25 @@ public class SlashingProtectedSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
+    return signAttestationDataIfAllowed(
+        attestationData,
+        forkInfo,
+        () -> delegate.signAttestationData(attestationData, forkInfo));
+  }
+
+  @Override
+  public SafeFuture<BLSSignature> signAttestationData(
+      final AttestationData attestationData, final ForkInfo forkInfo, final Bytes signingRoot) {
+    return signAttestationDataIfAllowed(
+        attestationData,
+        forkInfo,
+        () -> delegate.signAttestationData(attestationData, forkInfo, signingRoot));
+  }
+
+  private SafeFuture<BLSSignature> signAttestationDataIfAllowed(
+      final AttestationData attestationData,
+      final ForkInfo forkInfo,
+      final Supplier<SafeFuture<BLSSignature>> sign) {
     return slashingProtector
         .maySignAttestation(
             validatorPublicKey,
@@ -73,7 +93,7 @@ public class SlashingProtectedSigner implements Signer {
             attestationData.getSource().getEpoch(),
             attestationData.getTarget().getEpoch())
         .thenAccept(verifySigningAllowed(slashableAttestationMessage(attestationData)))
-        .thenCompose(__ -> delegate.signAttestationData(attestationData, forkInfo));
+        .thenCompose(__ -> sign.get());
   }
 
   private Supplier<String> slashableBlockMessage(final BeaconBlock block) {
@@ -0,0 +1,138 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.spec.SpecMilestone.ALTAIR;
+import static tech.pegasys.teku.spec.SpecMilestone.ELECTRA;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.SpecVersion;
+import tech.pegasys.teku.spec.TestSpecContext;
+import tech.pegasys.teku.spec.TestSpecInvocationContextProvider.SpecContext;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateSchemaAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.MutableBeaconStateAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
+import tech.pegasys.teku.spec.logic.common.statetransition.exceptions.EpochProcessingException;
+import tech.pegasys.teku.spec.schemas.registry.SchemaRegistryBuilder;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+/** Checks that chunked epoch processing produces the same state as processing all at once. */
+@TestSpecContext(milestone = {ALTAIR, ELECTRA})
+class ChunkedEpochProcessingTest {
+  private static final int VALIDATOR_COUNT = 500;
+  private static final UInt64 ETH = UInt64.valueOf(1_000_000_000L);
+
+  private SpecMilestone milestone;
+  private SpecVersion genesisSpec;
+  private DataStructureUtil dataStructureUtil;
+
+  @BeforeEach
+  void setUp(final SpecContext specContext) {
+    milestone = specContext.getSpecMilestone();
+    genesisSpec = specContext.getSpec().getGenesisSpec();
+    dataStructureUtil = specContext.getDataStructureUtil();
+  }
+
+  @TestTemplate
+  void shouldMatchSequentialProcessingWhenNotInInactivityLeak() throws Exception {
+    assertChunkedProcessingMatchesSequential(createState(UInt64.valueOf(8)));
+  }
+
+  @TestTemplate
+  void shouldMatchSequentialProcessingWhenInInactivityLeak() throws Exception {
+    assertChunkedProcessingMatchesSequential(createState(UInt64.ZERO));
+  }
+
+  private void assertChunkedProcessingMatchesSequential(final BeaconState state) throws Exception {
+    final BeaconState sequentialResult =
+        processRewardsAndEffectiveBalances(state, new ValidatorChunks(Integer.MAX_VALUE));
+
+    assertThat(sequentialResult.hashTreeRoot()).isNotEqualTo(state.hashTreeRoot());
+    for (final int chunkSize : new int[] {1, 7, 64, VALIDATOR_COUNT - 1}) {
+      final BeaconState chunkedResult =
+          processRewardsAndEffectiveBalances(state, new ValidatorChunks(chunkSize));
+      assertThat(chunkedResult.hashTreeRoot())
+          .describedAs("chunk size %s", chunkSize)
+          .isEqualTo(sequentialResult.hashTreeRoot());
+    }
+  }
+
+  private BeaconState processRewardsAndEffectiveBalances(
+      final BeaconState state, final ValidatorChunks validatorChunks)
+      throws EpochProcessingException {
+    final SpecVersion specVersion =
+        SpecVersion.create(
+                milestone, genesisSpec.getConfig(), SchemaRegistryBuilder.create(), validatorChunks)
+            .orElseThrow();
+    final EpochProcessor epochProcessor = specVersion.getEpochProcessor();
+    final ValidatorStatuses statuses =
+        specVersion.getValidatorStatusFactory().createValidatorStatuses(state);
+    return state.updated(
+        mutableState -> {
+          epochProcessor.processRewardsAndPenalties(mutableState, statuses);
+          epochProcessor.processEffectiveBalanceUpdates(mutableState, statuses.getStatuses());
+        });
+  }
+
+  private BeaconState createState(final UInt64 finalizedEpoch) {
+    final BeaconStateSchemaAltair schema =
+        BeaconStateSchemaAltair.required(genesisSpec.getSchemaDefinitions().getBeaconStateSchema());
+    final SszList<Validator> validators =
+        schema
+            .getValidatorsSchema()
+            .createFromElements(
+                IntStream.range(0, VALIDATOR_COUNT).mapToObj(this::createValidator).toList());
+    return dataStructureUtil
+        .stateBuilder(milestone, VALIDATOR_COUNT, 10)
+        .setSlotToStartOfEpoch(UInt64.valueOf(10))
+        .setFinalizedCheckpointToEpoch(finalizedEpoch)
+        .validators(validators)
+        .balances(
+            dataStructureUtil.randomSszUInt64List(
+                schema.getBalancesSchema(),
+                VALIDATOR_COUNT,
+                // Between 30 and 34 ETH so effective balances move in both directions
+                () -> ETH.times(30).plus(dataStructureUtil.randomUInt64(ETH.times(4).longValue()))))
+        .build()
+        .updated(
+            mutableState ->
+                MutableBeaconStateAltair.required(mutableState)
+                    .setInactivityScores(
+                        dataStructureUtil.randomSszUInt64List(
+                            schema.getInactivityScoresSchema(),
+                            VALIDATOR_COUNT,
+                            () -> dataStructureUtil.randomUInt64(100))));
+  }
+
+  private Validator createValidator(final int index) {
+    final boolean exited = index % 13 == 0;
+    return (index % 2 == 0
+            ? dataStructureUtil.validatorBuilder().withRandomCompoundingWithdrawalCredentials()
+            : dataStructureUtil.validatorBuilder().withRandomEth1WithdrawalCredentials())
+        .slashed(index % 11 == 0)
+        .activationEpoch(UInt64.ZERO)
+        .exitEpoch(exited ? UInt64.valueOf(5) : FAR_FUTURE_EPOCH)
+        .withdrawableEpoch(exited ? UInt64.valueOf(20) : FAR_FUTURE_EPOCH)
+        .build();
+  }
+}
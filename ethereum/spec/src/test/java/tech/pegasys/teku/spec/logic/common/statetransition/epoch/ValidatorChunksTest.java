@@ -0,0 +1,92 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.spec.logic.common.statetransition.epoch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Test;
+
+class ValidatorChunksTest {
+  private final ValidatorChunks chunks = new ValidatorChunks(10);
+
+  @Test
+  void getChunkCount() {
+    assertThat(chunks.getChunkCount(0)).isZero();
+    assertThat(chunks.getChunkCount(1)).isEqualTo(1);
+    assertThat(chunks.getChunkCount(10)).isEqualTo(1);
+    assertThat(chunks.getChunkCount(11)).isEqualTo(2);
+    assertThat(new ValidatorChunks(Integer.MAX_VALUE).getChunkCount(Integer.MAX_VALUE))
+        .isEqualTo(1);
+  }
+
+  @Test
+  void forEachChunk_shouldVisitEveryIndexExactlyOnce() {
+    final AtomicIntegerArray visits = new AtomicIntegerArray(1005);
+
+    chunks.forEachChunk(
+        visits.length(),
+        (startIndex, endIndex) -> {
+          assertThat(endIndex - startIndex).isBetween(1, 10);
+          for (int i = startIndex; i < endIndex; i++) {
+            visits.incrementAndGet(i);
+          }
+        });
+
+    for (int i = 0; i < visits.length(); i++) {
+      assertThat(visits.get(i)).describedAs("visits of index %s", i).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void forEachChunk_shouldRunSingleChunkOnCallingThread() {
+    final List<Thread> threads = new ArrayList<>();
+
+    chunks.forEachChunk(7, (startIndex, endIndex) -> threads.add(Thread.currentThread()));
+
+    assertThat(threads).containsExactly(Thread.currentThread());
+  }
+
+  @Test
+  void forEachChunk_shouldDoNothingForEmptyRegistry() {
+    chunks.forEachChunk(
+        0,
+        (startIndex, endIndex) -> {
+          throw new AssertionError("Unexpected chunk");
+        });
+  }
+
+  @Test
+  void forEachChunk_shouldPropagateExceptions() {
+    assertThatThrownBy(
+            () ->
+                chunks.forEachChunk(
+                    100,
+                    (startIndex, endIndex) -> {
+                      if (startIndex == 50) {
+                        throw new IllegalArgumentException("Invalid validator");
+                      }
+                    }))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Invalid validator");
+  }
+
+  @Test
+  void shouldRejectNonPositiveChunkSize() {
+    assertThatThrownBy(() -> new ValidatorChunks(0)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
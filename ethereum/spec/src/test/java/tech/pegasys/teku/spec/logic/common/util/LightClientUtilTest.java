@@ -14,15 +14,22 @@
 package tech.pegasys.teku.spec.logic.common.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
 import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeader;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
@@ -43,4 +50,90 @@ public class LightClientUtilTest {
     assertThat(bootstrap.getCurrentSyncCommittee())
         .isEqualTo(BeaconStateAltair.required(state).getCurrentSyncCommittee());
   }
+
+  @Test
+  public void createLightClientUpdate_shouldIncludeNextSyncCommitteeWithinSamePeriod() {
+    final BeaconState state = dataStructureUtil.stateBuilderAltair().slot(UInt64.ONE).build();
+    final SyncAggregate syncAggregate = dataStructureUtil.randomSyncAggregate(0, 1, 2);
+
+    final LightClientUpdate update =
+        lightClientUtil
+            .createLightClientUpdate(state, Optional.empty(), syncAggregate, UInt64.valueOf(2));
+
+    assertThat(update.getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(state));
+    assertThat(update.getNextSyncCommittee())
+        .isEqualTo(BeaconStateAltair.required(state).getNextSyncCommittee());
+    assertThat(update.getSyncAggregate()).isEqualTo(syncAggregate);
+    assertThat(update.getSignatureSlot()).isEqualTo(UInt64.valueOf(2));
+  }
+
+  @Test
+  public void createLightClientUpdate_shouldRejectStateWithDifferentProofDepth() {
+    final Spec electraSpec = TestSpecFactory.createMinimalElectra();
+    final BeaconState state =
+        new DataStructureUtil(electraSpec).stateBuilderElectra(10, 10).slot(UInt64.ONE).build();
+
+    assertThatThrownBy(
+            () ->
+                lightClientUtil.createLightClientUpdate(
+                    state,
+                    Optional.empty(),
+                    dataStructureUtil.randomSyncAggregate(0),
+                    UInt64.valueOf(2)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void createLightClientFinalityUpdate_shouldCopyFinalityFields() {
+    final LightClientUpdate update = createUpdate(0, 1, 2);
+
+    final LightClientFinalityUpdate finalityUpdate =
+        lightClientUtil.createLightClientFinalityUpdate(update);
+
+    assertThat(finalityUpdate.getAttestedHeader()).isEqualTo(update.getAttestedHeader());
+    assertThat(finalityUpdate.getFinalizedHeader()).isEqualTo(update.getFinalizedHeader());
+    assertThat(finalityUpdate.getFinalityBranch()).isEqualTo(update.getFinalityBranch());
+    assertThat(finalityUpdate.getSyncAggregate()).isEqualTo(update.getSyncAggregate());
+    assertThat(finalityUpdate.getSignatureSlot()).isEqualTo(update.getSignatureSlot());
+  }
+
+  @Test
+  public void createLightClientOptimisticUpdate_shouldCopyAttestedFields() {
+    final LightClientUpdate update = createUpdate(0, 1, 2);
+
+    final LightClientOptimisticUpdate optimisticUpdate =
+        lightClientUtil.createLightClientOptimisticUpdate(update);
+
+    assertThat(optimisticUpdate.getAttestedHeader()).isEqualTo(update.getAttestedHeader());
+    assertThat(optimisticUpdate.getSyncAggregate()).isEqualTo(update.getSyncAggregate());
+    assertThat(optimisticUpdate.getSignatureSlot()).isEqualTo(update.getSignatureSlot());
+  }
+
+  @Test
+  public void isBetterUpdate_shouldPreferSupermajority() {
+    final LightClientUpdate supermajority = createUpdate(IntStream.range(0, 22).toArray());
+    final LightClientUpdate minority = createUpdate(IntStream.range(0, 20).toArray());
+
+    assertThat(lightClientUtil.isBetterUpdate(supermajority, minority)).isTrue();
+    assertThat(lightClientUtil.isBetterUpdate(minority, supermajority)).isFalse();
+  }
+
+  @Test
+  public void isBetterUpdate_shouldPreferMoreParticipantsWithoutSupermajority() {
+    final LightClientUpdate more = createUpdate(0, 1, 2);
+    final LightClientUpdate fewer = createUpdate(0, 1);
+
+    assertThat(lightClientUtil.isBetterUpdate(more, fewer)).isTrue();
+    assertThat(lightClientUtil.isBetterUpdate(fewer, more)).isFalse();
+  }
+
+  private LightClientUpdate createUpdate(final int... participantIndices) {
+    final BeaconState state = dataStructureUtil.stateBuilderAltair().slot(UInt64.ONE).build();
+    return lightClientUtil.createLightClientUpdate(
+        state,
+        Optional.empty(),
+        dataStructureUtil.randomSyncAggregate(participantIndices),
+        UInt64.valueOf(2));
+  }
 }
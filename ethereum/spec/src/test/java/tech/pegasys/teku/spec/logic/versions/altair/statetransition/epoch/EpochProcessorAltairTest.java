@@ -14,13 +14,23 @@
 package tech.pegasys.teku.spec.logic.versions.altair.statetransition.epoch;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static tech.pegasys.teku.spec.config.SpecConfig.FAR_FUTURE_EPOCH;
 
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.ssz.collections.SszUInt64List;
 import tech.pegasys.teku.infrastructure.ssz.primitive.SszByte;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.state.Validator;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateAltair;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.versions.altair.BeaconStateSchemaAltair;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.ValidatorChunks;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatus;
+import tech.pegasys.teku.spec.logic.common.statetransition.epoch.status.ValidatorStatuses;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 
 public class EpochProcessorAltairTest {
@@ -50,6 +60,64 @@ public class EpochProcessorAltairTest {
     }
   }
 
+  @Test
+  public void processInactivityUpdates_shouldMatchSpecAcrossValidatorChunks() {
+    final int validatorCount = ValidatorChunks.DEFAULT_CHUNK_SIZE * 3 + 17;
+    final BeaconStateAltair state = generateStateWithActiveValidators(validatorCount);
+    final ValidatorStatuses statuses =
+        spec.getGenesisSpec().getValidatorStatusFactory().createValidatorStatuses(state);
+    final boolean isInInactivityLeak =
+        spec.getGenesisSpec().beaconStateAccessors().isInactivityLeak(state);
+    final SpecConfigAltair config = SpecConfigAltair.required(spec.getGenesisSpecConfig());
+
+    final BeaconStateAltair updated =
+        state.updatedAltair(
+            mutableState -> epochProcessor.processInactivityUpdates(mutableState, statuses));
+
+    for (int i = 0; i < validatorCount; i++) {
+      final ValidatorStatus status = statuses.getStatuses().get(i);
+      final UInt64 currentScore = state.getInactivityScores().getElement(i);
+      UInt64 expectedScore =
+          status.isNotSlashed() && status.isPreviousEpochTargetAttester()
+              ? currentScore.minusMinZero(1)
+              : currentScore.plus(config.getInactivityScoreBias());
+      if (!isInInactivityLeak) {
+        expectedScore = expectedScore.minusMinZero(config.getInactivityScoreRecoveryRate());
+      }
+      assertThat(updated.getInactivityScores().getElement(i)).isEqualTo(expectedScore);
+    }
+  }
+
+  private BeaconStateAltair generateStateWithActiveValidators(final int validatorCount) {
+    final BeaconStateSchemaAltair schema =
+        BeaconStateSchemaAltair.required(spec.getGenesisSchemaDefinitions().getBeaconStateSchema());
+    final SszList<Validator> validators =
+        schema
+            .getValidatorsSchema()
+            .createFromElements(
+                IntStream.range(0, validatorCount)
+                    .mapToObj(
+                        i ->
+                            dataStructureUtil
+                                .validatorBuilder()
+                                .slashed(i % 11 == 0)
+                                .activationEpoch(UInt64.ZERO)
+                                .exitEpoch(FAR_FUTURE_EPOCH)
+                                .withdrawableEpoch(FAR_FUTURE_EPOCH)
+                                .build())
+                    .toList());
+    final SszUInt64List inactivityScores =
+        dataStructureUtil.randomSszUInt64List(
+            schema.getInactivityScoresSchema(), validatorCount, () -> UInt64.valueOf(5));
+    return dataStructureUtil
+        .stateBuilderAltair(validatorCount, 10)
+        .slot(spec.computeStartSlotAtEpoch(UInt64.valueOf(10)))
+        .finalizedCheckpoint(dataStructureUtil.randomCheckpoint(UInt64.valueOf(8)))
+        .validators(validators)
+        .inactivityScores(inactivityScores)
+        .build();
+  }
+
   private BeaconStateAltair generateRandomState() {
     return dataStructureUtil.stateBuilderAltair().build();
   }
@@ -122,6 +122,20 @@ class LocalSignerTest {
         .isCompletedWithValue(expectedSignature);
   }
 
+  @Test
+  public void shouldSignAttestationDataWithPrecomputedSigningRoot() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    final Bytes signingRoot =
+        new SigningRootUtil(spec).signingRootForSignAttestationData(attestationData, fork);
+
+    final SafeFuture<BLSSignature> expected = signer.signAttestationData(attestationData, fork);
+    final SafeFuture<BLSSignature> result =
+        signer.signAttestationData(attestationData, fork, signingRoot);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result).isCompletedWithValue(expected.getImmediately());
+  }
+
   @Test
   public void shouldSignAggregationSlot() {
     final BLSSignature expectedSignature =
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.bls.BLSSignature;
@@ -100,6 +101,38 @@ class SlashingProtectedSignerTest {
         .isCompletedExceptionallyWith(SlashableConditionException.class);
   }
 
+  @Test
+  void signAttestationData_shouldPassSigningRootToDelegateWhenSlashingProtectionAllowsIt() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    final Bytes signingRoot = dataStructureUtil.randomBytes32();
+    when(slashingProtector.maySignAttestation(
+            publicKey,
+            forkInfo.getGenesisValidatorsRoot(),
+            attestationData.getSource().getEpoch(),
+            attestationData.getTarget().getEpoch()))
+        .thenReturn(SafeFuture.completedFuture(true));
+    when(delegate.signAttestationData(attestationData, forkInfo, signingRoot))
+        .thenReturn(signatureFuture);
+
+    assertThatSafeFuture(signer.signAttestationData(attestationData, forkInfo, signingRoot))
+        .isCompletedWithValue(signature);
+  }
+
+  @Test
+  void signAttestationData_shouldNotSignWithSigningRootWhenSlashingProtectionRejects() {
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+    final Bytes signingRoot = dataStructureUtil.randomBytes32();
+    when(slashingProtector.maySignAttestation(
+            publicKey,
+            forkInfo.getGenesisValidatorsRoot(),
+            attestationData.getSource().getEpoch(),
+            attestationData.getTarget().getEpoch()))
+        .thenReturn(SafeFuture.completedFuture(false));
+
+    assertThatSafeFuture(signer.signAttestationData(attestationData, forkInfo, signingRoot))
+        .isCompletedExceptionallyWith(SlashableConditionException.class);
+  }
+
   @Test
   void createRandaoReveal_shouldAlwaysSign() {
     when(delegate.createRandaoReveal(UInt64.ONE, forkInfo)).thenReturn(signatureFuture);
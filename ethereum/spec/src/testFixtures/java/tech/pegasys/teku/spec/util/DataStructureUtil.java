@@ -159,7 +159,10 @@ import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.interop.MockStartDepositGenerator;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrapSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdateSchema;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientHeaderSchema;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponse;
 import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdateResponseSchema;
@@ -2219,6 +2222,31 @@ public final class DataStructureUtil {
         SszUInt64.of(randomUInt64()));
   }
 
+  public LightClientFinalityUpdate randomLightClientFinalityUpdate(final UInt64 slot) {
+    final LightClientFinalityUpdateSchema schema =
+        getAltairSchemaDefinitions(slot).getLightClientFinalityUpdateSchema();
+    final LightClientHeaderSchema headerSchema =
+        getAltairSchemaDefinitions(slot).getLightClientHeaderSchema();
+
+    return schema.create(
+        headerSchema.create(randomBeaconBlockHeader()),
+        headerSchema.create(randomBeaconBlockHeader()),
+        randomSszBytes32Vector(schema.getFinalityBranchSchema(), this::randomBytes32),
+        randomSyncAggregate(),
+        SszUInt64.of(randomUInt64()));
+  }
+
+  public LightClientOptimisticUpdate randomLightClientOptimisticUpdate(final UInt64 slot) {
+    return getAltairSchemaDefinitions(slot)
+        .getLightClientOptimisticUpdateSchema()
+        .create(
+            getAltairSchemaDefinitions(slot)
+                .getLightClientHeaderSchema()
+                .create(randomBeaconBlockHeader()),
+            randomSyncAggregate(),
+            SszUInt64.of(randomUInt64()));
+  }
+
   public LightClientUpdateResponse randomLightClientUpdateResponse(final UInt64 slot) {
     final LightClientUpdateResponseSchema schema =
         getAltairSchemaDefinitions(slot).getLightClientUpdateResponseSchema();
@@ -39,6 +39,7 @@ import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -109,6 +110,11 @@ public class AggregatingAttestationPoolBenchmark {
   private AttestationDataRootAndCommitteeIndex mostFrequentSingleAttestationDataRootAndCI;
   private RewardBasedAttestationSorter sorter;
 
+  // when enabled, the aggregation phase of getAttestationsForBlock only reads the packing which has
+  // been maintained while the mainnet pool dump was being added
+  @Param({"false", "true"})
+  private boolean incrementalPacking;
+
   @Setup(Level.Trial)
   public void init() throws Exception {
 
@@ -123,7 +129,8 @@ public class AggregatingAttestationPoolBenchmark {
             DEFAULT_MAXIMUM_ATTESTATION_COUNT,
             AggregatingAttestationPoolProfiler.NOOP,
             10_000,
-            10_000);
+            10_000,
+            incrementalPacking);
     this.recentChainData = mock(RecentChainData.class);
 
     try (final FileInputStream fileInputStream = new FileInputStream(STATE_PATH)) {
@@ -253,6 +260,23 @@ public class AggregatingAttestationPoolBenchmark {
     attestations.forEach(emptyPool::add);
   }
 
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  public void addV2(final Blackhole bh) {
+    var emptyPool =
+        new AggregatingAttestationPoolV2(
+            SPEC,
+            recentChainData,
+            new NoOpMetricsSystem(),
+            DEFAULT_MAXIMUM_ATTESTATION_COUNT,
+            AggregatingAttestationPoolProfiler.NOOP,
+            10_000,
+            10_000,
+            incrementalPacking);
+    attestations.forEach(emptyPool::add);
+    bh.consume(emptyPool);
+  }
+
   @Benchmark
   @BenchmarkMode(Mode.Throughput)
   public void createAggregateFor(final Blackhole bh) {
@@ -64,6 +64,10 @@ import tech.pegasys.teku.storage.client.RecentChainData;
  * included.
  *
  * <p>This V2 implementation uses concurrent collections to reduce contention.
+ *
+ * <p>When incremental packing is enabled, each {@link MatchingDataAttestationGroupV2} keeps its
+ * block production aggregates up to date as attestations arrive, so the aggregation phase of
+ * {@link #getAttestationsForBlock} no longer depends on the block aggregation time limit.
  */
 public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
   private static final Logger LOG = LogManager.getLogger();
@@ -87,6 +91,8 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
 
   private final RewardBasedAttestationSorterFactory rewardBasedAttestationSorterFactory;
 
+  private final boolean incrementalPackingEnabled;
+
   public AggregatingAttestationPoolV2(
       final Spec spec,
       final RecentChainData recentChainData,
@@ -95,6 +101,26 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
       final AggregatingAttestationPoolProfiler aggregatingAttestationPoolProfiler,
       final int maxBlockAggregationTimeMillis,
       final int maxTotalBlockAggregationTimeMillis) {
+    this(
+        spec,
+        recentChainData,
+        metricsSystem,
+        maximumAttestationCount,
+        aggregatingAttestationPoolProfiler,
+        maxBlockAggregationTimeMillis,
+        maxTotalBlockAggregationTimeMillis,
+        false);
+  }
+
+  public AggregatingAttestationPoolV2(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final MetricsSystem metricsSystem,
+      final int maximumAttestationCount,
+      final AggregatingAttestationPoolProfiler aggregatingAttestationPoolProfiler,
+      final int maxBlockAggregationTimeMillis,
+      final int maxTotalBlockAggregationTimeMillis,
+      final boolean incrementalPackingEnabled) {
     super(spec, recentChainData);
     this.sizeGauge =
         SettableGauge.create(
@@ -108,6 +134,7 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
     this.maxTotalBlockAggregationTimeMillis = maxTotalBlockAggregationTimeMillis * 1_000_000L;
     this.nanosSupplier = System::nanoTime;
     this.rewardBasedAttestationSorterFactory = RewardBasedAttestationSorterFactory.DEFAULT;
+    this.incrementalPackingEnabled = incrementalPackingEnabled;
   }
 
   @VisibleForTesting
@@ -120,6 +147,29 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
       final RewardBasedAttestationSorterFactory rewardBasedAttestationSorterFactory,
       final int maxBlockAggregationTimeMillis,
       final int maxTotalBlockAggregationTimeMillis) {
+    this(
+        spec,
+        recentChainData,
+        metricsSystem,
+        maximumAttestationCount,
+        nanosSupplier,
+        rewardBasedAttestationSorterFactory,
+        maxBlockAggregationTimeMillis,
+        maxTotalBlockAggregationTimeMillis,
+        false);
+  }
+
+  @VisibleForTesting
+  public AggregatingAttestationPoolV2(
+      final Spec spec,
+      final RecentChainData recentChainData,
+      final MetricsSystem metricsSystem,
+      final int maximumAttestationCount,
+      final LongSupplier nanosSupplier,
+      final RewardBasedAttestationSorterFactory rewardBasedAttestationSorterFactory,
+      final int maxBlockAggregationTimeMillis,
+      final int maxTotalBlockAggregationTimeMillis,
+      final boolean incrementalPackingEnabled) {
     super(spec, recentChainData);
     this.sizeGauge =
         SettableGauge.create(
@@ -135,6 +185,7 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
         maxTotalBlockAggregationTimeMillis * 1_000_000L; // Integer.MAX_VALUE * 1_000_000L
     this.nanosSupplier = nanosSupplier;
     this.rewardBasedAttestationSorterFactory = rewardBasedAttestationSorterFactory;
+    this.incrementalPackingEnabled = incrementalPackingEnabled;
   }
 
   @Override
@@ -210,7 +261,11 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
             dataHash,
             __ ->
                 new MatchingDataAttestationGroupV2(
-                    spec, nanosSupplier, attestationData, committeesSize));
+                    spec,
+                    nanosSupplier,
+                    attestationData,
+                    committeesSize,
+                    incrementalPackingEnabled));
 
     return Optional.of(attestationGroup);
   }
@@ -528,11 +583,15 @@ public class AggregatingAttestationPoolV2 extends AggregatingAttestationPool {
         .filter(group -> group.isValid(stateAtBlockSlot, spec))
         .filter(forkChecker::areAttestationsFromCorrectForkV2)
         .flatMap(
-            group ->
-                singleAttestationsOnlyAggregate
-                    ? group.streamSingleAttestationsForBlockProduction(
-                        baseAggregationTimeLimitNanos)
-                    : group.streamAggregatesForBlockProduction(baseAggregationTimeLimitNanos))
+            group -> {
+              if (singleAttestationsOnlyAggregate) {
+                return group.streamSingleAttestationsForBlockProduction(
+                    baseAggregationTimeLimitNanos);
+              }
+              return incrementalPackingEnabled
+                  ? group.streamIncrementalAggregatesForBlockProduction()
+                  : group.streamAggregatesForBlockProduction(baseAggregationTimeLimitNanos);
+            })
         .filter(
             attestation ->
                 attestation.pooledAttestation().bits().requiresCommitteeBits()
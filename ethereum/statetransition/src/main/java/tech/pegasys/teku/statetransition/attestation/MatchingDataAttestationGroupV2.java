@@ -14,10 +14,14 @@
 package tech.pegasys.teku.statetransition.attestation;
 
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
 
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
@@ -60,6 +64,10 @@ import tech.pegasys.teku.statetransition.attestation.utils.AttestationBits;
  * AttestationData are added.
  *
  * <p>This V2 implementation uses concurrent collections and a ReadWriteLock for thread-safety.
+ *
+ * <p>When incremental packing is enabled, the group also maintains a block production packing that
+ * is updated as aggregates arrive, so block production only has to read it instead of aggregating
+ * against its time limit.
  */
 public class MatchingDataAttestationGroupV2 {
   private static final Logger LOG = LogManager.getLogger();
@@ -107,16 +115,46 @@ public class MatchingDataAttestationGroupV2 {
   private final Lock readLock = lock.readLock();
   private final Lock writeLock = lock.writeLock();
 
+  private final boolean incrementalPackingEnabled;
+
+  /**
+   * Greedy first-fit packing of the aggregates in this group: each new aggregate is merged into the
+   * first packed aggregate it doesn't overlap with, otherwise it starts a new one. Packed
+   * attestations that a new aggregate is a superset of are dropped first, so the packing doesn't
+   * depend on whether a subset arrives before its superset. It is rebuilt from scratch whenever
+   * {@link #includedValidators} changes.
+   *
+   * <p>Guarded by {@link #incrementalPackingLock}, which may be acquired while holding {@link
+   * #writeLock} but never the other way around.
+   */
+  private final List<IncrementalAggregate> incrementalPacking = new ArrayList<>();
+
+  /** Union of {@link #includedValidators} and all bits in {@link #incrementalPacking}. */
+  private AttestationBits incrementalPackingCoverage;
+
+  private final Object incrementalPackingLock = new Object();
+
   public MatchingDataAttestationGroupV2(
       final Spec spec,
       final LongSupplier nanosSupplier,
       final AttestationData attestationData,
       final Optional<Int2IntMap> committeesSize) {
+    this(spec, nanosSupplier, attestationData, committeesSize, false);
+  }
+
+  public MatchingDataAttestationGroupV2(
+      final Spec spec,
+      final LongSupplier nanosSupplier,
+      final AttestationData attestationData,
+      final Optional<Int2IntMap> committeesSize,
+      final boolean incrementalPackingEnabled) {
     this.spec = spec;
     this.attestationData = attestationData;
     this.committeesSize = committeesSize;
     this.includedValidators = createEmptyAttestationBits();
     this.nanosSupplier = nanosSupplier;
+    this.incrementalPackingEnabled = incrementalPackingEnabled;
+    this.incrementalPackingCoverage = createEmptyAttestationBits();
   }
 
   private AttestationBits createEmptyAttestationBits() {
@@ -202,7 +240,60 @@ public class MatchingDataAttestationGroupV2 {
             attestation.bits().getBitCount(), __ -> ConcurrentHashMap.newKeySet());
 
     // .add() on the ConcurrentHashMap.KeySetView is thread-safe
-    return attestations.add(attestation);
+    final boolean added = attestations.add(attestation);
+    if (added && incrementalPackingEnabled) {
+      synchronized (incrementalPackingLock) {
+        addToIncrementalPacking(attestation);
+      }
+    }
+    return added;
+  }
+
+  /**
+   * Streams the aggregates maintained by incremental packing. Unlike {@link
+   * #streamAggregatesForBlockProduction(long)} no aggregation work is done here, so the result
+   * doesn't depend on how much time is left for block production.
+   */
+  public Stream<PooledAttestationWithData> streamIncrementalAggregatesForBlockProduction() {
+    checkState(incrementalPackingEnabled, "Incremental packing is not enabled");
+    final List<PooledAttestation> aggregates;
+    synchronized (incrementalPackingLock) {
+      aggregates = incrementalPacking.stream().map(IncrementalAggregate::getAggregate).toList();
+    }
+    return aggregates.stream()
+        .map(aggregate -> new PooledAttestationWithData(attestationData, aggregate));
+  }
+
+  private void addToIncrementalPacking(final PooledAttestation attestation) {
+    // Assumes called while holding incrementalPackingLock
+    if (incrementalPackingCoverage.isSuperSetOf(attestation)) {
+      return;
+    }
+    incrementalPackingCoverage.or(attestation.bits());
+    incrementalPacking.removeIf(aggregate -> aggregate.removeCoveredBy(attestation.bits()));
+    for (final IncrementalAggregate aggregate : incrementalPacking) {
+      if (aggregate.aggregate(attestation)) {
+        return;
+      }
+    }
+    final IncrementalAggregate aggregate = new IncrementalAggregate();
+    aggregate.aggregate(attestation);
+    incrementalPacking.add(aggregate);
+  }
+
+  private void rebuildIncrementalPacking() {
+    // Assumes called under write lock
+    if (!incrementalPackingEnabled) {
+      return;
+    }
+    synchronized (incrementalPackingLock) {
+      incrementalPacking.clear();
+      incrementalPackingCoverage = includedValidators.copy();
+      // most validators first, as the from-scratch aggregation does
+      aggregatedAttestationsByValidatorCount.values().stream()
+          .flatMap(Set::stream)
+          .forEach(this::addToIncrementalPacking);
+    }
   }
 
   /**
@@ -347,6 +438,8 @@ public class MatchingDataAttestationGroupV2 {
           .entrySet()
           .removeIf(entry -> pruneSupersededPooledAttestations(entry.getValue()));
 
+      rebuildIncrementalPacking();
+
       return sizeBefore - size();
     } finally {
       writeLock.unlock();
@@ -373,6 +466,8 @@ public class MatchingDataAttestationGroupV2 {
       // Recalculate includedValidators as validators may have been seen in multiple blocks
       includedValidators = createEmptyAttestationBits();
       includedValidatorsBySlot.values().forEach(includedValidators::or);
+
+      rebuildIncrementalPacking();
     } finally {
       writeLock.unlock();
     }
@@ -530,6 +625,46 @@ public class MatchingDataAttestationGroupV2 {
     }
   }
 
+  /** An aggregate built by incremental packing, caching its aggregated signature. */
+  private static class IncrementalAggregate {
+    private AggregateAttestationBuilder builder = new AggregateAttestationBuilder(true);
+    private PooledAttestation aggregate;
+
+    boolean aggregate(final PooledAttestation attestation) {
+      if (builder.aggregate(attestation)) {
+        aggregate = null;
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Removes the attestations that {@code bits} is a superset of.
+     *
+     * @return true if no attestations are left in this aggregate
+     */
+    boolean removeCoveredBy(final AttestationBits bits) {
+      final Collection<PooledAttestation> included = builder.getIncludedAttestations();
+      final List<PooledAttestation> remaining =
+          included.stream().filter(attestation -> !bits.isSuperSetOf(attestation)).toList();
+      if (remaining.size() == included.size()) {
+        return false;
+      }
+      // remaining attestations don't overlap, so they all aggregate again
+      builder = new AggregateAttestationBuilder(true);
+      remaining.forEach(builder::aggregate);
+      aggregate = null;
+      return remaining.isEmpty();
+    }
+
+    PooledAttestation getAggregate() {
+      if (aggregate == null) {
+        aggregate = builder.buildAggregate();
+      }
+      return aggregate;
+    }
+  }
+
   private static BooleanSupplier createTimeLimitChecker(
       final LongSupplier nanosSupplier, final long timeLimitNanos) {
     if (timeLimitNanos == Long.MAX_VALUE) {
@@ -23,6 +23,7 @@ import java.util.BitSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
+import tech.pegasys.teku.infrastructure.ssz.collections.LongBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
 import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
@@ -37,7 +38,7 @@ class AttestationBitsElectra implements AttestationBits {
   private final SszBitvectorSchema<?> committeeBitsSchema;
   private final Int2IntMap committeesSize;
 
-  private Int2ObjectMap<BitSet> committeeAggregationBitsMap;
+  private Int2ObjectMap<LongBitlist> committeeAggregationBitsMap;
   private BitSet committeeBits;
 
   private SszBitlist cachedAggregationSszBits = null;
@@ -59,7 +60,7 @@ class AttestationBitsElectra implements AttestationBits {
       final SszBitlistSchema<?> aggregationBitsSchema,
       final SszBitvectorSchema<?> committeeBitsSchema,
       final Int2IntMap committeesSize,
-      final Int2ObjectMap<BitSet> committeeAggregationBitsMap,
+      final Int2ObjectMap<LongBitlist> committeeAggregationBitsMap,
       final BitSet committeeBits) {
     this.aggregationBitsSchema = aggregationBitsSchema;
     this.committeeBitsSchema = committeeBitsSchema;
@@ -79,11 +80,11 @@ class AttestationBitsElectra implements AttestationBits {
     return new AttestationBitsElectra(emptyAggregationBits, emptyCommitteeBits, committeesSize);
   }
 
-  private static Int2ObjectMap<BitSet> parseAggregationBits(
+  private static Int2ObjectMap<LongBitlist> parseAggregationBits(
       final SszBitlist aggregationBits,
       final BitSet committeeIndices,
       final Int2IntMap committeesSizeMap) {
-    final Int2ObjectMap<BitSet> result = new Int2ObjectOpenHashMap<>();
+    final Int2ObjectMap<LongBitlist> result = new Int2ObjectOpenHashMap<>();
 
     int currentOffset = 0;
     for (int committeeIndex = committeeIndices.nextSetBit(0);
@@ -95,8 +96,8 @@ class AttestationBitsElectra implements AttestationBits {
         throw new IllegalArgumentException(
             "Committee size for committee " + committeeIndex + " not found");
       }
-      final BitSet committeeBits =
-          aggregationBits.getAsBitSet(currentOffset, currentOffset + committeeSize);
+      final LongBitlist committeeBits =
+          LongBitlist.fromSszBitlist(aggregationBits, currentOffset, currentOffset + committeeSize);
       result.put(committeeIndex, committeeBits);
       currentOffset += committeeSize;
     }
@@ -128,24 +129,24 @@ class AttestationBitsElectra implements AttestationBits {
   @Override
   public void or(final Attestation other) {
     final BitSet otherCommitteeBits = other.getCommitteeBitsRequired().getAsBitSet();
-    final Int2ObjectMap<BitSet> otherParsedAggregationMap =
+    final Int2ObjectMap<LongBitlist> otherParsedAggregationMap =
         parseAggregationBits(other.getAggregationBits(), otherCommitteeBits, this.committeesSize);
     performMerge(otherCommitteeBits, otherParsedAggregationMap, false);
   }
 
-  private static Int2ObjectMap<BitSet> cloneCommitteeAggregationBitsMap(
-      final Int2ObjectMap<BitSet> committeeAggregationBitsMap) {
-    final Int2ObjectMap<BitSet> clonedMap = new Int2ObjectOpenHashMap<>();
-    for (final Int2ObjectMap.Entry<BitSet> entry :
+  private static Int2ObjectMap<LongBitlist> cloneCommitteeAggregationBitsMap(
+      final Int2ObjectMap<LongBitlist> committeeAggregationBitsMap) {
+    final Int2ObjectMap<LongBitlist> clonedMap = new Int2ObjectOpenHashMap<>();
+    for (final Int2ObjectMap.Entry<LongBitlist> entry :
         committeeAggregationBitsMap.int2ObjectEntrySet()) {
-      clonedMap.put(entry.getIntKey(), (BitSet) entry.getValue().clone());
+      clonedMap.put(entry.getIntKey(), entry.getValue().copy());
     }
     return clonedMap;
   }
 
   private boolean aggregateWithSingleAttestation(
       final int otherCommitteeBit, final int otherAggregationBit) {
-    final BitSet thisAggregationBitsForCommittee =
+    final LongBitlist thisAggregationBitsForCommittee =
         committeeAggregationBitsMap.get(otherCommitteeBit);
 
     if (thisAggregationBitsForCommittee != null
@@ -158,11 +159,12 @@ class AttestationBitsElectra implements AttestationBits {
       // committee present, just add the aggregation bit
       thisAggregationBitsForCommittee.set(otherAggregationBit);
     } else {
-      // committee is not present, set the committee bit and create a new BitSet for aggregation
+      // committee is not present, set the committee bit and create a new bitlist for aggregation
       // bits
 
       this.committeeBits.set(otherCommitteeBit);
-      final BitSet newAggregationBits = new BitSet(committeesSize.get(otherCommitteeBit));
+      final LongBitlist newAggregationBits =
+          LongBitlist.create(committeesSize.get(otherCommitteeBit));
       newAggregationBits.set(otherAggregationBit);
       committeeAggregationBitsMap.put(otherCommitteeBit, newAggregationBits);
     }
@@ -173,12 +175,12 @@ class AttestationBitsElectra implements AttestationBits {
 
   private boolean performMerge(
       final BitSet otherCommitteeBits,
-      final Int2ObjectMap<BitSet> otherCommitteeAggregationBitsMap,
+      final Int2ObjectMap<LongBitlist> otherCommitteeAggregationBitsMap,
       final boolean isAggregation) {
     final BitSet mergedCommitteeBits = (BitSet) this.committeeBits.clone();
     mergedCommitteeBits.or(otherCommitteeBits);
 
-    final Int2ObjectMap<BitSet> targetAggregationBitsMap;
+    final Int2ObjectMap<LongBitlist> targetAggregationBitsMap;
 
     if (isAggregation) {
       // If aggregating, we need to work on copies
@@ -196,17 +198,17 @@ class AttestationBitsElectra implements AttestationBits {
       final boolean inOther = otherCommitteeBits.get(committeeIndex);
 
       if (inThis && inOther) {
-        final BitSet otherAggregationBitsForCommittee =
+        final LongBitlist otherAggregationBitsForCommittee =
             otherCommitteeAggregationBitsMap.get(committeeIndex);
-        final BitSet targetAggregationBitsForCommittee =
+        final LongBitlist targetAggregationBitsForCommittee =
             targetAggregationBitsMap.get(committeeIndex);
 
         if (isAggregation) {
           // For intersection check, use the original bits of 'this'
-          final BitSet thisAggregationBitsForCommittee =
+          final LongBitlist thisAggregationBitsForCommittee =
               this.committeeAggregationBitsMap.get(committeeIndex);
           if (thisAggregationBitsForCommittee != null
-              && thisAggregationBitsForCommittee.intersects(otherAggregationBitsForCommittee)) {
+              && !thisAggregationBitsForCommittee.isDisjoint(otherAggregationBitsForCommittee)) {
             return false;
           }
         }
@@ -215,9 +217,10 @@ class AttestationBitsElectra implements AttestationBits {
 
       } else if (inOther) {
         // Committee only in 'other'.
-        final BitSet otherDataForCommittee = otherCommitteeAggregationBitsMap.get(committeeIndex);
+        final LongBitlist otherDataForCommittee =
+            otherCommitteeAggregationBitsMap.get(committeeIndex);
 
-        targetAggregationBitsMap.put(committeeIndex, (BitSet) otherDataForCommittee.clone());
+        targetAggregationBitsMap.put(committeeIndex, otherDataForCommittee.copy());
       }
       // Committee only in 'this', do nothing.
     }
@@ -257,7 +260,7 @@ class AttestationBitsElectra implements AttestationBits {
 
   private boolean isSuperSetOfSingleAttestation(
       final int otherCommitteeBit, final int otherAggregationBit) {
-    final BitSet thisAggregationBitsForCommittee =
+    final LongBitlist thisAggregationBitsForCommittee =
         committeeAggregationBitsMap.get(otherCommitteeBit);
 
     if (thisAggregationBitsForCommittee == null) {
@@ -269,7 +272,7 @@ class AttestationBitsElectra implements AttestationBits {
 
   private boolean isSuperSetOf(
       final BitSet otherCommitteeBits,
-      final Supplier<Int2ObjectMap<BitSet>> otherCommitteeAggregationBitsMapSupplier) {
+      final Supplier<Int2ObjectMap<LongBitlist>> otherCommitteeAggregationBitsMapSupplier) {
 
     final BitSet committeeIntersection = (BitSet) this.committeeBits.clone();
     committeeIntersection.and(otherCommitteeBits);
@@ -277,16 +280,16 @@ class AttestationBitsElectra implements AttestationBits {
       return false;
     }
 
-    final Int2ObjectMap<BitSet> otherCommitteeAggregationBitsMap =
+    final Int2ObjectMap<LongBitlist> otherCommitteeAggregationBitsMap =
         otherCommitteeAggregationBitsMapSupplier.get();
 
     for (int committeeIndex = otherCommitteeBits.nextSetBit(0);
         committeeIndex >= 0;
         committeeIndex = otherCommitteeBits.nextSetBit(committeeIndex + 1)) {
 
-      final BitSet thisAggregationBitsForCommittee =
+      final LongBitlist thisAggregationBitsForCommittee =
           this.committeeAggregationBitsMap.get(committeeIndex);
-      final BitSet otherAggregationBitsForCommittee =
+      final LongBitlist otherAggregationBitsForCommittee =
           otherCommitteeAggregationBitsMap.get(committeeIndex);
 
       if (thisAggregationBitsForCommittee == null) {
@@ -296,9 +299,7 @@ class AttestationBitsElectra implements AttestationBits {
         continue;
       }
 
-      final BitSet otherBitsNotInThis = (BitSet) otherAggregationBitsForCommittee.clone();
-      otherBitsNotInThis.andNot(thisAggregationBitsForCommittee);
-      if (!otherBitsNotInThis.isEmpty()) {
+      if (!thisAggregationBitsForCommittee.isSuperSetOf(otherAggregationBitsForCommittee)) {
         return false;
       }
     }
@@ -324,7 +325,7 @@ class AttestationBitsElectra implements AttestationBits {
     final BitSet combinedAggregationBits = new BitSet(totalBitlistSize);
     int currentOffset = 0;
     for (final int committeeIndex : committeeIndicesInOrder) {
-      final BitSet committeeBitsData = this.committeeAggregationBitsMap.get(committeeIndex);
+      final LongBitlist committeeBitsData = this.committeeAggregationBitsMap.get(committeeIndex);
       final int committeeSize = this.committeesSize.getOrDefault(committeeIndex, 0);
 
       if (committeeBitsData != null && committeeSize > 0) {
@@ -378,7 +379,7 @@ class AttestationBitsElectra implements AttestationBits {
 
   @Override
   public int getBitCount() {
-    return committeeAggregationBitsMap.values().stream().mapToInt(BitSet::cardinality).sum();
+    return committeeAggregationBitsMap.values().stream().mapToInt(LongBitlist::popcount).sum();
   }
 
   @Override
@@ -406,9 +407,9 @@ class AttestationBitsElectra implements AttestationBits {
   public String toString() {
     long totalSetBits = 0;
     if (committeeAggregationBitsMap != null) {
-      for (final BitSet bitSet : committeeAggregationBitsMap.values()) {
-        if (bitSet != null) {
-          totalSetBits += bitSet.cardinality();
+      for (final LongBitlist bitlist : committeeAggregationBitsMap.values()) {
+        if (bitlist != null) {
+          totalSetBits += bitlist.popcount();
         }
       }
     }
@@ -17,17 +17,33 @@ import com.google.common.base.MoreObjects;
 import it.unimi.dsi.fastutil.ints.Int2IntMap;
 import java.util.Objects;
 import java.util.stream.IntStream;
+import tech.pegasys.teku.infrastructure.ssz.collections.LongBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitvector;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
 import tech.pegasys.teku.spec.datastructures.operations.Attestation;
 import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
 import tech.pegasys.teku.statetransition.attestation.PooledAttestation;
 
 class AttestationBitsPhase0 implements AttestationBits {
-  private SszBitlist aggregationBits;
+  private final SszBitlistSchema<?> aggregationBitsSchema;
+  private final LongBitlist aggregationBits;
+
+  private SszBitlist cachedAggregationSszBits;
 
   AttestationBitsPhase0(final SszBitlist aggregationBits) {
+    this.aggregationBitsSchema = aggregationBits.getSchema();
+    this.aggregationBits = LongBitlist.fromSszBitlist(aggregationBits);
+    this.cachedAggregationSszBits = aggregationBits;
+  }
+
+  private AttestationBitsPhase0(
+      final SszBitlistSchema<?> aggregationBitsSchema,
+      final LongBitlist aggregationBits,
+      final SszBitlist cachedAggregationSszBits) {
+    this.aggregationBitsSchema = aggregationBitsSchema;
     this.aggregationBits = aggregationBits;
+    this.cachedAggregationSszBits = cachedAggregationSszBits;
   }
 
   static AttestationBits fromAttestationSchema(final AttestationSchema<?> attestationSchema) {
@@ -37,22 +53,39 @@ class AttestationBitsPhase0 implements AttestationBits {
   @Override
   public void or(final AttestationBits other) {
     final AttestationBitsPhase0 otherPhase0 = requiresPhase0(other);
-    aggregationBits = aggregationBits.or(otherPhase0.aggregationBits);
+    or(otherPhase0.aggregationBits);
   }
 
   @Override
   public boolean aggregateWith(final PooledAttestation other) {
     final AttestationBitsPhase0 otherPhase0 = requiresPhase0(other.bits());
-    if (aggregationBits.intersects(otherPhase0.aggregationBits)) {
+    checkSize(otherPhase0.aggregationBits);
+    if (!aggregationBits.orIfDisjoint(otherPhase0.aggregationBits)) {
       return false;
     }
-    aggregationBits = aggregationBits.or(otherPhase0.aggregationBits);
+    cachedAggregationSszBits = null;
     return true;
   }
 
   @Override
   public void or(final Attestation other) {
-    aggregationBits = aggregationBits.or(other.getAggregationBits());
+    or(LongBitlist.fromSszBitlist(other.getAggregationBits()));
+  }
+
+  private void or(final LongBitlist other) {
+    checkSize(other);
+    aggregationBits.or(other);
+    cachedAggregationSszBits = null;
+  }
+
+  private void checkSize(final LongBitlist other) {
+    if (other.size() > aggregationBits.size()) {
+      throw new IllegalArgumentException(
+          "Argument bitfield size is greater: "
+              + other.size()
+              + " > "
+              + aggregationBits.size());
+    }
   }
 
   @Override
@@ -68,7 +101,10 @@ class AttestationBitsPhase0 implements AttestationBits {
 
   @Override
   public SszBitlist getAggregationSszBits() {
-    return aggregationBits;
+    if (cachedAggregationSszBits == null) {
+      cachedAggregationSszBits = aggregationBits.toSszBitlist(aggregationBitsSchema);
+    }
+    return cachedAggregationSszBits;
   }
 
   @Override
@@ -88,12 +124,13 @@ class AttestationBitsPhase0 implements AttestationBits {
 
   @Override
   public AttestationBits copy() {
-    return new AttestationBitsPhase0(aggregationBits);
+    return new AttestationBitsPhase0(
+        aggregationBitsSchema, aggregationBits.copy(), cachedAggregationSszBits);
   }
 
   @Override
   public int getBitCount() {
-    return aggregationBits.getBitCount();
+    return aggregationBits.popcount();
   }
 
   @Override
@@ -14,6 +14,7 @@
 package tech.pegasys.teku.statetransition.datacolumns.retriever;
 
 import java.util.List;
+import java.util.OptionalLong;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -25,4 +26,9 @@ public interface BatchDataColumnsByRootReqResp {
       UInt256 nodeId, List<DataColumnsByRootIdentifier> byRootIdentifiers);
 
   int getCurrentRequestLimit(UInt256 nodeId);
+
+  /** Throughput measured for the node so far, empty if it hasn't been measured yet. */
+  default OptionalLong getThroughputBytesPerSecond(final UInt256 nodeId) {
+    return OptionalLong.empty();
+  }
 }
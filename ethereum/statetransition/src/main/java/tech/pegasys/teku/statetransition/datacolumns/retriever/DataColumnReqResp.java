@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.statetransition.datacolumns.retriever;
 
+import java.util.OptionalLong;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -27,6 +28,11 @@ public interface DataColumnReqResp {
 
   int getCurrentRequestLimit(UInt256 nodeId);
 
+  /** Throughput measured for the node so far, empty if it hasn't been measured yet. */
+  default OptionalLong getThroughputBytesPerSecond(final UInt256 nodeId) {
+    return OptionalLong.empty();
+  }
+
   class DataColumnReqRespException extends RuntimeException {}
 
   class DasColumnNotAvailableException extends DataColumnReqRespException {}
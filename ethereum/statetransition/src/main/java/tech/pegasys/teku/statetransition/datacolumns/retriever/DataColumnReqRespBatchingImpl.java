@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -254,4 +255,9 @@ public class DataColumnReqRespBatchingImpl implements DataColumnReqResp {
   public int getCurrentRequestLimit(final UInt256 nodeId) {
     return byRangeRpc.getCurrentRequestLimit(nodeId);
   }
+
+  @Override
+  public OptionalLong getThroughputBytesPerSecond(final UInt256 nodeId) {
+    return byRootRpc.getThroughputBytesPerSecond(nodeId);
+  }
 }
@@ -145,13 +145,18 @@ public class SimpleSidecarRetriever
     final Collection<ConnectedPeer> matchingPeers =
         findMatchingPeers(request, ongoingRequestsTracker);
 
-    // taking first the peers which were not requested yet, then peers which are less busy
+    // taking first the peers which were not requested yet, then peers which are less busy, and
+    // only then the fastest peers (unmeasured peers first so they get measured), so throughput
+    // breaks ties instead of piling every request onto the single fastest peer
     final Comparator<ConnectedPeer> comparator =
         Comparator.comparing((ConnectedPeer peer) -> request.getPeerRequestCount(peer.nodeId))
             .reversed()
             .thenComparing(
                 (ConnectedPeer peer) ->
-                    ongoingRequestsTracker.getAvailableRequestCount(peer.nodeId));
+                    ongoingRequestsTracker.getAvailableRequestCount(peer.nodeId))
+            .thenComparing(
+                (ConnectedPeer peer) ->
+                    reqResp.getThroughputBytesPerSecond(peer.nodeId).orElse(Long.MAX_VALUE));
     return matchingPeers.stream().max(comparator);
   }
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadContext;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
+import tech.pegasys.teku.spec.executionlayer.PayloadBuildingAttributes;
+
+/**
+ * Requests the execution payload of an upcoming local proposal shortly before its slot starts, so
+ * that block production doesn't wait for engine_getPayload once the validator client asks for the
+ * block.
+ *
+ * <p>Only the payload id returned by the latest forkchoiceUpdated call is prefetched. If the head
+ * changes afterward, block production obtains a different {@link ExecutionPayloadContext} and the
+ * prefetched payload is ignored.
+ *
+ * <p>Proposers with a validator registration use the builder flow, which requests the local payload
+ * itself, so their payloads are not prefetched. The execution client may stop improving a payload
+ * once it has been requested, so the lead time should be kept short. The prefetched payload is
+ * discarded once the lead time has passed after the slot start, so that a later block production
+ * requests the payload again instead of using an older one.
+ */
+public class ExecutionPayloadPrefetcher implements ForkChoiceUpdatedResultSubscriber {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final AsyncRunner asyncRunner;
+  private final TimeProvider timeProvider;
+  private final ProposersDataManager proposersDataManager;
+  private final ExecutionLayerBlockProductionManager executionLayerBlockProductionManager;
+  private final long leadTimeMillis;
+
+  private final AtomicReference<ExecutionPayloadContext> latestContext = new AtomicReference<>();
+
+  public ExecutionPayloadPrefetcher(
+      final AsyncRunner asyncRunner,
+      final TimeProvider timeProvider,
+      final ProposersDataManager proposersDataManager,
+      final ExecutionLayerBlockProductionManager executionLayerBlockProductionManager,
+      final Duration leadTime) {
+    this.asyncRunner = asyncRunner;
+    this.timeProvider = timeProvider;
+    this.proposersDataManager = proposersDataManager;
+    this.executionLayerBlockProductionManager = executionLayerBlockProductionManager;
+    this.leadTimeMillis = leadTime.toMillis();
+  }
+
+  @Override
+  public void onForkChoiceUpdatedResult(
+      final ForkChoiceUpdatedResultNotification forkChoiceUpdatedResultNotification) {
+    forkChoiceUpdatedResultNotification
+        .payloadAttributes()
+        .filter(payloadAttributes -> payloadAttributes.getValidatorRegistration().isEmpty())
+        .filter(
+            payloadAttributes ->
+                proposersDataManager.validatorIsConnected(
+                    payloadAttributes.getProposerIndex(), payloadAttributes.getProposalSlot()))
+        .ifPresent(
+            payloadAttributes ->
+                forkChoiceUpdatedResultNotification
+                    .forkChoiceUpdatedResultFuture()
+                    .thenAccept(
+                        result ->
+                            result
+                                .getPayloadId()
+                                .ifPresent(
+                                    payloadId ->
+                                        schedulePrefetch(
+                                            new ExecutionPayloadContext(
+                                                payloadId,
+                                                forkChoiceUpdatedResultNotification
+                                                    .forkChoiceState(),
+                                                payloadAttributes))))
+                    .finish(
+                        error ->
+                            LOG.debug(
+                                "Not prefetching payload for slot {}",
+                                payloadAttributes.getProposalSlot(),
+                                error)));
+  }
+
+  private void schedulePrefetch(final ExecutionPayloadContext context) {
+    latestContext.set(context);
+    final PayloadBuildingAttributes payloadAttributes = context.getPayloadBuildingAttributes();
+    final UInt64 slotStartTimeMillis = payloadAttributes.getTimestamp().times(1000);
+    if (timeProvider.getTimeInMillis().isGreaterThanOrEqualTo(slotStartTimeMillis)) {
+      // block production is already under way and will request the payload itself
+      return;
+    }
+    asyncRunner
+        .runAfterDelay(
+            () -> prefetchIfLatest(context, slotStartTimeMillis),
+            delayUntil(slotStartTimeMillis.minusMinZero(leadTimeMillis)))
+        .finish(
+            error ->
+                LOG.warn(
+                    "Failed to prefetch execution payload for slot {}",
+                    payloadAttributes.getProposalSlot(),
+                    error));
+  }
+
+  private void prefetchIfLatest(
+      final ExecutionPayloadContext context, final UInt64 slotStartTimeMillis) {
+    if (latestContext.get() != context) {
+      return;
+    }
+    executionLayerBlockProductionManager.prefetchPayload(context);
+    asyncRunner
+        .runAfterDelay(
+            () -> executionLayerBlockProductionManager.discardPrefetchedPayload(context),
+            delayUntil(slotStartTimeMillis.plus(leadTimeMillis)))
+        .ifExceptionGetsHereRaiseABug();
+  }
+
+  private Duration delayUntil(final UInt64 timeMillis) {
+    return Duration.ofMillis(timeMillis.minusMinZero(timeProvider.getTimeInMillis()).longValue());
+  }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.lightclient;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.collections.LimitedMap;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.SpecMilestone;
+import tech.pegasys.teku.spec.config.SpecConfigAltair;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.blockbody.versions.altair.SyncAggregate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientBootstrap;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.LightClientUtil;
+import tech.pegasys.teku.statetransition.block.ReceivedBlockEventsChannel;
+import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.LightClientUpdateChannel;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+/**
+ * Produces light client data while blocks are imported so the light client API can serve it
+ * without regenerating states.
+ *
+ * <p>Every imported block carrying a sync aggregate yields an update built from its parent's post
+ * state, which is still cached at that point. The best update of each sync committee period is
+ * persisted, while the latest finality and optimistic updates and the bootstraps of recent
+ * finalized checkpoints, which is where light clients start syncing from, are kept in memory.
+ *
+ * <p>Only updates whose attested block is canonical are produced and served. A stored update whose
+ * attested block is reorged out is replaced by the next canonical update for its period regardless
+ * of ranking. This is best effort: the update that would have ranked best on the new chain may have
+ * been skipped while its fork was not canonical.
+ *
+ * <p>Light client containers in this tree only have the Altair layout, whose proof depths no longer
+ * match the state from Electra onwards, so no data is produced for those slots.
+ */
+public class LightClientDataProducer
+    implements ReceivedBlockEventsChannel, FinalizedCheckpointChannel {
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int BOOTSTRAP_CACHE_SIZE = 64;
+  private static final int BEST_UPDATE_CACHE_SIZE = 4;
+
+  private final Spec spec;
+  private final CombinedChainDataClient combinedChainDataClient;
+  private final LightClientUpdateChannel lightClientUpdateChannel;
+  private final AsyncRunner asyncRunner;
+
+  private final Map<Bytes32, LightClientBootstrap> bootstrapsByBlockRoot =
+      LimitedMap.createSynchronizedLRU(BOOTSTRAP_CACHE_SIZE);
+  private final Map<UInt64, LightClientUpdate> bestUpdatesByPeriod =
+      LimitedMap.createSynchronizedLRU(BEST_UPDATE_CACHE_SIZE);
+  private volatile Optional<LightClientUpdate> latestFinalityUpdate = Optional.empty();
+  private volatile Optional<LightClientUpdate> latestOptimisticUpdate = Optional.empty();
+
+  public LightClientDataProducer(
+      final Spec spec,
+      final CombinedChainDataClient combinedChainDataClient,
+      final LightClientUpdateChannel lightClientUpdateChannel,
+      final AsyncRunner asyncRunner) {
+    this.spec = spec;
+    this.combinedChainDataClient = combinedChainDataClient;
+    this.lightClientUpdateChannel = lightClientUpdateChannel;
+    this.asyncRunner = asyncRunner;
+  }
+
+  public Optional<LightClientBootstrap> getBootstrap(final Bytes32 blockRoot) {
+    return Optional.ofNullable(bootstrapsByBlockRoot.get(blockRoot));
+  }
+
+  public SafeFuture<Optional<LightClientUpdate>> getBestUpdate(final UInt64 syncCommitteePeriod) {
+    return getStoredBestUpdate(syncCommitteePeriod)
+        .thenApply(maybeUpdate -> maybeUpdate.filter(this::isCanonical));
+  }
+
+  public Optional<LightClientFinalityUpdate> getLatestFinalityUpdate() {
+    return latestFinalityUpdate
+        .filter(this::isCanonical)
+        .map(
+            update ->
+                spec.getLightClientUtilRequired(getAttestedSlot(update))
+                    .createLightClientFinalityUpdate(update));
+  }
+
+  public Optional<LightClientOptimisticUpdate> getLatestOptimisticUpdate() {
+    return latestOptimisticUpdate
+        .filter(this::isCanonical)
+        .map(
+            update ->
+                spec.getLightClientUtilRequired(getAttestedSlot(update))
+                    .createLightClientOptimisticUpdate(update));
+  }
+
+  @Override
+  public void onBlockValidated(final SignedBeaconBlock block) {}
+
+  @Override
+  public void onBlockImported(final SignedBeaconBlock block, final boolean executionOptimistic) {
+    final Optional<LightClientUtil> maybeLightClientUtil = getLightClientUtil(block.getSlot());
+    final Optional<SyncAggregate> maybeSyncAggregate =
+        block.getMessage().getBody().getOptionalSyncAggregate();
+    if (maybeLightClientUtil.isEmpty()
+        || maybeSyncAggregate.isEmpty()
+        || maybeSyncAggregate.get().getSyncCommitteeBits().getBitCount()
+            < SpecConfigAltair.required(spec.atSlot(block.getSlot()).getConfig())
+                .getMinSyncCommitteeParticipants()) {
+      return;
+    }
+    final LightClientUtil lightClientUtil = maybeLightClientUtil.get();
+    combinedChainDataClient
+        .getStateByBlockRoot(block.getParentRoot())
+        .thenCompose(
+            maybeAttestedState ->
+                maybeAttestedState
+                    .filter(state -> getLightClientUtil(state.getSlot()).isPresent())
+                    .map(
+                        attestedState ->
+                            getFinalizedHeader(attestedState)
+                                .thenCompose(
+                                    finalizedHeader ->
+                                        asyncRunner.runAsync(
+                                            () ->
+                                                Optional.of(
+                                                    lightClientUtil.createLightClientUpdate(
+                                                        attestedState,
+                                                        finalizedHeader,
+                                                        maybeSyncAggregate.get(),
+                                                        block.getSlot())))))
+                    .orElseGet(() -> SafeFuture.completedFuture(Optional.empty())))
+        .thenCompose(
+            maybeUpdate ->
+                maybeUpdate
+                    .filter(this::isCanonical)
+                    .map(update -> onLightClientUpdate(lightClientUtil, update))
+                    .orElse(SafeFuture.COMPLETE))
+        .finish(error -> LOG.warn("Failed to produce light client update", error));
+  }
+
+  @Override
+  public void onNewFinalizedCheckpoint(
+      final Checkpoint checkpoint, final boolean fromOptimisticBlock) {
+    final Bytes32 blockRoot = checkpoint.getRoot();
+    if (bootstrapsByBlockRoot.containsKey(blockRoot)) {
+      return;
+    }
+    combinedChainDataClient
+        .getStateByBlockRoot(blockRoot)
+        .thenCompose(
+            maybeState ->
+                asyncRunner.runAsync(
+                    () -> maybeState.ifPresent(state -> createBootstrap(blockRoot, state))))
+        .finish(error -> LOG.warn("Failed to produce light client bootstrap", error));
+  }
+
+  private void createBootstrap(final Bytes32 blockRoot, final BeaconState state) {
+    getLightClientUtil(state.getSlot())
+        .ifPresent(
+            lightClientUtil ->
+                bootstrapsByBlockRoot.put(
+                    blockRoot, lightClientUtil.getLightClientBootstrap(state)));
+  }
+
+  private Optional<LightClientUtil> getLightClientUtil(final UInt64 slot) {
+    if (spec.atSlot(slot).getMilestone().isGreaterThanOrEqualTo(SpecMilestone.ELECTRA)) {
+      return Optional.empty();
+    }
+    return spec.getLightClientUtil(slot);
+  }
+
+  private boolean isCanonical(final LightClientUpdate update) {
+    final BeaconBlockHeader attestedHeader = update.getAttestedHeader().getBeacon();
+    return combinedChainDataClient
+        .getBestBlockRoot()
+        .map(
+            headRoot ->
+                combinedChainDataClient.isCanonicalBlock(
+                    attestedHeader.getSlot(), attestedHeader.hashTreeRoot(), headRoot))
+        .orElse(false);
+  }
+
+  private SafeFuture<Optional<LightClientUpdate>> getStoredBestUpdate(
+      final UInt64 syncCommitteePeriod) {
+    final LightClientUpdate cached = bestUpdatesByPeriod.get(syncCommitteePeriod);
+    if (cached != null) {
+      return SafeFuture.completedFuture(Optional.of(cached));
+    }
+    return combinedChainDataClient.getLightClientUpdate(syncCommitteePeriod);
+  }
+
+  private SafeFuture<Optional<BeaconBlockHeader>> getFinalizedHeader(
+      final BeaconState attestedState) {
+    final Bytes32 finalizedRoot = attestedState.getFinalizedCheckpoint().getRoot();
+    if (finalizedRoot.isZero()) {
+      return SafeFuture.completedFuture(Optional.empty());
+    }
+    return combinedChainDataClient
+        .getBlockByBlockRoot(finalizedRoot)
+        .thenApply(
+            maybeBlock -> maybeBlock.map(block -> BeaconBlockHeader.fromBlock(block.getMessage())));
+  }
+
+  private SafeFuture<Void> onLightClientUpdate(
+      final LightClientUtil lightClientUtil, final LightClientUpdate update) {
+    updateLatest(lightClientUtil, update);
+    final UInt64 period = lightClientUtil.getAttestedSyncCommitteePeriod(update);
+    return getStoredBestUpdate(period)
+        .thenAccept(
+            maybeBest -> {
+              synchronized (this) {
+                final Optional<LightClientUpdate> best =
+                    Optional.ofNullable(bestUpdatesByPeriod.get(period)).or(() -> maybeBest);
+                // A best update that was reorged out is replaced whatever its ranking
+                if (best.isPresent()
+                    && isCanonical(best.get())
+                    && !lightClientUtil.isBetterUpdate(update, best.get())) {
+                  bestUpdatesByPeriod.putIfAbsent(period, best.get());
+                  return;
+                }
+                bestUpdatesByPeriod.put(period, update);
+                // Published while holding the lock so stores are applied in the same order
+                lightClientUpdateChannel.onLightClientUpdate(period, update);
+              }
+            });
+  }
+
+  private synchronized void updateLatest(
+      final LightClientUtil lightClientUtil, final LightClientUpdate update) {
+    if (shouldReplaceLatest(latestOptimisticUpdate, update)) {
+      latestOptimisticUpdate = Optional.of(update);
+    }
+    if (lightClientUtil.isFinalityUpdate(update)
+        && shouldReplaceLatest(latestFinalityUpdate, update)) {
+      latestFinalityUpdate = Optional.of(update);
+    }
+  }
+
+  private boolean shouldReplaceLatest(
+      final Optional<LightClientUpdate> maybeLatest, final LightClientUpdate update) {
+    return maybeLatest
+        .map(
+            latest ->
+                getAttestedSlot(update).isGreaterThan(getAttestedSlot(latest))
+                    || !isCanonical(latest))
+        .orElse(true);
+  }
+
+  private static UInt64 getAttestedSlot(final LightClientUpdate update) {
+    return update.getAttestedHeader().getBeacon().getSlot();
+  }
+}
@@ -183,6 +183,35 @@ public class AggregatingAttestationPoolV2Test extends AggregatingAttestationPool
             aggregateAttestations(committeeSizes, attestationBestAggregate, singleAttestation));
   }
 
+  @TestTemplate
+  public void getAttestationsForBlock_incrementalPackingShouldNotDependOnAggregationTimeLimit() {
+    assumeThat(specMilestone).isGreaterThanOrEqualTo(ELECTRA);
+
+    // by passing 0 as maxBlockAggregationTimeMillis we give no time to aggregate
+    aggregatingPool =
+        new AggregatingAttestationPoolV2(
+            mockSpec,
+            mockRecentChainData,
+            new NoOpMetricsSystem(),
+            10,
+            System::nanoTime,
+            RewardBasedAttestationSorterFactory.NOOP,
+            0,
+            Integer.MAX_VALUE,
+            true);
+
+    final AttestationData attestationData = createAttestationData(ZERO);
+
+    final Attestation attestationBestAggregate =
+        addAttestationFromValidators(attestationData, 1, 2, 3, 4);
+    final Attestation attestationAggregate = addAttestationFromValidators(attestationData, 1, 2, 5);
+
+    final BeaconState stateAtBlockSlot = dataStructureUtil.randomBeaconState();
+
+    assertThat(aggregatingPool.getAttestationsForBlock(stateAtBlockSlot, forkChecker))
+        .containsExactlyInAnyOrder(attestationBestAggregate, attestationAggregate);
+  }
+
   @TestTemplate
   public void getAttestationsForBlock_shouldRespectSorter() {
     var attestations =
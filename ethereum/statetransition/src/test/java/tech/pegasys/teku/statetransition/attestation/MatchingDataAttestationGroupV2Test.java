@@ -401,6 +401,83 @@ class MatchingDataAttestationGroupV2Test {
                 ValidatableAttestation.from(spec, expected, committeeSizes))));
   }
 
+  // --- Tests for streamIncrementalAggregatesForBlockProduction ---
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_aggregatesNonOverlapping() {
+    enableIncrementalPacking();
+    final PooledAttestation att1 = addPooledAttestation(1, 2);
+    final PooledAttestation att2 = addPooledAttestation(3, 4);
+    final Attestation expected =
+        aggregateAttestations(committeeSizes, toAttestation(att1), toAttestation(att2));
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(
+            PooledAttestation.fromValidatableAttestation(
+                ValidatableAttestation.from(spec, expected, committeeSizes))));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_keepsOverlappingSeparate() {
+    enableIncrementalPacking();
+    final PooledAttestation att1 = addPooledAttestation(1, 2, 3, 4);
+    final PooledAttestation att2 = addPooledAttestation(1, 2, 5);
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(att1), toPooledAttestationWithData(att2));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_shouldOmitRedundantAttestations() {
+    enableIncrementalPacking();
+    final PooledAttestation aggregate = addPooledAttestation(1, 2, 3, 4);
+    addPooledAttestation(2, 3);
+
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(aggregate));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_shouldReplaceSubsetReceivedFirst() {
+    enableIncrementalPacking();
+    addPooledAttestation(1, 2);
+    final PooledAttestation aggregate = addPooledAttestation(1, 2, 3, 4);
+
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(aggregate));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_shouldRepackWhenSubsetReplaced() {
+    enableIncrementalPacking();
+    addPooledAttestation(1, 2);
+    final PooledAttestation att1 = addPooledAttestation(5, 6);
+    final PooledAttestation att2 = addPooledAttestation(1, 2, 3, 4);
+    final Attestation expected =
+        aggregateAttestations(committeeSizes, toAttestation(att1), toAttestation(att2));
+
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(
+            PooledAttestation.fromValidatableAttestation(
+                ValidatableAttestation.from(spec, expected, committeeSizes))));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_shouldRebuildWhenIncludedInBlock() {
+    enableIncrementalPacking();
+    final PooledAttestation att1 = addPooledAttestation(1, 2);
+    final PooledAttestation att2 = addPooledAttestation(3, 4);
+
+    group.onAttestationIncludedInBlock(UInt64.ONE, toAttestation(att1));
+
+    verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+        toPooledAttestationWithData(att2));
+  }
+
+  @TestTemplate
+  void streamIncrementalAggregatesForBlockProduction_shouldFailWhenNotEnabled() {
+    assertThatThrownBy(() -> group.streamIncrementalAggregatesForBlockProduction())
+        .isInstanceOf(IllegalStateException.class);
+  }
+
   // --- Tests for streamStreamSingleAttestationsForBlockProduction ---
 
   @TestTemplate
@@ -682,6 +759,15 @@ class MatchingDataAttestationGroupV2Test {
         .containsExactly(expectedAttestations);
   }
 
+  void verifyStreamIncrementalAggregatesForBlockProductionContainsExactly(
+      final PooledAttestationWithData... expectedAttestations) {
+    assertThat(
+            group
+                .streamIncrementalAggregatesForBlockProduction()
+                .map(this::toPooledAttestationWithDataWithSortedValidatorIndices))
+        .containsExactly(expectedAttestations);
+  }
+
   void verifyStreamSingleAttestationsForBlockProductionContainsExactly(
       final PooledAttestationWithData... expectedAttestations) {
     assertThat(
@@ -716,6 +802,12 @@ class MatchingDataAttestationGroupV2Test {
             attestation.pooledAttestation().isSingleAttestation()));
   }
 
+  private void enableIncrementalPacking() {
+    group =
+        new MatchingDataAttestationGroupV2(
+            spec, nanoSupplier, attestationData, Optional.of(committeeSizes), true);
+  }
+
   private PooledAttestation addPooledAttestation(final int... validators) {
     return addPooledAttestation(Optional.empty(), validators);
   }
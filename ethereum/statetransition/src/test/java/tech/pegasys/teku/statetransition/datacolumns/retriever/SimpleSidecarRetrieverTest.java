@@ -211,6 +211,52 @@ public class SimpleSidecarRetrieverTest {
     assertThat(allRequestCountsFunc.get()).isEqualTo(List.of(0, 1, 2, 2));
   }
 
+  @Test
+  void selectingBestPeerShouldPreferFasterPeerWhenEquallyBusy() {
+    final TestPeer slowPeer =
+        new TestPeer(stubAsyncRunner, custodyNodeIds.next(), Duration.ofMillis(100))
+            .currentRequestLimit(1000)
+            .throughputBytesPerSecond(10_000);
+    final TestPeer fastPeer =
+        new TestPeer(stubAsyncRunner, custodyNodeIds.next(), Duration.ofMillis(100))
+            .currentRequestLimit(1000)
+            .throughputBytesPerSecond(1_000_000);
+    testPeerManager.connectPeer(slowPeer);
+    testPeerManager.connectPeer(fastPeer);
+
+    final DataColumnSlotAndIdentifier id0 =
+        new DataColumnSlotAndIdentifier(UInt64.ONE, Bytes32.ZERO, columnIndex);
+    simpleSidecarRetriever.retrieve(id0).finish(err -> LOG.error("Error retrieving sidecar", err));
+
+    advanceTimeGradually(retrieverRound);
+
+    assertThat(fastPeer.getRequests()).hasSize(1);
+    assertThat(slowPeer.getRequests()).isEmpty();
+  }
+
+  @Test
+  void selectingBestPeerShouldPreferLessBusyPeerOverFasterPeer() {
+    final TestPeer freeSlowPeer =
+        new TestPeer(stubAsyncRunner, custodyNodeIds.next(), Duration.ofMillis(100))
+            .currentRequestLimit(1000)
+            .throughputBytesPerSecond(10_000);
+    final TestPeer busyFastPeer =
+        new TestPeer(stubAsyncRunner, custodyNodeIds.next(), Duration.ofMillis(100))
+            .currentRequestLimit(10)
+            .throughputBytesPerSecond(1_000_000);
+    testPeerManager.connectPeer(freeSlowPeer);
+    testPeerManager.connectPeer(busyFastPeer);
+
+    final DataColumnSlotAndIdentifier id0 =
+        new DataColumnSlotAndIdentifier(UInt64.ONE, Bytes32.ZERO, columnIndex);
+    simpleSidecarRetriever.retrieve(id0).finish(err -> LOG.error("Error retrieving sidecar", err));
+
+    advanceTimeGradually(retrieverRound);
+
+    assertThat(freeSlowPeer.getRequests()).hasSize(1);
+    assertThat(busyFastPeer.getRequests()).isEmpty();
+  }
+
   @Test
   void cancellingRequestShouldRemoveItFromPending() {
     final TestPeer custodyPeer =
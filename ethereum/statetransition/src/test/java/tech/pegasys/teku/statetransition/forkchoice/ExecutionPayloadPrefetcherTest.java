@@ -0,0 +1,196 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.forkchoice;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.bytes.Bytes8;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayloadContext;
+import tech.pegasys.teku.spec.executionlayer.ExecutionLayerBlockProductionManager;
+import tech.pegasys.teku.spec.executionlayer.ForkChoiceState;
+import tech.pegasys.teku.spec.executionlayer.ForkChoiceUpdatedResult;
+import tech.pegasys.teku.spec.executionlayer.PayloadBuildingAttributes;
+import tech.pegasys.teku.spec.executionlayer.PayloadStatus;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceUpdatedResultSubscriber.ForkChoiceUpdatedResultNotification;
+
+class ExecutionPayloadPrefetcherTest {
+  private static final UInt64 PROPOSAL_SLOT = UInt64.valueOf(10);
+  private static final UInt64 SLOT_START_TIME = UInt64.valueOf(120);
+
+  private final Spec spec = TestSpecFactory.createMinimalCapella();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(110);
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner(timeProvider);
+  private final ProposersDataManager proposersDataManager = mock(ProposersDataManager.class);
+  private final ExecutionLayerBlockProductionManager blockProductionManager =
+      mock(ExecutionLayerBlockProductionManager.class);
+
+  private final ExecutionPayloadPrefetcher prefetcher =
+      new ExecutionPayloadPrefetcher(
+          asyncRunner,
+          timeProvider,
+          proposersDataManager,
+          blockProductionManager,
+          Duration.ofMillis(500));
+
+  private final ForkChoiceState forkChoiceState = dataStructureUtil.randomForkChoiceState(false);
+  private final PayloadBuildingAttributes payloadAttributes =
+      new PayloadBuildingAttributes(
+          UInt64.ONE,
+          PROPOSAL_SLOT,
+          SLOT_START_TIME,
+          dataStructureUtil.randomBytes32(),
+          dataStructureUtil.randomEth1Address(),
+          Optional.empty(),
+          Optional.empty(),
+          dataStructureUtil.randomBytes32());
+
+  @BeforeEach
+  void setUp() {
+    when(proposersDataManager.validatorIsConnected(UInt64.ONE, PROPOSAL_SLOT)).thenReturn(true);
+  }
+
+  @Test
+  void shouldPrefetchPayloadBeforeProposalSlot() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+
+    prefetcher.onForkChoiceUpdatedResult(notification(Optional.of(payloadAttributes), payloadId));
+
+    timeProvider.advanceTimeByMillis(9_499);
+    asyncRunner.executeDueActions();
+    verifyNoInteractions(blockProductionManager);
+
+    timeProvider.advanceTimeByMillis(1);
+    asyncRunner.executeDueActions();
+    verify(blockProductionManager).prefetchPayload(context(payloadId));
+  }
+
+  @Test
+  void shouldDiscardPrefetchedPayloadOnceLeadTimeIntoSlotPassed() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+
+    prefetcher.onForkChoiceUpdatedResult(notification(Optional.of(payloadAttributes), payloadId));
+
+    timeProvider.advanceTimeByMillis(9_500);
+    asyncRunner.executeDueActions();
+    verify(blockProductionManager).prefetchPayload(context(payloadId));
+
+    timeProvider.advanceTimeByMillis(999);
+    asyncRunner.executeDueActions();
+    verify(blockProductionManager, never()).discardPrefetchedPayload(any());
+
+    timeProvider.advanceTimeByMillis(1);
+    asyncRunner.executeDueActions();
+    verify(blockProductionManager).discardPrefetchedPayload(context(payloadId));
+  }
+
+  @Test
+  void shouldNotPrefetchWhenBuilderFlowIsUsed() {
+    final PayloadBuildingAttributes builderPayloadAttributes =
+        new PayloadBuildingAttributes(
+            UInt64.ONE,
+            PROPOSAL_SLOT,
+            SLOT_START_TIME,
+            dataStructureUtil.randomBytes32(),
+            dataStructureUtil.randomEth1Address(),
+            Optional.of(dataStructureUtil.randomSignedValidatorRegistration()),
+            Optional.empty(),
+            dataStructureUtil.randomBytes32());
+
+    prefetcher.onForkChoiceUpdatedResult(
+        notification(Optional.of(builderPayloadAttributes), dataStructureUtil.randomBytes8()));
+
+    timeProvider.advanceTimeBySeconds(10);
+    asyncRunner.executeDueActions();
+    verifyNoInteractions(blockProductionManager);
+  }
+
+  @Test
+  void shouldOnlyPrefetchLatestPayloadId() {
+    final Bytes8 payloadId = dataStructureUtil.randomBytes8();
+    final Bytes8 latestPayloadId = dataStructureUtil.randomBytes8();
+
+    prefetcher.onForkChoiceUpdatedResult(notification(Optional.of(payloadAttributes), payloadId));
+    prefetcher.onForkChoiceUpdatedResult(
+        notification(Optional.of(payloadAttributes), latestPayloadId));
+
+    timeProvider.advanceTimeBySeconds(10);
+    asyncRunner.executeDueActions();
+    verify(blockProductionManager).prefetchPayload(context(latestPayloadId));
+    verify(blockProductionManager, never()).prefetchPayload(context(payloadId));
+  }
+
+  @Test
+  void shouldNotPrefetchWithoutPayloadAttributes() {
+    prefetcher.onForkChoiceUpdatedResult(
+        notification(Optional.empty(), dataStructureUtil.randomBytes8()));
+
+    timeProvider.advanceTimeBySeconds(10);
+    asyncRunner.executeDueActions();
+    verifyNoInteractions(blockProductionManager);
+  }
+
+  @Test
+  void shouldNotPrefetchForProposerNotConnected() {
+    when(proposersDataManager.validatorIsConnected(any(), any())).thenReturn(false);
+
+    prefetcher.onForkChoiceUpdatedResult(
+        notification(Optional.of(payloadAttributes), dataStructureUtil.randomBytes8()));
+
+    timeProvider.advanceTimeBySeconds(10);
+    asyncRunner.executeDueActions();
+    verifyNoInteractions(blockProductionManager);
+  }
+
+  @Test
+  void shouldNotPrefetchOnceProposalSlotStarted() {
+    timeProvider.advanceTimeBySeconds(10);
+
+    prefetcher.onForkChoiceUpdatedResult(
+        notification(Optional.of(payloadAttributes), dataStructureUtil.randomBytes8()));
+
+    asyncRunner.executeDueActions();
+    verifyNoInteractions(blockProductionManager);
+  }
+
+  private ExecutionPayloadContext context(final Bytes8 payloadId) {
+    return new ExecutionPayloadContext(payloadId, forkChoiceState, payloadAttributes);
+  }
+
+  private ForkChoiceUpdatedResultNotification notification(
+      final Optional<PayloadBuildingAttributes> payloadAttributes, final Bytes8 payloadId) {
+    return new ForkChoiceUpdatedResultNotification(
+        forkChoiceState,
+        payloadAttributes,
+        false,
+        SafeFuture.completedFuture(
+            new ForkChoiceUpdatedResult(PayloadStatus.VALID, Optional.of(payloadId))));
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.statetransition.lightclient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.infrastructure.async.SyncAsyncRunner.SYNC_RUNNER;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientFinalityUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientOptimisticUpdate;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.logic.common.util.LightClientUtil;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.api.LightClientUpdateChannel;
+import tech.pegasys.teku.storage.client.CombinedChainDataClient;
+
+public class LightClientDataProducerTest {
+  private static final UInt64 PERIOD = UInt64.ZERO;
+
+  private final Spec spec = TestSpecFactory.createMinimalAltair();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final LightClientUtil lightClientUtil = spec.getLightClientUtilRequired(UInt64.ZERO);
+  private final CombinedChainDataClient combinedChainDataClient =
+      mock(CombinedChainDataClient.class);
+  private final LightClientUpdateChannel lightClientUpdateChannel =
+      mock(LightClientUpdateChannel.class);
+  private final Bytes32 headRoot = dataStructureUtil.randomBytes32();
+
+  private final LightClientDataProducer producer =
+      new LightClientDataProducer(
+          spec, combinedChainDataClient, lightClientUpdateChannel, SYNC_RUNNER);
+
+  @BeforeEach
+  void setUp() {
+    when(combinedChainDataClient.getBestBlockRoot()).thenReturn(Optional.of(headRoot));
+    when(combinedChainDataClient.isCanonicalBlock(any(), any(), any())).thenReturn(true);
+    when(combinedChainDataClient.getLightClientUpdate(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+    when(combinedChainDataClient.getBlockByBlockRoot(any()))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+  }
+
+  @Test
+  void onBlockImported_shouldPublishFirstUpdateOfPeriod() {
+    final BeaconState attestedState = createAttestedState(1);
+
+    importBlock(attestedState, 3);
+
+    final LightClientUpdate best = getBestUpdate();
+    assertThat(best.getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(attestedState));
+    assertThat(best.getSyncAggregate().getSyncCommitteeBits().getBitCount()).isEqualTo(3);
+    verify(lightClientUpdateChannel).onLightClientUpdate(PERIOD, best);
+  }
+
+  @Test
+  void onBlockImported_shouldPublishBetterUpdatesInOrder() {
+    final BeaconState attestedState = createAttestedState(1);
+
+    importBlock(attestedState, 3);
+    final LightClientUpdate first = getBestUpdate();
+    importBlock(attestedState, 5);
+    final LightClientUpdate second = getBestUpdate();
+
+    assertThat(second.getSyncAggregate().getSyncCommitteeBits().getBitCount()).isEqualTo(5);
+    final InOrder inOrder = inOrder(lightClientUpdateChannel);
+    inOrder.verify(lightClientUpdateChannel).onLightClientUpdate(PERIOD, first);
+    inOrder.verify(lightClientUpdateChannel).onLightClientUpdate(PERIOD, second);
+  }
+
+  @Test
+  void onBlockImported_shouldKeepBestUpdateWhenNewUpdateIsWorse() {
+    final BeaconState attestedState = createAttestedState(1);
+
+    importBlock(attestedState, 5);
+    final LightClientUpdate best = getBestUpdate();
+    importBlock(attestedState, 3);
+
+    assertThat(getBestUpdate()).isEqualTo(best);
+    verify(lightClientUpdateChannel).onLightClientUpdate(eq(PERIOD), any());
+  }
+
+  @Test
+  void onBlockImported_shouldKeepStoredBestUpdateWhenNewUpdateIsWorse() {
+    final BeaconState attestedState = createAttestedState(1);
+    final LightClientUpdate stored =
+        lightClientUtil.createLightClientUpdate(
+            attestedState,
+            Optional.empty(),
+            dataStructureUtil.randomSyncAggregate(IntStream.range(0, 22).toArray()),
+            UInt64.valueOf(2));
+    when(combinedChainDataClient.getLightClientUpdate(PERIOD))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(stored)));
+
+    importBlock(attestedState, 3);
+
+    assertThat(getBestUpdate()).isEqualTo(stored);
+    verify(lightClientUpdateChannel, never()).onLightClientUpdate(any(), any());
+  }
+
+  @Test
+  void onBlockImported_shouldReplaceBestUpdateWhenItIsNoLongerCanonical() {
+    final BeaconState reorgedState = createAttestedState(1);
+    importBlock(reorgedState, 5);
+    markNonCanonical(reorgedState);
+
+    final BeaconState canonicalState = createAttestedState(2);
+    importBlock(canonicalState, 3);
+
+    final LightClientUpdate best = getBestUpdate();
+    assertThat(best.getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(canonicalState));
+    verify(lightClientUpdateChannel).onLightClientUpdate(PERIOD, best);
+  }
+
+  @Test
+  void onBlockImported_shouldIgnoreUpdateWithNonCanonicalAttestedBlock() {
+    final BeaconState attestedState = createAttestedState(1);
+    markNonCanonical(attestedState);
+
+    importBlock(attestedState, 3);
+
+    assertThat(producer.getBestUpdate(PERIOD)).isCompletedWithValue(Optional.empty());
+    assertThat(producer.getLatestOptimisticUpdate()).isEmpty();
+    verifyNoInteractions(lightClientUpdateChannel);
+  }
+
+  @Test
+  void getBestUpdate_shouldNotReturnUpdateThatIsNoLongerCanonical() {
+    final BeaconState attestedState = createAttestedState(1);
+    importBlock(attestedState, 3);
+
+    markNonCanonical(attestedState);
+
+    assertThat(producer.getBestUpdate(PERIOD)).isCompletedWithValue(Optional.empty());
+  }
+
+  @Test
+  void getLatestUpdates_shouldReturnLatestAttestedUpdate() {
+    importBlock(createAttestedState(1), 3);
+    final BeaconState latestState = createAttestedState(2);
+    importBlock(latestState, 3);
+
+    final Optional<LightClientOptimisticUpdate> optimisticUpdate =
+        producer.getLatestOptimisticUpdate();
+    assertThat(optimisticUpdate).isPresent();
+    assertThat(optimisticUpdate.get().getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(latestState));
+
+    final Optional<LightClientFinalityUpdate> finalityUpdate = producer.getLatestFinalityUpdate();
+    assertThat(finalityUpdate).isPresent();
+    assertThat(finalityUpdate.get().getAttestedHeader().getBeacon())
+        .isEqualTo(BeaconBlockHeader.fromState(latestState));
+  }
+
+  @Test
+  void getLatestUpdates_shouldNotReturnUpdateThatIsNoLongerCanonical() {
+    final BeaconState attestedState = createAttestedState(1);
+    importBlock(attestedState, 3);
+
+    markNonCanonical(attestedState);
+
+    assertThat(producer.getLatestOptimisticUpdate()).isEmpty();
+    assertThat(producer.getLatestFinalityUpdate()).isEmpty();
+  }
+
+  @Test
+  void onNewFinalizedCheckpoint_shouldCacheBootstrap() {
+    final BeaconState state = createAttestedState(8);
+    final Bytes32 blockRoot = dataStructureUtil.randomBytes32();
+    when(combinedChainDataClient.getStateByBlockRoot(blockRoot))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(state)));
+
+    final Checkpoint checkpoint = new Checkpoint(UInt64.ONE, blockRoot);
+    producer.onNewFinalizedCheckpoint(checkpoint, false);
+    producer.onNewFinalizedCheckpoint(checkpoint, false);
+
+    assertThat(producer.getBootstrap(blockRoot))
+        .contains(lightClientUtil.getLightClientBootstrap(state));
+    verify(combinedChainDataClient).getStateByBlockRoot(blockRoot);
+  }
+
+  @Test
+  void onBlockImported_shouldSkipElectraBlocks() {
+    final Spec electraSpec = TestSpecFactory.createMinimalWithElectraForkEpoch(UInt64.ONE);
+    final DataStructureUtil electraDataStructureUtil = new DataStructureUtil(electraSpec);
+    final LightClientDataProducer electraProducer =
+        new LightClientDataProducer(
+            electraSpec, combinedChainDataClient, lightClientUpdateChannel, SYNC_RUNNER);
+    final UInt64 slot = electraSpec.computeStartSlotAtEpoch(UInt64.ONE);
+    final SignedBeaconBlock block =
+        electraDataStructureUtil.signedBlock(
+            electraDataStructureUtil.randomBeaconBlock(
+                slot,
+                electraDataStructureUtil.randomBeaconBlockBody(
+                    slot,
+                    builder ->
+                        builder.syncAggregate(
+                            electraDataStructureUtil.randomSyncAggregate(0, 1, 2)))));
+
+    electraProducer.onBlockImported(block, false);
+
+    verify(combinedChainDataClient, never()).getStateByBlockRoot(any());
+    verifyNoInteractions(lightClientUpdateChannel);
+  }
+
+  private BeaconState createAttestedState(final long slot) {
+    // Finalized at genesis so every update carries a finality proof
+    return dataStructureUtil
+        .stateBuilderAltair()
+        .slot(UInt64.valueOf(slot))
+        .finalizedCheckpoint(new Checkpoint(UInt64.ZERO, Bytes32.ZERO))
+        .build();
+  }
+
+  private void importBlock(final BeaconState attestedState, final int participants) {
+    final UInt64 slot = attestedState.getSlot().increment();
+    final SignedBeaconBlock block =
+        dataStructureUtil.signedBlock(
+            dataStructureUtil.randomBeaconBlock(
+                slot,
+                dataStructureUtil.randomBeaconBlockBody(
+                    slot,
+                    builder ->
+                        builder.syncAggregate(
+                            dataStructureUtil.randomSyncAggregate(
+                                IntStream.range(0, participants).toArray())))));
+    when(combinedChainDataClient.getStateByBlockRoot(block.getParentRoot()))
+        .thenReturn(SafeFuture.completedFuture(Optional.of(attestedState)));
+    producer.onBlockImported(block, false);
+  }
+
+  private void markNonCanonical(final BeaconState attestedState) {
+    when(combinedChainDataClient.isCanonicalBlock(
+            attestedState.getSlot(),
+            BeaconBlockHeader.fromState(attestedState).hashTreeRoot(),
+            headRoot))
+        .thenReturn(false);
+  }
+
+  private LightClientUpdate getBestUpdate() {
+    return producer.getBestUpdate(PERIOD).join().orElseThrow();
+  }
+}
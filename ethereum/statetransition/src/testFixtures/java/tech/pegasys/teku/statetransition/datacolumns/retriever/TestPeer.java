@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -36,6 +37,7 @@ public class TestPeer {
   private final Map<DataColumnIdentifier, DataColumnSidecar> availableSidecars = new HashMap<>();
   private final List<Request> requests = new ArrayList<>();
   private int currentRequestLimit = 1000;
+  private OptionalLong throughputBytesPerSecond = OptionalLong.empty();
 
   public TestPeer(final AsyncRunner asyncRunner, final UInt256 nodeId, final Duration latency) {
     this.asyncRunner = asyncRunner;
@@ -95,4 +97,13 @@ public class TestPeer {
     this.currentRequestLimit = currentRequestLimit;
     return this;
   }
+
+  public OptionalLong getThroughputBytesPerSecond() {
+    return throughputBytesPerSecond;
+  }
+
+  public TestPeer throughputBytesPerSecond(final long throughputBytesPerSecond) {
+    this.throughputBytesPerSecond = OptionalLong.of(throughputBytesPerSecond);
+    return this;
+  }
 }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.statetransition.datacolumns.retriever;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.OptionalLong;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
@@ -61,6 +62,12 @@ public class TestPeerManager implements DataColumnPeerManager, DataColumnReqResp
     }
   }
 
+  @Override
+  public OptionalLong getThroughputBytesPerSecond(final UInt256 nodeId) {
+    final TestPeer peer = connectedPeers.get(nodeId);
+    return peer == null ? OptionalLong.empty() : peer.getThroughputBytesPerSecond();
+  }
+
   @Override
   public void addPeerListener(final PeerListener listener) {
     dataColumnPeerManagerStub.addPeerListener(listener);
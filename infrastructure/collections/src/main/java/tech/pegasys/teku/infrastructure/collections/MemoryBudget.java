@@ -0,0 +1,159 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A memory budget shared by several {@link WeightedLimitedMap} instances.
+ *
+ * <p>Each map reports the estimated retained size of its entries to the budget. Whenever the
+ * combined size exceeds the budget, the least recently used entry across all maps is evicted until
+ * it fits again, so caches with large entries give way to caches which are actively used instead of
+ * each cache being sized for its worst case.
+ *
+ * <p>The budget only holds weak references to its maps. Once a map is garbage collected, the size
+ * of the entries it still held is released from the budget.
+ */
+public class MemoryBudget {
+  private final long maxBytes;
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private final AtomicLong accessCounter = new AtomicLong();
+  private final List<MapReference> maps = new CopyOnWriteArrayList<>();
+  private final ReferenceQueue<WeightedLimitedMap<?, ?>> collectedMaps = new ReferenceQueue<>();
+
+  public MemoryBudget(final long maxBytes) {
+    checkArgument(maxBytes > 0, "Memory budget must be positive");
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Creates a map which evicts the least recently accessed items when it exceeds {@code maxSize}
+   * entries or when the budget is exceeded. The same concurrency rules as {@link
+   * LimitedMap#createSynchronizedLRU(int)} apply.
+   */
+  public <K, V> WeightedLimitedMap<K, V> createSynchronizedLRU(
+      final int maxSize, final ToLongFunction<V> weigher) {
+    return createSynchronizedLRU(maxSize, weigher, (key, value) -> {});
+  }
+
+  /**
+   * Creates a map like {@link #createSynchronizedLRU(int, ToLongFunction)} which passes evicted
+   * entries to {@code evictionListener}. The listener may insert into other maps of this budget.
+   */
+  public <K, V> WeightedLimitedMap<K, V> createSynchronizedLRU(
+      final int maxSize,
+      final ToLongFunction<V> weigher,
+      final BiConsumer<K, V> evictionListener) {
+    return register(new WeightedLimitedMap<>(this, maxSize, true, weigher, evictionListener));
+  }
+
+  /**
+   * Creates a map which evicts the oldest inserted items when it exceeds {@code maxSize} entries or
+   * when the budget is exceeded. The same concurrency rules as {@link
+   * LimitedMap#createSynchronizedNatural(int)} apply.
+   */
+  public <K, V> WeightedLimitedMap<K, V> createSynchronizedNatural(
+      final int maxSize, final ToLongFunction<V> weigher) {
+    return register(new WeightedLimitedMap<>(this, maxSize, false, weigher, (key, value) -> {}));
+  }
+
+  <K, V> WeightedLimitedMap<K, V> register(final WeightedLimitedMap<K, V> map) {
+    releaseCollectedMaps();
+    maps.add(new MapReference(map, collectedMaps));
+    return map;
+  }
+
+  public long getMaxBytes() {
+    return maxBytes;
+  }
+
+  public long getRetainedBytes() {
+    releaseCollectedMaps();
+    return retainedBytes.get();
+  }
+
+  long nextAccessTick() {
+    return accessCounter.incrementAndGet();
+  }
+
+  void adjustRetainedBytes(final long delta) {
+    retainedBytes.addAndGet(delta);
+  }
+
+  /**
+   * Evicts entries until the retained size is within the budget.
+   *
+   * <p>Must not be called while holding the monitor of any of the maps, as each map is locked in
+   * turn to find and evict the least recently used entry.
+   */
+  void enforce() {
+    releaseCollectedMaps();
+    if (retainedBytes.get() <= maxBytes) {
+      return;
+    }
+    synchronized (this) {
+      while (retainedBytes.get() > maxBytes) {
+        WeightedLimitedMap<?, ?> victim = null;
+        long oldestAccessTick = Long.MAX_VALUE;
+        for (final MapReference reference : maps) {
+          final WeightedLimitedMap<?, ?> map = reference.get();
+          if (map == null) {
+            continue;
+          }
+          final OptionalLong eldestAccessTick = map.getEldestAccessTick();
+          if (eldestAccessTick.isPresent() && eldestAccessTick.getAsLong() < oldestAccessTick) {
+            oldestAccessTick = eldestAccessTick.getAsLong();
+            victim = map;
+          }
+        }
+        if (victim == null) {
+          return;
+        }
+        victim.evictEldest();
+      }
+    }
+  }
+
+  private void releaseCollectedMaps() {
+    Reference<? extends WeightedLimitedMap<?, ?>> reference;
+    while ((reference = collectedMaps.poll()) != null) {
+      final MapReference collected = (MapReference) reference;
+      maps.remove(collected);
+      adjustRetainedBytes(-collected.retainedBytes.get());
+    }
+  }
+
+  private static class MapReference extends WeakReference<WeightedLimitedMap<?, ?>> {
+    // shared with the map so its size is still known after it has been collected
+    private final AtomicLong retainedBytes;
+
+    private MapReference(
+        final WeightedLimitedMap<?, ?> map,
+        final ReferenceQueue<WeightedLimitedMap<?, ?>> queue) {
+      super(map, queue);
+      this.retainedBytes = map.getRetainedBytesCounter();
+    }
+  }
+}
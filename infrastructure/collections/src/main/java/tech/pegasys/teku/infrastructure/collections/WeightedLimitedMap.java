@@ -0,0 +1,263 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.ToLongFunction;
+
+/**
+ * A limited map whose entries are also weighed against a shared {@link MemoryBudget}.
+ *
+ * <p>Entries are weighed when they are inserted and again on {@link #reweigh()}. Entries evicted
+ * because a limit was exceeded, but not those removed explicitly, are passed to the eviction
+ * listener after the map's monitor has been released. The map is safe for concurrent access
+ * <strong>except iteration</strong>, which requires synchronizing on the map instance, and must not
+ * be modified while holding its monitor.
+ */
+public final class WeightedLimitedMap<K, V> extends AbstractMap<K, V> implements LimitedMap<K, V> {
+  private final MemoryBudget budget;
+  private final int maxSize;
+  private final boolean accessOrder;
+  private final ToLongFunction<V> weigher;
+  private final BiConsumer<K, V> evictionListener;
+  private final LinkedHashMap<K, WeightedValue<V>> delegate;
+
+  // updated while holding the map's monitor, shared with the budget for when the map is collected
+  private final AtomicLong retainedBytes = new AtomicLong();
+  private long hitCount;
+  private long missCount;
+
+  WeightedLimitedMap(
+      final MemoryBudget budget,
+      final int maxSize,
+      final boolean accessOrder,
+      final ToLongFunction<V> weigher,
+      final BiConsumer<K, V> evictionListener) {
+    this.budget = budget;
+    this.maxSize = maxSize;
+    this.accessOrder = accessOrder;
+    this.weigher = weigher;
+    this.evictionListener = evictionListener;
+    this.delegate = new LinkedHashMap<>(16, 0.75f, accessOrder);
+  }
+
+  @Override
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  @Override
+  public synchronized int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public synchronized boolean containsKey(final Object key) {
+    return delegate.containsKey(key);
+  }
+
+  @Override
+  public synchronized V get(final Object key) {
+    final WeightedValue<V> weightedValue = delegate.get(key);
+    if (weightedValue == null) {
+      missCount++;
+      return null;
+    }
+    hitCount++;
+    if (accessOrder) {
+      weightedValue.accessTick = budget.nextAccessTick();
+    }
+    return weightedValue.value;
+  }
+
+  @Override
+  public V put(final K key, final V value) {
+    final WeightedValue<V> weightedValue =
+        new WeightedValue<>(value, weigher.applyAsLong(value), budget.nextAccessTick());
+    final WeightedValue<V> previous;
+    final List<Entry<K, V>> evicted = new ArrayList<>();
+    synchronized (this) {
+      previous = delegate.put(key, weightedValue);
+      adjustRetainedBytes(weightedValue.weight - (previous == null ? 0 : previous.weight));
+      while (delegate.size() > maxSize) {
+        evicted.add(removeEldest());
+      }
+    }
+    evicted.forEach(entry -> evictionListener.accept(entry.getKey(), entry.getValue()));
+    budget.enforce();
+    return previous == null ? null : previous.value;
+  }
+
+  @Override
+  public synchronized V remove(final Object key) {
+    final WeightedValue<V> removed = delegate.remove(key);
+    if (removed == null) {
+      return null;
+    }
+    adjustRetainedBytes(-removed.weight);
+    return removed.value;
+  }
+
+  @Override
+  public synchronized void clear() {
+    delegate.clear();
+    adjustRetainedBytes(-retainedBytes.get());
+  }
+
+  @Override
+  public Set<Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  @Override
+  public synchronized LimitedMap<K, V> copy() {
+    final WeightedLimitedMap<K, V> map =
+        budget.register(
+            new WeightedLimitedMap<>(budget, maxSize, accessOrder, weigher, evictionListener));
+    delegate.forEach(
+        (key, value) ->
+            map.delegate.put(
+                key, new WeightedValue<>(value.value, value.weight, value.accessTick)));
+    map.adjustRetainedBytes(retainedBytes.get());
+    return map;
+  }
+
+  /**
+   * Weighs every entry again, for when the weigher's result for values already in the map has
+   * changed. Entries replaced while they are being weighed keep the weight they were inserted with.
+   */
+  public void reweigh() {
+    final List<WeightedValue<V>> values;
+    synchronized (this) {
+      values = new ArrayList<>(delegate.values());
+    }
+    // weighed without holding the monitor as weighing may be expensive
+    final Map<WeightedValue<V>, Long> weights = new IdentityHashMap<>();
+    values.forEach(value -> weights.put(value, weigher.applyAsLong(value.value)));
+    synchronized (this) {
+      for (final WeightedValue<V> value : delegate.values()) {
+        final Long weight = weights.get(value);
+        if (weight != null) {
+          adjustRetainedBytes(weight - value.weight);
+          value.weight = weight;
+        }
+      }
+    }
+    budget.enforce();
+  }
+
+  /** Returns the estimated size retained by the entries of this map. */
+  public long getRetainedBytes() {
+    return retainedBytes.get();
+  }
+
+  AtomicLong getRetainedBytesCounter() {
+    return retainedBytes;
+  }
+
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  synchronized OptionalLong getEldestAccessTick() {
+    final Iterator<WeightedValue<V>> iterator = delegate.values().iterator();
+    return iterator.hasNext() ? OptionalLong.of(iterator.next().accessTick) : OptionalLong.empty();
+  }
+
+  /** Must not be called while holding this map's monitor. */
+  void evictEldest() {
+    final Entry<K, V> evicted;
+    synchronized (this) {
+      if (delegate.isEmpty()) {
+        return;
+      }
+      evicted = removeEldest();
+    }
+    evictionListener.accept(evicted.getKey(), evicted.getValue());
+  }
+
+  private Entry<K, V> removeEldest() {
+    final Iterator<Entry<K, WeightedValue<V>>> iterator = delegate.entrySet().iterator();
+    final Entry<K, WeightedValue<V>> eldest = iterator.next();
+    iterator.remove();
+    adjustRetainedBytes(-eldest.getValue().weight);
+    return Map.entry(eldest.getKey(), eldest.getValue().value);
+  }
+
+  private void adjustRetainedBytes(final long delta) {
+    retainedBytes.addAndGet(delta);
+    budget.adjustRetainedBytes(delta);
+  }
+
+  private static class WeightedValue<V> {
+    private final V value;
+    private long weight;
+    private long accessTick;
+
+    private WeightedValue(final V value, final long weight, final long accessTick) {
+      this.value = value;
+      this.weight = weight;
+      this.accessTick = accessTick;
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+    @Override
+    public int size() {
+      return WeightedLimitedMap.this.size();
+    }
+
+    @Override
+    public Iterator<Entry<K, V>> iterator() {
+      final Iterator<Entry<K, WeightedValue<V>>> iterator = delegate.entrySet().iterator();
+      return new Iterator<>() {
+        private WeightedValue<V> current;
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+          final Entry<K, WeightedValue<V>> next = iterator.next();
+          current = next.getValue();
+          return Map.entry(next.getKey(), current.value);
+        }
+
+        @Override
+        public void remove() {
+          iterator.remove();
+          adjustRetainedBytes(-current.weight);
+        }
+      };
+    }
+  }
+}
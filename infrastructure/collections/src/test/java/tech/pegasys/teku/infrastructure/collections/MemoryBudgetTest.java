@@ -0,0 +1,159 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class MemoryBudgetTest {
+  private final MemoryBudget budget = new MemoryBudget(100);
+
+  @Test
+  void shouldTrackRetainedBytes() {
+    final WeightedLimitedMap<Integer, Long> map = budget.createSynchronizedLRU(10, w -> w);
+    map.put(1, 10L);
+    map.put(2, 20L);
+    map.put(2, 30L);
+
+    assertThat(map.getRetainedBytes()).isEqualTo(40);
+    assertThat(budget.getRetainedBytes()).isEqualTo(40);
+
+    map.remove(1);
+    assertThat(budget.getRetainedBytes()).isEqualTo(30);
+
+    map.clear();
+    assertThat(budget.getRetainedBytes()).isZero();
+  }
+
+  @Test
+  void shouldStillLimitByEntryCount() {
+    final Map<Integer, Long> map = budget.createSynchronizedNatural(2, w -> w);
+    map.put(1, 1L);
+    map.put(2, 1L);
+    map.put(3, 1L);
+
+    assertThat(map).containsOnlyKeys(2, 3);
+    assertThat(budget.getRetainedBytes()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedEntryAcrossMaps() {
+    final Map<Integer, Long> blocks = budget.createSynchronizedLRU(10, w -> w);
+    final Map<Integer, Long> states = budget.createSynchronizedLRU(10, w -> w);
+    blocks.put(1, 30L);
+    states.put(1, 30L);
+    blocks.put(2, 30L);
+    // make the first state the most recently used entry
+    states.get(1);
+
+    states.put(2, 30L);
+
+    assertThat(blocks).containsOnlyKeys(2);
+    assertThat(states).containsOnlyKeys(1, 2);
+    assertThat(budget.getRetainedBytes()).isEqualTo(90);
+  }
+
+  @Test
+  void shouldEvictUntilWithinBudget() {
+    final Map<Integer, Long> map = budget.createSynchronizedLRU(10, w -> w);
+    map.put(1, 40L);
+    map.put(2, 40L);
+
+    map.put(3, 90L);
+
+    assertThat(map).containsOnlyKeys(3);
+    assertThat(budget.getRetainedBytes()).isEqualTo(90);
+  }
+
+  @Test
+  void shouldUpdateRetainedBytesWhenRemovingThroughViews() {
+    final WeightedLimitedMap<Integer, Long> map = budget.createSynchronizedLRU(10, w -> w);
+    map.put(1, 10L);
+    map.put(2, 20L);
+
+    map.keySet().removeIf(key -> key == 1);
+
+    assertThat(map).containsOnlyKeys(2);
+    assertThat(budget.getRetainedBytes()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotifyEvictedEntries() {
+    final Map<Integer, Long> evicted = new HashMap<>();
+    final Map<Integer, Long> map = budget.createSynchronizedLRU(2, w -> w, evicted::put);
+    map.put(1, 10L);
+    map.put(2, 10L);
+    map.remove(2);
+    // exceeds the budget
+    map.put(3, 95L);
+    map.put(4, 1L);
+    // exceeds the entry count
+    map.put(5, 1L);
+
+    assertThat(evicted).containsOnlyKeys(1, 3);
+    assertThat(map).containsOnlyKeys(4, 5);
+  }
+
+  @Test
+  void shouldCountHitsAndMisses() {
+    final WeightedLimitedMap<Integer, Long> map = budget.createSynchronizedLRU(10, w -> w);
+    map.put(1, 10L);
+
+    map.get(1);
+    map.get(1);
+    map.get(2);
+
+    assertThat(map.getHitCount()).isEqualTo(2);
+    assertThat(map.getMissCount()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldWeighCopiesAgainstBudget() {
+    final WeightedLimitedMap<Integer, Long> map = budget.createSynchronizedLRU(10, w -> w);
+    map.put(1, 10L);
+
+    final LimitedMap<Integer, Long> copy = map.copy();
+    copy.put(2, 20L);
+
+    assertThat(copy).containsOnlyKeys(1, 2);
+    assertThat(map).containsOnlyKeys(1);
+    assertThat(budget.getRetainedBytes()).isEqualTo(40);
+  }
+
+  @Test
+  void shouldReweighEntries() {
+    final AtomicLong multiplier = new AtomicLong(1);
+    final WeightedLimitedMap<Integer, Long> map =
+        budget.createSynchronizedLRU(10, w -> w * multiplier.get());
+    map.put(1, 10L);
+    map.put(2, 20L);
+
+    multiplier.set(2);
+    map.reweigh();
+
+    assertThat(map.getRetainedBytes()).isEqualTo(60);
+    assertThat(budget.getRetainedBytes()).isEqualTo(60);
+
+    multiplier.set(4);
+    map.reweigh();
+
+    // 40 + 80 exceeds the budget so the least recently used entry is evicted
+    assertThat(map).containsOnlyKeys(2);
+    assertThat(budget.getRetainedBytes()).isEqualTo(80);
+  }
+}
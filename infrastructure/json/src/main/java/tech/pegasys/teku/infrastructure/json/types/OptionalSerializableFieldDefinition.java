@@ -14,6 +14,8 @@
 package tech.pegasys.teku.infrastructure.json.types;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Objects;
@@ -23,6 +25,8 @@ import java.util.function.Function;
 class OptionalSerializableFieldDefinition<TObject, TField>
     implements SerializableFieldDefinition<TObject> {
   private final String name;
+  // Field names are encoded once rather than escaped and encoded again for every object written
+  private final SerializableString serializedName;
   private final Function<TObject, Optional<TField>> getter;
   private final SerializableTypeDefinition<TField> type;
 
@@ -31,6 +35,7 @@ class OptionalSerializableFieldDefinition<TObject, TField>
       final Function<TObject, Optional<TField>> getter,
       final SerializableTypeDefinition<TField> type) {
     this.name = name;
+    this.serializedName = new SerializedString(name);
     this.getter = getter;
     this.type = type;
   }
@@ -39,7 +44,7 @@ class OptionalSerializableFieldDefinition<TObject, TField>
   public void writeField(final TObject source, final JsonGenerator gen) throws IOException {
     final Optional<TField> maybeValue = getter.apply(source);
     if (maybeValue.isPresent()) {
-      gen.writeFieldName(name);
+      gen.writeFieldName(serializedName);
       type.serialize(maybeValue.get(), gen);
     }
   }
@@ -14,6 +14,8 @@
 package tech.pegasys.teku.infrastructure.json.types;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Objects;
@@ -22,6 +24,8 @@ import java.util.function.Function;
 class RequiredSerializableFieldDefinition<TObject, TField>
     implements SerializableFieldDefinition<TObject> {
   private final String name;
+  // Field names are encoded once rather than escaped and encoded again for every object written
+  private final SerializableString serializedName;
   private final Function<TObject, TField> getter;
   protected final SerializableTypeDefinition<TField> type;
 
@@ -30,13 +34,14 @@ class RequiredSerializableFieldDefinition<TObject, TField>
       final Function<TObject, TField> getter,
       final SerializableTypeDefinition<TField> type) {
     this.name = name;
+    this.serializedName = new SerializedString(name);
     this.getter = getter;
     this.type = type;
   }
 
   @Override
   public void writeField(final TObject source, final JsonGenerator gen) throws IOException {
-    gen.writeFieldName(name);
+    gen.writeFieldName(serializedName);
     type.serialize(getter.apply(source), gen);
   }
 
@@ -22,6 +22,8 @@ public enum ValidatorDutyMetricsSteps {
   // time taken excluding the queued time, to perform the create component of the duty
   CREATE("create"),
   SIGN("sign"),
+  // time from the first attestation data being available until all validators have signed
+  SIGN_ALL("sign_all"),
   SEND("send");
 
   private final String name;
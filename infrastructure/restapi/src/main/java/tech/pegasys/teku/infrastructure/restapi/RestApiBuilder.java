@@ -27,12 +27,15 @@ import io.javalin.util.JavalinLogger;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -42,10 +45,15 @@ import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointRequestLimiter;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.JavalinEndpointAdapter;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiEndpoint;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.RestApiRequestMetrics;
 import tech.pegasys.teku.infrastructure.restapi.openapi.OpenApiDocBuilder;
 
 public class RestApiBuilder {
@@ -65,6 +73,11 @@ public class RestApiBuilder {
   private Optional<Path> maybeKeystorePath = Optional.empty();
   private Optional<Path> maybePasswordPath = Optional.empty();
   private Optional<Path> passwordFilePath = Optional.empty();
+  private MetricsSystem metricsSystem = new NoOpMetricsSystem();
+  private boolean useVirtualThreads = false;
+  private OptionalInt maxConcurrentRequestsPerEndpoint = OptionalInt.empty();
+  private Duration maxRequestQueueTime = Duration.ZERO;
+  private final Set<String> priorityTags = new HashSet<>();
 
   public RestApiBuilder listenAddress(final String listenAddress) {
     this.listenAddress = listenAddress;
@@ -93,6 +106,34 @@ public class RestApiBuilder {
     return this;
   }
 
+  public RestApiBuilder metricsSystem(final MetricsSystem metricsSystem) {
+    this.metricsSystem = metricsSystem;
+    return this;
+  }
+
+  /** Handle requests on virtual threads rather than a bounded pool of platform threads. */
+  public RestApiBuilder useVirtualThreads(final boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+    return this;
+  }
+
+  /**
+   * Limit the number of requests each endpoint handles concurrently. Requests over the limit wait
+   * up to {@code maxQueueTime} for a slot before being rejected with a 503 response.
+   */
+  public RestApiBuilder maxConcurrentRequestsPerEndpoint(
+      final int maxConcurrentRequests, final Duration maxQueueTime) {
+    this.maxConcurrentRequestsPerEndpoint = OptionalInt.of(maxConcurrentRequests);
+    this.maxRequestQueueTime = maxQueueTime;
+    return this;
+  }
+
+  /** Endpoints with this tag are never subject to the per-endpoint concurrency limit. */
+  public RestApiBuilder priorityTag(final String tag) {
+    this.priorityTags.add(tag);
+    return this;
+  }
+
   public RestApiBuilder corsAllowedOrigins(final List<String> corsAllowedOrigins) {
     this.corsAllowedOrigins = corsAllowedOrigins;
     return this;
@@ -133,6 +174,7 @@ public class RestApiBuilder {
               config.http.defaultContentType = "application/json";
               config.showJavalinBanner = false;
               config.startupWatcherEnabled = false;
+              config.useVirtualThreads = useVirtualThreads;
               // Work around a bug in Javalin where it decides whether to compress on each call to
               // write which could result in a mix of compressed and uncompressed content
               // and means it doesn't evaluate the length of the response correctly.
@@ -148,13 +190,28 @@ public class RestApiBuilder {
       app.before(new HostAllowlistHandler(hostAllowlist));
     }
 
-    endpoints.forEach(endpoint -> JavalinEndpointAdapter.addEndpoint(app, endpoint));
+    final RestApiRequestMetrics requestMetrics = new RestApiRequestMetrics(metricsSystem);
+    endpoints.forEach(
+        endpoint ->
+            JavalinEndpointAdapter.addEndpoint(
+                app, endpoint, createRequestLimiter(endpoint, requestMetrics)));
 
     addExceptionHandlers(app);
     Optional<String> restApiDocs = swaggerBuilder.configureDocs(app, openApiDocBuilder);
     return new RestApi(app, restApiDocs, passwordFilePath);
   }
 
+  private EndpointRequestLimiter createRequestLimiter(
+      final RestApiEndpoint endpoint, final RestApiRequestMetrics requestMetrics) {
+    final EndpointMetadata metadata = endpoint.getMetadata();
+    final boolean isPriorityEndpoint = metadata.getTags().stream().anyMatch(priorityTags::contains);
+    return new EndpointRequestLimiter(
+        metadata.getOperationId(),
+        isPriorityEndpoint ? OptionalInt.empty() : maxConcurrentRequestsPerEndpoint,
+        maxRequestQueueTime,
+        requestMetrics);
+  }
+
   private void addExceptionHandlers(final Javalin app) {
     exceptionHandlers.forEach(
         (exceptionType, handler) -> addExceptionHandler(app, exceptionType, handler));
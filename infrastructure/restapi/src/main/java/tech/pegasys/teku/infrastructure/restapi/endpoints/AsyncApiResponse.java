@@ -23,10 +23,19 @@ import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 public class AsyncApiResponse {
   final int responseCode;
   final Optional<Object> responseBody;
+  final Optional<CacheableResponse> cacheableResponse;
 
   private AsyncApiResponse(final int responseCode, final Object responseBody) {
+    this(responseCode, responseBody, Optional.empty());
+  }
+
+  private AsyncApiResponse(
+      final int responseCode,
+      final Object responseBody,
+      final Optional<CacheableResponse> cacheableResponse) {
     this.responseCode = responseCode;
     this.responseBody = Optional.ofNullable(responseBody);
+    this.cacheableResponse = cacheableResponse;
   }
 
   public int getResponseCode() {
@@ -37,6 +46,10 @@ public class AsyncApiResponse {
     return responseBody;
   }
 
+  public Optional<CacheableResponse> getCacheableResponse() {
+    return cacheableResponse;
+  }
+
   /**
    * Respond with error.
    *
@@ -59,6 +72,14 @@ public class AsyncApiResponse {
     return new AsyncApiResponse(SC_OK, responseBody);
   }
 
+  /**
+   * Respond with an immutable body which may be served from, and stored in, a response body cache.
+   */
+  public static AsyncApiResponse respondOk(
+      final Object responseBody, final CacheableResponse cacheableResponse) {
+    return new AsyncApiResponse(SC_OK, responseBody, Optional.of(cacheableResponse));
+  }
+
   public static AsyncApiResponse respondWithObject(
       final int responseCode, final Object responseBody) {
     return new AsyncApiResponse(responseCode, responseBody);
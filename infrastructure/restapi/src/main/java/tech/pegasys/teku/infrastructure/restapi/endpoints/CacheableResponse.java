@@ -0,0 +1,67 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import java.util.Optional;
+
+/**
+ * Identifies an immutable response body. The serialized body is looked up in the {@link
+ * ResponseBodyCache} by key and negotiated content type, and the same pair is used as the entity
+ * tag so clients can revalidate with {@code If-None-Match}.
+ */
+public class CacheableResponse {
+  private final ResponseBodyCache cache;
+  private final String key;
+
+  public CacheableResponse(final ResponseBodyCache cache, final String key) {
+    this.cache = cache;
+    this.key = key;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public String getEntityTag(final String contentType) {
+    return "\"" + cacheKey(contentType) + "\"";
+  }
+
+  public boolean matchesEntityTag(final String contentType, final Optional<String> ifNoneMatch) {
+    if (ifNoneMatch.isEmpty()) {
+      return false;
+    }
+    final String entityTag = getEntityTag(contentType);
+    for (final String candidate : ifNoneMatch.get().split(",")) {
+      final String trimmed = candidate.trim();
+      // If-None-Match uses the weak comparison function so a weak validator still matches
+      final String opaqueTag = trimmed.startsWith("W/") ? trimmed.substring(2) : trimmed;
+      if (opaqueTag.equals("*") || opaqueTag.equals(entityTag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public Optional<byte[]> getCachedBody(final String contentType) {
+    return cache.get(cacheKey(contentType));
+  }
+
+  public void cacheBody(final String contentType, final byte[] body) {
+    cache.put(cacheKey(contentType), body);
+  }
+
+  private String cacheKey(final String contentType) {
+    return key + ";" + contentType;
+  }
+}
@@ -208,6 +208,10 @@ public class EndpointMetadata {
     return path;
   }
 
+  public String getOperationId() {
+    return operationId;
+  }
+
   public Optional<String> getSecurity() {
     return security;
   }
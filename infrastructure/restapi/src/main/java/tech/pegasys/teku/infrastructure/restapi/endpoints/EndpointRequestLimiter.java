@@ -0,0 +1,87 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/**
+ * Bounds the number of requests a single endpoint handles at once, so a burst of expensive queries
+ * can't occupy every server thread. Requests over the limit are rejected immediately when handled
+ * on a platform thread, as waiting would itself tie up one of the server's few threads. Requests on
+ * virtual threads, which are cheap to park, wait in FIFO order for up to the maximum queue time and
+ * are rejected if no permit becomes available.
+ *
+ * <p>A permit is held until the response is complete, including any asynchronous part, and must be
+ * released exactly once for each successful {@link #tryAcquire()}.
+ */
+public class EndpointRequestLimiter {
+  private final Optional<Semaphore> permits;
+  private final Duration maxQueueTime;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final OperationTimer queueTimer;
+  private final Counter rejectedCounter;
+
+  public EndpointRequestLimiter(
+      final String endpoint,
+      final OptionalInt maxConcurrentRequests,
+      final Duration maxQueueTime,
+      final RestApiRequestMetrics metrics) {
+    this.permits =
+        maxConcurrentRequests.isPresent()
+            ? Optional.of(new Semaphore(maxConcurrentRequests.getAsInt(), true))
+            : Optional.empty();
+    this.maxQueueTime = maxQueueTime;
+    this.queueTimer = metrics.queueTimer(endpoint);
+    this.rejectedCounter = metrics.rejectedCounter(endpoint);
+    metrics.registerInFlight(endpoint, inFlight::get);
+  }
+
+  public boolean tryAcquire() throws InterruptedException {
+    if (permits.isPresent()) {
+      final boolean acquired;
+      if (Thread.currentThread().isVirtual()) {
+        final OperationTimer.TimingContext timingContext = queueTimer.startTimer();
+        try {
+          acquired = permits.get().tryAcquire(maxQueueTime.toMillis(), TimeUnit.MILLISECONDS);
+        } finally {
+          timingContext.stopTimer();
+        }
+      } else {
+        acquired = permits.get().tryAcquire();
+      }
+      if (!acquired) {
+        rejectedCounter.inc();
+        return false;
+      }
+    }
+    inFlight.incrementAndGet();
+    return true;
+  }
+
+  public void release() {
+    inFlight.decrementAndGet();
+    permits.ifPresent(Semaphore::release);
+  }
+
+  int getInFlightCount() {
+    return inFlight.get();
+  }
+}
@@ -13,27 +13,65 @@
 
 package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_UNAVAILABLE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.HTTP_ERROR_RESPONSE_TYPE;
+
+import com.google.common.annotations.VisibleForTesting;
 import io.javalin.Javalin;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
 
 public class JavalinEndpointAdapter implements Handler {
 
   private final RestApiEndpoint endpoint;
+  private final EndpointRequestLimiter requestLimiter;
 
-  private JavalinEndpointAdapter(final RestApiEndpoint endpoint) {
+  @VisibleForTesting
+  JavalinEndpointAdapter(
+      final RestApiEndpoint endpoint, final EndpointRequestLimiter requestLimiter) {
     this.endpoint = endpoint;
+    this.requestLimiter = requestLimiter;
   }
 
-  public static void addEndpoint(final Javalin app, final RestApiEndpoint endpoint) {
+  public static void addEndpoint(
+      final Javalin app,
+      final RestApiEndpoint endpoint,
+      final EndpointRequestLimiter requestLimiter) {
     final EndpointMetadata metadata = endpoint.getMetadata();
     app.addHttpHandler(
-        metadata.getMethod(), metadata.getPath(), new JavalinEndpointAdapter(endpoint));
+        metadata.getMethod(),
+        metadata.getPath(),
+        new JavalinEndpointAdapter(endpoint, requestLimiter));
   }
 
   @Override
   public void handle(final Context ctx) throws Exception {
-    final RestApiRequest request = new JavalinRestApiRequest(ctx, endpoint.getMetadata());
-    endpoint.handleRequest(request);
+    if (!requestLimiter.tryAcquire()) {
+      final HttpErrorResponse response =
+          new HttpErrorResponse(
+              SC_SERVICE_UNAVAILABLE, "Too many concurrent requests, please try again later.");
+      ctx.status(response.getCode());
+      ctx.json(JsonUtil.serialize(response, HTTP_ERROR_RESPONSE_TYPE));
+      return;
+    }
+    boolean releaseOnReturn = true;
+    try {
+      final JavalinRestApiRequest request = new JavalinRestApiRequest(ctx, endpoint.getMetadata());
+      endpoint.handleRequest(request);
+      final Optional<SafeFuture<AsyncApiResponse>> asyncResponse = request.getAsyncResponse();
+      if (asyncResponse.isPresent()) {
+        // Hold the permit until the asynchronous response has been produced
+        releaseOnReturn = false;
+        asyncResponse.get().alwaysRun(requestLimiter::release);
+      }
+    } finally {
+      if (releaseOnReturn) {
+        requestLimiter.release();
+      }
+    }
   }
 }
@@ -15,8 +15,11 @@ package tech.pegasys.teku.infrastructure.restapi.endpoints;
 
 import static com.google.common.base.Preconditions.checkState;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_INTERNAL_SERVER_ERROR;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_MODIFIED;
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ACCEPT;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_ETAG;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_IF_NONE_MATCH;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.javalin.http.Context;
@@ -24,9 +27,11 @@ import io.javalin.http.Header;
 import io.javalin.http.sse.SseClient;
 import io.javalin.http.sse.SseHandler;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +51,7 @@ public class JavalinRestApiRequest implements RestApiRequest {
   private final Map<String, String> pathParamMap;
   private final Map<String, List<String>> queryParamMap;
   private final Map<String, String> headerMap;
+  private Optional<SafeFuture<AsyncApiResponse>> asyncResponse = Optional.empty();
 
   @Override
   @SuppressWarnings({"TypeParameterUnusedInFormals"})
@@ -98,16 +104,26 @@ public class JavalinRestApiRequest implements RestApiRequest {
 
   @Override
   public void respondAsync(final SafeFuture<AsyncApiResponse> futureResponse) {
+    asyncResponse = Optional.of(futureResponse);
     context.future(
         () ->
             futureResponse
                 .thenApply(
                     result -> {
                       try {
-                        respond(
-                            result.getResponseCode(),
-                            result.getResponseBody(),
-                            getResponseOutputStream());
+                        if (result.getResponseBody().isPresent()
+                            && result.getCacheableResponse().isPresent()) {
+                          respondCacheable(
+                              result.getResponseCode(),
+                              result.getResponseBody().get(),
+                              result.getCacheableResponse().get(),
+                              getResponseOutputStream());
+                        } else {
+                          respond(
+                              result.getResponseCode(),
+                              result.getResponseBody(),
+                              getResponseOutputStream());
+                        }
                       } catch (JsonProcessingException e) {
                         LOG.trace("Failed to generate API response", e);
                         context.status(SC_INTERNAL_SERVER_ERROR);
@@ -130,6 +146,10 @@ public class JavalinRestApiRequest implements RestApiRequest {
     respond(statusCode, new HttpErrorResponse(statusCode, message), getResponseOutputStream());
   }
 
+  Optional<SafeFuture<AsyncApiResponse>> getAsyncResponse() {
+    return asyncResponse;
+  }
+
   private OutputStream getResponseOutputStream() {
     return context.outputStream();
   }
@@ -151,12 +171,50 @@ public class JavalinRestApiRequest implements RestApiRequest {
 
   private void respondImpl(final int statusCode, final Object response, final OutputStream out)
       throws JsonProcessingException {
+    final ResponseMetadata responseMetadata = prepareResponse(statusCode, response);
+    metadata.serialize(statusCode, responseMetadata.getContentType(), response, out);
+  }
+
+  private void respondCacheable(
+      final int statusCode,
+      final Object response,
+      final CacheableResponse cacheableResponse,
+      final OutputStream out)
+      throws JsonProcessingException {
+    context.status(statusCode);
+    final ResponseMetadata responseMetadata = prepareResponse(statusCode, response);
+    final String contentType = responseMetadata.getContentType();
+    context.header(HEADER_ETAG, cacheableResponse.getEntityTag(contentType));
+    if (cacheableResponse.matchesEntityTag(
+        contentType, Optional.ofNullable(headerMap.get(HEADER_IF_NONE_MATCH)))) {
+      context.status(SC_NOT_MODIFIED);
+      return;
+    }
+
+    final Optional<byte[]> cachedBody = cacheableResponse.getCachedBody(contentType);
+    final byte[] body;
+    if (cachedBody.isPresent()) {
+      body = cachedBody.get();
+    } else {
+      final ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+      metadata.serialize(statusCode, contentType, response, serialized);
+      body = serialized.toByteArray();
+      cacheableResponse.cacheBody(contentType, body);
+    }
+    try {
+      out.write(body);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ResponseMetadata prepareResponse(final int statusCode, final Object response) {
     final ResponseMetadata responseMetadata =
         metadata.createResponseMetadata(
             statusCode, Optional.ofNullable(context.header(HEADER_ACCEPT)), response);
     context.contentType(responseMetadata.getContentType());
     responseMetadata.getAdditionalHeaders().forEach(context::header);
-    metadata.serialize(statusCode, responseMetadata.getContentType(), response, out);
+    return responseMetadata;
   }
 
   /** This is only used when intending to return status code without a response body */
@@ -0,0 +1,27 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import java.util.Optional;
+
+/**
+ * Stores serialized response bodies for responses that never change once produced, such as those
+ * describing finalized blocks, so repeated requests can skip serialization entirely.
+ */
+public interface ResponseBodyCache {
+
+  Optional<byte[]> get(String key);
+
+  void put(String key, byte[] body);
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import java.util.function.IntSupplier;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/** Per-endpoint request concurrency metrics, labelled by endpoint operation id. */
+public class RestApiRequestMetrics {
+  private final LabelledSuppliedMetric inFlightGauge;
+  private final LabelledMetric<OperationTimer> queueTimer;
+  private final LabelledMetric<Counter> rejectedCounter;
+
+  public RestApiRequestMetrics(final MetricsSystem metricsSystem) {
+    this.inFlightGauge =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.BEACON,
+            "rest_api_requests_in_flight",
+            "Number of REST API requests currently being handled",
+            "endpoint");
+    this.queueTimer =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.BEACON,
+            "rest_api_request_queue_time_seconds",
+            "Time REST API requests spent waiting for an endpoint concurrency permit",
+            "endpoint");
+    this.rejectedCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.BEACON,
+            "rest_api_requests_rejected_total",
+            "Number of REST API requests rejected because the endpoint concurrency limit was reached",
+            "endpoint");
+  }
+
+  void registerInFlight(final String endpoint, final IntSupplier inFlight) {
+    inFlightGauge.labels(inFlight::getAsInt, endpoint);
+  }
+
+  OperationTimer queueTimer(final String endpoint) {
+    return queueTimer.labels(endpoint);
+  }
+
+  Counter rejectedCounter(final String endpoint) {
+    return rejectedCounter.labels(endpoint);
+  }
+}
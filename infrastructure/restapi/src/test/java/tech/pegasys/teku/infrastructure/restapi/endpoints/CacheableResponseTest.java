@@ -0,0 +1,73 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.http.ContentTypes;
+
+class CacheableResponseTest {
+  private final Map<String, byte[]> entries = new HashMap<>();
+  private final ResponseBodyCache cache =
+      new ResponseBodyCache() {
+        @Override
+        public Optional<byte[]> get(final String key) {
+          return Optional.ofNullable(entries.get(key));
+        }
+
+        @Override
+        public void put(final String key, final byte[] body) {
+          entries.put(key, body);
+        }
+      };
+  private final CacheableResponse response = new CacheableResponse(cache, "getBlockV2:0x01");
+
+  @Test
+  void shouldIncludeContentTypeInEntityTag() {
+    assertThat(response.getEntityTag(ContentTypes.JSON))
+        .isEqualTo("\"getBlockV2:0x01;application/json\"")
+        .isNotEqualTo(response.getEntityTag(ContentTypes.OCTET_STREAM));
+  }
+
+  @Test
+  void shouldMatchIfNoneMatch() {
+    final String entityTag = response.getEntityTag(ContentTypes.JSON);
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.of(entityTag))).isTrue();
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.of("W/" + entityTag)))
+        .isTrue();
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.of("\"a\", " + entityTag)))
+        .isTrue();
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.of("*"))).isTrue();
+  }
+
+  @Test
+  void shouldNotMatchOtherEntityTags() {
+    final String sszEntityTag = response.getEntityTag(ContentTypes.OCTET_STREAM);
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.of(sszEntityTag))).isFalse();
+    assertThat(response.matchesEntityTag(ContentTypes.JSON, Optional.empty())).isFalse();
+  }
+
+  @Test
+  void shouldCacheBodyPerContentType() {
+    final byte[] body = {1, 2, 3};
+    response.cacheBody(ContentTypes.JSON, body);
+
+    assertThat(response.getCachedBody(ContentTypes.JSON)).contains(body);
+    assertThat(response.getCachedBody(ContentTypes.OCTET_STREAM)).isEmpty();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+class EndpointRequestLimiterTest {
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final RestApiRequestMetrics metrics = new RestApiRequestMetrics(metricsSystem);
+
+  @Test
+  void shouldNotLimitWhenNoMaximumSet() throws Exception {
+    final EndpointRequestLimiter limiter =
+        new EndpointRequestLimiter("getSyncingStatus", OptionalInt.empty(), Duration.ZERO, metrics);
+
+    for (int i = 0; i < 100; i++) {
+      assertThat(limiter.tryAcquire()).isTrue();
+    }
+    assertThat(limiter.getInFlightCount()).isEqualTo(100);
+    assertThat(inFlight("getSyncingStatus")).isEqualTo(100);
+  }
+
+  @Test
+  void shouldRejectRequestsOverLimit() throws Exception {
+    final EndpointRequestLimiter limiter =
+        new EndpointRequestLimiter("getStateValidators", OptionalInt.of(2), Duration.ZERO, metrics);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    assertThat(limiter.getInFlightCount()).isEqualTo(2);
+    assertThat(rejectedCount("getStateValidators")).isEqualTo(1);
+  }
+
+  @Test
+  void shouldAllowRequestOnceSlotReleased() throws Exception {
+    final EndpointRequestLimiter limiter =
+        new EndpointRequestLimiter("getStateValidators", OptionalInt.of(1), Duration.ZERO, metrics);
+
+    assertThat(limiter.tryAcquire()).isTrue();
+    assertThat(limiter.tryAcquire()).isFalse();
+
+    limiter.release();
+
+    assertThat(limiter.getInFlightCount()).isZero();
+    assertThat(limiter.tryAcquire()).isTrue();
+  }
+
+  @Test
+  void shouldWaitForSlotWithinQueueTimeOnVirtualThread() throws Exception {
+    final EndpointRequestLimiter limiter =
+        new EndpointRequestLimiter(
+            "getStateValidators", OptionalInt.of(1), Duration.ofSeconds(10), metrics);
+    assertThat(limiter.tryAcquire()).isTrue();
+
+    final CompletableFuture<Boolean> acquired = new CompletableFuture<>();
+    final Thread waiter =
+        Thread.ofVirtual()
+            .start(
+                () -> {
+                  try {
+                    acquired.complete(limiter.tryAcquire());
+                  } catch (final InterruptedException e) {
+                    acquired.completeExceptionally(e);
+                  }
+                });
+    limiter.release();
+
+    assertThat(acquired.get(10, TimeUnit.SECONDS)).isTrue();
+    waiter.join();
+  }
+
+  @Test
+  void shouldNotWaitForSlotOnPlatformThread() throws Exception {
+    final EndpointRequestLimiter limiter =
+        new EndpointRequestLimiter(
+            "getStateValidators", OptionalInt.of(1), Duration.ofHours(1), metrics);
+    assertThat(limiter.tryAcquire()).isTrue();
+
+    assertThat(limiter.tryAcquire()).isFalse();
+    assertThat(rejectedCount("getStateValidators")).isEqualTo(1);
+  }
+
+  private long rejectedCount(final String endpoint) {
+    return metricsSystem.getCounterValue(
+        TekuMetricCategory.BEACON, "rest_api_requests_rejected_total", endpoint);
+  }
+
+  private double inFlight(final String endpoint) {
+    return metricsSystem
+        .getLabelledGauge(TekuMetricCategory.BEACON, "rest_api_requests_in_flight")
+        .getValue(endpoint)
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.restapi.endpoints;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_UNAVAILABLE;
+
+import io.javalin.http.Context;
+import java.time.Duration;
+import java.util.OptionalInt;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+
+class JavalinEndpointAdapterTest {
+  private static final EndpointMetadata METADATA =
+      EndpointMetadata.get("/foo")
+          .operationId("foo")
+          .summary("Foo Summary")
+          .description("description")
+          .response(SC_OK, "Good")
+          .build();
+
+  private final Context context = mock(Context.class);
+  private final EndpointRequestLimiter limiter =
+      new EndpointRequestLimiter(
+          "foo",
+          OptionalInt.of(1),
+          Duration.ZERO,
+          new RestApiRequestMetrics(new StubMetricsSystem()));
+  private final SafeFuture<AsyncApiResponse> asyncResponse = new SafeFuture<>();
+
+  @Test
+  void shouldReleasePermitWhenSynchronousHandlerReturns() throws Exception {
+    createAdapter(request -> {}).handle(context);
+
+    assertThat(limiter.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldReleasePermitWhenSynchronousHandlerFails() {
+    final JavalinEndpointAdapter adapter =
+        createAdapter(
+            request -> {
+              throw new IllegalStateException("Failed");
+            });
+
+    assertThatThrownBy(() -> adapter.handle(context)).isInstanceOf(IllegalStateException.class);
+    assertThat(limiter.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldHoldPermitUntilAsyncResponseCompletes() throws Exception {
+    createAdapter(request -> request.respondAsync(asyncResponse)).handle(context);
+    assertThat(limiter.getInFlightCount()).isEqualTo(1);
+
+    asyncResponse.complete(AsyncApiResponse.respondWithCode(SC_OK));
+
+    assertThat(limiter.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldReleasePermitWhenAsyncResponseFails() throws Exception {
+    createAdapter(request -> request.respondAsync(asyncResponse)).handle(context);
+    assertThat(limiter.getInFlightCount()).isEqualTo(1);
+
+    asyncResponse.completeExceptionally(new IllegalStateException("Failed"));
+
+    assertThat(limiter.getInFlightCount()).isZero();
+  }
+
+  @Test
+  void shouldRejectRequestWhileAsyncResponseIsPending() throws Exception {
+    final JavalinEndpointAdapter adapter =
+        createAdapter(request -> request.respondAsync(asyncResponse));
+    adapter.handle(context);
+    final Context rejectedContext = mock(Context.class);
+
+    adapter.handle(rejectedContext);
+
+    verify(rejectedContext).status(SC_SERVICE_UNAVAILABLE);
+    assertThat(limiter.getInFlightCount()).isEqualTo(1);
+  }
+
+  private JavalinEndpointAdapter createAdapter(final Handler handler) {
+    return new JavalinEndpointAdapter(
+        new RestApiEndpoint(METADATA) {
+          @Override
+          public void handleRequest(final RestApiRequest request) {
+            handler.handle(request);
+          }
+        },
+        limiter);
+  }
+
+  private interface Handler {
+    void handle(RestApiRequest request);
+  }
+}
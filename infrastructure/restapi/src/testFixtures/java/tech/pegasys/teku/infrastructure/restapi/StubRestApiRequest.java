@@ -37,6 +37,7 @@ import tech.pegasys.teku.infrastructure.http.ContentTypes;
 import tech.pegasys.teku.infrastructure.http.HttpErrorResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.AsyncApiResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheLength;
+import tech.pegasys.teku.infrastructure.restapi.endpoints.CacheableResponse;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.EndpointMetadata;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.ListQueryParameterUtils;
 import tech.pegasys.teku.infrastructure.restapi.endpoints.ParameterMetadata;
@@ -51,6 +52,7 @@ public class StubRestApiRequest implements RestApiRequest {
   private int responseCode = CODE_NOT_SET;
   private Object responseObject = null;
   private Optional<Throwable> responseError = Optional.empty();
+  private Optional<CacheableResponse> cacheableResponse = Optional.empty();
   private CacheLength cacheLength = null;
   private final Map<String, String> pathParameters = new HashMap<>();
   private final Map<String, String> queryParameters = new HashMap<>();
@@ -131,6 +133,7 @@ public class StubRestApiRequest implements RestApiRequest {
       LOG.warn("Response body was empty on async response");
     }
     responseObject = response.getResponseBody().orElse(null);
+    cacheableResponse = response.getCacheableResponse();
     verifyResponseMatchesMetadata();
   }
 
@@ -291,6 +294,10 @@ public class StubRestApiRequest implements RestApiRequest {
     return responseError;
   }
 
+  public Optional<CacheableResponse> getCacheableResponse() {
+    return cacheableResponse;
+  }
+
   public static class Builder {
     private final Map<String, String> pathParameters = new HashMap<>();
     private final Map<String, String> queryParameters = new HashMap<>();
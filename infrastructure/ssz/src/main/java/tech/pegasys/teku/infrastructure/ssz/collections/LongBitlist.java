@@ -0,0 +1,263 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
+
+/**
+ * Mutable bitlist backed by a primitive {@code long[]}, intended for hot paths which repeatedly
+ * test and merge bits (e.g. attestation aggregation).
+ *
+ * <p>Unlike {@link SszBitlist}, operations modify this instance in place and never allocate, and
+ * set-relation checks ({@link #isDisjoint}, {@link #isSuperSetOf}) work word by word without
+ * materializing intermediate sets. Convert back with {@link #toSszBitlist(SszBitlistSchema)} once
+ * the final value is known.
+ *
+ * <p>Operands may have different sizes: missing words are treated as zero and {@link
+ * #or(LongBitlist)} grows this instance as needed.
+ */
+public final class LongBitlist {
+  private static final int ADDRESS_BITS_PER_WORD = 6;
+  private static final int BITS_PER_WORD = 1 << ADDRESS_BITS_PER_WORD;
+
+  private long[] words;
+  private int size;
+
+  private LongBitlist(final int size, final long[] words) {
+    this.size = size;
+    this.words = words;
+  }
+
+  public static LongBitlist create(final int size) {
+    checkArgument(size >= 0, "Negative size");
+    return new LongBitlist(size, new long[wordCount(size)]);
+  }
+
+  public static LongBitlist fromBitSet(final int size, final BitSet bitSet) {
+    checkArgument(size >= 0, "Negative size");
+    checkArgument(bitSet.length() <= size, "BitSet has bits set beyond size %s", size);
+    return new LongBitlist(size, Arrays.copyOf(bitSet.toLongArray(), wordCount(size)));
+  }
+
+  public static LongBitlist fromSszBitlist(final SszBitlist bitlist) {
+    return fromBitSet(bitlist.size(), bitlist.getAsBitSet());
+  }
+
+  /** Creates a bitlist from the bits of {@code bitlist} in range {@code [start, end)}. */
+  public static LongBitlist fromSszBitlist(
+      final SszBitlist bitlist, final int start, final int end) {
+    return fromBitSet(end - start, bitlist.getAsBitSet(start, end));
+  }
+
+  private static int wordCount(final int size) {
+    return (size + BITS_PER_WORD - 1) >>> ADDRESS_BITS_PER_WORD;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean get(final int index) {
+    checkElementIndex(index, size);
+    return (words[index >>> ADDRESS_BITS_PER_WORD] & (1L << index)) != 0;
+  }
+
+  public void set(final int index) {
+    checkElementIndex(index, size);
+    words[index >>> ADDRESS_BITS_PER_WORD] |= 1L << index;
+  }
+
+  /** Returns {@code true} if no bit is set in both this bitlist and {@code other}. */
+  public boolean isDisjoint(final LongBitlist other) {
+    final long[] otherWords = other.words;
+    final int commonLength = Math.min(words.length, otherWords.length);
+    for (int i = 0; i < commonLength; i++) {
+      if ((words[i] & otherWords[i]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns {@code true} if every bit set in {@code other} is also set in this bitlist. */
+  public boolean isSuperSetOf(final LongBitlist other) {
+    final long[] otherWords = other.words;
+    final int commonLength = Math.min(words.length, otherWords.length);
+    for (int i = 0; i < commonLength; i++) {
+      if ((otherWords[i] & ~words[i]) != 0) {
+        return false;
+      }
+    }
+    for (int i = commonLength; i < otherWords.length; i++) {
+      if (otherWords[i] != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if every bit set in {@code other} is also set in this bitlist. Reads
+   * {@code other} in place rather than converting it with {@link #fromSszBitlist(SszBitlist)}.
+   */
+  public boolean isSuperSetOf(final SszBitlist other) {
+    final int otherLength = other.getLastSetBitIndex() + 1;
+    if (otherLength > words.length << ADDRESS_BITS_PER_WORD) {
+      return false;
+    }
+    for (int i = 0; i < otherLength; i++) {
+      if (other.getBit(i) && (words[i >>> ADDRESS_BITS_PER_WORD] & (1L << i)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Sets all bits which are set in {@code other}, growing this bitlist if needed. */
+  public void or(final LongBitlist other) {
+    final long[] otherWords = other.words;
+    if (otherWords.length > words.length) {
+      words = Arrays.copyOf(words, otherWords.length);
+    }
+    size = Math.max(size, other.size);
+    for (int i = 0; i < otherWords.length; i++) {
+      words[i] |= otherWords[i];
+    }
+  }
+
+  /**
+   * Sets all bits of {@code other} only if it is disjoint with this bitlist.
+   *
+   * @return {@code true} if the bits were merged, {@code false} if the bitlists intersect in which
+   *     case this bitlist is left unchanged.
+   */
+  public boolean orIfDisjoint(final LongBitlist other) {
+    if (!isDisjoint(other)) {
+      return false;
+    }
+    or(other);
+    return true;
+  }
+
+  /** Clears all bits which are set in {@code other}. */
+  public void andNot(final LongBitlist other) {
+    final long[] otherWords = other.words;
+    final int commonLength = Math.min(words.length, otherWords.length);
+    for (int i = 0; i < commonLength; i++) {
+      words[i] &= ~otherWords[i];
+    }
+  }
+
+  /** Returns the number of set bits. */
+  public int popcount() {
+    int count = 0;
+    for (final long word : words) {
+      count += Long.bitCount(word);
+    }
+    return count;
+  }
+
+  public boolean isEmpty() {
+    for (final long word : words) {
+      if (word != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the index of the first set bit at or after {@code fromIndex}, or -1 if none. */
+  public int nextSetBit(final int fromIndex) {
+    int wordIndex = fromIndex >>> ADDRESS_BITS_PER_WORD;
+    if (wordIndex >= words.length) {
+      return -1;
+    }
+    long word = words[wordIndex] & (-1L << fromIndex);
+    while (true) {
+      if (word != 0) {
+        return (wordIndex << ADDRESS_BITS_PER_WORD) + Long.numberOfTrailingZeros(word);
+      }
+      if (++wordIndex == words.length) {
+        return -1;
+      }
+      word = words[wordIndex];
+    }
+  }
+
+  /** Returns the index of the highest set bit plus one, or 0 if no bit is set. */
+  public int length() {
+    for (int i = words.length - 1; i >= 0; i--) {
+      if (words[i] != 0) {
+        return (i << ADDRESS_BITS_PER_WORD) + BITS_PER_WORD - Long.numberOfLeadingZeros(words[i]);
+      }
+    }
+    return 0;
+  }
+
+  public LongBitlist copy() {
+    return new LongBitlist(size, words.clone());
+  }
+
+  public BitSet toBitSet() {
+    return BitSet.valueOf(words);
+  }
+
+  public <T extends SszBitlist> T toSszBitlist(final SszBitlistSchema<T> schema) {
+    return schema.wrapBitSet(size, toBitSet());
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LongBitlist that)) {
+      return false;
+    }
+    if (size != that.size) {
+      return false;
+    }
+    final int commonLength = Math.min(words.length, that.words.length);
+    for (int i = 0; i < commonLength; i++) {
+      if (words[i] != that.words[i]) {
+        return false;
+      }
+    }
+    return Arrays.stream(words, commonLength, words.length).allMatch(word -> word == 0)
+        && Arrays.stream(that.words, commonLength, that.words.length).allMatch(word -> word == 0);
+  }
+
+  @Override
+  public int hashCode() {
+    long h = 1234;
+    for (int i = words.length; --i >= 0; ) {
+      h ^= words[i] * (i + 1);
+    }
+    return 31 * size + (int) ((h >> 32) ^ h);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder(size);
+    for (int i = 0; i < size; i++) {
+      sb.append(get(i) ? 1 : 0);
+    }
+    return sb.toString();
+  }
+}
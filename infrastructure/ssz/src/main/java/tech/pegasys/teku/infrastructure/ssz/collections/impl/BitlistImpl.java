@@ -108,7 +108,10 @@ class BitlistImpl {
   }
 
   public boolean isSuperSetOf(final BitlistImpl other) {
-    return other.streamAllSetBits().allMatch(idx -> idx < getCurrentSize() && getBit(idx));
+    // bits beyond this bitlist's size are never set in data, so they will remain after andNot
+    final BitSet otherBitsNotInThis = (BitSet) other.data.clone();
+    otherBitsNotInThis.andNot(data);
+    return otherBitsNotInThis.isEmpty();
   }
 
   public IntList getAllSetBits() {
@@ -0,0 +1,142 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.gIdxCompare;
+import static tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.gIdxLeftGIndex;
+import static tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.gIdxRightGIndex;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import java.util.ArrayList;
+import java.util.List;
+import tech.pegasys.teku.infrastructure.ssz.tree.GIndexUtil.NodeRelation;
+
+/**
+ * The difference between a tree and a base tree: the topmost subtrees of the tree which are not
+ * shared with the base, together with their generalized indices.
+ *
+ * <p>A diff retains only the modified subtrees, so for closely related trees (e.g. two states of
+ * the same chain) it is much smaller than the tree itself. Both computing and applying a diff take
+ * time proportional to the number of modified subtrees rather than to the size of the tree.
+ */
+public final class TreeDiff {
+  /** The generalized index and the array slot referencing the node. */
+  static final long ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+
+  // generalized indices in left to right order
+  private final long[] generalizedIndices;
+  private final TreeNode[] nodes;
+
+  private TreeDiff(final long[] generalizedIndices, final TreeNode[] nodes) {
+    this.generalizedIndices = generalizedIndices;
+    this.nodes = nodes;
+  }
+
+  /** Computes the diff which turns {@code base} into {@code node}. */
+  public static TreeDiff compute(final TreeNode base, final TreeNode node) {
+    final LongArrayList generalizedIndices = new LongArrayList();
+    final List<TreeNode> nodes = new ArrayList<>();
+    collect(base, node, GIndexUtil.SELF_G_INDEX, generalizedIndices, nodes);
+    return new TreeDiff(generalizedIndices.toLongArray(), nodes.toArray(TreeNode[]::new));
+  }
+
+  private static void collect(
+      final TreeNode base,
+      final TreeNode node,
+      final long generalizedIndex,
+      final LongArrayList generalizedIndices,
+      final List<TreeNode> nodes) {
+    if (node == base) {
+      return;
+    }
+    if (isTraversable(base) && isTraversable(node)) {
+      final BranchNode baseBranch = (BranchNode) base;
+      final BranchNode branch = (BranchNode) node;
+      collect(
+          baseBranch.left(),
+          branch.left(),
+          gIdxLeftGIndex(generalizedIndex),
+          generalizedIndices,
+          nodes);
+      collect(
+          baseBranch.right(),
+          branch.right(),
+          gIdxRightGIndex(generalizedIndex),
+          generalizedIndices,
+          nodes);
+    } else {
+      generalizedIndices.add(generalizedIndex);
+      nodes.add(node);
+    }
+  }
+
+  // children of lazy nodes are not loaded just to compare them
+  private static boolean isTraversable(final TreeNode node) {
+    return node instanceof BranchNode && !(node instanceof LazyBranchNode);
+  }
+
+  /**
+   * Rebuilds the tree from the same base which was used to compute this diff.
+   *
+   * <p>Only the branches on the paths to the modified subtrees are recreated, everything else is
+   * shared with {@code base}.
+   */
+  public TreeNode apply(final TreeNode base) {
+    return apply(base, GIndexUtil.SELF_G_INDEX, 0, nodes.length);
+  }
+
+  private TreeNode apply(
+      final TreeNode base, final long generalizedIndex, final int from, final int to) {
+    if (from == to) {
+      return base;
+    }
+    if (generalizedIndices[from] == generalizedIndex) {
+      return nodes[from];
+    }
+    final BranchNode branch = (BranchNode) base;
+    final long leftGIndex = gIdxLeftGIndex(generalizedIndex);
+    final int split = findFirstRightOf(leftGIndex, from, to);
+    return BranchNode.create(
+        apply(branch.left(), leftGIndex, from, split),
+        apply(branch.right(), gIdxRightGIndex(generalizedIndex), split, to));
+  }
+
+  private int findFirstRightOf(final long generalizedIndex, final int from, final int to) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int mid = (low + high) >>> 1;
+      if (gIdxCompare(generalizedIndices[mid], generalizedIndex) == NodeRelation.RIGHT) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    return low;
+  }
+
+  /** Returns the number of modified subtrees. */
+  public int size() {
+    return nodes.length;
+  }
+
+  /** Estimates the heap retained by this diff, see {@link TreeNodeSizeEstimator}. */
+  public long estimateSize() {
+    long size = ENTRY_SIZE * nodes.length;
+    for (final TreeNode node : nodes) {
+      size += TreeNodeSizeEstimator.estimateSize(node);
+    }
+    return size;
+  }
+}
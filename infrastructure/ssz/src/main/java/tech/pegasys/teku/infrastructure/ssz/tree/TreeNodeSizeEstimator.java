@@ -0,0 +1,71 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroBranchNode;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeUtil.ZeroLeafNode;
+
+/**
+ * Estimates the heap retained by backing trees.
+ *
+ * <p>Values are approximations of the object layout on a 64-bit JVM and are meant for memory
+ * accounting rather than exact measurement. Subtrees referenced by both children of a branch (as
+ * default subtrees are) are counted once and the pre-allocated zero trees are not counted at all.
+ * Children of a {@link LazyBranchNode} are never loaded by the estimator.
+ */
+public final class TreeNodeSizeEstimator {
+  /** Node object with two child references plus its cached hash. */
+  static final long BRANCH_NODE_SIZE = 96;
+
+  /** Node object and data wrapper plus its cached hash, excluding the data bytes. */
+  static final long LEAF_NODE_SIZE = 112;
+
+  private TreeNodeSizeEstimator() {}
+
+  /** Estimates the heap retained by the whole tree under {@code node}. */
+  public static long estimateSize(final TreeNode node) {
+    return estimateUnsharedSize(node, null);
+  }
+
+  /**
+   * Estimates the heap retained by {@code node} which is not already retained by {@code base}.
+   *
+   * <p>Trees are compared position by position, so the estimate is only meaningful when both trees
+   * have the same schema, e.g. two states of the same chain. The comparison stops at the first node
+   * shared by both trees, so comparing closely related trees only visits the modified paths.
+   */
+  public static long estimateUnsharedSize(final TreeNode node, final TreeNode base) {
+    if (node == base || node instanceof ZeroBranchNode || node instanceof ZeroLeafNode) {
+      return 0;
+    }
+    if (node instanceof LazyBranchNode) {
+      return BRANCH_NODE_SIZE;
+    }
+    if (node instanceof BranchNode branch) {
+      final boolean compareWithBase =
+          base instanceof BranchNode && !(base instanceof LazyBranchNode);
+      final TreeNode baseLeft = compareWithBase ? ((BranchNode) base).left() : null;
+      final TreeNode baseRight = compareWithBase ? ((BranchNode) base).right() : null;
+      final TreeNode left = branch.left();
+      final TreeNode right = branch.right();
+      final long leftSize = estimateUnsharedSize(left, baseLeft);
+      final long rightSize = right == left ? 0 : estimateUnsharedSize(right, baseRight);
+      return BRANCH_NODE_SIZE + leftSize + rightSize;
+    }
+    if (node instanceof LeafDataNode leaf) {
+      return LEAF_NODE_SIZE + leaf.getData().size();
+    }
+    return LEAF_NODE_SIZE;
+  }
+}
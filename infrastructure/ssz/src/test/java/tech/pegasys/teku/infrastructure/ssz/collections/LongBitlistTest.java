@@ -0,0 +1,188 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.schema.collections.SszBitlistSchema;
+
+class LongBitlistTest {
+  private static final SszBitlistSchema<SszBitlist> SCHEMA = SszBitlistSchema.create(4096);
+
+  @Test
+  void getAndSet() {
+    final LongBitlist bitlist = create(200, 1, 64, 199);
+
+    assertThat(bitlist.get(0)).isFalse();
+    assertThat(bitlist.get(1)).isTrue();
+    assertThat(bitlist.get(64)).isTrue();
+    assertThat(bitlist.get(199)).isTrue();
+
+    bitlist.set(100);
+    assertThat(bitlist.get(100)).isTrue();
+  }
+
+  @Test
+  void set_shouldRejectIndexBeyondSize() {
+    assertThatThrownBy(() -> create(10).set(10)).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void isDisjoint() {
+    assertThat(create(130, 1, 65, 129).isDisjoint(create(130, 0, 64, 128))).isTrue();
+    assertThat(create(130, 1, 65, 129).isDisjoint(create(130, 0, 64, 129))).isFalse();
+  }
+
+  @Test
+  void isDisjoint_differentSizes() {
+    assertThat(create(10, 1).isDisjoint(create(200, 150))).isTrue();
+    assertThat(create(200, 1, 150).isDisjoint(create(10, 1))).isFalse();
+  }
+
+  @Test
+  void isSuperSetOf() {
+    assertThat(create(130, 1, 3, 65, 129).isSuperSetOf(create(130, 1, 129))).isTrue();
+    assertThat(create(130, 1, 3).isSuperSetOf(create(130, 1, 129))).isFalse();
+    assertThat(create(130).isSuperSetOf(create(130))).isTrue();
+  }
+
+  @Test
+  void isSuperSetOf_differentSizes() {
+    assertThat(create(10, 1).isSuperSetOf(create(200, 1))).isTrue();
+    assertThat(create(10, 1).isSuperSetOf(create(200, 1, 150))).isFalse();
+  }
+
+  @Test
+  void isSuperSetOf_sszBitlist() {
+    assertThat(create(130, 1, 3, 65, 129).isSuperSetOf(SCHEMA.ofBits(130, 1, 129))).isTrue();
+    assertThat(create(130, 1, 3).isSuperSetOf(SCHEMA.ofBits(130, 1, 129))).isFalse();
+    assertThat(create(130).isSuperSetOf(SCHEMA.ofBits(130))).isTrue();
+  }
+
+  @Test
+  void isSuperSetOf_sszBitlistOfDifferentSize() {
+    assertThat(create(10, 1).isSuperSetOf(SCHEMA.ofBits(200, 1))).isTrue();
+    assertThat(create(10, 1).isSuperSetOf(SCHEMA.ofBits(200, 1, 150))).isFalse();
+    assertThat(create(200, 1, 150).isSuperSetOf(SCHEMA.ofBits(10, 1))).isTrue();
+  }
+
+  @Test
+  void or() {
+    final LongBitlist bitlist = create(130, 1, 65);
+    bitlist.or(create(130, 2, 129));
+
+    assertThat(bitlist).isEqualTo(create(130, 1, 2, 65, 129));
+  }
+
+  @Test
+  void or_shouldGrowWhenOtherIsLarger() {
+    final LongBitlist bitlist = create(10, 1);
+    bitlist.or(create(200, 150));
+
+    assertThat(bitlist.size()).isEqualTo(200);
+    assertThat(bitlist).isEqualTo(create(200, 1, 150));
+  }
+
+  @Test
+  void orIfDisjoint() {
+    final LongBitlist bitlist = create(130, 1, 65);
+
+    assertThat(bitlist.orIfDisjoint(create(130, 65, 100))).isFalse();
+    assertThat(bitlist).isEqualTo(create(130, 1, 65));
+
+    assertThat(bitlist.orIfDisjoint(create(130, 2, 100))).isTrue();
+    assertThat(bitlist).isEqualTo(create(130, 1, 2, 65, 100));
+  }
+
+  @Test
+  void andNot() {
+    final LongBitlist bitlist = create(130, 1, 2, 65, 129);
+    bitlist.andNot(create(130, 2, 129));
+
+    assertThat(bitlist).isEqualTo(create(130, 1, 65));
+  }
+
+  @Test
+  void popcount() {
+    assertThat(create(200, 1, 2, 6, 64, 65, 199).popcount()).isEqualTo(6);
+    assertThat(create(200).popcount()).isZero();
+  }
+
+  @Test
+  void isEmpty() {
+    assertThat(create(200).isEmpty()).isTrue();
+    assertThat(create(200, 199).isEmpty()).isFalse();
+  }
+
+  @Test
+  void nextSetBitAndLength() {
+    final LongBitlist bitlist = create(200, 3, 64, 130);
+
+    assertThat(bitlist.nextSetBit(0)).isEqualTo(3);
+    assertThat(bitlist.nextSetBit(4)).isEqualTo(64);
+    assertThat(bitlist.nextSetBit(65)).isEqualTo(130);
+    assertThat(bitlist.nextSetBit(131)).isEqualTo(-1);
+    assertThat(bitlist.nextSetBit(500)).isEqualTo(-1);
+    assertThat(bitlist.length()).isEqualTo(131);
+    assertThat(create(200).length()).isZero();
+  }
+
+  @Test
+  void copy_shouldBeIndependent() {
+    final LongBitlist bitlist = create(130, 1);
+    final LongBitlist copy = bitlist.copy();
+    copy.set(2);
+
+    assertThat(bitlist).isEqualTo(create(130, 1));
+    assertThat(copy).isEqualTo(create(130, 1, 2));
+  }
+
+  @Test
+  void sszBitlistRoundTrip() {
+    final SszBitlist sszBitlist = SCHEMA.ofBits(300, 0, 63, 64, 200, 299);
+
+    final LongBitlist bitlist = LongBitlist.fromSszBitlist(sszBitlist);
+
+    assertThat(bitlist.size()).isEqualTo(300);
+    assertThat(bitlist.toSszBitlist(SCHEMA)).isEqualTo(sszBitlist);
+  }
+
+  @Test
+  void fromSszBitlist_range() {
+    final SszBitlist sszBitlist = SCHEMA.ofBits(300, 0, 100, 110, 200);
+
+    assertThat(LongBitlist.fromSszBitlist(sszBitlist, 100, 200))
+        .isEqualTo(create(100, 0, 10));
+  }
+
+  @Test
+  void equalsAndHashCode_shouldIgnoreExtraZeroWords() {
+    final LongBitlist grown = create(10, 1);
+    grown.or(create(200));
+    final LongBitlist other = create(200, 1);
+
+    assertThat(grown).isEqualTo(other);
+    assertThat(grown.hashCode()).isEqualTo(other.hashCode());
+  }
+
+  private static LongBitlist create(final int size, final int... bits) {
+    final LongBitlist bitlist = LongBitlist.create(size);
+    for (final int bit : bits) {
+      bitlist.set(bit);
+    }
+    return bitlist;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeTest.newTestLeaf;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class TreeDiffTest {
+
+  private final TreeNode base =
+      TreeUtil.createTree(IntStream.range(0, 16).mapToObj(TreeTest::newTestLeaf).toList());
+
+  @Test
+  void shouldBeEmptyForSameTree() {
+    final TreeDiff diff = TreeDiff.compute(base, base);
+
+    assertThat(diff.size()).isZero();
+    assertThat(diff.apply(base)).isSameAs(base);
+  }
+
+  @Test
+  void shouldRebuildTreeWithSingleUpdate() {
+    final TreeNode updated = base.updated(0b10011, newTestLeaf(100));
+
+    final TreeDiff diff = TreeDiff.compute(base, updated);
+
+    assertThat(diff.size()).isEqualTo(1);
+    assertThat(diff.apply(base).hashTreeRoot()).isEqualTo(updated.hashTreeRoot());
+    assertThat(diff.estimateSize()).isLessThan(TreeNodeSizeEstimator.estimateSize(updated));
+  }
+
+  @Test
+  void shouldRebuildTreeWithUpdatesInDifferentSubtrees() {
+    final TreeNode updated =
+        base.updated(0b10000, newTestLeaf(100))
+            .updated(0b10101, newTestLeaf(101))
+            .updated(0b10110, newTestLeaf(102))
+            .updated(0b11111, newTestLeaf(103));
+
+    final TreeDiff diff = TreeDiff.compute(base, updated);
+    final TreeNode rebuilt = diff.apply(base);
+
+    assertThat(diff.size()).isEqualTo(4);
+    assertThat(rebuilt.hashTreeRoot()).isEqualTo(updated.hashTreeRoot());
+    // unmodified subtrees are shared with the base
+    assertThat(rebuilt.get(0b1001)).isSameAs(base.get(0b1001));
+  }
+
+  @Test
+  void shouldRecordWholeSubtreeWhenStructureDiffers() {
+    final TreeNode updated = base.updated(0b101, newTestLeaf(100));
+
+    final TreeDiff diff = TreeDiff.compute(base, updated);
+
+    assertThat(diff.size()).isEqualTo(1);
+    assertThat(diff.apply(base).hashTreeRoot()).isEqualTo(updated.hashTreeRoot());
+  }
+
+  @Test
+  void shouldReplaceRootWhenTreesAreUnrelated() {
+    final TreeNode other = newTestLeaf(100);
+
+    assertThat(TreeDiff.compute(base, other).apply(base)).isSameAs(other);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.infrastructure.ssz.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator.BRANCH_NODE_SIZE;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator.LEAF_NODE_SIZE;
+import static tech.pegasys.teku.infrastructure.ssz.tree.TreeTest.newTestLeaf;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class TreeNodeSizeEstimatorTest {
+  private static final long TEST_LEAF_SIZE = LEAF_NODE_SIZE + 32;
+
+  private final TreeNode tree =
+      TreeUtil.createTree(IntStream.range(0, 5).mapToObj(TreeTest::newTestLeaf).toList());
+
+  @Test
+  void estimateSize_shouldNotCountZeroSubtrees() {
+    // 6 branches with at least one non-zero child, the right-most branch is a zero tree
+    assertThat(TreeNodeSizeEstimator.estimateSize(tree))
+        .isEqualTo(6 * BRANCH_NODE_SIZE + 5 * TEST_LEAF_SIZE);
+  }
+
+  @Test
+  void estimateSize_shouldCountIdenticalChildrenOnce() {
+    final TreeNode defaultTree = TreeUtil.createDefaultTree(4, newTestLeaf(1));
+
+    assertThat(TreeNodeSizeEstimator.estimateSize(defaultTree))
+        .isEqualTo(2 * BRANCH_NODE_SIZE + TEST_LEAF_SIZE);
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldOnlyCountModifiedPath() {
+    final TreeNode updated = tree.updated(0b1000, newTestLeaf(100));
+
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(updated, tree))
+        .isEqualTo(3 * BRANCH_NODE_SIZE + TEST_LEAF_SIZE);
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldBeZeroForSameTree() {
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(tree, tree)).isZero();
+  }
+
+  @Test
+  void estimateUnsharedSize_shouldCountWholeTreeWhenNothingShared() {
+    final TreeNode other =
+        TreeUtil.createTree(IntStream.range(10, 15).mapToObj(TreeTest::newTestLeaf).toList());
+
+    assertThat(TreeNodeSizeEstimator.estimateUnsharedSize(other, tree))
+        .isEqualTo(TreeNodeSizeEstimator.estimateSize(other));
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+
+/**
+ * Approves and adjusts requests from many threads against a shared set of per-peer trackers, as
+ * happens when serving by-range requests to many peers at once.
+ */
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RateTrackerBenchmark {
+  private static final long TIMEOUT_SECONDS = 60;
+
+  @Param({"map", "ring"})
+  String implementation;
+
+  @Param({"1", "100"})
+  int peers;
+
+  private RateTracker[] trackers;
+
+  @Setup
+  public void setup() {
+    final TimeProvider timeProvider = new SystemTimeProvider();
+    trackers = new RateTracker[peers];
+    for (int i = 0; i < peers; i++) {
+      trackers[i] =
+          implementation.equals("map")
+              ? new RateTrackerImpl(Integer.MAX_VALUE, TIMEOUT_SECONDS, timeProvider, "bench")
+              : new SlidingWindowRateTracker(
+                  Integer.MAX_VALUE, TIMEOUT_SECONDS, timeProvider, "bench");
+    }
+  }
+
+  @Benchmark
+  public void approveAndAdjust(final Blackhole bh) {
+    final RateTracker tracker = trackers[ThreadLocalRandom.current().nextInt(peers)];
+    tracker
+        .approveObjectsRequest(64)
+        .ifPresent(approval -> tracker.adjustObjectsRequest(approval, 0));
+    bh.consume(tracker.getAvailableObjectCount());
+  }
+}
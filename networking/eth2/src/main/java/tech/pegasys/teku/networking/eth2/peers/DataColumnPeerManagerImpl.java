@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.tuweni.units.bigints.UInt256;
 import tech.pegasys.teku.infrastructure.async.stream.AsyncStream;
@@ -111,4 +112,12 @@ public class DataColumnPeerManagerImpl
       return (int) eth2Peer.getAvailableDataColumnSidecarsRequestCount();
     }
   }
+
+  @Override
+  public OptionalLong getThroughputBytesPerSecond(final UInt256 nodeId) {
+    final Eth2Peer eth2Peer = connectedPeers.get(nodeId);
+    return eth2Peer == null
+        ? OptionalLong.empty()
+        : eth2Peer.getDataColumnSidecarsByRootThroughputBytesPerSecond();
+  }
 }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
@@ -101,6 +102,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
   private final RateTracker blobSidecarsRequestTracker;
   private final RateTracker dataColumnSidecarsRequestTracker;
   private final RateTracker requestTracker;
+  private final PeerThroughputTracker throughputTracker;
   private final KZG kzg;
   private final MetricsSystem metricsSystem;
   private final TimeProvider timeProvider;
@@ -126,6 +128,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
       final RateTracker blobSidecarsRequestTracker,
       final RateTracker dataColumnSidecarsRequestTracker,
       final RateTracker requestTracker,
+      final PeerThroughputTracker throughputTracker,
       final KZG kzg,
       final MetricsSystem metricsSystem,
       final TimeProvider timeProvider) {
@@ -140,6 +143,7 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
     this.blobSidecarsRequestTracker = blobSidecarsRequestTracker;
     this.dataColumnSidecarsRequestTracker = dataColumnSidecarsRequestTracker;
     this.requestTracker = requestTracker;
+    this.throughputTracker = throughputTracker;
     this.kzg = kzg;
     this.metricsSystem = metricsSystem;
     this.timeProvider = timeProvider;
@@ -609,10 +613,21 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
 
   private <I extends RpcRequest, O extends SszData> SafeFuture<Void> requestStream(
       final Eth2RpcMethod<I, O> method, final I request, final RpcResponseListener<O> listener) {
+    final PeerThroughputTracker.RequestMeasurement measurement =
+        throughputTracker.startRequest(getMethodName(method));
     final Eth2RpcResponseHandler<O, Void> responseHandler =
-        Eth2RpcResponseHandler.expectMultipleResponses(listener);
+        Eth2RpcResponseHandler.expectMultipleResponses(measurement.wrap(listener));
     return sendEth2Request(method, request, responseHandler)
-        .thenCompose(__ -> responseHandler.getResult());
+        .thenCompose(__ -> responseHandler.getResult())
+        .catchAndRethrow(__ -> measurement.fail())
+        .thenPeek(__ -> measurement.complete());
+  }
+
+  // protocol ids have the form /eth2/beacon_chain/req/<method>/<version>/<encoding>
+  private static String getMethodName(final Eth2RpcMethod<?, ?> method) {
+    final String protocolId = method.getIds().get(0);
+    final String[] parts = protocolId.split("/");
+    return parts.length > 4 ? parts[4] : protocolId;
   }
 
   private <I extends RpcRequest, O extends SszData> SafeFuture<Void> sendEth2Request(
@@ -630,6 +645,19 @@ class DefaultEth2Peer extends DelegatingPeer implements Eth2Peer {
         .alwaysRun(outstandingRequests::decrementAndGet);
   }
 
+  @Override
+  public OptionalLong getBlocksByRangeThroughputBytesPerSecond() {
+    return throughputTracker.getBytesPerSecond(getMethodName(rpcMethods.beaconBlocksByRange()));
+  }
+
+  @Override
+  public OptionalLong getDataColumnSidecarsByRootThroughputBytesPerSecond() {
+    return rpcMethods
+        .dataColumnSidecarsByRoot()
+        .map(method -> throughputTracker.getBytesPerSecond(getMethodName(method)))
+        .orElse(OptionalLong.empty());
+  }
+
   private SpecConfigDeneb getSpecConfigDeneb() {
     return SpecConfigDeneb.required(spec.forMilestone(SpecMilestone.DENEB).getConfig());
   }
@@ -15,6 +15,7 @@ package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.apache.tuweni.bytes.Bytes32;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
@@ -55,6 +56,7 @@ public interface Eth2Peer extends Peer, SyncSource {
       final RateTracker blobSidecarsRequestTracker,
       final RateTracker dataColumnSidecarsRequestTracker,
       final RateTracker requestTracker,
+      final PeerThroughputTracker throughputTracker,
       final KZG kzg,
       final MetricsSystem metricsSystem,
       final TimeProvider timeProvider) {
@@ -70,6 +72,7 @@ public interface Eth2Peer extends Peer, SyncSource {
         blobSidecarsRequestTracker,
         dataColumnSidecarsRequestTracker,
         requestTracker,
+        throughputTracker,
         kzg,
         metricsSystem,
         timeProvider);
@@ -136,6 +139,12 @@ public interface Eth2Peer extends Peer, SyncSource {
 
   long getAvailableDataColumnSidecarsRequestCount();
 
+  /**
+   * Throughput of this peer's data column sidecars by root responses, empty if it hasn't been
+   * measured yet.
+   */
+  OptionalLong getDataColumnSidecarsByRootThroughputBytesPerSecond();
+
   Optional<RequestApproval> approveDataColumnSidecarsRequest(
       ResponseCallback<DataColumnSidecar> callback, long dataColumnSidecarsCount);
 
@@ -40,6 +40,7 @@ public class Eth2PeerFactory {
   private final int peerRequestLimit;
   private final KZG kzg;
   private final DiscoveryNodeIdExtractor discoveryNodeIdExtractor;
+  private final PeerThroughputMetrics throughputMetrics;
 
   public Eth2PeerFactory(
       final Spec spec,
@@ -66,6 +67,7 @@ public class Eth2PeerFactory {
     this.peerRequestLimit = peerRequestLimit;
     this.kzg = kzg;
     this.discoveryNodeIdExtractor = discoveryNodeIdExtractor;
+    this.throughputMetrics = new PeerThroughputMetrics(metricsSystem);
   }
 
   public Eth2Peer create(final Peer peer, final BeaconChainMethods rpcMethods) {
@@ -85,6 +87,7 @@ public class Eth2PeerFactory {
             timeProvider,
             "dataColumns"),
         RateTracker.create(peerRequestLimit, TIME_OUT, timeProvider, "requestTracker"),
+        new PeerThroughputTracker(timeProvider, throughputMetrics),
         kzg,
         metricsSystem,
         timeProvider);
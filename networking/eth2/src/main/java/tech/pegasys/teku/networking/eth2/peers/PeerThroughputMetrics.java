@@ -0,0 +1,57 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Histogram;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+
+/** Histograms of the throughput and latency of RPC responses received from peers, by method. */
+public class PeerThroughputMetrics {
+  private static final double[] BYTES_PER_SECOND_BUCKETS = {
+    16_384, 65_536, 262_144, 1_048_576, 4_194_304, 16_777_216, 67_108_864
+  };
+  private static final double[] TIME_TO_FIRST_CHUNK_BUCKETS = {
+    0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0
+  };
+
+  private final LabelledMetric<Histogram> bytesPerSecond;
+  private final LabelledMetric<Histogram> timeToFirstChunk;
+
+  public PeerThroughputMetrics(final MetricsSystem metricsSystem) {
+    this.bytesPerSecond =
+        metricsSystem.createLabelledHistogram(
+            TekuMetricCategory.NETWORK,
+            "peer_rpc_response_bytes_per_second",
+            "Throughput of completed RPC response streams received from peers",
+            BYTES_PER_SECOND_BUCKETS,
+            "method");
+    this.timeToFirstChunk =
+        metricsSystem.createLabelledHistogram(
+            TekuMetricCategory.NETWORK,
+            "peer_rpc_time_to_first_chunk_seconds",
+            "Time from sending an RPC request to receiving the first response chunk",
+            TIME_TO_FIRST_CHUNK_BUCKETS,
+            "method");
+  }
+
+  void recordBytesPerSecond(final String method, final double value) {
+    bytesPerSecond.labels(method).observe(value);
+  }
+
+  void recordTimeToFirstChunk(final String method, final long millis) {
+    timeToFirstChunk.labels(method).observe(millis / 1000.0);
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import tech.pegasys.teku.infrastructure.ssz.SszData;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+
+/**
+ * Tracks the throughput and time to first chunk of the streamed RPC responses a single peer sends
+ * us, so requests can be routed to the peers which serve them fastest.
+ *
+ * <p>Values are exponentially weighted moving averages per RPC method, plus one throughput average
+ * across all methods. Throughput is measured from sending the request until the stream completes,
+ * over the SSZ size of the responses. Requests which fail, time out or return no responses count as
+ * a sample of zero throughput so peers which don't deliver are ranked down rather than ignored.
+ */
+public class PeerThroughputTracker {
+  static final double SMOOTHING_FACTOR = 0.25;
+
+  private final TimeProvider timeProvider;
+  private final PeerThroughputMetrics metrics;
+  private final Map<String, MethodStats> statsByMethod = new ConcurrentHashMap<>();
+  private final MovingAverage bytesPerSecond = new MovingAverage();
+
+  public PeerThroughputTracker(
+      final TimeProvider timeProvider, final PeerThroughputMetrics metrics) {
+    this.timeProvider = timeProvider;
+    this.metrics = metrics;
+  }
+
+  /** Starts measuring a request, call just before sending it. */
+  public RequestMeasurement startRequest(final String method) {
+    return new RequestMeasurement(method, timeProvider.getTimeInMillis().longValue());
+  }
+
+  /** Smoothed throughput across all methods, empty until a request has been measured. */
+  public OptionalLong getBytesPerSecond() {
+    return bytesPerSecond.get();
+  }
+
+  public OptionalLong getBytesPerSecond(final String method) {
+    final MethodStats stats = statsByMethod.get(method);
+    return stats == null ? OptionalLong.empty() : stats.bytesPerSecond.get();
+  }
+
+  public OptionalLong getTimeToFirstChunkMillis(final String method) {
+    final MethodStats stats = statsByMethod.get(method);
+    return stats == null ? OptionalLong.empty() : stats.timeToFirstChunkMillis.get();
+  }
+
+  private MethodStats getStats(final String method) {
+    return statsByMethod.computeIfAbsent(method, __ -> new MethodStats());
+  }
+
+  public class RequestMeasurement {
+    private final String method;
+    private final long startMillis;
+    private final AtomicLong responseBytes = new AtomicLong();
+    private final AtomicLong firstChunkMillis = new AtomicLong(-1);
+
+    private RequestMeasurement(final String method, final long startMillis) {
+      this.method = method;
+      this.startMillis = startMillis;
+    }
+
+    public <O extends SszData> RpcResponseListener<O> wrap(final RpcResponseListener<O> listener) {
+      return response -> {
+        onResponse(response);
+        return listener.onResponse(response);
+      };
+    }
+
+    private void onResponse(final SszData response) {
+      if (firstChunkMillis.get() < 0) {
+        final long now = timeProvider.getTimeInMillis().longValue();
+        if (firstChunkMillis.compareAndSet(-1, now)) {
+          final long latency = now - startMillis;
+          getStats(method).timeToFirstChunkMillis.update(latency);
+          metrics.recordTimeToFirstChunk(method, latency);
+        }
+      }
+      responseBytes.addAndGet(response.getSszSize());
+    }
+
+    /** Records the throughput of the request once its response stream has completed. */
+    public void complete() {
+      recordThroughput(responseBytes.get());
+    }
+
+    /** Records a zero throughput sample for a request which failed or timed out. */
+    public void fail() {
+      recordThroughput(0);
+    }
+
+    private void recordThroughput(final long bytes) {
+      final long elapsedMillis =
+          Math.max(1, timeProvider.getTimeInMillis().longValue() - startMillis);
+      final long throughput = bytes * 1000 / elapsedMillis;
+      getStats(method).bytesPerSecond.update(throughput);
+      bytesPerSecond.update(throughput);
+      metrics.recordBytesPerSecond(method, throughput);
+    }
+  }
+
+  private static class MethodStats {
+    private final MovingAverage bytesPerSecond = new MovingAverage();
+    private final MovingAverage timeToFirstChunkMillis = new MovingAverage();
+  }
+
+  private static class MovingAverage {
+    private double value = Double.NaN;
+
+    synchronized void update(final long sample) {
+      value = Double.isNaN(value) ? sample : value + SMOOTHING_FACTOR * (sample - value);
+    }
+
+    synchronized OptionalLong get() {
+      return Double.isNaN(value) ? OptionalLong.empty() : OptionalLong.of(Math.round(value));
+    }
+  }
+}
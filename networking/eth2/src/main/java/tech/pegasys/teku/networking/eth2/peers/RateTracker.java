@@ -47,11 +47,17 @@ public interface RateTracker {
 
   void pruneRequests();
 
+  // windows longer than this use a sorted map instead of allocating one bucket per second
+  int MAX_BUCKETED_TIMEOUT_SECONDS = 3600;
+
   static RateTracker create(
       final int peerRateLimit,
       final long timeoutSeconds,
       final TimeProvider timeProvider,
       final String name) {
+    if (timeoutSeconds <= MAX_BUCKETED_TIMEOUT_SECONDS) {
+      return new SlidingWindowRateTracker(peerRateLimit, timeoutSeconds, timeProvider, name);
+    }
     return new RateTrackerImpl(peerRateLimit, timeoutSeconds, timeProvider, name);
   }
 }
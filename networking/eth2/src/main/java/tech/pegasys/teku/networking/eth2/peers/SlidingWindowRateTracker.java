@@ -0,0 +1,199 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import com.google.common.base.Preconditions;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+
+/**
+ * Lock-free {@link RateTracker} which keeps one bucket per second of the window in a ring.
+ *
+ * <p>Approvals and adjustments are applied with CAS on the bucket of the second they were made in
+ * and on a shared window total, so concurrent callers never block each other. Pruning only visits
+ * the buckets of seconds which left the window since the previous prune. The window is the same as
+ * {@link RateTrackerImpl}: objects approved at second {@code t} count until the current time is
+ * greater than {@code t + timeoutSeconds}.
+ *
+ * <p>Each {@link RequestApproval} is expected to be adjusted at most once.
+ */
+public class SlidingWindowRateTracker implements RateTracker {
+
+  private static final Bucket EMPTY = new Bucket(-1, 0);
+
+  private final AtomicReferenceArray<Bucket> buckets;
+  private final AtomicLong objectsWithinWindow = new AtomicLong();
+  private final AtomicLong prunedBeforeSecond = new AtomicLong();
+  private final AtomicInteger newRequestId = new AtomicInteger();
+
+  private final int peerRateLimit;
+  private final long timeoutSeconds;
+  private final TimeProvider timeProvider;
+  private final String name;
+
+  public SlidingWindowRateTracker(
+      final int peerRateLimit,
+      final long timeoutSeconds,
+      final TimeProvider timeProvider,
+      final String name) {
+    Preconditions.checkArgument(
+        peerRateLimit > 0,
+        "peerRateLimit should be a positive number but it was %s",
+        peerRateLimit);
+    Preconditions.checkArgument(
+        timeoutSeconds >= 0 && timeoutSeconds < Integer.MAX_VALUE,
+        "timeoutSeconds should be a non-negative int but it was %s",
+        timeoutSeconds);
+    this.peerRateLimit = peerRateLimit;
+    this.timeoutSeconds = timeoutSeconds;
+    this.timeProvider = timeProvider;
+    this.name = name;
+    this.buckets = new AtomicReferenceArray<>((int) timeoutSeconds + 1);
+    for (int i = 0; i < buckets.length(); i++) {
+      buckets.set(i, EMPTY);
+    }
+  }
+
+  @Override
+  public Optional<RequestApproval> approveObjectsRequest(final long objectsCount) {
+    pruneRequests();
+    final UInt64 currentTime = timeProvider.getTimeInSeconds();
+    long current;
+    do {
+      current = objectsWithinWindow.get();
+      if (peerRateLimit - current <= 0) {
+        return Optional.empty();
+      }
+    } while (!objectsWithinWindow.compareAndSet(current, current + objectsCount));
+    addToBucket(currentTime.longValue(), objectsCount);
+    return Optional.of(
+        new RequestApproval.RequestApprovalBuilder()
+            .requestId(newRequestId.getAndIncrement())
+            .timeSeconds(currentTime)
+            .objectsCount(objectsCount)
+            .build());
+  }
+
+  @Override
+  public long getAvailableObjectCount() {
+    pruneRequests();
+    return peerRateLimit - objectsWithinWindow.get();
+  }
+
+  @Override
+  public void adjustObjectsRequest(
+      final RequestApproval requestApproval, final long returnedObjectsCount) {
+    pruneRequests();
+    final long second = requestApproval.getRequestKey().timeSeconds().longValue();
+    final long delta = returnedObjectsCount - requestApproval.getObjectsCount();
+    final int index = bucketIndex(second);
+    while (true) {
+      final Bucket bucket = buckets.get(index);
+      if (bucket.second != second) {
+        // Already pruned, the request no longer counts towards the window
+        return;
+      }
+      if (buckets.compareAndSet(index, bucket, new Bucket(second, bucket.count + delta))) {
+        objectsWithinWindow.addAndGet(delta);
+        return;
+      }
+    }
+  }
+
+  @Override
+  public void pruneRequests() {
+    final long currentTime = timeProvider.getTimeInSeconds().longValue();
+    if (currentTime < timeoutSeconds) {
+      return;
+    }
+    final long oldestRetainedSecond = currentTime - timeoutSeconds;
+    long previous;
+    do {
+      previous = prunedBeforeSecond.get();
+      if (oldestRetainedSecond <= previous) {
+        return;
+      }
+    } while (!prunedBeforeSecond.compareAndSet(previous, oldestRetainedSecond));
+
+    // Each bucket only needs to be visited once, however far time has moved on
+    final long firstSecond = Math.max(previous, oldestRetainedSecond - buckets.length());
+    for (long second = firstSecond; second < oldestRetainedSecond; second++) {
+      evict(bucketIndex(second), oldestRetainedSecond);
+    }
+  }
+
+  private void addToBucket(final long second, final long objectsCount) {
+    final int index = bucketIndex(second);
+    while (true) {
+      final Bucket bucket = buckets.get(index);
+      if (bucket.second > second) {
+        // The slot has been reused by a later second so this one is already outside the window
+        objectsWithinWindow.addAndGet(-objectsCount);
+        return;
+      }
+      final Bucket updated =
+          bucket.second == second
+              ? new Bucket(second, bucket.count + objectsCount)
+              : new Bucket(second, objectsCount);
+      if (buckets.compareAndSet(index, bucket, updated)) {
+        if (bucket.second != second) {
+          // Recycled a bucket which was never pruned
+          objectsWithinWindow.addAndGet(-bucket.count);
+        }
+        break;
+      }
+    }
+    // A concurrent prune may have moved past this second before the objects were added
+    final long prunedBefore = prunedBeforeSecond.get();
+    if (second < prunedBefore) {
+      evict(index, prunedBefore);
+    }
+  }
+
+  private void evict(final int index, final long oldestRetainedSecond) {
+    while (true) {
+      final Bucket bucket = buckets.get(index);
+      if (bucket == EMPTY || bucket.second >= oldestRetainedSecond) {
+        return;
+      }
+      if (buckets.compareAndSet(index, bucket, EMPTY)) {
+        objectsWithinWindow.addAndGet(-bucket.count);
+        return;
+      }
+    }
+  }
+
+  private int bucketIndex(final long second) {
+    return (int) Long.remainderUnsigned(second, buckets.length());
+  }
+
+  @Override
+  public String toString() {
+    return "SlidingWindowRateTracker{"
+        + "peerRateLimit="
+        + peerRateLimit
+        + ", objectsWithinWindow="
+        + objectsWithinWindow.get()
+        + ", name='"
+        + name
+        + '\''
+        + '}';
+  }
+
+  private record Bucket(long second, long count) {}
+}
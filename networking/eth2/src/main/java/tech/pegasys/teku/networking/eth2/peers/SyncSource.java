@@ -14,6 +14,7 @@
 package tech.pegasys.teku.networking.eth2.peers;
 
 import java.util.List;
+import java.util.OptionalLong;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networking.p2p.peer.DisconnectReason;
@@ -42,5 +43,13 @@ public interface SyncSource {
 
   void adjustReputation(final ReputationAdjustment adjustment);
 
+  /**
+   * Throughput this source has delivered for blocks by range requests so far, empty if it hasn't
+   * been measured yet.
+   */
+  default OptionalLong getBlocksByRangeThroughputBytesPerSecond() {
+    return OptionalLong.empty();
+  }
+
   SafeFuture<Void> disconnectCleanly(DisconnectReason reason);
 }
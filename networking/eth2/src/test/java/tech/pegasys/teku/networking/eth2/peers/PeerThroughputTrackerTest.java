@@ -0,0 +1,109 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.ssz.primitive.SszBytes32;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.networking.p2p.rpc.RpcResponseListener;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class PeerThroughputTrackerTest {
+  private static final String METHOD = "beacon_blocks_by_range";
+
+  private final DataStructureUtil dataStructureUtil =
+      new DataStructureUtil(TestSpecFactory.createMinimalPhase0());
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInMillis(1000);
+  private final PeerThroughputTracker tracker =
+      new PeerThroughputTracker(timeProvider, new PeerThroughputMetrics(new NoOpMetricsSystem()));
+  private final RpcResponseListener<SszBytes32> listener = __ -> SafeFuture.COMPLETE;
+
+  @Test
+  void shouldMeasureThroughputAndTimeToFirstChunk() {
+    final PeerThroughputTracker.RequestMeasurement measurement = tracker.startRequest(METHOD);
+    final RpcResponseListener<SszBytes32> wrapped = measurement.wrap(listener);
+
+    timeProvider.advanceTimeByMillis(50);
+    wrapped.onResponse(randomChunk());
+    timeProvider.advanceTimeByMillis(50);
+    wrapped.onResponse(randomChunk());
+    measurement.complete();
+
+    // 64 bytes in 100ms
+    assertThat(tracker.getBytesPerSecond()).hasValue(640);
+    assertThat(tracker.getBytesPerSecond(METHOD)).hasValue(640);
+    assertThat(tracker.getTimeToFirstChunkMillis(METHOD)).hasValue(50);
+  }
+
+  @Test
+  void shouldSmoothSuccessiveMeasurements() {
+    measureRequest(100);
+    measureRequest(20);
+
+    // 320 bytes/s then 1600 bytes/s
+    assertThat(tracker.getBytesPerSecond())
+        .hasValue(Math.round(320 + PeerThroughputTracker.SMOOTHING_FACTOR * (1600 - 320)));
+  }
+
+  @Test
+  void shouldRecordZeroThroughputForEmptyResponses() {
+    final PeerThroughputTracker.RequestMeasurement measurement = tracker.startRequest(METHOD);
+    timeProvider.advanceTimeByMillis(100);
+    measurement.complete();
+
+    assertThat(tracker.getBytesPerSecond()).hasValue(0);
+    assertThat(tracker.getBytesPerSecond(METHOD)).hasValue(0);
+    assertThat(tracker.getTimeToFirstChunkMillis(METHOD)).isEmpty();
+  }
+
+  @Test
+  void shouldPenalizeFailedRequests() {
+    measureRequest(100);
+
+    final PeerThroughputTracker.RequestMeasurement measurement = tracker.startRequest(METHOD);
+    final RpcResponseListener<SszBytes32> wrapped = measurement.wrap(listener);
+    timeProvider.advanceTimeByMillis(50);
+    wrapped.onResponse(randomChunk());
+    timeProvider.advanceTimeByMillis(50);
+    measurement.fail();
+
+    // 320 bytes/s then a zero sample, even though the failed request delivered some data
+    assertThat(tracker.getBytesPerSecond(METHOD))
+        .hasValue(Math.round(320 * (1 - PeerThroughputTracker.SMOOTHING_FACTOR)));
+  }
+
+  @Test
+  void shouldTrackMethodsSeparately() {
+    measureRequest(100);
+
+    assertThat(tracker.getBytesPerSecond("blob_sidecars_by_range")).isEmpty();
+    assertThat(tracker.getBytesPerSecond(METHOD)).isPresent();
+  }
+
+  private void measureRequest(final long durationMillis) {
+    final PeerThroughputTracker.RequestMeasurement measurement = tracker.startRequest(METHOD);
+    timeProvider.advanceTimeByMillis(durationMillis);
+    measurement.wrap(listener).onResponse(randomChunk());
+    measurement.complete();
+  }
+
+  private SszBytes32 randomChunk() {
+    return SszBytes32.of(dataStructureUtil.randomBytes32());
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.networking.eth2.peers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+
+public class SlidingWindowRateTrackerTest {
+
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(1000);
+
+  @Test
+  public void shouldReleaseObjectsOnceOutsideWindow() {
+    final RateTracker tracker = new SlidingWindowRateTracker(10, 2, timeProvider, "");
+
+    assertThat(tracker.approveObjectsRequest(10)).isPresent();
+    timeProvider.advanceTimeBySeconds(2);
+    assertThat(tracker.getAvailableObjectCount()).isZero();
+
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(tracker.getAvailableObjectCount()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldReleaseObjectsAfterTimeJumpsPastWholeWindow() {
+    final RateTracker tracker = new SlidingWindowRateTracker(10, 2, timeProvider, "");
+
+    assertThat(tracker.approveObjectsRequest(4)).isPresent();
+    timeProvider.advanceTimeBySeconds(1);
+    assertThat(tracker.approveObjectsRequest(4)).isPresent();
+
+    timeProvider.advanceTimeBySeconds(100);
+    assertThat(tracker.getAvailableObjectCount()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldIgnoreAdjustmentOfPrunedRequest() {
+    final RateTracker tracker = new SlidingWindowRateTracker(10, 2, timeProvider, "");
+    final Optional<RequestApproval> approval = tracker.approveObjectsRequest(5);
+
+    timeProvider.advanceTimeBySeconds(4);
+    assertThat(tracker.approveObjectsRequest(5)).isPresent();
+    tracker.adjustObjectsRequest(approval.orElseThrow(), 0);
+
+    assertThat(tracker.getAvailableObjectCount()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldIgnoreAdjustmentOfRequestWhoseBucketWasReused() {
+    final RateTracker tracker = new SlidingWindowRateTracker(10, 2, timeProvider, "");
+    final Optional<RequestApproval> approval = tracker.approveObjectsRequest(5);
+
+    // 1003 maps to the same bucket as 1000 in a three second ring
+    timeProvider.advanceTimeBySeconds(3);
+    assertThat(tracker.approveObjectsRequest(3)).isPresent();
+    tracker.adjustObjectsRequest(approval.orElseThrow(), 0);
+
+    assertThat(tracker.getAvailableObjectCount()).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldNotLoseUpdatesUnderConcurrentAccess() throws Exception {
+    final int threads = 8;
+    final int requestsPerThread = 1000;
+    final RateTracker tracker =
+        new SlidingWindowRateTracker(Integer.MAX_VALUE, 60, timeProvider, "");
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final CountDownLatch start = new CountDownLatch(1);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int j = 0; j < requestsPerThread; j++) {
+                    final RequestApproval approval = tracker.approveObjectsRequest(2).orElseThrow();
+                    tracker.adjustObjectsRequest(approval, 1);
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+      for (final Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(tracker.getAvailableObjectCount())
+        .isEqualTo(Integer.MAX_VALUE - (long) threads * requestsPerThread);
+  }
+}
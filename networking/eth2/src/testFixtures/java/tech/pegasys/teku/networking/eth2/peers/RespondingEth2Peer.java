@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -368,6 +369,11 @@ public class RespondingEth2Peer implements Eth2Peer {
     return 0;
   }
 
+  @Override
+  public OptionalLong getDataColumnSidecarsByRootThroughputBytesPerSecond() {
+    return OptionalLong.empty();
+  }
+
   @Override
   public Optional<RequestApproval> approveDataColumnSidecarsRequest(
       final ResponseCallback<DataColumnSidecar> callback, final long dataColumnSidecarsCount) {
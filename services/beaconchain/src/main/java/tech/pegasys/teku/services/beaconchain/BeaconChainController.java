@@ -192,6 +192,7 @@ import tech.pegasys.teku.statetransition.datacolumns.retriever.DataColumnReqResp
 import tech.pegasys.teku.statetransition.datacolumns.retriever.DataColumnSidecarRetriever;
 import tech.pegasys.teku.statetransition.datacolumns.retriever.RecoveringSidecarRetriever;
 import tech.pegasys.teku.statetransition.datacolumns.retriever.SimpleSidecarRetriever;
+import tech.pegasys.teku.statetransition.forkchoice.ExecutionPayloadPrefetcher;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoice;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifier;
 import tech.pegasys.teku.statetransition.forkchoice.ForkChoiceNotifierImpl;
@@ -203,6 +204,7 @@ import tech.pegasys.teku.statetransition.forkchoice.TerminalPowBlockMonitor;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessingPerformance;
 import tech.pegasys.teku.statetransition.forkchoice.TickProcessor;
 import tech.pegasys.teku.statetransition.genesis.GenesisHandler;
+import tech.pegasys.teku.statetransition.lightclient.LightClientDataProducer;
 import tech.pegasys.teku.statetransition.synccommittee.SignedContributionAndProofValidator;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeContributionPool;
 import tech.pegasys.teku.statetransition.synccommittee.SyncCommitteeMessagePool;
@@ -234,6 +236,7 @@ import tech.pegasys.teku.storage.api.ChainHeadChannel;
 import tech.pegasys.teku.storage.api.CombinedStorageChannel;
 import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
 import tech.pegasys.teku.storage.api.FinalizedCheckpointChannel;
+import tech.pegasys.teku.storage.api.LightClientUpdateChannel;
 import tech.pegasys.teku.storage.api.SidecarUpdateChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
 import tech.pegasys.teku.storage.api.StorageUpdateChannel;
@@ -252,6 +255,7 @@ import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.api.ValidatorPerformanceTrackingMode;
 import tech.pegasys.teku.validator.api.ValidatorTimingChannel;
 import tech.pegasys.teku.validator.coordinator.ActiveValidatorTracker;
+import tech.pegasys.teku.validator.coordinator.AttestationBlockAndStateCache;
 import tech.pegasys.teku.validator.coordinator.BlockFactory;
 import tech.pegasys.teku.validator.coordinator.BlockOperationSelectorFactory;
 import tech.pegasys.teku.validator.coordinator.DepositProvider;
@@ -373,6 +377,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
   protected Path debugDataDirectory;
   protected volatile UInt256 nodeId;
   protected volatile BlobSidecarReconstructionProvider blobSidecarReconstructionProvider;
+  protected volatile Optional<LightClientDataProducer> lightClientDataProducer = Optional.empty();
 
   public BeaconChainController(
       final ServiceConfig serviceConfig, final BeaconChainConfiguration beaconConfig) {
@@ -635,6 +640,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
     initSlashingEventsSubscriptions();
     initPerformanceTracker();
     initBlobSidecarReconstructionProvider();
+    initLightClientDataProducer();
     initDataProvider();
     initValidatorApiHandler();
     initRestAPI();
@@ -1121,6 +1127,23 @@ public class BeaconChainController extends Service implements BeaconChainControl
         new BlobSidecarReconstructionProvider(combinedChainDataClient, spec);
   }
 
+  protected void initLightClientDataProducer() {
+    if (!beaconConfig.beaconRestApiConfig().isRestApiLightClientEnabled()) {
+      return;
+    }
+    LOG.debug("BeaconChainController.initLightClientDataProducer()");
+    final LightClientDataProducer producer =
+        new LightClientDataProducer(
+            spec,
+            combinedChainDataClient,
+            eventChannels.getPublisher(LightClientUpdateChannel.class),
+            beaconAsyncRunner);
+    eventChannels
+        .subscribe(ReceivedBlockEventsChannel.class, producer)
+        .subscribe(FinalizedCheckpointChannel.class, producer);
+    lightClientDataProducer = Optional.of(producer);
+  }
+
   protected void initDataProvider() {
     dataProvider =
         DataProvider.builder()
@@ -1148,6 +1171,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
             .forkChoiceNotifier(forkChoiceNotifier)
             .rejectedExecutionSupplier(rejectedExecutionCountSupplier)
             .dataColumnSidecarManager(dataColumnSidecarManager)
+            .lightClientDataProducer(lightClientDataProducer)
             .build();
   }
 
@@ -1412,7 +1436,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
             syncCommitteeContributionPool,
             syncCommitteeSubscriptionManager,
             blockProductionPerformanceFactory,
-            blockPublisher);
+            blockPublisher,
+            new AttestationBlockAndStateCache(metricsSystem));
     eventChannels
         .subscribe(SlotEventsChannel.class, activeValidatorTracker)
         .subscribe(ExecutionClientEventsChannel.class, executionClientVersionProvider)
@@ -1641,7 +1666,8 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 profiler,
                 eth2NetworkConfiguration.getAggregatingAttestationPoolV2BlockAggregationTimeLimit(),
                 eth2NetworkConfiguration
-                    .getAggregatingAttestationPoolV2TotalBlockAggregationTimeLimit())
+                    .getAggregatingAttestationPoolV2TotalBlockAggregationTimeLimit(),
+                eth2NetworkConfiguration.isAggregatingAttestationPoolV2IncrementalPackingEnabled())
             : new AggregatingAttestationPoolV1(
                 spec, recentChainData, metricsSystem, profiler, DEFAULT_MAXIMUM_ATTESTATION_COUNT);
     eventChannels.subscribe(SlotEventsChannel.class, attestationPool);
@@ -1671,6 +1697,7 @@ public class BeaconChainController extends Service implements BeaconChainControl
                 eventChannels,
                 eventAsyncRunner,
                 timeProvider,
+                metricsSystem,
                 spec));
 
     if (getLivenessTrackingEnabled(beaconConfig)) {
@@ -1843,6 +1870,18 @@ public class BeaconChainController extends Service implements BeaconChainControl
             recentChainData,
             proposersDataManager,
             beaconConfig.eth2NetworkConfig().isForkChoiceLateBlockReorgEnabled());
+
+    final int payloadPrefetchLeadTimeMillis =
+        beaconConfig.eth2NetworkConfig().getExecutionPayloadPrefetchLeadTimeMillis();
+    if (payloadPrefetchLeadTimeMillis > 0) {
+      forkChoiceNotifier.subscribeToForkChoiceUpdatedResult(
+          new ExecutionPayloadPrefetcher(
+              beaconAsyncRunner,
+              timeProvider,
+              proposersDataManager,
+              executionLayerBlockProductionManager,
+              Duration.ofMillis(payloadPrefetchLeadTimeMillis)));
+    }
   }
 
   private Optional<Eth1Address> getProposerDefaultFeeRecipient() {
@@ -36,6 +36,7 @@ import tech.pegasys.teku.spec.SpecMilestone;
 import tech.pegasys.teku.spec.networks.Eth2Network;
 import tech.pegasys.teku.storage.api.CombinedStorageChannel;
 import tech.pegasys.teku.storage.api.Eth1DepositStorageChannel;
+import tech.pegasys.teku.storage.api.LightClientUpdateChannel;
 import tech.pegasys.teku.storage.api.SidecarUpdateChannel;
 import tech.pegasys.teku.storage.api.VoteUpdateChannel;
 import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
@@ -52,16 +53,20 @@ import tech.pegasys.teku.storage.server.VersionedDatabaseFactory;
 import tech.pegasys.teku.storage.server.network.EphemeryException;
 import tech.pegasys.teku.storage.server.pruner.BlobSidecarPruner;
 import tech.pegasys.teku.storage.server.pruner.BlockPruner;
+import tech.pegasys.teku.storage.server.pruner.FinalizedBlockArchiver;
 import tech.pegasys.teku.storage.server.pruner.StatePruner;
 
 public class StorageService extends Service implements StorageServiceFacade {
   public static final Duration STATE_PRUNING_INTERVAL = Duration.ofMinutes(1);
+  public static final Duration ERA_BLOCK_ARCHIVE_INTERVAL = Duration.ofMinutes(1);
+  public static final int ERA_BLOCK_ARCHIVE_LIMIT = 1;
   private final StorageConfiguration config;
   private volatile ChainStorage chainStorage;
   private final ServiceConfig serviceConfig;
   private volatile Database database;
   private volatile BatchingVoteUpdateChannel batchingVoteUpdateChannel;
   private volatile Optional<BlockPruner> blockPruner = Optional.empty();
+  private volatile Optional<FinalizedBlockArchiver> blockArchiver = Optional.empty();
   private volatile Optional<BlobSidecarPruner> blobsPruner = Optional.empty();
   private volatile Optional<StatePruner> statePruner = Optional.empty();
   private final boolean depositSnapshotStorageEnabled;
@@ -135,6 +140,18 @@ public class StorageService extends Service implements StorageServiceFacade {
                             "block",
                             pruningTimingsLabelledGauge,
                             pruningActiveLabelledGauge));
+              } else if (config.isEraBlockArchiveEnabled()) {
+                blockArchiver =
+                    Optional.of(
+                        new FinalizedBlockArchiver(
+                            config.getSpec(),
+                            database,
+                            storagePrunerAsyncRunner,
+                            ERA_BLOCK_ARCHIVE_INTERVAL,
+                            ERA_BLOCK_ARCHIVE_LIMIT,
+                            "block_archive",
+                            pruningTimingsLabelledGauge,
+                            pruningActiveLabelledGauge));
               }
               if (config.getDataStorageMode().storesFinalizedStates()
                   && config.getRetainedSlots() > 0) {
@@ -220,13 +237,19 @@ public class StorageService extends Service implements StorageServiceFacade {
                   .subscribe(Eth1DepositStorageChannel.class, depositStorage)
                   .subscribe(Eth1EventsChannel.class, depositStorage)
                   .subscribe(VoteUpdateChannel.class, batchingVoteUpdateChannel)
-                  .subscribe(SidecarUpdateChannel.class, chainStorage);
+                  .subscribe(SidecarUpdateChannel.class, chainStorage)
+                  .subscribe(LightClientUpdateChannel.class, chainStorage);
             })
         .thenCompose(
             __ ->
                 blockPruner
                     .map(BlockPruner::start)
                     .orElseGet(() -> SafeFuture.completedFuture(null)))
+        .thenCompose(
+            __ ->
+                blockArchiver
+                    .map(FinalizedBlockArchiver::start)
+                    .orElseGet(() -> SafeFuture.completedFuture(null)))
         .thenCompose(
             __ ->
                 blobsPruner
@@ -279,6 +302,10 @@ public class StorageService extends Service implements StorageServiceFacade {
   protected SafeFuture<?> doStop() {
     return SafeFuture.allOf(
             blockPruner.map(BlockPruner::stop).map(SafeFuture::toVoid).orElse(SafeFuture.COMPLETE),
+            blockArchiver
+                .map(FinalizedBlockArchiver::stop)
+                .map(SafeFuture::toVoid)
+                .orElse(SafeFuture.COMPLETE),
             blobsPruner
                 .map(BlobSidecarPruner::stop)
                 .map(SafeFuture::toVoid)
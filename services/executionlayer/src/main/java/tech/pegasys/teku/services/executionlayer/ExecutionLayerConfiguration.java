@@ -38,6 +38,7 @@ public class ExecutionLayerConfiguration {
   public static final boolean DEFAULT_BUILDER_SET_USER_AGENT_HEADER = true;
   public static final boolean DEFAULT_USE_SHOULD_OVERRIDE_BUILDER_FLAG = true;
   public static final boolean DEFAULT_EXCHANGE_CAPABILITIES_MONITORING_ENABLED = true;
+  public static final boolean DEFAULT_ENGINE_SSZ_TRANSPORT_ENABLED = false;
   public static final String BUILDER_ALWAYS_KEYWORD = "BUILDER_ALWAYS";
 
   private final Spec spec;
@@ -53,6 +54,7 @@ public class ExecutionLayerConfiguration {
   private final boolean builderSetUserAgentHeader;
   private final boolean useShouldOverrideBuilderFlag;
   private final boolean exchangeCapabilitiesMonitoringEnabled;
+  private final boolean engineSszTransportEnabled;
 
   private ExecutionLayerConfiguration(
       final Spec spec,
@@ -67,7 +69,8 @@ public class ExecutionLayerConfiguration {
       final UInt64 builderBidCompareFactor,
       final boolean builderSetUserAgentHeader,
       final boolean useShouldOverrideBuilderFlag,
-      final boolean exchangeCapabilitiesMonitoringEnabled) {
+      final boolean exchangeCapabilitiesMonitoringEnabled,
+      final boolean engineSszTransportEnabled) {
     this.spec = spec;
     this.engineEndpoint = engineEndpoint;
     this.engineJwtSecretFile = engineJwtSecretFile;
@@ -82,6 +85,7 @@ public class ExecutionLayerConfiguration {
     this.builderSetUserAgentHeader = builderSetUserAgentHeader;
     this.useShouldOverrideBuilderFlag = useShouldOverrideBuilderFlag;
     this.exchangeCapabilitiesMonitoringEnabled = exchangeCapabilitiesMonitoringEnabled;
+    this.engineSszTransportEnabled = engineSszTransportEnabled;
   }
 
   public static Builder builder() {
@@ -147,6 +151,10 @@ public class ExecutionLayerConfiguration {
     return exchangeCapabilitiesMonitoringEnabled;
   }
 
+  public boolean isEngineSszTransportEnabled() {
+    return engineSszTransportEnabled;
+  }
+
   public static class Builder {
     private Spec spec;
     private Optional<String> engineEndpoint = Optional.empty();
@@ -163,6 +171,7 @@ public class ExecutionLayerConfiguration {
     private boolean useShouldOverrideBuilderFlag = DEFAULT_USE_SHOULD_OVERRIDE_BUILDER_FLAG;
     private boolean exchangeCapabilitiesMonitoringEnabled =
         DEFAULT_EXCHANGE_CAPABILITIES_MONITORING_ENABLED;
+    private boolean engineSszTransportEnabled = DEFAULT_ENGINE_SSZ_TRANSPORT_ENABLED;
 
     private Builder() {}
 
@@ -200,7 +209,8 @@ public class ExecutionLayerConfiguration {
           builderBidCompareFactor,
           builderSetUserAgentHeader,
           useShouldOverrideBuilderFlag,
-          exchangeCapabilitiesMonitoringEnabled);
+          exchangeCapabilitiesMonitoringEnabled,
+          engineSszTransportEnabled);
     }
 
     public Builder engineEndpoint(final String engineEndpoint) {
@@ -272,6 +282,11 @@ public class ExecutionLayerConfiguration {
       return this;
     }
 
+    public Builder engineSszTransportEnabled(final boolean engineSszTransportEnabled) {
+      this.engineSszTransportEnabled = engineSszTransportEnabled;
+      return this;
+    }
+
     private void validateStubEndpoints() {
       final boolean engineIsStub =
           engineEndpoint.map(endpoint -> endpoint.startsWith(STUB_ENDPOINT_PREFIX)).orElse(false);
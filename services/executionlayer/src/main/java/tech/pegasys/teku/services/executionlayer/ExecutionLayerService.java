@@ -161,7 +161,12 @@ public class ExecutionLayerService extends Service {
 
     final ExecutionEngineClient executionEngineClient =
         ExecutionLayerManagerImpl.createEngineClient(
-            engineWeb3jClientProvider.getWeb3JClient(), timeProvider, metricsSystem);
+            engineWeb3jClientProvider.getWeb3JClient(),
+            timeProvider,
+            metricsSystem,
+            config.isEngineSszTransportEnabled()
+                ? Optional.of(config.getSpec())
+                : Optional.empty());
 
     final MilestoneBasedEngineJsonRpcMethodsResolver engineMethodsResolver =
         new MilestoneBasedEngineJsonRpcMethodsResolver(config.getSpec(), executionEngineClient);
@@ -72,6 +72,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -85,6 +86,8 @@ import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.StorageUpdate;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
+import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
+import tech.pegasys.teku.storage.archive.era.EraBlockArchive;
 import tech.pegasys.teku.storage.archive.filesystem.FileSystemBlobSidecarsArchiver;
 import tech.pegasys.teku.storage.client.RecentChainData;
 import tech.pegasys.teku.storage.server.Database;
@@ -204,6 +207,20 @@ public class DatabaseTest {
     assertThat(database.getWeakSubjectivityState().getCheckpoint()).contains(checkpoint);
   }
 
+  @TestTemplate
+  public void shouldStoreLightClientUpdateByPeriod(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final LightClientUpdate update = dataStructureUtil.randomLightClientUpdate(UInt64.ONE);
+    assertThat(database.getLightClientUpdate(UInt64.ONE)).isEmpty();
+
+    database.storeLightClientUpdate(UInt64.ONE, update);
+    restartStorage();
+
+    assertThat(database.getLightClientUpdate(UInt64.ONE)).contains(update);
+    assertThat(database.getLightClientUpdate(UInt64.valueOf(2))).isEmpty();
+  }
+
   @TestTemplate
   @SuppressWarnings("JavaCase")
   public void verifyBlobsLifecycle(final DatabaseContext context) throws IOException {
@@ -542,6 +559,82 @@ public class DatabaseTest {
     assertThat(getSlotBlobsArchiveFile(blobSidecar5_0)).exists();
   }
 
+  @TestTemplate
+  @SuppressWarnings("JavaCase")
+  public void pruneOldestBlobSidecars_shouldDeleteSlotRangeWithoutArchiver(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+
+    final BlobSidecar blobSidecar1_0 = randomBlobSidecar(1, 0);
+    final BlobSidecar blobSidecar2_0 = randomBlobSidecar(2, 0);
+    final BlobSidecar blobSidecar2_1 = randomBlobSidecar(2, 1);
+    final BlobSidecar blobSidecar4_0 = randomBlobSidecar(4, 0);
+    final BlobSidecar blobSidecar5_0 = randomBlobSidecar(5, 0);
+    List.of(blobSidecar2_0, blobSidecar5_0, blobSidecar1_0, blobSidecar4_0, blobSidecar2_1)
+        .forEach(database::storeBlobSidecar);
+
+    // The range is removed in one go, so the prune limit does not apply
+    assertThat(database.pruneOldestBlobSidecars(UInt64.valueOf(3), 1, BlobSidecarsArchiver.NOOP))
+        .isFalse();
+    assertBlobSidecarKeys(
+        ZERO,
+        UInt64.valueOf(10),
+        blobSidecarToKey(blobSidecar4_0),
+        blobSidecarToKey(blobSidecar5_0));
+    assertBlobSidecars(
+        Map.of(
+            blobSidecar4_0.getSlot(), List.of(blobSidecar4_0),
+            blobSidecar5_0.getSlot(), List.of(blobSidecar5_0)));
+    assertThat(database.getEarliestBlobSidecarSlot()).contains(UInt64.valueOf(4));
+    assertThat(database.getBlobSidecarColumnCount()).isEqualTo(2L);
+
+    // Pruning the same range again is harmless
+    assertThat(database.pruneOldestBlobSidecars(UInt64.valueOf(3), 1, BlobSidecarsArchiver.NOOP))
+        .isFalse();
+    assertThat(database.getBlobSidecarColumnCount()).isEqualTo(2L);
+
+    // The slot to prune is inclusive, the next slot is kept
+    assertThat(database.pruneOldestBlobSidecars(UInt64.valueOf(4), 1, BlobSidecarsArchiver.NOOP))
+        .isFalse();
+    assertBlobSidecarKeys(ZERO, UInt64.valueOf(10), blobSidecarToKey(blobSidecar5_0));
+    assertThat(database.getEarliestBlobSidecarSlot()).contains(UInt64.valueOf(5));
+
+    assertThat(database.pruneOldestBlobSidecars(UInt64.valueOf(5), 1, BlobSidecarsArchiver.NOOP))
+        .isFalse();
+    assertBlobSidecarKeys(ZERO, UInt64.valueOf(10));
+    assertThat(database.getEarliestBlobSidecarSlot()).contains(UInt64.valueOf(6));
+    assertThat(database.getBlobSidecarColumnCount()).isEqualTo(0L);
+  }
+
+  @TestTemplate
+  @SuppressWarnings("JavaCase")
+  public void pruneOldestNonCanonicalBlobSidecars_shouldDeleteSlotRangeWithoutArchiver(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+
+    final BlobSidecar blobSidecar1_0 = randomBlobSidecar(1, 0);
+    final BlobSidecar blobSidecar2_0 = randomBlobSidecar(2, 0);
+    final BlobSidecar blobSidecar2_1 = randomBlobSidecar(2, 1);
+    final BlobSidecar blobSidecar4_0 = randomBlobSidecar(4, 0);
+    List.of(blobSidecar2_0, blobSidecar1_0, blobSidecar4_0, blobSidecar2_1)
+        .forEach(database::storeNonCanonicalBlobSidecar);
+    // Canonical sidecars in the same slots are left alone
+    database.storeBlobSidecar(blobSidecar1_0);
+
+    assertThat(
+            database.pruneOldestNonCanonicalBlobSidecars(
+                UInt64.valueOf(2), 1, BlobSidecarsArchiver.NOOP))
+        .isFalse();
+    assertNonCanonicalBlobSidecarKeys(ZERO, UInt64.valueOf(10), blobSidecarToKey(blobSidecar4_0));
+    assertThat(database.getNonCanonicalBlobSidecarColumnCount()).isEqualTo(1L);
+    assertBlobSidecarKeys(ZERO, UInt64.valueOf(10), blobSidecarToKey(blobSidecar1_0));
+  }
+
+  private BlobSidecar randomBlobSidecar(final long slot, final int index) {
+    return dataStructureUtil.randomBlobSidecarForBlock(
+        dataStructureUtil.randomSignedBeaconBlock(slot), index);
+  }
+
   @TestTemplate
   public void updateWeakSubjectivityState_clearValue(final DatabaseContext context)
       throws IOException {
@@ -1283,6 +1376,124 @@ public class DatabaseTest {
     assertThat(database.getEarliestAvailableBlockSlot()).contains(genesisBlockAndState.getSlot());
   }
 
+  @TestTemplate
+  public void archiveFinalizedBlocks_shouldServeArchivedErasFromArchive(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    final SignedBeaconBlock genesisBlock =
+        database.getFinalizedBlockAtSlot(UInt64.ZERO).orElseThrow();
+    final List<SignedBeaconBlock> blocks =
+        importRandomFinalizedBlocks(3, slotsPerEra + 1, 2 * slotsPerEra + 5);
+
+    try (final EraBlockArchive archive = createEraBlockArchive()) {
+      final KvStoreDatabase archivingDatabase =
+          ((KvStoreDatabase) database).withFinalizedBlockArchive(archive);
+
+      // The third era contains the finalized slot so can't be archived yet
+      assertThat(archivingDatabase.archiveFinalizedBlocks(UInt64.valueOf(2 * slotsPerEra + 10), 10))
+          .isEqualTo(2);
+
+      assertThat(archivingDatabase.getArchivedBlocksEndSlot())
+          .contains(UInt64.valueOf(2 * slotsPerEra));
+      assertThat(database.getFinalizedBlockAtSlot(blocks.get(1).getSlot())).isEmpty();
+      assertThat(database.getFinalizedBlockAtSlot(blocks.get(2).getSlot())).contains(blocks.get(2));
+      assertThat(archivingDatabase.getFinalizedBlockAtSlot(blocks.get(1).getSlot()))
+          .contains(blocks.get(1));
+      // Genesis is no longer in the blocks column so the earliest slot must have been pinned
+      assertThat(archivingDatabase.getEarliestAvailableBlockSlot()).contains(UInt64.ZERO);
+      assertThat(archivingDatabase.getEarliestAvailableBlock()).contains(genesisBlock);
+      try (final Stream<SignedBeaconBlock> stream =
+          archivingDatabase.streamFinalizedBlocks(UInt64.ZERO, UInt64.valueOf(3 * slotsPerEra))) {
+        assertThat(stream)
+            .containsExactly(genesisBlock, blocks.get(0), blocks.get(1), blocks.get(2));
+      }
+    }
+  }
+
+  @TestTemplate
+  public void archiveFinalizedBlocks_shouldResumeFromLastArchivedEra(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    final List<SignedBeaconBlock> blocks =
+        importRandomFinalizedBlocks(slotsPerEra + 1, 2 * slotsPerEra + 5);
+    final UInt64 finalizedSlot = UInt64.valueOf(4 * slotsPerEra);
+
+    try (final EraBlockArchive archive = createEraBlockArchive()) {
+      final KvStoreDatabase archivingDatabase =
+          ((KvStoreDatabase) database).withFinalizedBlockArchive(archive);
+
+      assertThat(archivingDatabase.archiveFinalizedBlocks(finalizedSlot, 1)).isEqualTo(1);
+      assertThat(archivingDatabase.getArchivedBlocksEndSlot())
+          .contains(UInt64.valueOf(slotsPerEra));
+
+      assertThat(archivingDatabase.archiveFinalizedBlocks(finalizedSlot, 10)).isEqualTo(2);
+      assertThat(archivingDatabase.getArchivedBlocksEndSlot())
+          .contains(UInt64.valueOf(3 * slotsPerEra));
+      assertThat(archive.isEraArchived(UInt64.valueOf(2))).isTrue();
+      assertThat(archivingDatabase.getFinalizedBlockAtSlot(blocks.get(1).getSlot()))
+          .contains(blocks.get(1));
+
+      assertThat(archivingDatabase.archiveFinalizedBlocks(finalizedSlot, 10)).isZero();
+    }
+  }
+
+  @TestTemplate
+  public void archiveFinalizedBlocks_shouldDoNothingWithoutArchive(final DatabaseContext context)
+      throws IOException {
+    initialize(context);
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    final List<SignedBeaconBlock> blocks = importRandomFinalizedBlocks(slotsPerEra + 1);
+
+    assertThat(database.archiveFinalizedBlocks(UInt64.valueOf(4 * slotsPerEra), 10)).isZero();
+
+    assertThat(((KvStoreDatabase) database).getArchivedBlocksEndSlot()).isEmpty();
+    assertThat(database.getFinalizedBlockAtSlot(blocks.get(0).getSlot())).contains(blocks.get(0));
+  }
+
+  @TestTemplate
+  public void getSlotAndBlockRootFromStateRoot_shouldFindBlocksInArchivedEras(
+      final DatabaseContext context) throws IOException {
+    initialize(context);
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    final List<SignedBeaconBlock> blocks =
+        importRandomFinalizedBlocks(3, slotsPerEra + 1, 2 * slotsPerEra + 5);
+    final SignedBeaconBlock archivedBlock = blocks.get(1);
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      updater.addFinalizedStateRoot(archivedBlock.getStateRoot(), archivedBlock.getSlot());
+      updater.commit();
+    }
+
+    try (final EraBlockArchive archive = createEraBlockArchive()) {
+      final KvStoreDatabase archivingDatabase =
+          ((KvStoreDatabase) database).withFinalizedBlockArchive(archive);
+      assertThat(archivingDatabase.archiveFinalizedBlocks(UInt64.valueOf(2 * slotsPerEra + 10), 10))
+          .isEqualTo(2);
+
+      assertThat(archivingDatabase.getSlotAndBlockRootFromStateRoot(archivedBlock.getStateRoot()))
+          .contains(new SlotAndBlockRoot(archivedBlock.getSlot(), archivedBlock.getRoot()));
+    }
+  }
+
+  private List<SignedBeaconBlock> importRandomFinalizedBlocks(final int... slots) {
+    final List<SignedBeaconBlock> blocks =
+        Arrays.stream(slots).mapToObj(dataStructureUtil::randomSignedBeaconBlock).toList();
+    database.importFinalizedBlocks(
+        blocks.stream()
+            .collect(
+                toMap(
+                    block -> new SlotAndBlockRoot(block.getSlot(), block.getRoot()),
+                    SignedBeaconBlock::sszSerialize)));
+    return blocks;
+  }
+
+  private EraBlockArchive createEraBlockArchive() throws IOException {
+    final Path eraDirectory = Files.createTempDirectory("era");
+    tmpDirectories.add(eraDirectory.toFile());
+    return EraBlockArchive.create(spec, eraDirectory);
+  }
+
   @TestTemplate
   public void slotAndBlock_shouldGetStateRootsBeforeSlot(final DatabaseContext context)
       throws IOException {
@@ -0,0 +1,163 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blobs.versions.fulu.DataColumnSidecar;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.storageSystem.FileBackedStorageSystemBuilder;
+import tech.pegasys.teku.storage.storageSystem.StorageSystem;
+
+/**
+ * Measures how fast data column sidecars are pruned and how reads of retained sidecars behave while
+ * pruning runs concurrently.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class SidecarPruningBenchmark {
+  private static final int SLOTS = 1024;
+  private static final int COLUMNS = 8;
+  private static final int SLOTS_PER_PRUNE = 32;
+
+  @State(Scope.Benchmark)
+  public static class StoredSidecars {
+    final List<DataColumnSidecar> sidecars = new ArrayList<>();
+    final List<DataColumnSlotAndIdentifier> identifiers = new ArrayList<>();
+    Database database;
+    private StorageSystem storageSystem;
+    private Path tempDirectory;
+
+    @Setup(Level.Trial)
+    public void createDatabase() throws Exception {
+      final Spec spec = TestSpecFactory.createMinimalFulu();
+      final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+      for (int slot = 0; slot < SLOTS; slot++) {
+        final SignedBeaconBlockHeader header =
+            dataStructureUtil.randomSignedBeaconBlockHeader(UInt64.valueOf(slot));
+        for (int column = 0; column < COLUMNS; column++) {
+          final DataColumnSidecar sidecar =
+              dataStructureUtil.randomDataColumnSidecar(header, UInt64.valueOf(column));
+          sidecars.add(sidecar);
+          identifiers.add(DataColumnSlotAndIdentifier.fromDataColumn(sidecar));
+        }
+      }
+      tempDirectory = Files.createTempDirectory(getClass().getSimpleName());
+      storageSystem =
+          FileBackedStorageSystemBuilder.create()
+              .specProvider(spec)
+              .dataDir(tempDirectory)
+              .version(DatabaseVersion.DEFAULT_VERSION)
+              .build();
+      database = storageSystem.database();
+    }
+
+    @Setup(Level.Iteration)
+    public void storeSidecars() {
+      sidecars.forEach(database::addSidecar);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+      storageSystem.close();
+      FileUtils.deleteDirectory(tempDirectory.toFile());
+    }
+  }
+
+  /**
+   * Prunes the lower half of the stored slots on a background thread, one batch after another,
+   * while the benchmark thread reads from the upper half which is never pruned.
+   */
+  @State(Scope.Benchmark)
+  public static class BackgroundPruning {
+    @Param({"false", "true"})
+    boolean pruning;
+
+    private Thread pruner;
+
+    @Setup(Level.Iteration)
+    public void startPruning(final StoredSidecars stored) {
+      if (!pruning) {
+        return;
+      }
+      pruner =
+          Thread.ofPlatform()
+              .name("pruner")
+              .start(
+                  () -> {
+                    for (int slot = SLOTS_PER_PRUNE - 1;
+                        slot < SLOTS / 2 && !Thread.currentThread().isInterrupted();
+                        slot += SLOTS_PER_PRUNE) {
+                      stored.database.pruneAllSidecars(UInt64.valueOf(slot));
+                    }
+                  });
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopPruning() throws InterruptedException {
+      if (pruner != null) {
+        pruner.interrupt();
+        pruner.join();
+        pruner = null;
+      }
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  public void pruneAllSlots(final StoredSidecars stored) {
+    for (int slot = SLOTS_PER_PRUNE - 1; slot < SLOTS; slot += SLOTS_PER_PRUNE) {
+      stored.database.pruneAllSidecars(UInt64.valueOf(slot));
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void readRetainedSidecar(
+      final StoredSidecars stored, final BackgroundPruning pruning, final Blackhole bh) {
+    final int retainedStart = stored.identifiers.size() / 2;
+    final int index =
+        ThreadLocalRandom.current().nextInt(retainedStart, stored.identifiers.size());
+    bh.consume(stored.database.getSidecar(stored.identifiers.get(index)));
+  }
+}
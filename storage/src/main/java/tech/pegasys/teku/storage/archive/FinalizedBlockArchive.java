@@ -0,0 +1,84 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.stream.Stream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+/**
+ * Immutable store of finalized blocks grouped by era, where era {@code N} holds the blocks for
+ * slots {@code [N * SLOTS_PER_HISTORICAL_ROOT, (N + 1) * SLOTS_PER_HISTORICAL_ROOT)}.
+ */
+public interface FinalizedBlockArchive extends AutoCloseable {
+
+  FinalizedBlockArchive NOOP =
+      new FinalizedBlockArchive() {
+        @Override
+        public boolean isEraArchived(final UInt64 era) {
+          return false;
+        }
+
+        @Override
+        public boolean isArchived(final UInt64 slot) {
+          return false;
+        }
+
+        @Override
+        public Optional<SignedBeaconBlock> getBlock(final UInt64 slot) {
+          return Optional.empty();
+        }
+
+        @Override
+        public Optional<SignedBeaconBlock> getLatestBlockAtSlot(final UInt64 slot) {
+          return Optional.empty();
+        }
+
+        @Override
+        public Stream<SignedBeaconBlock> streamBlocks(
+            final UInt64 startSlot, final UInt64 endSlot) {
+          return Stream.empty();
+        }
+
+        @Override
+        public void archive(final UInt64 era, final Stream<SignedBeaconBlock> blocks) {}
+
+        @Override
+        public void close() {}
+      };
+
+  boolean isEraArchived(UInt64 era);
+
+  /** Returns {@code true} if the era containing {@code slot} has been archived. */
+  boolean isArchived(UInt64 slot);
+
+  Optional<SignedBeaconBlock> getBlock(UInt64 slot);
+
+  /** Returns the archived block with the highest slot less than or equal to {@code slot}. */
+  Optional<SignedBeaconBlock> getLatestBlockAtSlot(UInt64 slot);
+
+  /** Streams archived blocks with slots in {@code [startSlot, endSlot]}, ordered by slot. */
+  Stream<SignedBeaconBlock> streamBlocks(UInt64 startSlot, UInt64 endSlot);
+
+  /**
+   * Writes the blocks of a complete era. Blocks must be ordered by slot and all fall within the
+   * era. The era only becomes visible once it has been fully written.
+   */
+  void archive(UInt64 era, Stream<SignedBeaconBlock> blocks) throws IOException;
+
+  @Override
+  void close() throws IOException;
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.storage.archive.FinalizedBlockArchive;
+
+/**
+ * Stores each archived era as a separate e2store file in a directory. Files are kept open once
+ * loaded, so serving a block is a positional read of its record plus decompression.
+ */
+public class EraBlockArchive implements FinalizedBlockArchive {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Pattern FILE_NAME_PATTERN = Pattern.compile("blocks-(\\d+)\\.e2s");
+
+  private final Spec spec;
+  private final Path directory;
+  private final int slotsPerEra;
+  private final NavigableMap<UInt64, EraBlockFile> eraFiles = new ConcurrentSkipListMap<>();
+
+  private EraBlockArchive(final Spec spec, final Path directory) {
+    this.spec = spec;
+    this.directory = directory;
+    this.slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+  }
+
+  public static EraBlockArchive create(final Spec spec, final Path directory) throws IOException {
+    Files.createDirectories(directory);
+    final EraBlockArchive archive = new EraBlockArchive(spec, directory);
+    archive.loadEraFiles();
+    return archive;
+  }
+
+  private void loadEraFiles() throws IOException {
+    final List<Path> files;
+    try (final Stream<Path> list = Files.list(directory)) {
+      files = list.toList();
+    }
+    for (final Path file : files) {
+      final String fileName = file.getFileName().toString();
+      if (fileName.endsWith(EraBlockFileWriter.TEMP_FILE_SUFFIX)) {
+        LOG.debug("Removing incomplete era file {}", file);
+        Files.delete(file);
+        continue;
+      }
+      final Matcher matcher = FILE_NAME_PATTERN.matcher(fileName);
+      if (matcher.matches()) {
+        eraFiles.put(UInt64.valueOf(matcher.group(1)), EraBlockFile.open(spec, file));
+      }
+    }
+    LOG.debug("Loaded {} era files from {}", eraFiles.size(), directory);
+  }
+
+  @Override
+  public boolean isEraArchived(final UInt64 era) {
+    return eraFiles.containsKey(era);
+  }
+
+  @Override
+  public boolean isArchived(final UInt64 slot) {
+    return eraFiles.containsKey(getEra(slot));
+  }
+
+  @Override
+  public Optional<SignedBeaconBlock> getBlock(final UInt64 slot) {
+    return Optional.ofNullable(eraFiles.get(getEra(slot))).flatMap(file -> file.getBlock(slot));
+  }
+
+  @Override
+  public Optional<SignedBeaconBlock> getLatestBlockAtSlot(final UInt64 slot) {
+    for (final EraBlockFile file : eraFiles.headMap(getEra(slot), true).descendingMap().values()) {
+      final Optional<SignedBeaconBlock> block = file.getLatestBlockAtSlot(slot);
+      if (block.isPresent()) {
+        return block;
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public Stream<SignedBeaconBlock> streamBlocks(final UInt64 startSlot, final UInt64 endSlot) {
+    if (endSlot.isLessThan(startSlot)) {
+      return Stream.empty();
+    }
+    return eraFiles.subMap(getEra(startSlot), true, getEra(endSlot), true).values().stream()
+        .flatMap(file -> file.streamBlocks(startSlot, endSlot));
+  }
+
+  @Override
+  public synchronized void archive(final UInt64 era, final Stream<SignedBeaconBlock> blocks)
+      throws IOException {
+    checkArgument(!isEraArchived(era), "Era %s is already archived", era);
+    final Path path = directory.resolve(String.format("blocks-%06d.e2s", era.longValue()));
+    EraBlockFileWriter.write(path, era.times(slotsPerEra), slotsPerEra, blocks);
+    eraFiles.put(era, EraBlockFile.open(spec, path));
+  }
+
+  private UInt64 getEra(final UInt64 slot) {
+    return slot.dividedBy(slotsPerEra);
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (final EraBlockFile file : eraFiles.values()) {
+      file.close();
+    }
+    eraFiles.clear();
+  }
+}
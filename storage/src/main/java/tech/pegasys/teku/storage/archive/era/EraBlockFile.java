@@ -0,0 +1,184 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.xerial.snappy.SnappyFramedInputStream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.storage.server.DatabaseStorageException;
+
+/**
+ * Reader for a file of blocks in e2store format, as written by {@link EraBlockFileWriter}.
+ *
+ * <p>The file contains a version record, snappy framed SSZ block records and finally a slot index
+ * record with the offset of each slot's block relative to the start of the index (or 0 for an
+ * empty slot). Reads are positional so a single instance can be shared between threads.
+ *
+ * <p>The block section of a standard era file has the same layout, except that it is followed by
+ * the era state and its index, see {@link EraFileReader}.
+ */
+class EraBlockFile implements Closeable {
+  static final int HEADER_SIZE = 8;
+  static final byte[] VERSION_TYPE = {0x65, 0x32};
+  static final byte[] BLOCK_TYPE = {0x01, 0x00};
+  static final byte[] SLOT_INDEX_TYPE = {0x69, 0x32};
+
+  private final Spec spec;
+  private final EraFileData data;
+  private final long indexStart;
+  private final UInt64 startSlot;
+  private final int slotCount;
+
+  EraBlockFile(final Spec spec, final EraFileData data, final long indexEnd) throws IOException {
+    this.spec = spec;
+    this.data = data;
+    this.indexStart = findSlotIndexStart(data, indexEnd);
+    this.slotCount = Math.toIntExact(data.getLong(indexEnd - Long.BYTES));
+    this.startSlot = UInt64.fromLongBits(data.getLong(indexStart + HEADER_SIZE));
+  }
+
+  static EraBlockFile open(final Spec spec, final Path path) throws IOException {
+    final EraFileData data = EraFileData.open(path);
+    try {
+      return new EraBlockFile(spec, data, data.size());
+    } catch (final IOException | RuntimeException e) {
+      data.close();
+      throw e;
+    }
+  }
+
+  /** Returns the start of the slot index record which ends at {@code indexEnd}. */
+  static long findSlotIndexStart(final EraFileData data, final long indexEnd) throws IOException {
+    checkArgument(indexEnd >= 2 * HEADER_SIZE + 16, "Era file %s is truncated", data.getPath());
+    final long count = data.getLong(indexEnd - Long.BYTES);
+    final long indexStart = indexEnd - (HEADER_SIZE + 2L * Long.BYTES + count * Long.BYTES);
+    checkArgument(
+        count > 0 && indexStart >= HEADER_SIZE && hasType(data, indexStart, SLOT_INDEX_TYPE),
+        "Era file %s does not contain a slot index ending at offset %s",
+        data.getPath(),
+        indexEnd);
+    return indexStart;
+  }
+
+  static Bytes decompress(final EraFileData data, final long recordStart) throws IOException {
+    final ByteBuffer compressed =
+        data.read(recordStart + HEADER_SIZE, data.getInt(recordStart + 2));
+    try (final SnappyFramedInputStream input =
+        new SnappyFramedInputStream(
+            new ByteArrayInputStream(compressed.array(), 0, compressed.limit()))) {
+      return Bytes.wrap(input.readAllBytes());
+    }
+  }
+
+  static boolean hasType(final EraFileData data, final long recordStart, final byte[] type)
+      throws IOException {
+    final ByteBuffer header = data.read(recordStart, type.length);
+    return header.get(0) == type[0] && header.get(1) == type[1];
+  }
+
+  UInt64 getStartSlot() {
+    return startSlot;
+  }
+
+  int getSlotCount() {
+    return slotCount;
+  }
+
+  Optional<SignedBeaconBlock> getBlock(final UInt64 slot) {
+    if (slot.isLessThan(startSlot) || slot.isGreaterThanOrEqualTo(startSlot.plus(slotCount))) {
+      return Optional.empty();
+    }
+    return readBlock(slot.minus(startSlot).intValue());
+  }
+
+  Optional<SignedBeaconBlock> getLatestBlockAtSlot(final UInt64 slot) {
+    if (slot.isLessThan(startSlot)) {
+      return Optional.empty();
+    }
+    final UInt64 lastIndex = UInt64.valueOf(slotCount - 1);
+    for (int i = slot.minus(startSlot).min(lastIndex).intValue(); i >= 0; i--) {
+      final Optional<SignedBeaconBlock> block = readBlock(i);
+      if (block.isPresent()) {
+        return block;
+      }
+    }
+    return Optional.empty();
+  }
+
+  Stream<SignedBeaconBlock> streamBlocks(final UInt64 fromSlot, final UInt64 toSlot) {
+    if (toSlot.isLessThan(startSlot)) {
+      return Stream.empty();
+    }
+    final UInt64 lastIndex = UInt64.valueOf(slotCount - 1);
+    final long first = fromSlot.max(startSlot).minus(startSlot).longValue();
+    final long last = toSlot.minus(startSlot).min(lastIndex).longValue();
+    if (first > last) {
+      return Stream.empty();
+    }
+    return LongStream.rangeClosed(first, last)
+        .mapToObj(i -> readBlock((int) i))
+        .flatMap(Optional::stream);
+  }
+
+  private Optional<SignedBeaconBlock> readBlock(final int slotIndex) {
+    final UInt64 slot = startSlot.plus(slotIndex);
+    return readBlockSsz(slotIndex)
+        .map(
+            ssz ->
+                spec.atSlot(slot)
+                    .getSchemaDefinitions()
+                    .getSignedBeaconBlockSchema()
+                    .sszDeserialize(ssz));
+  }
+
+  /** Returns the uncompressed SSZ of the block at {@code slotIndex} without deserializing it. */
+  Optional<Bytes> readBlockSsz(final int slotIndex) {
+    try {
+      final long offset = data.getLong(indexStart + HEADER_SIZE + Long.BYTES * (slotIndex + 1L));
+      if (offset == 0) {
+        return Optional.empty();
+      }
+      final long recordStart = indexStart + offset;
+      if (recordStart < HEADER_SIZE || !hasType(data, recordStart, BLOCK_TYPE)) {
+        throw DatabaseStorageException.unrecoverable(
+            "Invalid block record at offset " + recordStart + " in era file " + data.getPath());
+      }
+      return Optional.of(decompress(data, recordStart));
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to read block at slot "
+              + startSlot.plus(slotIndex)
+              + " from era file "
+              + data.getPath(),
+          e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    data.close();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.BLOCK_TYPE;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.HEADER_SIZE;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.SLOT_INDEX_TYPE;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.VERSION_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.xerial.snappy.SnappyFramedOutputStream;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+
+class EraBlockFileWriter {
+  static final String TEMP_FILE_SUFFIX = ".tmp";
+
+  private EraBlockFileWriter() {}
+
+  /**
+   * Writes the blocks for slots {@code [startSlot, startSlot + slotCount)} to {@code path}. Blocks
+   * are streamed to a temporary file which is only moved into place once complete.
+   */
+  static void write(
+      final Path path,
+      final UInt64 startSlot,
+      final int slotCount,
+      final Stream<SignedBeaconBlock> blocks)
+      throws IOException {
+    final Path tempFile = path.resolveSibling(path.getFileName() + TEMP_FILE_SUFFIX);
+    final long[] positions = new long[slotCount];
+    try (final FileChannel channel =
+        FileChannel.open(
+            tempFile,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      long position = writeRecord(channel, VERSION_TYPE, ByteBuffer.allocate(0));
+      int lastSlotIndex = -1;
+      final Iterator<SignedBeaconBlock> iterator = blocks.iterator();
+      while (iterator.hasNext()) {
+        final SignedBeaconBlock block = iterator.next();
+        checkArgument(
+            block.getSlot().isGreaterThanOrEqualTo(startSlot)
+                && block.getSlot().isLessThan(startSlot.plus(slotCount)),
+            "Block at slot %s is outside of era starting at slot %s",
+            block.getSlot(),
+            startSlot);
+        final int slotIndex = block.getSlot().minus(startSlot).intValue();
+        checkArgument(slotIndex > lastSlotIndex, "Blocks must be ordered by slot");
+        lastSlotIndex = slotIndex;
+        positions[slotIndex] = position;
+        position += writeRecord(channel, BLOCK_TYPE, compress(block));
+      }
+
+      final ByteBuffer index =
+          ByteBuffer.allocate(Long.BYTES * (slotCount + 2)).order(ByteOrder.LITTLE_ENDIAN);
+      index.putLong(startSlot.longValue());
+      for (final long blockPosition : positions) {
+        // Offsets are relative to the start of the index record, 0 marks an empty slot
+        index.putLong(blockPosition == 0 ? 0 : blockPosition - position);
+      }
+      index.putLong(slotCount);
+      writeRecord(channel, SLOT_INDEX_TYPE, index.flip());
+      channel.force(true);
+    } catch (final IOException | RuntimeException e) {
+      Files.deleteIfExists(tempFile);
+      throw e;
+    }
+    Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static ByteBuffer compress(final SignedBeaconBlock block) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final SnappyFramedOutputStream snappy = new SnappyFramedOutputStream(out)) {
+      snappy.write(block.sszSerialize().toArrayUnsafe());
+    }
+    return ByteBuffer.wrap(out.toByteArray());
+  }
+
+  static long writeRecord(
+      final FileChannel channel, final byte[] type, final ByteBuffer data) throws IOException {
+    final int length = data.remaining();
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.put(type).putInt(length).putShort((short) 0).flip();
+    writeFully(channel, header);
+    writeFully(channel, data);
+    return HEADER_SIZE + length;
+  }
+
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer)
+      throws IOException {
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access to the contents of an e2store file using positional reads. Unlike a memory mapping
+ * the offsets are not limited to 2 GiB, and as reads never move the channel position a single
+ * instance can be shared between threads.
+ */
+class EraFileData implements Closeable {
+  private final Path path;
+  private final FileChannel channel;
+  private final long size;
+
+  private EraFileData(final Path path, final FileChannel channel, final long size) {
+    this.path = path;
+    this.channel = channel;
+    this.size = size;
+  }
+
+  static EraFileData open(final Path path) throws IOException {
+    final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new EraFileData(path, channel, channel.size());
+    } catch (final IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  long size() {
+    return size;
+  }
+
+  int getInt(final long position) throws IOException {
+    return read(position, Integer.BYTES).getInt();
+  }
+
+  long getLong(final long position) throws IOException {
+    return read(position, Long.BYTES).getLong();
+  }
+
+  /** Returns a little endian buffer holding the {@code length} bytes at {@code position}. */
+  ByteBuffer read(final long position, final int length) throws IOException {
+    if (position < 0 || length < 0 || position + length > size) {
+      throw new EOFException(
+          "Cannot read " + length + " bytes at offset " + position + " from era file " + path);
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new EOFException("Unexpected end of era file " + path);
+      }
+    }
+    return buffer.flip();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.infrastructure.time.TimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.config.SpecConfigDeneb;
+import tech.pegasys.teku.spec.datastructures.blocks.BeaconBlockHeader;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.storage.server.Database;
+
+/**
+ * Backfills finalized block history from a directory of standard era files.
+ *
+ * <p>Files are imported from the most recent era backwards, so that each one extends the chain
+ * down from the earliest block already held in the database. Decoding and hashing the blocks of an
+ * era is the expensive part and runs on a pool of threads a few files ahead of the import, which
+ * then writes the verified blocks in large batches straight from their SSZ encoding.
+ *
+ * <p>Era files contain no blobs, so blocks which must be stored together with their blobs (those
+ * within the data availability window) are never imported. Until historical sync has backfilled
+ * down to the start of that window, nothing is imported.
+ */
+public class EraFileImporter {
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[^-]+-(\\d+)-[0-9a-f]+\\.era");
+  static final int BATCH_SIZE = 1024;
+
+  private final Spec spec;
+  private final Database database;
+  private final TimeProvider timeProvider;
+  private final int parallelism;
+  private final boolean verifyStateRoots;
+  private final int slotsPerEra;
+
+  /**
+   * @param parallelism number of era files verified concurrently
+   * @param verifyStateRoots also check block and state roots against the state stored in each era
+   *     file, in addition to the parent root chain
+   */
+  public EraFileImporter(
+      final Spec spec,
+      final Database database,
+      final TimeProvider timeProvider,
+      final int parallelism,
+      final boolean verifyStateRoots) {
+    checkArgument(parallelism > 0, "Parallelism must be positive");
+    this.spec = spec;
+    this.database = database;
+    this.timeProvider = timeProvider;
+    this.parallelism = parallelism;
+    this.verifyStateRoots = verifyStateRoots;
+    this.slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+  }
+
+  /**
+   * Imports blocks older than the earliest available block from the era files in {@code
+   * directory}, stopping at the first missing era.
+   *
+   * @return the number of blocks imported
+   */
+  public long importEraFiles(final Path directory) throws IOException, InterruptedException {
+    final Optional<SignedBeaconBlock> earliestBlock = database.getEarliestAvailableBlock();
+    Bytes32 expectedRoot;
+    final UInt64 importBeforeSlot;
+    if (earliestBlock.isPresent()) {
+      expectedRoot = earliestBlock.get().getParentRoot();
+      importBeforeSlot = earliestBlock.get().getSlot();
+    } else {
+      final BeaconBlockHeader anchor =
+          database
+              .getLatestAvailableFinalizedState(UInt64.MAX_VALUE)
+              .map(BeaconBlockHeader::fromState)
+              .orElseThrow(
+                  () -> new IllegalStateException("No finalized state available to import onto"));
+      expectedRoot = anchor.getRoot();
+      importBeforeSlot = anchor.getSlot().increment();
+    }
+
+    final Optional<UInt64> dataAvailabilityBoundarySlot = getDataAvailabilityBoundarySlot();
+    if (dataAvailabilityBoundarySlot.isPresent()
+        && importBeforeSlot.isGreaterThan(dataAvailabilityBoundarySlot.get())) {
+      LOG.info(
+          "Earliest block at slot {} is within the data availability window, which starts at "
+              + "slot {}. Historical sync must backfill blocks and blobs to that slot before era "
+              + "files can be imported.",
+          importBeforeSlot,
+          dataAvailabilityBoundarySlot.get());
+      return 0;
+    }
+
+    final List<Path> files = findEraFiles(directory, importBeforeSlot);
+    if (files.isEmpty()) {
+      LOG.info("No era file found in {} for the era before slot {}", directory, importBeforeSlot);
+      return 0;
+    }
+
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder().setNameFormat("era-import-%d").setDaemon(true).build());
+    final Deque<Future<VerifiedEra>> pending = new ArrayDeque<>();
+    final Iterator<Path> remainingFiles = files.iterator();
+    long importedBlocks = 0;
+    try {
+      while (remainingFiles.hasNext() || !pending.isEmpty()) {
+        while (remainingFiles.hasNext() && pending.size() < parallelism * 2) {
+          final Path file = remainingFiles.next();
+          pending.add(executor.submit(() -> verify(file)));
+        }
+        final VerifiedEra era = pending.removeFirst().get();
+        try (final EraFileReader reader = era.reader()) {
+          final int count = importEra(era, expectedRoot, importBeforeSlot);
+          if (count > 0) {
+            expectedRoot = era.firstParentRoot();
+            importedBlocks += count;
+          }
+          LOG.info("Imported {} blocks from {}", count, reader.getPath().getFileName());
+        }
+      }
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed to verify era file", e.getCause());
+    } finally {
+      executor.shutdownNow();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+      closeCompleted(pending);
+    }
+    return importedBlocks;
+  }
+
+  /**
+   * Returns the first slot whose block must be stored with its blobs, which is the later of the
+   * Deneb fork and the start of the blob sidecar retention period, or empty if blobs aren't
+   * scheduled.
+   */
+  private Optional<UInt64> getDataAvailabilityBoundarySlot() {
+    final Optional<UInt64> firstSlotWithBlobSupport = spec.computeFirstSlotWithBlobSupport();
+    if (firstSlotWithBlobSupport.isEmpty()) {
+      return Optional.empty();
+    }
+    final UInt64 genesisTime =
+        database
+            .getGenesisTime()
+            .orElseThrow(() -> new IllegalStateException("Genesis time is not available"));
+    final UInt64 currentEpoch =
+        spec.computeEpochAtSlot(
+            spec.getCurrentSlot(timeProvider.getTimeInSeconds(), genesisTime));
+    final int minEpochsForBlobSidecarsRequests =
+        SpecConfigDeneb.required(spec.atSlot(firstSlotWithBlobSupport.get()).getConfig())
+            .getMinEpochsForBlobSidecarsRequests();
+    return Optional.of(
+        firstSlotWithBlobSupport
+            .get()
+            .max(
+                spec.computeStartSlotAtEpoch(
+                    currentEpoch.minusMinZero(minEpochsForBlobSidecarsRequests))));
+  }
+
+  private List<Path> findEraFiles(final Path directory, final UInt64 importBeforeSlot)
+      throws IOException {
+    final NavigableMap<Long, Path> filesByEra = new TreeMap<>();
+    try (final Stream<Path> list = Files.list(directory)) {
+      list.forEach(
+          file -> {
+            final Matcher matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+            if (matcher.matches()) {
+              filesByEra.put(Long.parseLong(matcher.group(1)), file);
+            }
+          });
+    }
+    // Era N holds the blocks of slots [(N - 1) * SLOTS_PER_HISTORICAL_ROOT, N * ...)
+    final long lastEra = importBeforeSlot.minusMinZero(1).dividedBy(slotsPerEra).longValue() + 1;
+    final List<Path> files = new ArrayList<>();
+    for (long era = lastEra; era > 0 && filesByEra.containsKey(era); era--) {
+      files.add(filesByEra.get(era));
+    }
+    return files;
+  }
+
+  private VerifiedEra verify(final Path file) throws IOException {
+    final EraFileReader reader = EraFileReader.open(spec, file);
+    try {
+      final EraBlockFile blocks =
+          reader
+              .getBlocks()
+              .orElseThrow(() -> new IllegalArgumentException("Era file contains no blocks"));
+      final Optional<BeaconState> state =
+          verifyStateRoots ? Optional.of(reader.readState()) : Optional.empty();
+      final UInt64 startSlot = blocks.getStartSlot();
+      final Bytes32[] roots = new Bytes32[blocks.getSlotCount()];
+      Bytes32 firstParentRoot = null;
+      Bytes32 previousRoot = null;
+      try (final Stream<SignedBeaconBlock> stream =
+          blocks.streamBlocks(startSlot, reader.getStateSlot().minusMinZero(1))) {
+        for (final Iterator<SignedBeaconBlock> iterator = stream.iterator();
+            iterator.hasNext(); ) {
+          final SignedBeaconBlock block = iterator.next();
+          final Bytes32 root = block.getRoot();
+          if (previousRoot == null) {
+            firstParentRoot = block.getParentRoot();
+          } else {
+            checkArgument(
+                block.getParentRoot().equals(previousRoot),
+                "Block at slot %s in %s does not build on the previous block",
+                block.getSlot(),
+                file);
+          }
+          state.ifPresent(s -> verifyAgainstState(s, block, root, file));
+          roots[block.getSlot().minus(startSlot).intValue()] = root;
+          previousRoot = root;
+        }
+      }
+      return new VerifiedEra(reader, blocks, roots, firstParentRoot);
+    } catch (final IOException | RuntimeException e) {
+      reader.close();
+      throw e;
+    }
+  }
+
+  private void verifyAgainstState(
+      final BeaconState state, final SignedBeaconBlock block, final Bytes32 root, final Path file) {
+    final int index = block.getSlot().mod(slotsPerEra).intValue();
+    checkArgument(
+        state.getBlockRoots().getElement(index).equals(root),
+        "Block root at slot %s in %s does not match the era state",
+        block.getSlot(),
+        file);
+    checkArgument(
+        state.getStateRoots().getElement(index).equals(block.getStateRoot()),
+        "State root at slot %s in %s does not match the era state",
+        block.getSlot(),
+        file);
+  }
+
+  /** Writes the blocks of {@code era} before {@code importBeforeSlot}, newest batch first. */
+  private int importEra(
+      final VerifiedEra era, final Bytes32 expectedRoot, final UInt64 importBeforeSlot) {
+    final EraBlockFile blocks = era.blocks();
+    final UInt64 startSlot = blocks.getStartSlot();
+    if (importBeforeSlot.isLessThanOrEqualTo(startSlot)) {
+      return 0;
+    }
+    final int lastIndex =
+        importBeforeSlot.minus(startSlot).min(blocks.getSlotCount()).intValue() - 1;
+    Map<SlotAndBlockRoot, Bytes> batch = new HashMap<>();
+    int count = 0;
+    for (int i = lastIndex; i >= 0; i--) {
+      final Bytes32 root = era.roots()[i];
+      if (root == null) {
+        continue;
+      }
+      if (count == 0) {
+        checkArgument(
+            root.equals(expectedRoot),
+            "Blocks in %s do not connect to the earliest block in the database",
+            era.reader().getPath());
+      }
+      final SlotAndBlockRoot slotAndBlockRoot = new SlotAndBlockRoot(startSlot.plus(i), root);
+      batch.put(slotAndBlockRoot, blocks.readBlockSsz(i).orElseThrow());
+      count++;
+      if (batch.size() >= BATCH_SIZE) {
+        database.importFinalizedBlocks(batch);
+        batch = new HashMap<>();
+      }
+    }
+    database.importFinalizedBlocks(batch);
+    return count;
+  }
+
+  private static void closeCompleted(final Deque<Future<VerifiedEra>> pending) {
+    // Files which were never verified were never opened
+    for (final Future<VerifiedEra> future : pending) {
+      if (future.state() != Future.State.SUCCESS) {
+        continue;
+      }
+      try {
+        future.resultNow().reader().close();
+      } catch (final IOException e) {
+        LOG.debug("Failed to close era file", e);
+      }
+    }
+  }
+
+  private record VerifiedEra(
+      EraFileReader reader, EraBlockFile blocks, Bytes32[] roots, Bytes32 firstParentRoot) {}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.HEADER_SIZE;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Reader for a standard era file, which holds the blocks of one era followed by the state at the
+ * end of that era and finally a block slot index and a single entry state index.
+ *
+ * <p>The genesis era contains only the genesis state and no block index.
+ */
+class EraFileReader implements Closeable {
+  static final byte[] STATE_TYPE = {0x02, 0x00};
+
+  private final Spec spec;
+  private final EraFileData data;
+  private final long stateIndexStart;
+  private final UInt64 stateSlot;
+  private final Optional<EraBlockFile> blocks;
+
+  private EraFileReader(final Spec spec, final EraFileData data) throws IOException {
+    this.spec = spec;
+    this.data = data;
+    this.stateIndexStart = EraBlockFile.findSlotIndexStart(data, data.size());
+    checkArgument(
+        data.getLong(data.size() - Long.BYTES) == 1,
+        "Era file %s does not end with a state index",
+        data.getPath());
+    this.stateSlot = UInt64.fromLongBits(data.getLong(stateIndexStart + HEADER_SIZE));
+    this.blocks =
+        stateSlot.isZero()
+            ? Optional.empty()
+            : Optional.of(new EraBlockFile(spec, data, stateIndexStart));
+  }
+
+  static EraFileReader open(final Spec spec, final Path path) throws IOException {
+    final EraFileData data = EraFileData.open(path);
+    try {
+      return new EraFileReader(spec, data);
+    } catch (final IOException | RuntimeException e) {
+      data.close();
+      throw e;
+    }
+  }
+
+  Path getPath() {
+    return data.getPath();
+  }
+
+  /** The slot of the era state, which is also the first slot after the blocks in this file. */
+  UInt64 getStateSlot() {
+    return stateSlot;
+  }
+
+  Optional<EraBlockFile> getBlocks() {
+    return blocks;
+  }
+
+  BeaconState readState() throws IOException {
+    final long recordStart =
+        stateIndexStart + data.getLong(stateIndexStart + HEADER_SIZE + Long.BYTES);
+    checkArgument(
+        recordStart >= HEADER_SIZE && EraBlockFile.hasType(data, recordStart, STATE_TYPE),
+        "Invalid state record at offset %s in era file %s",
+        recordStart,
+        data.getPath());
+    return spec.atSlot(stateSlot)
+        .getSchemaDefinitions()
+        .getBeaconStateSchema()
+        .sszDeserialize(EraBlockFile.decompress(data, recordStart));
+  }
+
+  @Override
+  public void close() throws IOException {
+    data.close();
+  }
+}
@@ -42,6 +42,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyForkChoiceStrategy;
 import tech.pegasys.teku.spec.datastructures.forkchoice.ReadOnlyStore;
 import tech.pegasys.teku.spec.datastructures.genesis.GenesisData;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.metadata.BlockAndMetaData;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
@@ -795,6 +796,11 @@ public class CombinedChainDataClient {
     return historicalChainData.getEarliestDataColumnSidecarSlot();
   }
 
+  public SafeFuture<Optional<LightClientUpdate>> getLightClientUpdate(
+      final UInt64 syncCommitteePeriod) {
+    return historicalChainData.getLightClientUpdate(syncCommitteePeriod);
+  }
+
   private SafeFuture<Optional<BeaconState>> getStateFromSlotAndBlock(
       final SlotAndBlockRoot slotAndBlockRoot) {
     final UpdatableStore store = getStore();
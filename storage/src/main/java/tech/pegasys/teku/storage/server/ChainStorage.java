@@ -36,12 +36,14 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
 import tech.pegasys.teku.storage.api.ChainStorageFacade;
+import tech.pegasys.teku.storage.api.LightClientUpdateChannel;
 import tech.pegasys.teku.storage.api.OnDiskStoreData;
 import tech.pegasys.teku.storage.api.SidecarUpdateChannel;
 import tech.pegasys.teku.storage.api.StorageQueryChannel;
@@ -59,6 +61,7 @@ public class ChainStorage
         StorageQueryChannel,
         VoteUpdateChannel,
         SidecarUpdateChannel,
+        LightClientUpdateChannel,
         ChainStorageFacade {
   private static final Logger LOG = LogManager.getLogger();
 
@@ -438,6 +441,18 @@ public class ChainStorage
     return SafeFuture.of(database::getEarliestDataColumnSidecarSlot);
   }
 
+  @Override
+  public SafeFuture<Optional<LightClientUpdate>> getLightClientUpdate(
+      final UInt64 syncCommitteePeriod) {
+    return SafeFuture.of(() -> database.getLightClientUpdate(syncCommitteePeriod));
+  }
+
+  @Override
+  public void onLightClientUpdate(
+      final UInt64 syncCommitteePeriod, final LightClientUpdate update) {
+    database.storeLightClientUpdate(syncCommitteePeriod, update);
+  }
+
   @Override
   public SafeFuture<Void> onFirstCustodyIncompleteSlot(final UInt64 slot) {
     return SafeFuture.fromRunnable(() -> database.setFirstCustodyIncompleteSlot(slot));
@@ -29,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -301,4 +302,10 @@ public class CombinedStorageChannelSplitter implements CombinedStorageChannel {
   public SafeFuture<Optional<UInt64>> getEarliestDataColumnSidecarSlot() {
     return asyncRunner.runAsync(queryDelegate::getEarliestDataColumnSidecarSlot);
   }
+
+  @Override
+  public SafeFuture<Optional<LightClientUpdate>> getLightClientUpdate(
+      final UInt64 syncCommitteePeriod) {
+    return asyncRunner.runAsync(() -> queryDelegate.getLightClientUpdate(syncCommitteePeriod));
+  }
 }
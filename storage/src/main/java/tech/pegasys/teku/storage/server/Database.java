@@ -32,6 +32,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -55,6 +56,15 @@ public interface Database extends AutoCloseable {
       Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
       Optional<UInt64> maybeEarliestBlobSidecarSlot);
 
+  /**
+   * Bulk loads finalized blocks which have already been verified by the caller, without
+   * deserializing them. The blocks must form a chain which ends with the parent of the earliest
+   * block currently available, as {@link #storeFinalizedBlocks} would require.
+   *
+   * @param blocks serialized blocks keyed by their slot and root
+   */
+  void importFinalizedBlocks(Map<SlotAndBlockRoot, Bytes> blocks);
+
   void storeReconstructedFinalizedState(BeaconState state, Bytes32 blockRoot);
 
   void updateWeakSubjectivityState(WeakSubjectivityUpdate weakSubjectivityUpdate);
@@ -215,6 +225,10 @@ public interface Database extends AutoCloseable {
 
   void storeVotes(Map<UInt64, VoteTracker> votes);
 
+  Optional<LightClientUpdate> getLightClientUpdate(UInt64 syncCommitteePeriod);
+
+  void storeLightClientUpdate(UInt64 syncCommitteePeriod, LightClientUpdate update);
+
   Map<String, Long> getColumnCounts(final Optional<String> maybeColumnFilter);
 
   Map<String, Optional<String>> getVariables();
@@ -247,6 +261,17 @@ public interface Database extends AutoCloseable {
   UInt64 pruneFinalizedBlocks(
       UInt64 lastSlotToPrune, int pruneLimit, final UInt64 checkpointInitialSlot);
 
+  /**
+   * Moves the finalized blocks of complete eras prior to {@code finalizedSlot} from the database
+   * into the finalized block archive, starting from the oldest era held in the database. Eras are
+   * only archived once every block in them is available.
+   *
+   * @param finalizedSlot the start slot of the finalized epoch
+   * @param eraLimit maximum number of eras to archive
+   * @return the number of eras archived
+   */
+  int archiveFinalizedBlocks(UInt64 finalizedSlot, int eraLimit);
+
   Optional<UInt64> pruneFinalizedStates(
       Optional<UInt64> lastPrunedSlot, UInt64 lastSlotToPruneStateFor, long pruneLimit);
 
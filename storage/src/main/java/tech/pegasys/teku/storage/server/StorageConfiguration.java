@@ -42,6 +42,7 @@ public class StorageConfiguration {
   public static final Duration DEFAULT_STATE_PRUNING_INTERVAL = Duration.ofMinutes(5);
   public static final long DEFAULT_STORAGE_RETAINED_SLOTS = 0;
   public static final int DEFAULT_STATE_PRUNING_LIMIT = 1;
+  public static final boolean DEFAULT_ERA_BLOCK_ARCHIVE_ENABLED = false;
 
   // 60/12 = 5 blocks/slots per minute * 6 max blobs per block = 30 blobs per minute at maximum,
   // This value prunes blobs by slots, using 12 to allow for catch up.
@@ -66,6 +67,7 @@ public class StorageConfiguration {
   private final String blobsArchivePath;
   private final long retainedSlots;
   private final int statePruningLimit;
+  private final boolean eraBlockArchiveEnabled;
 
   private final int stateRebuildTimeoutSeconds;
 
@@ -85,6 +87,7 @@ public class StorageConfiguration {
       final long retainedSlots,
       final Duration statePruningInterval,
       final int statePruningLimit,
+      final boolean eraBlockArchiveEnabled,
       final Spec spec) {
     this.eth1DepositContract = eth1DepositContract;
     this.dataStorageMode = dataStorageMode;
@@ -101,6 +104,7 @@ public class StorageConfiguration {
     this.retainedSlots = retainedSlots;
     this.statePruningInterval = statePruningInterval;
     this.statePruningLimit = statePruningLimit;
+    this.eraBlockArchiveEnabled = eraBlockArchiveEnabled;
     this.spec = spec;
   }
 
@@ -168,6 +172,10 @@ public class StorageConfiguration {
     return statePruningLimit;
   }
 
+  public boolean isEraBlockArchiveEnabled() {
+    return eraBlockArchiveEnabled;
+  }
+
   public Spec getSpec() {
     return spec;
   }
@@ -191,6 +199,7 @@ public class StorageConfiguration {
     private Duration statePruningInterval = DEFAULT_STATE_PRUNING_INTERVAL;
     private long retainedSlots = DEFAULT_STORAGE_RETAINED_SLOTS;
     private int statePruningLimit = DEFAULT_STATE_PRUNING_LIMIT;
+    private boolean eraBlockArchiveEnabled = DEFAULT_ERA_BLOCK_ARCHIVE_ENABLED;
 
     private Builder() {}
 
@@ -326,6 +335,11 @@ public class StorageConfiguration {
       return this;
     }
 
+    public Builder eraBlockArchiveEnabled(final boolean eraBlockArchiveEnabled) {
+      this.eraBlockArchiveEnabled = eraBlockArchiveEnabled;
+      return this;
+    }
+
     public StorageConfiguration build() {
       determineDataStorageMode();
       validateStatePruningConfiguration();
@@ -345,6 +359,7 @@ public class StorageConfiguration {
           retainedSlots,
           statePruningInterval,
           statePruningLimit,
+          eraBlockArchiveEnabled,
           spec);
     }
 
@@ -27,9 +27,12 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.execution.types.Eth1Address;
 import tech.pegasys.teku.infrastructure.io.SyncDataAccessor;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.networks.Eth2Network;
+import tech.pegasys.teku.storage.archive.era.EraBlockArchive;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreDatabase;
 import tech.pegasys.teku.storage.server.kvstore.schema.V6SchemaCombinedSnapshot;
 import tech.pegasys.teku.storage.server.leveldb.LevelDbDatabaseFactory;
 import tech.pegasys.teku.storage.server.metadata.V5DatabaseMetadata;
@@ -43,6 +46,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
 
   @VisibleForTesting static final String DB_PATH = "db";
   @VisibleForTesting static final String ARCHIVE_PATH = "archive";
+  @VisibleForTesting static final String ERA_PATH = "era";
   @VisibleForTesting static final String DB_VERSION_PATH = "db.version";
 
   @VisibleForTesting static final String STORAGE_MODE_PATH = "data-storage-mode.txt";
@@ -63,6 +67,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
   private final boolean storeNonCanonicalBlocks;
   private final SyncDataAccessor dbSettingFileSyncDataAccessor;
   private final Optional<Eth2Network> maybeNetwork;
+  private final boolean eraBlockArchiveEnabled;
 
   public VersionedDatabaseFactory(
       final MetricsSystem metricsSystem,
@@ -79,6 +84,7 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
     this.stateStorageFrequency = config.getDataStorageFrequency();
     this.eth1Address = config.getEth1DepositContract();
     this.storeNonCanonicalBlocks = config.isStoreNonCanonicalBlocksEnabled();
+    this.eraBlockArchiveEnabled = config.isEraBlockArchiveEnabled();
     this.spec = config.getSpec();
 
     this.dbDirectory = this.dataDirectory.toPath().resolve(DB_PATH).toFile();
@@ -161,9 +167,56 @@ public class VersionedDatabaseFactory implements DatabaseFactory {
       }
       default -> throw new UnsupportedOperationException("Unhandled database version " + dbVersion);
     }
+    if (eraBlockArchiveEnabled) {
+      database = withEraBlockArchive(database);
+    } else {
+      checkNoArchivedBlocks(database);
+    }
     return database;
   }
 
+  private Database withEraBlockArchive(final Database database) {
+    if (!stateStorageMode.storesAllBlocks() || !(database instanceof KvStoreDatabase)) {
+      LOG.warn(
+          "Era block archive is only supported when storing all finalized blocks, not enabling");
+      checkNoArchivedBlocks(database);
+      return database;
+    }
+    final Path eraDirectory = dataDirectory.toPath().resolve(ERA_PATH);
+    try {
+      final EraBlockArchive archive = EraBlockArchive.create(spec, eraDirectory);
+      LOG.info("Serving archived finalized blocks from {}", eraDirectory);
+      return ((KvStoreDatabase) database).withFinalizedBlockArchive(archive);
+    } catch (final IOException e) {
+      throw DatabaseStorageException.unrecoverable(
+          "Failed to open era block archive at " + eraDirectory, e);
+    }
+  }
+
+  /**
+   * Archived blocks have been removed from the database so without the archive they would silently
+   * be missing, leaving gaps in the finalized chain.
+   */
+  private void checkNoArchivedBlocks(final Database database) {
+    if (!(database instanceof KvStoreDatabase kvStoreDatabase)) {
+      return;
+    }
+    final Optional<UInt64> archivedBlocksEndSlot = kvStoreDatabase.getArchivedBlocksEndSlot();
+    if (archivedBlocksEndSlot.isPresent()) {
+      try {
+        database.close();
+      } catch (final Exception e) {
+        LOG.debug("Failed to close database", e);
+      }
+      throw DatabaseStorageException.unrecoverable(
+          "Finalized blocks before slot "
+              + archivedBlocksEndSlot.get()
+              + " have been moved to the era block archive. Restart with "
+              + "--Xdata-storage-era-archive-enabled and a data storage mode that stores all "
+              + "finalized blocks.");
+    }
+  }
+
   public StateStorageMode getStateStorageMode() {
     return stateStorageMode;
   }
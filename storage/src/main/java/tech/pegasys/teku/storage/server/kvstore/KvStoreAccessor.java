@@ -136,6 +136,18 @@ public interface KvStoreAccessor extends AutoCloseable {
 
     <T> void delete(KvStoreVariable<T> variable);
 
+    /**
+     * Deletes every key in the column from {@code fromKey} (inclusive) to {@code toKey}
+     * (exclusive).
+     *
+     * <p>Where the underlying store supports it this writes a single range tombstone instead of one
+     * per key, so the cost does not depend on the number of keys deleted. Range deletes may be
+     * applied before the rest of the transaction is committed and are not atomic with it, so they
+     * must only remove data which is safe to delete again if the commit fails, and the same
+     * transaction must not update keys within the range.
+     */
+    <K extends Comparable<K>, V> void deleteRange(KvStoreColumn<K, V> column, K fromKey, K toKey);
+
     void commit();
 
     void rollback();
@@ -69,6 +69,11 @@ public class KvStoreConfiguration {
 
   public static final long ROCKSDB_BLOCK_SIZE = 32_768;
 
+  /** Values at least this large are written to RocksDB blob files instead of the LSM tree */
+  public static final long ROCKSDB_MIN_BLOB_SIZE = 4_096;
+
+  public static final long ROCKSDB_BLOB_FILE_SIZE = 268_435_456L;
+
   /* --------------- Safe to Change Properties ------------ */
 
   @JsonProperty(value = "maxOpenFiles", access = Access.WRITE_ONLY)
@@ -95,6 +100,9 @@ public class KvStoreConfiguration {
   @JsonProperty(value = "writeBufferCapacity", access = Access.WRITE_ONLY)
   private long writeBufferCapacity = DEFAULT_WRITE_BUFFER_CAPACITY;
 
+  @JsonProperty(value = "columnProfilesEnabled", access = Access.WRITE_ONLY)
+  private boolean columnProfilesEnabled = true;
+
   // Safe to change but written to file as we need different defaults for hot and finalized
   @JsonProperty(value = "optimizeForSmallDb")
   private boolean optimizeForSmallDb = DEFAULT_OPTIMISE_FOR_SMALL_DB;
@@ -132,6 +140,11 @@ public class KvStoreConfiguration {
     return this;
   }
 
+  public KvStoreConfiguration withColumnProfilesEnabled(final boolean columnProfilesEnabled) {
+    this.columnProfilesEnabled = columnProfilesEnabled;
+    return this;
+  }
+
   public Path getDatabaseDir() {
     return databaseDir;
   }
@@ -168,6 +181,10 @@ public class KvStoreConfiguration {
     return writeBufferCapacity;
   }
 
+  public boolean isColumnProfilesEnabled() {
+    return columnProfilesEnabled;
+  }
+
   public CompressionType getCompressionType() {
     return compressionType;
   }
@@ -188,6 +205,7 @@ public class KvStoreConfiguration {
         .add("backgroundThreadCount", backgroundThreadCount)
         .add("cacheCapacity", cacheCapacity)
         .add("writeBufferCapacity", writeBufferCapacity)
+        .add("columnProfilesEnabled", columnProfilesEnabled)
         .add("compressionType", compressionType)
         .add("bottomMostCompressionType", bottomMostCompressionType)
         .add("databaseDir", databaseDir)
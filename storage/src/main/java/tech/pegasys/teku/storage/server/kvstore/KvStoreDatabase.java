@@ -20,7 +20,11 @@ import static tech.pegasys.teku.infrastructure.logging.StatusLogger.STATUS_LOG;
 import static tech.pegasys.teku.infrastructure.unsigned.UInt64.ONE;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Streams;
 import com.google.errorprone.annotations.MustBeClosed;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -62,6 +66,7 @@ import tech.pegasys.teku.spec.datastructures.execution.ExecutionPayload;
 import tech.pegasys.teku.spec.datastructures.execution.SlotAndExecutionPayloadSummary;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
 import tech.pegasys.teku.spec.datastructures.hashtree.HashTree;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -74,6 +79,7 @@ import tech.pegasys.teku.storage.api.UpdateResult;
 import tech.pegasys.teku.storage.api.WeakSubjectivityState;
 import tech.pegasys.teku.storage.api.WeakSubjectivityUpdate;
 import tech.pegasys.teku.storage.archive.BlobSidecarsArchiver;
+import tech.pegasys.teku.storage.archive.FinalizedBlockArchive;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.StateStorageMode;
 import tech.pegasys.teku.storage.server.kvstore.dataaccess.CombinedKvStoreDao;
@@ -103,17 +109,38 @@ public class KvStoreDatabase implements Database {
   protected final boolean storeNonCanonicalBlocks;
   @VisibleForTesting final KvStoreCombinedDao dao;
   private final StateStorageMode stateStorageMode;
+  private final FinalizedBlockArchive finalizedBlockArchive;
 
   KvStoreDatabase(
       final KvStoreCombinedDao dao,
       final StateStorageMode stateStorageMode,
       final boolean storeNonCanonicalBlocks,
       final Spec spec) {
+    this(dao, stateStorageMode, storeNonCanonicalBlocks, spec, FinalizedBlockArchive.NOOP);
+  }
+
+  private KvStoreDatabase(
+      final KvStoreCombinedDao dao,
+      final StateStorageMode stateStorageMode,
+      final boolean storeNonCanonicalBlocks,
+      final Spec spec,
+      final FinalizedBlockArchive finalizedBlockArchive) {
     this.dao = dao;
     checkNotNull(spec);
     this.stateStorageMode = stateStorageMode;
     this.storeNonCanonicalBlocks = storeNonCanonicalBlocks;
     this.spec = spec;
+    this.finalizedBlockArchive = finalizedBlockArchive;
+  }
+
+  /**
+   * Returns a database backed by the same storage which serves finalized blocks from {@code
+   * finalizedBlockArchive} once they have been archived.
+   */
+  public KvStoreDatabase withFinalizedBlockArchive(
+      final FinalizedBlockArchive finalizedBlockArchive) {
+    return new KvStoreDatabase(
+        dao, stateStorageMode, storeNonCanonicalBlocks, spec, finalizedBlockArchive);
   }
 
   public static Database createV4(
@@ -208,6 +235,9 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<SignedBeaconBlock> getFinalizedBlockAtSlot(final UInt64 slot) {
+    if (finalizedBlockArchive.isArchived(slot)) {
+      return finalizedBlockArchive.getBlock(slot);
+    }
     return dao.getFinalizedBlockAtSlot(slot);
   }
 
@@ -218,7 +248,10 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<SignedBeaconBlock> getEarliestAvailableBlock() {
-    return dao.getEarliestFinalizedBlock();
+    return dao.getEarliestFinalizedBlockSlot()
+        .filter(finalizedBlockArchive::isArchived)
+        .flatMap(finalizedBlockArchive::getBlock)
+        .or(dao::getEarliestFinalizedBlock);
   }
 
   @Override
@@ -230,21 +263,37 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public Optional<Bytes32> getFinalizedBlockRootBySlot(final UInt64 slot) {
-    return dao.getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getRoot);
+    return getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getRoot);
   }
 
   @Override
   public Optional<SignedBeaconBlock> getLatestFinalizedBlockAtSlot(final UInt64 slot) {
-    return dao.getLatestFinalizedBlockAtSlot(slot);
+    final Optional<SignedBeaconBlock> block = dao.getLatestFinalizedBlockAtSlot(slot);
+    final Optional<SignedBeaconBlock> archivedBlock =
+        finalizedBlockArchive.getLatestBlockAtSlot(slot);
+    if (archivedBlock.isEmpty()) {
+      return block;
+    }
+    if (block.isEmpty() || archivedBlock.get().getSlot().isGreaterThan(block.get().getSlot())) {
+      return archivedBlock;
+    }
+    return block;
   }
 
   @Override
   public Optional<SignedBeaconBlock> getSignedBlock(final Bytes32 root) {
     return dao.getHotBlock(root)
         .or(() -> dao.getFinalizedBlock(root))
+        .or(() -> getArchivedBlock(root))
         .or(() -> dao.getNonCanonicalBlock(root));
   }
 
+  private Optional<SignedBeaconBlock> getArchivedBlock(final Bytes32 root) {
+    return dao.getSlotForFinalizedBlockRoot(root)
+        .filter(finalizedBlockArchive::isArchived)
+        .flatMap(finalizedBlockArchive::getBlock);
+  }
+
   @Override
   public Map<Bytes32, SignedBeaconBlock> getHotBlocks(final Set<Bytes32> blockRoots) {
     return blockRoots.stream()
@@ -266,7 +315,19 @@ public class KvStoreDatabase implements Database {
   @MustBeClosed
   public Stream<SignedBeaconBlock> streamFinalizedBlocks(
       final UInt64 startSlot, final UInt64 endSlot) {
-    return dao.streamFinalizedBlocks(startSlot, endSlot);
+    final Stream<SignedBeaconBlock> blocks = dao.streamFinalizedBlocks(startSlot, endSlot);
+    if (finalizedBlockArchive == FinalizedBlockArchive.NOOP) {
+      return blocks;
+    }
+    // Eras may have been archived out of order (e.g. while backfilling) so merge by slot
+    return Streams.stream(
+            Iterators.mergeSorted(
+                List.of(
+                    finalizedBlockArchive.streamBlocks(startSlot, endSlot).iterator(),
+                    blocks.filter(block -> !finalizedBlockArchive.isArchived(block.getSlot()))
+                        .iterator()),
+                Comparator.comparing(SignedBeaconBlock::getSlot)))
+        .onClose(blocks::close);
   }
 
   protected Map<Bytes32, StoredBlockMetadata> buildHotBlockMetadata() {
@@ -330,7 +391,7 @@ public class KvStoreDatabase implements Database {
                 .forEach(updater::addBlobSidecar);
           });
 
-      needToUpdateEarliestBlockSlot(blocks.stream().findFirst())
+      needToUpdateEarliestBlockSlot(blocks.stream().findFirst().map(SignedBeaconBlock::getSlot))
           .ifPresent(updater::setEarliestBlockSlot);
       needToUpdateEarliestBlobSidecarSlot(maybeEarliestBlobSidecar)
           .ifPresent(updater::setEarliestBlobSidecarSlot);
@@ -339,7 +400,7 @@ public class KvStoreDatabase implements Database {
   }
 
   private Optional<UInt64> needToUpdateEarliestBlockSlot(
-      final Optional<SignedBeaconBlock> maybeNewEarliestBlockSlot) {
+      final Optional<UInt64> maybeNewEarliestBlockSlot) {
     // New value is absent - not updating
     if (maybeNewEarliestBlockSlot.isEmpty()) {
       return Optional.empty();
@@ -347,12 +408,12 @@ public class KvStoreDatabase implements Database {
     // New value is present, value from DB is absent - updating
     final Optional<UInt64> maybeEarliestFinalizedBlockSlotDb = dao.getEarliestFinalizedBlockSlot();
     if (maybeEarliestFinalizedBlockSlotDb.isEmpty()) {
-      return maybeNewEarliestBlockSlot.map(SignedBeaconBlock::getSlot);
+      return maybeNewEarliestBlockSlot;
     }
     // New value is smaller than value from DB - updating
-    final UInt64 newEarliestBlockSlot = maybeNewEarliestBlockSlot.get().getSlot();
+    final UInt64 newEarliestBlockSlot = maybeNewEarliestBlockSlot.get();
     if (newEarliestBlockSlot.isLessThan(maybeEarliestFinalizedBlockSlotDb.get())) {
-      return maybeNewEarliestBlockSlot.map(SignedBeaconBlock::getSlot);
+      return maybeNewEarliestBlockSlot;
     } else {
       return Optional.empty();
     }
@@ -472,6 +533,62 @@ public class KvStoreDatabase implements Database {
     return blocksToPrune.size() < pruneLimit ? lastSlotToPrune : lastPrunedBlockSlot;
   }
 
+  @Override
+  public int archiveFinalizedBlocks(final UInt64 finalizedSlot, final int eraLimit) {
+    if (finalizedBlockArchive == FinalizedBlockArchive.NOOP) {
+      return 0;
+    }
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    int archivedEras = 0;
+    while (archivedEras < eraLimit) {
+      final Optional<UInt64> earliestBlockSlot = dao.getEarliestFinalizedBlockSlot();
+      if (earliestBlockSlot.isEmpty()) {
+        break;
+      }
+      // The era containing the earliest block is incomplete unless it starts exactly there
+      final UInt64 firstCompleteEraStartSlot =
+          earliestBlockSlot.get().plus(slotsPerEra - 1).dividedBy(slotsPerEra).times(slotsPerEra);
+      final Optional<UInt64> firstBlockSlot;
+      try (final Stream<SignedBeaconBlock> blocks =
+          dao.streamFinalizedBlocks(firstCompleteEraStartSlot, finalizedSlot)) {
+        firstBlockSlot = blocks.findFirst().map(SignedBeaconBlock::getSlot);
+      }
+      if (firstBlockSlot.isEmpty()) {
+        break;
+      }
+      final UInt64 era = firstBlockSlot.get().dividedBy(slotsPerEra);
+      final UInt64 eraStartSlot = era.times(slotsPerEra);
+      final UInt64 eraEndSlot = eraStartSlot.plus(slotsPerEra - 1);
+      if (eraEndSlot.isGreaterThanOrEqualTo(finalizedSlot)) {
+        break;
+      }
+      // The era may already be archived if we stopped before removing its blocks last time
+      if (!finalizedBlockArchive.isEraArchived(era)) {
+        LOG.debug("Archiving finalized blocks from slot {} to {}", eraStartSlot, eraEndSlot);
+        try (final Stream<SignedBeaconBlock> blocks =
+            dao.streamFinalizedBlocks(eraStartSlot, eraEndSlot)) {
+          finalizedBlockArchive.archive(era, blocks);
+        } catch (final IOException e) {
+          throw new UncheckedIOException("Failed to archive finalized blocks for era " + era, e);
+        }
+      }
+      try (final FinalizedUpdater updater = finalizedUpdater()) {
+        // Pin the earliest block slot as it can no longer be derived from the blocks column
+        updater.setEarliestBlockSlot(earliestBlockSlot.get());
+        // Recorded so the database refuses to start without the archive
+        final UInt64 archivedBlocksEndSlot = eraEndSlot.plus(1);
+        updater.setArchivedBlocksEndSlot(
+            dao.getArchivedBlocksEndSlot()
+                .map(archivedBlocksEndSlot::max)
+                .orElse(archivedBlocksEndSlot));
+        UInt64.rangeClosed(eraStartSlot, eraEndSlot).forEach(updater::deleteFinalizedBlockOnly);
+        updater.commit();
+      }
+      archivedEras++;
+    }
+    return archivedEras;
+  }
+
   private void deleteFinalizedBlocks(
       final List<Pair<UInt64, Bytes32>> blocksToPrune,
       final Optional<UInt64> earliestSlotAvailableAfterPrune) {
@@ -531,7 +648,7 @@ public class KvStoreDatabase implements Database {
                   slot ->
                       Pair.of(
                           slot,
-                          dao.getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getStateRoot)))
+                          getFinalizedBlockAtSlot(slot).map(SignedBeaconBlock::getStateRoot)))
               .toList();
     }
     if (slotsToPruneStateFor.isEmpty()) {
@@ -657,7 +774,12 @@ public class KvStoreDatabase implements Database {
     if (maybeSlotAndBlockRoot.isPresent()) {
       return maybeSlotAndBlockRoot;
     }
-    return dao.getSlotAndBlockRootForFinalizedStateRoot(stateRoot);
+    // Looked up through getFinalizedBlockAtSlot as the block may have been moved to the archive
+    return dao.getSlotForFinalizedStateRoot(stateRoot)
+        .flatMap(
+            slot ->
+                getFinalizedBlockAtSlot(slot)
+                    .map(block -> new SlotAndBlockRoot(slot, block.getRoot())));
   }
 
   @Override
@@ -705,6 +827,23 @@ public class KvStoreDatabase implements Database {
     storeFinalizedBlocksToDao(blocks, blobSidecarsBySlot, maybeEarliestBlobSidecarSlot);
   }
 
+  @Override
+  public void importFinalizedBlocks(final Map<SlotAndBlockRoot, Bytes> blocks) {
+    if (blocks.isEmpty()) {
+      return;
+    }
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      blocks.forEach(
+          (slotAndBlockRoot, blockSsz) ->
+              updater.addFinalizedBlockRaw(
+                  slotAndBlockRoot.getSlot(), slotAndBlockRoot.getBlockRoot(), blockSsz));
+      needToUpdateEarliestBlockSlot(
+              blocks.keySet().stream().map(SlotAndBlockRoot::getSlot).min(UInt64::compareTo))
+          .ifPresent(updater::setEarliestBlockSlot);
+      updater.commit();
+    }
+  }
+
   @Override
   public void updateWeakSubjectivityState(final WeakSubjectivityUpdate weakSubjectivityUpdate) {
     try (final HotUpdater updater = hotUpdater()) {
@@ -951,6 +1090,15 @@ public class KvStoreDatabase implements Database {
         && earliestBlobSidecarSlot.get().isGreaterThan(lastSlotToPrune)) {
       return false;
     }
+    if (canRangeDelete(lastSlotToPrune, blobSidecarsArchiver)) {
+      // Nothing needs to be read back for archiving, so the whole range can go in one delete
+      try (final FinalizedUpdater updater = finalizedUpdater()) {
+        updater.removeBlobSidecarsBeforeSlot(lastSlotToPrune.increment());
+        updater.setEarliestBlobSidecarSlot(lastSlotToPrune.increment());
+        updater.commit();
+      }
+      return false;
+    }
     try (final Stream<SlotAndBlockRootAndBlobIndex> prunableBlobKeys =
         streamBlobSidecarKeys(earliestBlobSidecarSlot.orElse(UInt64.ZERO), lastSlotToPrune)) {
       return pruneBlobSidecars(pruneLimit, prunableBlobKeys, blobSidecarsArchiver, false);
@@ -962,6 +1110,14 @@ public class KvStoreDatabase implements Database {
       final UInt64 lastSlotToPrune,
       final int pruneLimit,
       final BlobSidecarsArchiver blobSidecarsArchiver) {
+    if (canRangeDelete(lastSlotToPrune, blobSidecarsArchiver)) {
+      // Runs after canonical pruning has moved the earliest slot on, so it is not checked here
+      try (final FinalizedUpdater updater = finalizedUpdater()) {
+        updater.removeNonCanonicalBlobSidecarsBeforeSlot(lastSlotToPrune.increment());
+        updater.commit();
+      }
+      return false;
+    }
     final Optional<UInt64> earliestBlobSidecarSlot = getEarliestBlobSidecarSlot();
     if (earliestBlobSidecarSlot.isPresent()
         && earliestBlobSidecarSlot.get().isGreaterThan(lastSlotToPrune)) {
@@ -975,6 +1131,12 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  private static boolean canRangeDelete(
+      final UInt64 lastSlotToPrune, final BlobSidecarsArchiver blobSidecarsArchiver) {
+    return blobSidecarsArchiver == BlobSidecarsArchiver.NOOP
+        && lastSlotToPrune.isLessThan(UInt64.MAX_VALUE);
+  }
+
   private boolean pruneBlobSidecars(
       final int pruneLimit,
       final Stream<SlotAndBlockRootAndBlobIndex> prunableBlobKeys,
@@ -1085,6 +1247,20 @@ public class KvStoreDatabase implements Database {
     }
   }
 
+  @Override
+  public Optional<LightClientUpdate> getLightClientUpdate(final UInt64 syncCommitteePeriod) {
+    return dao.getLightClientUpdate(syncCommitteePeriod).map(spec::deserializeLightClientUpdate);
+  }
+
+  @Override
+  public void storeLightClientUpdate(
+      final UInt64 syncCommitteePeriod, final LightClientUpdate update) {
+    try (final HotUpdater hotUpdater = hotUpdater()) {
+      hotUpdater.setLightClientUpdate(syncCommitteePeriod, update.sszSerialize());
+      hotUpdater.commit();
+    }
+  }
+
   @Override
   public Optional<Checkpoint> getAnchor() {
     return dao.getAnchor();
@@ -1118,6 +1294,11 @@ public class KvStoreDatabase implements Database {
     return dao.getFirstSamplerIncompleteSlot();
   }
 
+  /** Returns the end (exclusive) of the slots whose blocks were moved to the block archive. */
+  public Optional<UInt64> getArchivedBlocksEndSlot() {
+    return dao.getArchivedBlocksEndSlot();
+  }
+
   @Override
   public Optional<DataColumnSidecar> getSidecar(final DataColumnSlotAndIdentifier identifier) {
     final Optional<Bytes> maybePayload = dao.getSidecar(identifier);
@@ -1184,13 +1365,9 @@ public class KvStoreDatabase implements Database {
 
   @Override
   public void pruneAllSidecars(final UInt64 tillSlotInclusive) {
-    try (final Stream<DataColumnSlotAndIdentifier> prunableIdentifiers =
-            streamDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
-        final Stream<DataColumnSlotAndIdentifier> prunableNonCanonicalIdentifiers =
-            streamNonCanonicalDataColumnIdentifiers(UInt64.ZERO, tillSlotInclusive);
-        final FinalizedUpdater updater = finalizedUpdater()) {
-      prunableIdentifiers.forEach(updater::removeSidecar);
-      prunableNonCanonicalIdentifiers.forEach(updater::removeNonCanonicalSidecar);
+    try (final FinalizedUpdater updater = finalizedUpdater()) {
+      updater.removeSidecarsBeforeSlot(tillSlotInclusive.increment());
+      updater.removeNonCanonicalSidecarsBeforeSlot(tillSlotInclusive.increment());
       updater.commit();
     }
   }
@@ -1198,6 +1375,7 @@ public class KvStoreDatabase implements Database {
   @Override
   public void close() throws Exception {
     dao.close();
+    finalizedBlockArchive.close();
   }
 
   private UpdateResult doUpdate(final StorageUpdate update) {
@@ -155,6 +155,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.getAll(schema.getColumnVotes());
   }
 
+  @Override
+  public Optional<Bytes> getLightClientUpdate(final UInt64 syncCommitteePeriod) {
+    return db.get(schema.getColumnLightClientUpdatesByPeriod(), syncCommitteePeriod);
+  }
+
   @Override
   @MustBeClosed
   public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks() {
@@ -570,6 +575,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
     return db.get(schema.getVariableFirstSamplerIncompleteSlot());
   }
 
+  @Override
+  public Optional<UInt64> getArchivedBlocksEndSlot() {
+    return db.get(schema.getVariableArchivedBlocksEndSlot());
+  }
+
   @Override
   public Optional<Bytes> getSidecar(final DataColumnSlotAndIdentifier identifier) {
     return db.get(schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier);
@@ -722,6 +732,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
           (validatorIndex, vote) -> transaction.put(schema.getColumnVotes(), validatorIndex, vote));
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 syncCommitteePeriod, final Bytes update) {
+      transaction.put(schema.getColumnLightClientUpdatesByPeriod(), syncCommitteePeriod, update);
+    }
+
     @Override
     public void deleteHotBlock(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnHotBlocksByRoot(), blockRoot);
@@ -817,6 +832,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
     }
 
+    @Override
+    public void deleteFinalizedBlockOnly(final UInt64 slot) {
+      transaction.delete(schema.getColumnFinalizedBlocksBySlot(), slot);
+    }
+
     @Override
     public void deleteNonCanonicalBlockOnly(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnNonCanonicalBlocksByRoot(), blockRoot);
@@ -907,6 +927,22 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(), key);
     }
 
+    @Override
+    public void removeBlobSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
     @Override
     public void setFirstCustodyIncompleteSlot(final UInt64 slot) {
       transaction.put(schema.getVariableFirstCustodyIncompleteSlot(), slot);
@@ -917,6 +953,11 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.put(schema.getVariableFirstSamplerIncompleteSlot(), slot);
     }
 
+    @Override
+    public void setArchivedBlocksEndSlot(final UInt64 slot) {
+      transaction.put(schema.getVariableArchivedBlocksEndSlot(), slot);
+    }
+
     @Override
     public void addSidecar(final DataColumnSidecar sidecar) {
       transaction.put(
@@ -945,5 +986,21 @@ public class CombinedKvStoreDao<S extends SchemaCombined>
       transaction.delete(
           schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), identifier);
     }
+
+    @Override
+    public void removeSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnSidecarByColumnSlotAndIdentifier(),
+          new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new DataColumnSlotAndIdentifier(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+          new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new DataColumnSlotAndIdentifier(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
   }
 }
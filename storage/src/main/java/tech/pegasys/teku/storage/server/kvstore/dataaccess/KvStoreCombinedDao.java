@@ -115,6 +115,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Map<UInt64, VoteTracker> getVotes();
 
+  Optional<Bytes> getLightClientUpdate(UInt64 syncCommitteePeriod);
+
   @MustBeClosed
   Stream<DepositsFromBlockEvent> streamDepositsFromBlocks();
 
@@ -173,6 +175,9 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
   Optional<UInt64> getFirstSamplerIncompleteSlot();
 
+  /** Returns the end (exclusive) of the slots whose blocks were moved to the block archive. */
+  Optional<UInt64> getArchivedBlocksEndSlot();
+
   Optional<Bytes> getSidecar(DataColumnSlotAndIdentifier identifier);
 
   Optional<Bytes> getNonCanonicalSidecar(DataColumnSlotAndIdentifier identifier);
@@ -227,6 +232,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void addVotes(Map<UInt64, VoteTracker> states);
 
+    void setLightClientUpdate(UInt64 syncCommitteePeriod, Bytes update);
+
     void addHotStateRoots(Map<Bytes32, SlotAndBlockRoot> stateRootToSlotAndBlockRootMap);
 
     void pruneHotStateRoots(List<Bytes32> stateRoots);
@@ -259,6 +266,9 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void deleteFinalizedBlock(final UInt64 slot, final Bytes32 blockRoot);
 
+    /** Deletes the block at {@code slot} but keeps the root to slot index. */
+    void deleteFinalizedBlockOnly(final UInt64 slot);
+
     void deleteNonCanonicalBlockOnly(final Bytes32 blockRoot);
 
     void addFinalizedState(final Bytes32 blockRoot, final BeaconState state);
@@ -285,6 +295,11 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void removeNonCanonicalBlobSidecar(SlotAndBlockRootAndBlobIndex key);
 
+    /** Removes all blob sidecars prior to {@code slot} with a single range delete. */
+    void removeBlobSidecarsBeforeSlot(UInt64 slot);
+
+    void removeNonCanonicalBlobSidecarsBeforeSlot(UInt64 slot);
+
     void setEarliestBlobSidecarSlot(UInt64 slot);
 
     void setEarliestBlockSlot(UInt64 slot);
@@ -295,6 +310,8 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void setFirstSamplerIncompleteSlot(UInt64 slot);
 
+    void setArchivedBlocksEndSlot(UInt64 slot);
+
     void addSidecar(DataColumnSidecar sidecar);
 
     void addNonCanonicalSidecar(DataColumnSidecar sidecar);
@@ -303,6 +320,11 @@ public interface KvStoreCombinedDao extends AutoCloseable {
 
     void removeNonCanonicalSidecar(DataColumnSlotAndIdentifier dataColumnSlotAndIdentifier);
 
+    /** Removes all data column sidecars prior to {@code slot} with a single range delete. */
+    void removeSidecarsBeforeSlot(UInt64 slot);
+
+    void removeNonCanonicalSidecarsBeforeSlot(UInt64 slot);
+
     void commit();
 
     void cancel();
@@ -137,6 +137,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return hotDao.getVotes();
   }
 
+  @Override
+  public Optional<Bytes> getLightClientUpdate(final UInt64 syncCommitteePeriod) {
+    return hotDao.getLightClientUpdate(syncCommitteePeriod);
+  }
+
   @Override
   public Optional<Bytes32> getLatestCanonicalBlockRoot() {
     return hotDao.getLatestCanonicalBlockRoot();
@@ -330,6 +335,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
     return finalizedDao.getFirstSamplerIncompleteSlot();
   }
 
+  @Override
+  public Optional<UInt64> getArchivedBlocksEndSlot() {
+    return finalizedDao.getArchivedBlocksEndSlot();
+  }
+
   @Override
   public Optional<Bytes> getSidecar(final DataColumnSlotAndIdentifier identifier) {
     return finalizedDao.getSidecar(identifier);
@@ -538,6 +548,16 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.removeNonCanonicalBlobSidecar(key);
     }
 
+    @Override
+    public void removeBlobSidecarsBeforeSlot(final UInt64 slot) {
+      finalizedUpdater.removeBlobSidecarsBeforeSlot(slot);
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsBeforeSlot(final UInt64 slot) {
+      finalizedUpdater.removeNonCanonicalBlobSidecarsBeforeSlot(slot);
+    }
+
     @Override
     public void addHotState(final Bytes32 blockRoot, final BeaconState state) {
       hotUpdater.addHotState(blockRoot, state);
@@ -553,6 +573,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       hotUpdater.addVotes(states);
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 syncCommitteePeriod, final Bytes update) {
+      hotUpdater.setLightClientUpdate(syncCommitteePeriod, update);
+    }
+
     @Override
     public void addHotBlocks(final Map<Bytes32, BlockAndCheckpoints> blocks) {
       hotUpdater.addHotBlocks(blocks);
@@ -605,6 +630,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.deleteFinalizedBlock(slot, blockRoot);
     }
 
+    @Override
+    public void deleteFinalizedBlockOnly(final UInt64 slot) {
+      finalizedUpdater.deleteFinalizedBlockOnly(slot);
+    }
+
     @Override
     public void deleteNonCanonicalBlockOnly(final Bytes32 blockRoot) {
       finalizedUpdater.deleteNonCanonicalBlockOnly(blockRoot);
@@ -670,6 +700,11 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.setFirstSamplerIncompleteSlot(slot);
     }
 
+    @Override
+    public void setArchivedBlocksEndSlot(final UInt64 slot) {
+      finalizedUpdater.setArchivedBlocksEndSlot(slot);
+    }
+
     @Override
     public void addSidecar(final DataColumnSidecar sidecar) {
       finalizedUpdater.addSidecar(sidecar);
@@ -690,6 +725,16 @@ public class KvStoreCombinedDaoAdapter implements KvStoreCombinedDao, V4Migratab
       finalizedUpdater.removeNonCanonicalSidecar(identifier);
     }
 
+    @Override
+    public void removeSidecarsBeforeSlot(final UInt64 slot) {
+      finalizedUpdater.removeSidecarsBeforeSlot(slot);
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsBeforeSlot(final UInt64 slot) {
+      finalizedUpdater.removeNonCanonicalSidecarsBeforeSlot(slot);
+    }
+
     @Override
     public void addMinGenesisTimeBlock(final MinGenesisTimeBlockEvent event) {
       hotUpdater.addMinGenesisTimeBlock(event);
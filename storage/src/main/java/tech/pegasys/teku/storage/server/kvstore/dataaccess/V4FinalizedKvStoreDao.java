@@ -209,6 +209,10 @@ public class V4FinalizedKvStoreDao {
     return db.get(schema.getVariableFirstSamplerIncompleteSlot());
   }
 
+  public Optional<UInt64> getArchivedBlocksEndSlot() {
+    return db.get(schema.getVariableArchivedBlocksEndSlot());
+  }
+
   public Optional<Bytes> getSidecar(final DataColumnSlotAndIdentifier identifier) {
     return db.get(schema.getColumnSidecarByColumnSlotAndIdentifier(), identifier);
   }
@@ -383,6 +387,11 @@ public class V4FinalizedKvStoreDao {
       transaction.delete(schema.getColumnSlotsByFinalizedRoot(), blockRoot);
     }
 
+    @Override
+    public void deleteFinalizedBlockOnly(final UInt64 slot) {
+      transaction.delete(schema.getColumnFinalizedBlocksBySlot(), slot);
+    }
+
     @Override
     public void deleteNonCanonicalBlockOnly(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnNonCanonicalBlocksByRoot(), blockRoot);
@@ -468,6 +477,22 @@ public class V4FinalizedKvStoreDao {
       transaction.delete(schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(), key);
     }
 
+    @Override
+    public void removeBlobSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalBlobSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalBlobSidecarBySlotRootBlobIndex(),
+          new SlotAndBlockRootAndBlobIndex(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new SlotAndBlockRootAndBlobIndex(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
     @Override
     public void setEarliestBlobSidecarSlot(final UInt64 slot) {
       transaction.put(schema.getVariableEarliestBlobSidecarSlot(), slot);
@@ -493,6 +518,11 @@ public class V4FinalizedKvStoreDao {
       transaction.put(schema.getVariableFirstSamplerIncompleteSlot(), slot);
     }
 
+    @Override
+    public void setArchivedBlocksEndSlot(final UInt64 slot) {
+      transaction.put(schema.getVariableArchivedBlocksEndSlot(), slot);
+    }
+
     @Override
     public void addSidecar(final DataColumnSidecar sidecar) {
       transaction.put(
@@ -522,6 +552,22 @@ public class V4FinalizedKvStoreDao {
           schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(), identifier);
     }
 
+    @Override
+    public void removeSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnSidecarByColumnSlotAndIdentifier(),
+          new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new DataColumnSlotAndIdentifier(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
+    @Override
+    public void removeNonCanonicalSidecarsBeforeSlot(final UInt64 slot) {
+      transaction.deleteRange(
+          schema.getColumnNonCanonicalSidecarByColumnSlotAndIdentifier(),
+          new DataColumnSlotAndIdentifier(UInt64.ZERO, MIN_BLOCK_ROOT, UInt64.ZERO),
+          new DataColumnSlotAndIdentifier(slot, MIN_BLOCK_ROOT, UInt64.ZERO));
+    }
+
     @Override
     public void commit() {
       // Commit db updates
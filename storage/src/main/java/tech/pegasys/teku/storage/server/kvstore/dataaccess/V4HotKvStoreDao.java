@@ -127,6 +127,10 @@ public class V4HotKvStoreDao {
     return db.getAll(schema.getColumnVotes());
   }
 
+  public Optional<Bytes> getLightClientUpdate(final UInt64 syncCommitteePeriod) {
+    return db.get(schema.getColumnLightClientUpdatesByPeriod(), syncCommitteePeriod);
+  }
+
   @MustBeClosed
   public Stream<DepositsFromBlockEvent> streamDepositsFromBlocks() {
     return db.stream(schema.getColumnDepositsFromBlockEvents()).map(ColumnEntry::getValue);
@@ -285,6 +289,11 @@ public class V4HotKvStoreDao {
           (validatorIndex, vote) -> transaction.put(schema.getColumnVotes(), validatorIndex, vote));
     }
 
+    @Override
+    public void setLightClientUpdate(final UInt64 syncCommitteePeriod, final Bytes update) {
+      transaction.put(schema.getColumnLightClientUpdatesByPeriod(), syncCommitteePeriod, update);
+    }
+
     @Override
     public void deleteHotBlock(final Bytes32 blockRoot) {
       transaction.delete(schema.getColumnHotBlocksByRoot(), blockRoot);
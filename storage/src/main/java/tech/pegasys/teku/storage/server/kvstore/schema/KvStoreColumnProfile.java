@@ -0,0 +1,32 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.kvstore.schema;
+
+/**
+ * Describes the access pattern of a {@link KvStoreColumn} so the underlying database can tune each
+ * column independently. Databases which don't support per-column tuning ignore the profile.
+ */
+public enum KvStoreColumnProfile {
+  /** General purpose settings, used for columns which are mostly iterated. */
+  DEFAULT,
+  /** Small values read by exact key, where most lookups benefit from whole key filtering. */
+  POINT_LOOKUP,
+  /** Values of hundreds of KB (blocks and states) which are written once and rarely updated. */
+  LARGE_VALUE,
+  /**
+   * Large values written in slot order and deleted in bulk once they fall outside the retention
+   * period (blob and data column sidecars).
+   */
+  SIDECAR
+}
@@ -48,6 +48,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreColumn<Bytes32, BeaconState> getColumnHotStatesByRoot();
 
+  KvStoreColumn<UInt64, Bytes> getColumnLightClientUpdatesByPeriod();
+
   KvStoreColumn<Bytes32, UInt64> getColumnSlotsByFinalizedRoot();
 
   KvStoreColumn<UInt64, SignedBeaconBlock> getColumnFinalizedBlocksBySlot();
@@ -93,6 +95,8 @@ public interface SchemaCombined extends Schema {
 
   KvStoreVariable<UInt64> getVariableEarliestBlockSlot();
 
+  KvStoreVariable<UInt64> getVariableArchivedBlocksEndSlot();
+
   KvStoreVariable<DepositTreeSnapshot> getVariableFinalizedDepositSnapshot();
 
   KvStoreVariable<UInt64> getVariableFirstCustodyIncompleteSlot();
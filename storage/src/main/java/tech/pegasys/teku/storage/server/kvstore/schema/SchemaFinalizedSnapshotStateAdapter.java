@@ -129,6 +129,10 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
     return delegate.getVariableEarliestBlockSlot();
   }
 
+  public KvStoreVariable<UInt64> getVariableArchivedBlocksEndSlot() {
+    return delegate.getVariableArchivedBlocksEndSlot();
+  }
+
   public KvStoreVariable<UInt64> getVariableFirstCustodyIncompleteSlot() {
     return delegate.getVariableFirstCustodyIncompleteSlot();
   }
@@ -148,6 +152,8 @@ public class SchemaFinalizedSnapshotStateAdapter implements SchemaFinalizedSnaps
         "FIRST_CUSTODY_INCOMPLETE_SLOT",
         getVariableFirstCustodyIncompleteSlot(),
         "FIRST_SAMPLER_INCOMPLETE_SLOT",
-        getVariableFirstSamplerIncompleteSlot());
+        getVariableFirstSamplerIncompleteSlot(),
+        "ARCHIVED_BLOCKS_END_SLOT",
+        getVariableArchivedBlocksEndSlot());
   }
 }
@@ -65,6 +65,10 @@ public class SchemaHotAdapter implements Schema {
     return delegate.getColumnHotStatesByRoot();
   }
 
+  public KvStoreColumn<UInt64, Bytes> getColumnLightClientUpdatesByPeriod() {
+    return delegate.getColumnLightClientUpdatesByPeriod();
+  }
+
   public KvStoreColumn<SlotAndBlockRootAndBlobIndex, Bytes>
       getColumnBlobSidecarBySlotRootBlobIndex() {
     return delegate.getColumnBlobSidecarBySlotRootBlobIndex();
@@ -126,6 +130,8 @@ public class SchemaHotAdapter implements Schema {
         getColumnHotStatesByRoot(),
         "HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT",
         getColumnHotBlockCheckpointEpochsByRoot(),
+        "LIGHT_CLIENT_UPDATES_BY_PERIOD",
+        getColumnLightClientUpdatesByPeriod(),
         "BLOB_SIDECAR_BY_SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX",
         getColumnBlobSidecarBySlotRootBlobIndex());
   }
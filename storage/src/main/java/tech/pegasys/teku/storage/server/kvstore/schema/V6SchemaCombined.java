@@ -13,7 +13,10 @@
 
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_EPOCHS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.CHECKPOINT_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER;
@@ -25,6 +28,7 @@ import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSeri
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.pow.api.DepositTreeSnapshot;
 import tech.pegasys.teku.ethereum.pow.api.DepositsFromBlockEvent;
@@ -56,11 +60,13 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private static final KvStoreColumn<UInt64, DepositsFromBlockEvent> DEPOSITS_FROM_BLOCK_EVENTS =
       KvStoreColumn.create(4, UINT64_SERIALIZER, DEPOSITS_FROM_BLOCK_EVENT_SERIALIZER);
   private static final KvStoreColumn<Bytes32, SlotAndBlockRoot> STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT =
-      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER);
+      KvStoreColumn.create(5, BYTES32_SERIALIZER, SLOT_AND_BLOCK_ROOT_SERIALIZER, POINT_LOOKUP);
   private final KvStoreColumn<Bytes32, BeaconState> hotStatesByRoot;
   private static final KvStoreColumn<Bytes32, BlockCheckpoints>
       HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT =
-          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER);
+          KvStoreColumn.create(7, BYTES32_SERIALIZER, CHECKPOINT_EPOCHS_SERIALIZER, POINT_LOOKUP);
+  private static final KvStoreColumn<UInt64, Bytes> LIGHT_CLIENT_UPDATES_BY_PERIOD =
+      KvStoreColumn.create(8, UINT64_SERIALIZER, BYTES_SERIALIZER);
 
   // Variables
   private static final KvStoreVariable<UInt64> GENESIS_TIME =
@@ -89,16 +95,19 @@ public abstract class V6SchemaCombined implements SchemaCombined {
   private final KvStoreVariable<UInt64> earliestBlockSlot;
   private final KvStoreVariable<UInt64> firstCustodyIncompleteSlot;
   private final KvStoreVariable<UInt64> firstSamplerIncompleteSlot;
+  private final KvStoreVariable<UInt64> archivedBlocksEndSlot;
 
   protected V6SchemaCombined(final Spec spec, final int finalizedOffset) {
     this.finalizedOffset = finalizedOffset;
     final KvStoreSerializer<SignedBeaconBlock> signedBlockSerializer =
         KvStoreSerializer.createSignedBlockSerializer(spec);
-    hotBlocksByRoot = KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer);
+    hotBlocksByRoot =
+        KvStoreColumn.create(1, BYTES32_SERIALIZER, signedBlockSerializer, LARGE_VALUE);
     final KvStoreSerializer<BeaconState> stateSerializer =
         KvStoreSerializer.createStateSerializer(spec);
-    checkpointStates = KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer);
-    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer);
+    checkpointStates =
+        KvStoreColumn.create(2, CHECKPOINT_SERIALIZER, stateSerializer, LARGE_VALUE);
+    hotStatesByRoot = KvStoreColumn.create(6, BYTES32_SERIALIZER, stateSerializer, LARGE_VALUE);
     latestFinalizedState = KvStoreVariable.create(5, stateSerializer);
 
     votes = KvStoreColumn.create(3, UINT64_SERIALIZER, VOTE_TRACKER_SERIALIZER);
@@ -108,6 +117,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     earliestBlockSlot = KvStoreVariable.create(finalizedOffset + 3, UINT64_SERIALIZER);
     firstCustodyIncompleteSlot = KvStoreVariable.create(finalizedOffset + 4, UINT64_SERIALIZER);
     firstSamplerIncompleteSlot = KvStoreVariable.create(finalizedOffset + 5, UINT64_SERIALIZER);
+    archivedBlocksEndSlot = KvStoreVariable.create(finalizedOffset + 6, UINT64_SERIALIZER);
   }
 
   @Override
@@ -145,6 +155,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return hotStatesByRoot;
   }
 
+  @Override
+  public KvStoreColumn<UInt64, Bytes> getColumnLightClientUpdatesByPeriod() {
+    return LIGHT_CLIENT_UPDATES_BY_PERIOD;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableGenesisTime() {
     return GENESIS_TIME;
@@ -210,6 +225,11 @@ public abstract class V6SchemaCombined implements SchemaCombined {
     return earliestBlockSlot;
   }
 
+  @Override
+  public KvStoreVariable<UInt64> getVariableArchivedBlocksEndSlot() {
+    return archivedBlocksEndSlot;
+  }
+
   @Override
   public KvStoreVariable<UInt64> getVariableFirstCustodyIncompleteSlot() {
     return firstCustodyIncompleteSlot;
@@ -230,6 +250,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("LIGHT_CLIENT_UPDATES_BY_PERIOD", getColumnLightClientUpdatesByPeriod())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("SLOTS_BY_FINALIZED_STATE_ROOT", getColumnSlotsByFinalizedStateRoot())
@@ -259,6 +280,7 @@ public abstract class V6SchemaCombined implements SchemaCombined {
         .put("LATEST_CANONICAL_BLOCK_ROOT", getVariableLatestCanonicalBlockRoot())
         .put("FIRST_CUSTODY_INCOMPLETE_SLOT", getVariableFirstCustodyIncompleteSlot())
         .put("FIRST_SAMPLER_INCOMPLETE_SLOT", getVariableFirstSamplerIncompleteSlot())
+        .put("ARCHIVED_BLOCKS_END_SLOT", getVariableArchivedBlocksEndSlot())
         .build();
   }
 }
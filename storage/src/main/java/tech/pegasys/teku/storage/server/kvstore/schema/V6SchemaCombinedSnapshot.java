@@ -14,6 +14,9 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.SIDECAR;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -57,43 +60,58 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
   private V6SchemaCombinedSnapshot(final Spec spec, final int finalizedOffset) {
     super(spec, finalizedOffset);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             finalizedOffset + 2,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            LARGE_VALUE);
     finalizedStatesBySlot =
         KvStoreColumn.create(
-            finalizedOffset + 3, UINT64_SERIALIZER, KvStoreSerializer.createStateSerializer(spec));
+            finalizedOffset + 3,
+            UINT64_SERIALIZER,
+            KvStoreSerializer.createStateSerializer(spec),
+            LARGE_VALUE);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            finalizedOffset + 4, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             finalizedOffset + 5,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            LARGE_VALUE);
     nonCanonicalBlockRootsBySlot =
         KvStoreColumn.create(finalizedOffset + 6, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
     blobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 12,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            SIDECAR);
 
     nonCanonicalBlobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 13,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            SIDECAR);
 
     sidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 14, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 14,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            SIDECAR);
 
     nonCanonicalSidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 15, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 15,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            SIDECAR);
 
     deletedColumnIds =
         List.of(
@@ -176,6 +194,7 @@ public class V6SchemaCombinedSnapshot extends V6SchemaCombined
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("LIGHT_CLIENT_UPDATES_BY_PERIOD", getColumnLightClientUpdatesByPeriod())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATES_BY_SLOT", getColumnFinalizedStatesBySlot())
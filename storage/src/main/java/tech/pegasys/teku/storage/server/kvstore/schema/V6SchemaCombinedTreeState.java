@@ -14,6 +14,9 @@
 package tech.pegasys.teku.storage.server.kvstore.schema;
 
 import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn.asColumnId;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.LARGE_VALUE;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.POINT_LOOKUP;
+import static tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile.SIDECAR;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BLOCK_ROOTS_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES32_SERIALIZER;
 import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
@@ -59,46 +62,60 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
   public V6SchemaCombinedTreeState(final Spec spec) {
     super(spec, V6_FINALIZED_OFFSET);
     slotsByFinalizedRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 1, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     slotsByFinalizedStateRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 2, BYTES32_SERIALIZER, UINT64_SERIALIZER, POINT_LOOKUP);
     nonCanonicalBlockRootsBySlot =
         KvStoreColumn.create(V6_FINALIZED_OFFSET + 3, UINT64_SERIALIZER, BLOCK_ROOTS_SERIALIZER);
     finalizedStateRootsBySlot =
         KvStoreColumn.create(V6_FINALIZED_OFFSET + 4, UINT64_SERIALIZER, BYTES32_SERIALIZER);
     finalizedStateTreeLeavesByRoot =
-        KvStoreColumn.create(V6_FINALIZED_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER);
+        KvStoreColumn.create(
+            V6_FINALIZED_OFFSET + 5, BYTES32_SERIALIZER, BYTES_SERIALIZER, POINT_LOOKUP);
     finalizedStateTreeBranchesByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 6,
             BYTES32_SERIALIZER,
-            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER);
+            COMPRESSED_BRANCH_INFO_KV_STORE_SERIALIZER,
+            POINT_LOOKUP);
     finalizedBlocksBySlot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 7,
             UINT64_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            LARGE_VALUE);
     nonCanonicalBlocksByRoot =
         KvStoreColumn.create(
             V6_FINALIZED_OFFSET + 8,
             BYTES32_SERIALIZER,
-            KvStoreSerializer.createSignedBlockSerializer(spec));
+            KvStoreSerializer.createSignedBlockSerializer(spec),
+            LARGE_VALUE);
     blobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 14,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            SIDECAR);
     nonCanonicalBlobSidecarBySlotRootBlobIndex =
         KvStoreColumn.create(
             finalizedOffset + 15,
             SLOT_AND_BLOCK_ROOT_AND_BLOB_INDEX_KEY_SERIALIZER,
-            BYTES_SERIALIZER);
+            BYTES_SERIALIZER,
+            SIDECAR);
     sidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 16, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 16,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            SIDECAR);
     nonCanonicalSidecarByColumnSlotAndIdentifier =
         KvStoreColumn.create(
-            finalizedOffset + 17, COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER, BYTES_SERIALIZER);
+            finalizedOffset + 17,
+            COLUMN_SLOT_AND_IDENTIFIER_KEY_SERIALIZER,
+            BYTES_SERIALIZER,
+            SIDECAR);
     deletedColumnIds =
         List.of(
             asColumnId(finalizedOffset + 9),
@@ -190,6 +207,7 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("LATEST_CANONICAL_BLOCK_ROOT", getVariableLatestCanonicalBlockRoot())
         .put("FIRST_CUSTODY_INCOMPLETE_SLOT", getVariableFirstCustodyIncompleteSlot())
         .put("FIRST_SAMPLER_INCOMPLETE_SLOT", getVariableFirstSamplerIncompleteSlot())
+        .put("ARCHIVED_BLOCKS_END_SLOT", getVariableArchivedBlocksEndSlot())
         .build();
   }
 
@@ -203,6 +221,7 @@ public class V6SchemaCombinedTreeState extends V6SchemaCombined implements Schem
         .put("STATE_ROOT_TO_SLOT_AND_BLOCK_ROOT", getColumnStateRootToSlotAndBlockRoot())
         .put("HOT_STATES_BY_ROOT", getColumnHotStatesByRoot())
         .put("HOT_BLOCK_CHECKPOINT_EPOCHS_BY_ROOT", getColumnHotBlockCheckpointEpochsByRoot())
+        .put("LIGHT_CLIENT_UPDATES_BY_PERIOD", getColumnLightClientUpdatesByPeriod())
         .put("SLOTS_BY_FINALIZED_ROOT", getColumnSlotsByFinalizedRoot())
         .put("FINALIZED_BLOCKS_BY_SLOT", getColumnFinalizedBlocksBySlot())
         .put("FINALIZED_STATE_ROOTS_BY_SLOT", getColumnFinalizedStateRootsBySlot())
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 import org.apache.tuweni.bytes.Bytes;
 import org.iq80.leveldb.DB;
 import org.iq80.leveldb.WriteBatch;
@@ -88,6 +89,19 @@ public class LevelDbTransaction implements KvStoreTransaction {
     applyUpdate(() -> writeBatch.delete(getVariableKey(variable)));
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+    // LevelDB has no range tombstones so each key in the range is deleted
+    applyUpdate(
+        () -> {
+          try (final Stream<K> keys = dbInstance.streamKeys(column, fromKey, toKey)) {
+            keys.filter(key -> key.compareTo(toKey) < 0)
+                .forEach(key -> writeBatch.delete(getColumnKey(column, key)));
+          }
+        });
+  }
+
   @Override
   public void commit() {
     applyUpdate(
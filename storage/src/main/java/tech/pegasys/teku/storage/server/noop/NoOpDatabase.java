@@ -35,6 +35,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.BlockCheckpoints;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.forkchoice.VoteTracker;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
@@ -64,6 +65,9 @@ public class NoOpDatabase implements Database {
       final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecarsBySlot,
       final Optional<UInt64> maybeEarliestBlobSidecarSlot) {}
 
+  @Override
+  public void importFinalizedBlocks(final Map<SlotAndBlockRoot, Bytes> blocks) {}
+
   @Override
   public void storeReconstructedFinalizedState(final BeaconState state, final Bytes32 blockRoot) {}
 
@@ -238,6 +242,11 @@ public class NoOpDatabase implements Database {
     return lastSlotToPrune;
   }
 
+  @Override
+  public int archiveFinalizedBlocks(final UInt64 finalizedSlot, final int eraLimit) {
+    return 0;
+  }
+
   @Override
   public Optional<UInt64> pruneFinalizedStates(
       final Optional<UInt64> lastPrunedSlot,
@@ -258,6 +267,15 @@ public class NoOpDatabase implements Database {
   @Override
   public void storeVotes(final Map<UInt64, VoteTracker> votes) {}
 
+  @Override
+  public Optional<LightClientUpdate> getLightClientUpdate(final UInt64 syncCommitteePeriod) {
+    return Optional.empty();
+  }
+
+  @Override
+  public void storeLightClientUpdate(
+      final UInt64 syncCommitteePeriod, final LightClientUpdate update) {}
+
   @Override
   public Map<String, Long> getColumnCounts(final Optional<String> maybeColumnFilter) {
     return new HashMap<>();
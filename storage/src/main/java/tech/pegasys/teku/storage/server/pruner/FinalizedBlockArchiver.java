@@ -0,0 +1,106 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.pruner;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.Cancellable;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.metrics.SettableLabelledGauge;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.service.serviceutils.Service;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
+import tech.pegasys.teku.storage.server.Database;
+import tech.pegasys.teku.storage.server.ShuttingDownException;
+
+/** Periodically moves finalized blocks of complete eras out of the database into era files. */
+public class FinalizedBlockArchiver extends Service {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final Spec spec;
+  private final Database database;
+  private final AsyncRunner asyncRunner;
+  private final Duration archiveInterval;
+  private final int eraLimit;
+  private final SettableLabelledGauge pruningTimingsLabelledGauge;
+  private final SettableLabelledGauge pruningActiveLabelledGauge;
+  private final String pruningMetricsType;
+
+  private Optional<Cancellable> scheduledArchiver = Optional.empty();
+
+  public FinalizedBlockArchiver(
+      final Spec spec,
+      final Database database,
+      final AsyncRunner asyncRunner,
+      final Duration archiveInterval,
+      final int eraLimit,
+      final String pruningMetricsType,
+      final SettableLabelledGauge pruningTimingsLabelledGauge,
+      final SettableLabelledGauge pruningActiveLabelledGauge) {
+    this.spec = spec;
+    this.database = database;
+    this.asyncRunner = asyncRunner;
+    this.archiveInterval = archiveInterval;
+    this.eraLimit = eraLimit;
+    this.pruningMetricsType = pruningMetricsType;
+    this.pruningTimingsLabelledGauge = pruningTimingsLabelledGauge;
+    this.pruningActiveLabelledGauge = pruningActiveLabelledGauge;
+  }
+
+  @Override
+  protected synchronized SafeFuture<?> doStart() {
+    scheduledArchiver =
+        Optional.of(
+            asyncRunner.runWithFixedDelay(
+                () -> {
+                  pruningActiveLabelledGauge.set(1, pruningMetricsType);
+                  final long start = System.currentTimeMillis();
+                  archiveBlocks();
+                  pruningTimingsLabelledGauge.set(
+                      System.currentTimeMillis() - start, pruningMetricsType);
+                  pruningActiveLabelledGauge.set(0, pruningMetricsType);
+                },
+                Duration.ZERO,
+                archiveInterval,
+                error -> LOG.error("Failed to archive finalized blocks", error)));
+    return SafeFuture.COMPLETE;
+  }
+
+  @Override
+  protected synchronized SafeFuture<?> doStop() {
+    scheduledArchiver.ifPresent(Cancellable::cancel);
+    return SafeFuture.COMPLETE;
+  }
+
+  private void archiveBlocks() {
+    final Optional<Checkpoint> finalizedCheckpoint = database.getFinalizedCheckpoint();
+    if (finalizedCheckpoint.isEmpty()) {
+      LOG.debug("Not archiving as no finalized checkpoint is available.");
+      return;
+    }
+    final UInt64 finalizedSlot = finalizedCheckpoint.get().getEpochStartSlot(spec);
+    try {
+      final int archivedEras = database.archiveFinalizedBlocks(finalizedSlot, eraLimit);
+      LOG.debug(
+          "Archived finalized blocks for {} eras prior to slot {}", archivedEras, finalizedSlot);
+    } catch (final ShuttingDownException | RejectedExecutionException ex) {
+      LOG.debug("Shutting down", ex);
+    }
+  }
+}
@@ -46,6 +46,7 @@ public class RocksDbInstance implements KvStoreAccessor {
   private final Set<RocksDbTransaction> openTransactions = new HashSet<>();
 
   private final AtomicBoolean closed = new AtomicBoolean(false);
+  private final AtomicBoolean rangeDeletesUnsupported = new AtomicBoolean(false);
 
   RocksDbInstance(
       final TransactionDB db,
@@ -202,7 +203,12 @@ public class RocksDbInstance implements KvStoreAccessor {
   public synchronized KvStoreTransaction startTransaction() {
     assertOpen();
     final RocksDbTransaction tx =
-        new RocksDbTransaction(db, defaultHandle, columnHandles, openTransactions::remove);
+        new RocksDbTransaction(
+            db,
+            defaultHandle,
+            columnHandles,
+            rangeDeletesUnsupported,
+            openTransactions::remove);
     openTransactions.add(tx);
     return tx;
   }
@@ -16,7 +16,9 @@ package tech.pegasys.teku.storage.server.rocksdb;
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.EXPECTED_WAL_FILE_SIZE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.NUMBER_OF_LOG_FILES_TO_KEEP;
+import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_BLOB_FILE_SIZE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_BLOCK_SIZE;
+import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.ROCKSDB_MIN_BLOB_SIZE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.TIME_TO_ROLL_LOG_FILE;
 import static tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration.WAL_MAX_TOTAL_SIZE;
 
@@ -24,6 +26,7 @@ import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -38,7 +41,9 @@ import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.DataBlockIndexType;
 import org.rocksdb.Env;
 import org.rocksdb.LRUCache;
 import org.rocksdb.RocksDBException;
@@ -49,6 +54,7 @@ import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
 import tech.pegasys.teku.storage.server.kvstore.schema.Schema;
 
 public class RocksDbInstanceFactory {
@@ -76,11 +82,11 @@ public class RocksDbInstanceFactory {
     final RocksDbStats rocksDbStats = new RocksDbStats(metricsSystem, metricCategory);
     final DBOptions dbOptions = createDBOptions(configuration, rocksDbStats.getStats());
     final LRUCache blockCache = new LRUCache(configuration.getCacheCapacity());
-    final ColumnFamilyOptions columnFamilyOptions =
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions =
         createColumnFamilyOptions(configuration, blockCache);
     final List<AutoCloseable> resources =
-        new ArrayList<>(
-            List.of(txOptions, dbOptions, columnFamilyOptions, rocksDbStats, blockCache));
+        new ArrayList<>(List.of(txOptions, dbOptions, rocksDbStats, blockCache));
+    columnFamilyOptions.values().stream().distinct().forEach(resources::add);
 
     List<ColumnFamilyDescriptor> columnDescriptors =
         createColumnFamilyDescriptors(columns, deletedColumns, columnFamilyOptions);
@@ -163,25 +169,94 @@ public class RocksDbInstanceFactory {
     return options;
   }
 
-  private static ColumnFamilyOptions createColumnFamilyOptions(
+  private static Map<KvStoreColumnProfile, ColumnFamilyOptions> createColumnFamilyOptions(
       final KvStoreConfiguration configuration, final Cache cache) {
+    final Map<KvStoreColumnProfile, ColumnFamilyOptions> options =
+        new EnumMap<>(KvStoreColumnProfile.class);
+    final ColumnFamilyOptions defaultOptions =
+        createDefaultColumnFamilyOptions(configuration)
+            .setTableFormatConfig(createBlockBasedTableConfig(cache));
+    for (final KvStoreColumnProfile profile : KvStoreColumnProfile.values()) {
+      if (profile == KvStoreColumnProfile.DEFAULT || !configuration.isColumnProfilesEnabled()) {
+        options.put(profile, defaultOptions);
+      } else {
+        options.put(profile, createColumnFamilyOptions(configuration, cache, profile));
+      }
+    }
+    return options;
+  }
+
+  private static ColumnFamilyOptions createColumnFamilyOptions(
+      final KvStoreConfiguration configuration,
+      final Cache cache,
+      final KvStoreColumnProfile profile) {
+    final ColumnFamilyOptions options = createDefaultColumnFamilyOptions(configuration);
+    switch (profile) {
+      case POINT_LOOKUP -> {
+        // Lookups by root frequently miss (e.g. checking if a block is already known), so filter
+        // whole keys in the memtable too and use a hash index within data blocks
+        options
+            .setMemtablePrefixBloomSizeRatio(0.1)
+            .setMemtableWholeKeyFiltering(true)
+            .setTableFormatConfig(
+                createBlockBasedTableConfig(cache)
+                    .setDataBlockIndexType(DataBlockIndexType.kDataBlockBinaryAndHash)
+                    .setWholeKeyFiltering(true));
+      }
+      case LARGE_VALUE -> {
+        // Keep large values out of the LSM tree so compaction only rewrites keys and references
+        options
+            .setEnableBlobFiles(true)
+            .setMinBlobSize(ROCKSDB_MIN_BLOB_SIZE)
+            .setBlobFileSize(ROCKSDB_BLOB_FILE_SIZE)
+            .setBlobCompressionType(configuration.getCompressionType())
+            .setEnableBlobGarbageCollection(true)
+            .setTableFormatConfig(createBlockBasedTableConfig(cache));
+      }
+      case SIDECAR -> {
+        // Sidecars are written and pruned in slot order, so whole blob files become obsolete
+        // together and can be dropped without garbage collection rewriting live values.
+        // KZG commitments and proofs don't compress, so skip compressing the blobs.
+        options
+            .setEnableBlobFiles(true)
+            .setMinBlobSize(ROCKSDB_MIN_BLOB_SIZE)
+            .setBlobFileSize(ROCKSDB_BLOB_FILE_SIZE)
+            .setBlobCompressionType(CompressionType.NO_COMPRESSION)
+            .setEnableBlobGarbageCollection(false)
+            .setTableFormatConfig(createBlockBasedTableConfig(cache));
+      }
+      case DEFAULT -> options.setTableFormatConfig(createBlockBasedTableConfig(cache));
+    }
+    return options;
+  }
+
+  private static ColumnFamilyOptions createDefaultColumnFamilyOptions(
+      final KvStoreConfiguration configuration) {
     return new ColumnFamilyOptions()
         .setCompressionType(configuration.getCompressionType())
         .setBottommostCompressionType(configuration.getBottomMostCompressionType())
-        .setLevelCompactionDynamicLevelBytes(true)
-        .setTableFormatConfig(createBlockBasedTableConfig(cache));
+        .setLevelCompactionDynamicLevelBytes(true);
   }
 
   private static List<ColumnFamilyDescriptor> createColumnFamilyDescriptors(
       final Collection<KvStoreColumn<?, ?>> columns,
       final Collection<Bytes> deletedColumns,
-      final ColumnFamilyOptions columnFamilyOptions) {
+      final Map<KvStoreColumnProfile, ColumnFamilyOptions> columnFamilyOptions) {
+    final ColumnFamilyOptions defaultOptions =
+        columnFamilyOptions.get(KvStoreColumnProfile.DEFAULT);
     final List<ColumnFamilyDescriptor> columnDescriptors =
-        Stream.concat(columns.stream().map(KvStoreColumn::getId), deletedColumns.stream())
-            .map(id -> new ColumnFamilyDescriptor(id.toArrayUnsafe(), columnFamilyOptions))
+        columns.stream()
+            .map(
+                column ->
+                    new ColumnFamilyDescriptor(
+                        column.getId().toArrayUnsafe(),
+                        columnFamilyOptions.get(column.getProfile())))
             .collect(Collectors.toCollection(ArrayList::new));
+    deletedColumns.forEach(
+        id ->
+            columnDescriptors.add(new ColumnFamilyDescriptor(id.toArrayUnsafe(), defaultOptions)));
     columnDescriptors.add(
-        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), columnFamilyOptions));
+        new ColumnFamilyDescriptor(Schema.DEFAULT_COLUMN_ID.toArrayUnsafe(), defaultOptions));
     return Collections.unmodifiableList(columnDescriptors);
   }
 
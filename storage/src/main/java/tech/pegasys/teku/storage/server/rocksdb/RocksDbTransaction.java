@@ -14,15 +14,23 @@
 package tech.pegasys.teku.storage.server.rocksdb;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Status;
 import org.rocksdb.Transaction;
 import org.rocksdb.TransactionDB;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import tech.pegasys.teku.storage.server.ShuttingDownException;
 import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
@@ -30,10 +38,15 @@ import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
 import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreVariable;
 
 public class RocksDbTransaction implements KvStoreTransaction {
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final TransactionDB db;
   private final ColumnFamilyHandle defaultHandle;
   private final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles;
   private final Transaction rocksDbTx;
   private final WriteOptions writeOptions;
+  private final List<RangeDelete> rangeDeletes = new ArrayList<>();
+  private final AtomicBoolean rangeDeletesUnsupported;
 
   private final ReentrantLock lock = new ReentrantLock();
   private final AtomicBoolean closedViaDatabase = new AtomicBoolean(false);
@@ -44,9 +57,12 @@ public class RocksDbTransaction implements KvStoreTransaction {
       final TransactionDB db,
       final ColumnFamilyHandle defaultHandle,
       final ImmutableMap<KvStoreColumn<?, ?>, ColumnFamilyHandle> columnHandles,
+      final AtomicBoolean rangeDeletesUnsupported,
       final Consumer<RocksDbTransaction> onClosed) {
+    this.db = db;
     this.defaultHandle = defaultHandle;
     this.columnHandles = columnHandles;
+    this.rangeDeletesUnsupported = rangeDeletesUnsupported;
     this.writeOptions = new WriteOptions();
     this.rocksDbTx = db.beginTransaction(writeOptions);
     this.onClosed = onClosed;
@@ -133,11 +149,29 @@ public class RocksDbTransaction implements KvStoreTransaction {
         });
   }
 
+  @Override
+  public <K extends Comparable<K>, V> void deleteRange(
+      final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+    applyUpdate(
+        () ->
+            rangeDeletes.add(
+                new RangeDelete(
+                    columnHandles.get(column),
+                    column.getKeySerializer().serialize(fromKey),
+                    column.getKeySerializer().serialize(toKey))));
+  }
+
   @Override
   public void commit() {
     applyUpdate(
         () -> {
           try {
+            // Transactions can't hold range deletes so they are written directly to the database.
+            // They go first so a failed commit leaves the rest of the transaction, such as the
+            // earliest retained slot, unchanged and the same range is deleted again next time.
+            for (final RangeDelete rangeDelete : rangeDeletes) {
+              applyRangeDelete(rangeDelete);
+            }
             this.rocksDbTx.commit();
           } catch (RocksDBException e) {
             throw RocksDbExceptionUtil.wrapException("Failed to commit transaction", e);
@@ -161,6 +195,35 @@ public class RocksDbTransaction implements KvStoreTransaction {
         });
   }
 
+  private void applyRangeDelete(final RangeDelete rangeDelete) throws RocksDBException {
+    if (!rangeDeletesUnsupported.get()) {
+      try {
+        db.deleteRange(
+            rangeDelete.handle(), writeOptions, rangeDelete.fromKey(), rangeDelete.toKey());
+        return;
+      } catch (final RocksDBException e) {
+        if (e.getStatus() == null || e.getStatus().getCode() != Status.Code.NotSupported) {
+          throw e;
+        }
+        if (rangeDeletesUnsupported.compareAndSet(false, true)) {
+          LOG.info(
+              "Database does not support range deletes, keys in a range will be deleted "
+                  + "individually: {}",
+              e.getMessage());
+        }
+      }
+    }
+    try (final RocksIterator iterator = db.newIterator(rangeDelete.handle());
+        final WriteBatch batch = new WriteBatch()) {
+      for (iterator.seek(rangeDelete.fromKey());
+          iterator.isValid() && Arrays.compareUnsigned(iterator.key(), rangeDelete.toKey()) < 0;
+          iterator.next()) {
+        batch.delete(rangeDelete.handle(), iterator.key());
+      }
+      db.write(writeOptions, batch);
+    }
+  }
+
   private void applyUpdate(final Runnable operation) {
     lock.lock();
     try {
@@ -200,4 +263,6 @@ public class RocksDbTransaction implements KvStoreTransaction {
       lock.unlock();
     }
   }
+
+  private record RangeDelete(ColumnFamilyHandle handle, byte[] fromKey, byte[] toKey) {}
 }
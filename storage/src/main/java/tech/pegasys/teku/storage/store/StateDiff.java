@@ -0,0 +1,73 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeDiff;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconStateSchema;
+
+/**
+ * A state evicted from the state cache, retained only as its difference from a base state.
+ *
+ * <p>Rebuilding the state recreates the modified branches of its backing tree and shares everything
+ * else with the base state, which is much faster than regenerating it by replaying blocks. The
+ * caches held by the original state instance are not retained.
+ *
+ * <p>The diff keeps its base state alive, so it is re-based whenever the base is replaced.
+ */
+class StateDiff {
+  private final BeaconStateSchema<? extends BeaconState, ?> schema;
+  private final BeaconState baseState;
+  private final TreeDiff diff;
+
+  private StateDiff(
+      final BeaconStateSchema<? extends BeaconState, ?> schema,
+      final BeaconState baseState,
+      final TreeDiff diff) {
+    this.schema = schema;
+    this.baseState = baseState;
+    this.diff = diff;
+  }
+
+  static StateDiff create(final BeaconState state, final BeaconState baseState) {
+    return new StateDiff(
+        state.getBeaconStateSchema(),
+        baseState,
+        TreeDiff.compute(baseState.getBackingNode(), state.getBackingNode()));
+  }
+
+  StateAndBlockSummary rebuild() {
+    final BeaconState state = schema.createFromBackingNode(diff.apply(baseState.getBackingNode()));
+    // the block summary is derived from the state rather than retaining the block
+    return StateAndBlockSummary.create(state);
+  }
+
+  boolean hasBase(final BeaconState state) {
+    return baseState == state;
+  }
+
+  /** Returns a diff of the same state against {@code newBaseState}. */
+  StateDiff rebase(final BeaconState newBaseState) {
+    return new StateDiff(
+        schema,
+        newBaseState,
+        TreeDiff.compute(newBaseState.getBackingNode(), diff.apply(baseState.getBackingNode())));
+  }
+
+  /** Estimated size retained by the diff, excluding the base state. */
+  long estimateSize() {
+    return diff.estimateSize();
+  }
+}
@@ -106,6 +106,7 @@ class Store extends CacheableStore {
   private final Map<Bytes32, SignedBeaconBlock> blocks;
   private final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates;
   private final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars;
+  private final Optional<StoreCacheMemoryBudget> cacheMemoryBudget;
   private UInt64 timeMillis;
   private UInt64 genesisTime;
   private AnchorPoint finalizedAnchor;
@@ -139,7 +140,8 @@ class Store extends CacheableStore {
       final Map<Bytes32, SignedBeaconBlock> blocks,
       final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStates,
       final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates,
-      final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars) {
+      final Map<SlotAndBlockRoot, List<BlobSidecar>> blobSidecars,
+      final Optional<StoreCacheMemoryBudget> cacheMemoryBudget) {
     checkArgument(
         time.isGreaterThanOrEqualTo(genesisTime),
         "Time must be greater than or equal to genesisTime");
@@ -164,6 +166,7 @@ class Store extends CacheableStore {
     this.bestJustifiedCheckpoint = bestJustifiedCheckpoint;
     this.blocks = blocks;
     this.blobSidecars = blobSidecars;
+    this.cacheMemoryBudget = cacheMemoryBudget;
     this.highestVotedValidatorIndex =
         votes.keySet().stream().max(Comparator.naturalOrder()).orElse(UInt64.ZERO);
     this.votes =
@@ -224,17 +227,32 @@ class Store extends CacheableStore {
       final Map<UInt64, VoteTracker> votes,
       final StoreConfig config,
       final ForkChoiceStrategy forkChoiceStrategy) {
-    final Map<Bytes32, SignedBeaconBlock> blocks =
-        LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
+    final Optional<StoreCacheMemoryBudget> cacheMemoryBudget =
+        config.getCacheMemoryBudgetBytes() > 0
+            ? Optional.of(
+                new StoreCacheMemoryBudget(
+                    config.getCacheMemoryBudgetBytes(),
+                    config.getStateDiffCacheSize(),
+                    finalizedAnchor.getState()))
+            : Optional.empty();
+    final Map<Bytes32, SignedBeaconBlock> blocks;
+    final Map<SlotAndBlockRoot, BeaconState> checkpointStateCache;
+    final Map<Bytes32, StateAndBlockSummary> stateCache;
+    if (cacheMemoryBudget.isPresent()) {
+      blocks = cacheMemoryBudget.get().createBlockCache(config.getBlockCacheSize());
+      checkpointStateCache =
+          cacheMemoryBudget.get().createCheckpointStateCache(config.getCheckpointStateCacheSize());
+      stateCache = cacheMemoryBudget.get().createStateCache(config.getStateCacheSize());
+    } else {
+      blocks = LimitedMap.createSynchronizedNatural(config.getBlockCacheSize());
+      checkpointStateCache = LimitedMap.createSoft(config.getCheckpointStateCacheSize());
+      stateCache = LimitedMap.createSoft(config.getStateCacheSize());
+    }
     final CachingTaskQueue<SlotAndBlockRoot, BeaconState> checkpointStateTaskQueue =
         CachingTaskQueue.create(
-            asyncRunner,
-            metricsSystem,
-            "memory_checkpoint_states",
-            config.getCheckpointStateCacheSize());
+            asyncRunner, metricsSystem, "memory_checkpoint_states", checkpointStateCache);
     final CachingTaskQueue<Bytes32, StateAndBlockSummary> stateTaskQueue =
-        CachingTaskQueue.create(
-            asyncRunner, metricsSystem, "memory_states", config.getStateCacheSize());
+        CachingTaskQueue.create(asyncRunner, metricsSystem, "memory_states", stateCache);
     final Optional<Map<Bytes32, StateAndBlockSummary>> maybeEpochStates =
         config.getEpochStateCacheSize() > 0
             ? Optional.of(LimitedMap.createSynchronizedLRU(config.getEpochStateCacheSize()))
@@ -262,7 +280,8 @@ class Store extends CacheableStore {
         blocks,
         checkpointStateTaskQueue,
         maybeEpochStates,
-        blobSidecars);
+        blobSidecars,
+        cacheMemoryBudget);
   }
 
   public static UpdatableStore create(
@@ -406,6 +425,7 @@ class Store extends CacheableStore {
       }
       states.startMetrics();
       checkpointStates.startMetrics();
+      cacheMemoryBudget.ifPresent(budget -> budget.startMetrics(metricsSystem));
     } finally {
       votesLock.writeLock().unlock();
       lock.writeLock().unlock();
@@ -423,6 +443,7 @@ class Store extends CacheableStore {
     states.clear();
     checkpointStates.clear();
     blocks.clear();
+    cacheMemoryBudget.ifPresent(StoreCacheMemoryBudget::clearStateDiffs);
   }
 
   @Override
@@ -561,7 +582,19 @@ class Store extends CacheableStore {
 
   @Override
   public Optional<BeaconState> getBlockStateIfAvailable(final Bytes32 blockRoot) {
-    return states.getIfAvailable(blockRoot).map(StateAndBlockSummary::getState);
+    return getStateAndBlockSummaryIfAvailable(blockRoot).map(StateAndBlockSummary::getState);
+  }
+
+  private Optional<StateAndBlockSummary> getStateAndBlockSummaryIfAvailable(
+      final Bytes32 blockRoot) {
+    final Optional<StateAndBlockSummary> cachedResult = states.getIfAvailable(blockRoot);
+    if (cachedResult.isPresent() || cacheMemoryBudget.isEmpty()) {
+      return cachedResult;
+    }
+    final Optional<StateAndBlockSummary> restoredResult =
+        cacheMemoryBudget.get().restoreState(blockRoot);
+    restoredResult.ifPresent(result -> states.cache(blockRoot, result));
+    return restoredResult;
   }
 
   @Override
@@ -866,7 +899,8 @@ class Store extends CacheableStore {
   private SafeFuture<Optional<StateAndBlockSummary>> getOrRegenerateBlockAndState(
       final Bytes32 blockRoot) {
     // Avoid generating the hash tree to rebuild if the state is already available.
-    final Optional<StateAndBlockSummary> cachedResult = states.getIfAvailable(blockRoot);
+    final Optional<StateAndBlockSummary> cachedResult =
+        getStateAndBlockSummaryIfAvailable(blockRoot);
     if (cachedResult.isPresent()) {
       return SafeFuture.completedFuture(cachedResult).thenPeek(this::cacheIfEpochState);
     }
@@ -918,7 +952,7 @@ class Store extends CacheableStore {
         // pre-epoch transition state
         // This will be referenced during epoch transition if the first slot of the epoch is empty
         final Optional<StateAndBlockSummary> maybeParentStateAndBlockSummary =
-            states.getIfAvailable(stateAndBlockSummary.getParentRoot());
+            getStateAndBlockSummaryIfAvailable(stateAndBlockSummary.getParentRoot());
         maybeParentStateAndBlockSummary.ifPresent(
             parentStateAndBlockSummary -> {
               if (epochStates.put(parentStateAndBlockSummary.getRoot(), parentStateAndBlockSummary)
@@ -1063,6 +1097,7 @@ class Store extends CacheableStore {
   void removeStateAndBlock(final Bytes32 root) {
     blocks.remove(root);
     states.remove(root);
+    cacheMemoryBudget.ifPresent(budget -> budget.removeState(root));
     maybeEpochStates.ifPresent(
         epochStates -> {
           if (!finalizedAnchor.getRoot().equals(root)) {
@@ -1077,6 +1112,7 @@ class Store extends CacheableStore {
   void updateFinalizedAnchor(final AnchorPoint latestFinalized) {
     pruneOldFinalizedStateFromEpochCache(this.finalizedAnchor);
     finalizedAnchor = latestFinalized;
+    cacheMemoryBudget.ifPresent(budget -> budget.updateFinalizedState(latestFinalized.getState()));
     cacheFinalizedAnchorPoint(latestFinalized);
   }
 
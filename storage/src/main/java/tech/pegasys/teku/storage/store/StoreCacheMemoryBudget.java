@@ -0,0 +1,192 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledSuppliedMetric;
+import tech.pegasys.teku.infrastructure.collections.MemoryBudget;
+import tech.pegasys.teku.infrastructure.collections.WeightedLimitedMap;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+
+/**
+ * Memory budget shared by the block, state and checkpoint state caches of the {@link Store}.
+ *
+ * <p>Hot states share most of their backing tree with the finalized state, which the store retains
+ * regardless of its caches, so each cached state is only charged for the nodes which differ from
+ * the finalized state. Cached states are weighed again whenever the finalized state changes, as
+ * nodes they shared with the previous finalized state are no longer retained by the store. Nodes
+ * shared between two hot states are charged to both, so the estimate errs on the side of
+ * over-counting.
+ *
+ * <p>States evicted from the state cache are kept as a {@link StateDiff} against the finalized
+ * state, which is usually a small fraction of their size, so they can be rebuilt without replaying
+ * blocks until the diffs themselves are evicted. The diffs are re-based when the finalized state
+ * changes so that they never keep an earlier finalized state alive outside of the budget.
+ */
+class StoreCacheMemoryBudget {
+  private final MemoryBudget budget;
+  private final Map<String, WeightedLimitedMap<?, ?>> caches = new LinkedHashMap<>();
+  private final List<WeightedLimitedMap<?, ?>> stateCaches = new ArrayList<>();
+  private final Optional<Map<Bytes32, StateDiff>> stateDiffs;
+  private volatile BeaconState finalizedState;
+
+  StoreCacheMemoryBudget(
+      final long maxBytes, final int stateDiffCacheSize, final BeaconState finalizedState) {
+    this.budget = new MemoryBudget(maxBytes);
+    this.finalizedState = finalizedState;
+    this.stateDiffs =
+        stateDiffCacheSize > 0
+            ? Optional.of(
+                register(
+                    "state_diffs",
+                    budget.createSynchronizedLRU(stateDiffCacheSize, StateDiff::estimateSize)))
+            : Optional.empty();
+  }
+
+  Map<Bytes32, SignedBeaconBlock> createBlockCache(final int maxSize) {
+    return register(
+        "blocks",
+        budget.createSynchronizedNatural(
+            maxSize, block -> TreeNodeSizeEstimator.estimateSize(block.getBackingNode())));
+  }
+
+  Map<Bytes32, StateAndBlockSummary> createStateCache(final int maxSize) {
+    return registerStateCache(
+        "states",
+        budget.createSynchronizedLRU(
+            maxSize, summary -> estimateStateSize(summary.getState()), this::onStateEvicted));
+  }
+
+  Map<SlotAndBlockRoot, BeaconState> createCheckpointStateCache(final int maxSize) {
+    return registerStateCache(
+        "checkpoint_states", budget.createSynchronizedLRU(maxSize, this::estimateStateSize));
+  }
+
+  long getRetainedBytes() {
+    return budget.getRetainedBytes();
+  }
+
+  void updateFinalizedState(final BeaconState finalizedState) {
+    this.finalizedState = finalizedState;
+    stateDiffs.ifPresent(diffs -> rebaseStateDiffs(diffs, finalizedState));
+    stateCaches.forEach(WeightedLimitedMap::reweigh);
+  }
+
+  private void rebaseStateDiffs(
+      final Map<Bytes32, StateDiff> diffs, final BeaconState finalizedState) {
+    final List<Map.Entry<Bytes32, StateDiff>> staleDiffs;
+    synchronized (diffs) {
+      staleDiffs =
+          diffs.entrySet().stream()
+              .filter(entry -> !entry.getValue().hasBase(finalizedState))
+              .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+              .toList();
+    }
+    // re-inserted eldest first so the diffs keep their relative order
+    staleDiffs.forEach(
+        entry -> {
+          final StateDiff diff = entry.getValue();
+          diffs.replace(entry.getKey(), diff, diff.rebase(finalizedState));
+        });
+  }
+
+  /** Rebuilds a state previously evicted from the state cache, if its diff is still retained. */
+  Optional<StateAndBlockSummary> restoreState(final Bytes32 blockRoot) {
+    if (stateDiffs.isEmpty()) {
+      return Optional.empty();
+    }
+    final StateDiff diff = stateDiffs.get().get(blockRoot);
+    if (diff == null) {
+      return Optional.empty();
+    }
+    // the rebuilt state goes back into the state cache, which recreates the diff on eviction
+    stateDiffs.get().remove(blockRoot);
+    return Optional.of(diff.rebuild());
+  }
+
+  void removeState(final Bytes32 blockRoot) {
+    stateDiffs.ifPresent(diffs -> diffs.remove(blockRoot));
+  }
+
+  void clearStateDiffs() {
+    stateDiffs.ifPresent(Map::clear);
+  }
+
+  private void onStateEvicted(final Bytes32 blockRoot, final StateAndBlockSummary summary) {
+    if (stateDiffs.isEmpty()) {
+      return;
+    }
+    final BeaconState baseState = finalizedState;
+    final StateDiff diff = StateDiff.create(summary.getState(), baseState);
+    stateDiffs.get().put(blockRoot, diff);
+    if (baseState != finalizedState) {
+      // the finalized state changed concurrently and its update may not have seen this diff
+      stateDiffs.get().replace(blockRoot, diff, diff.rebase(finalizedState));
+    }
+  }
+
+  void startMetrics(final MetricsSystem metricsSystem) {
+    final LabelledSuppliedMetric retainedBytes =
+        metricsSystem.createLabelledSuppliedGauge(
+            TekuMetricCategory.STORAGE,
+            "memory_cache_retained_bytes",
+            "Estimated memory retained by the in-memory store caches",
+            "cache");
+    final LabelledSuppliedMetric requests =
+        metricsSystem.createLabelledSuppliedCounter(
+            TekuMetricCategory.STORAGE,
+            "memory_cache_requests_total",
+            "Number of lookups in the in-memory store caches",
+            "cache",
+            "result");
+    caches.forEach(
+        (name, cache) -> {
+          retainedBytes.labels(cache::getRetainedBytes, name);
+          requests.labels(cache::getHitCount, name, "hit");
+          requests.labels(cache::getMissCount, name, "miss");
+        });
+    metricsSystem.createLongGauge(
+        TekuMetricCategory.STORAGE,
+        "memory_cache_budget_bytes",
+        "Memory budget shared by the in-memory store caches",
+        budget::getMaxBytes);
+  }
+
+  private long estimateStateSize(final BeaconState state) {
+    return TreeNodeSizeEstimator.estimateUnsharedSize(
+        state.getBackingNode(), finalizedState.getBackingNode());
+  }
+
+  private <K, V> Map<K, V> register(final String name, final WeightedLimitedMap<K, V> cache) {
+    caches.put(name, cache);
+    return cache;
+  }
+
+  private <K, V> Map<K, V> registerStateCache(
+      final String name, final WeightedLimitedMap<K, V> cache) {
+    stateCaches.add(cache);
+    return register(name, cache);
+  }
+}
@@ -31,6 +31,8 @@ public class StoreConfig {
   public static final int DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS = 2;
 
   public static final int DEFAULT_EARLIEST_AVAILABLE_BLOCK_SLOT_QUERY_FREQUENCY = 0;
+  public static final long DEFAULT_CACHE_MEMORY_BUDGET_BYTES = 0;
+  public static final int DEFAULT_STATE_DIFF_CACHE_SIZE = 64;
 
   private final int stateCacheSize;
 
@@ -40,6 +42,8 @@ public class StoreConfig {
   private final int hotStatePersistenceFrequencyInEpochs;
   private final int earliestAvailableBlockSlotFrequency;
   private final Optional<Bytes32> initialCanonicalBlockRoot;
+  private final long cacheMemoryBudgetBytes;
+  private final int stateDiffCacheSize;
 
   private StoreConfig(
       final int stateCacheSize,
@@ -48,7 +52,9 @@ public class StoreConfig {
       final int hotStatePersistenceFrequencyInEpochs,
       final int earliestAvailableBlockSlotFrequency,
       final int epochStateCacheSize,
-      final Optional<Bytes32> initialCanonicalBlockRoot) {
+      final Optional<Bytes32> initialCanonicalBlockRoot,
+      final long cacheMemoryBudgetBytes,
+      final int stateDiffCacheSize) {
     this.stateCacheSize = stateCacheSize;
     this.blockCacheSize = blockCacheSize;
     this.checkpointStateCacheSize = checkpointStateCacheSize;
@@ -56,6 +62,8 @@ public class StoreConfig {
     this.earliestAvailableBlockSlotFrequency = earliestAvailableBlockSlotFrequency;
     this.epochStateCacheSize = epochStateCacheSize;
     this.initialCanonicalBlockRoot = initialCanonicalBlockRoot;
+    this.cacheMemoryBudgetBytes = cacheMemoryBudgetBytes;
+    this.stateDiffCacheSize = stateDiffCacheSize;
   }
 
   public static Builder builder() {
@@ -94,6 +102,22 @@ public class StoreConfig {
     return initialCanonicalBlockRoot;
   }
 
+  /**
+   * Estimated memory shared by the block, state and checkpoint state caches. When zero the caches
+   * are only limited by their entry counts.
+   */
+  public long getCacheMemoryBudgetBytes() {
+    return cacheMemoryBudgetBytes;
+  }
+
+  /**
+   * Number of states evicted from the state cache to retain as diffs against the finalized state.
+   * Only applies when a cache memory budget is configured.
+   */
+  public int getStateDiffCacheSize() {
+    return stateDiffCacheSize;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -108,6 +132,8 @@ public class StoreConfig {
         && blockCacheSize == that.blockCacheSize
         && checkpointStateCacheSize == that.checkpointStateCacheSize
         && hotStatePersistenceFrequencyInEpochs == that.hotStatePersistenceFrequencyInEpochs
+        && cacheMemoryBudgetBytes == that.cacheMemoryBudgetBytes
+        && stateDiffCacheSize == that.stateDiffCacheSize
         && Objects.equals(initialCanonicalBlockRoot, that.initialCanonicalBlockRoot);
   }
 
@@ -119,7 +145,9 @@ public class StoreConfig {
         blockCacheSize,
         checkpointStateCacheSize,
         hotStatePersistenceFrequencyInEpochs,
-        initialCanonicalBlockRoot);
+        initialCanonicalBlockRoot,
+        cacheMemoryBudgetBytes,
+        stateDiffCacheSize);
   }
 
   public static class Builder {
@@ -132,6 +160,8 @@ public class StoreConfig {
         DEFAULT_HOT_STATE_PERSISTENCE_FREQUENCY_IN_EPOCHS;
     private int earliestAvailableBlockSlotFrequency = 0;
     private Optional<Bytes32> initialCanonicalBlockRoot = Optional.empty();
+    private long cacheMemoryBudgetBytes = DEFAULT_CACHE_MEMORY_BUDGET_BYTES;
+    private int stateDiffCacheSize = DEFAULT_STATE_DIFF_CACHE_SIZE;
 
     private Builder() {}
 
@@ -143,7 +173,9 @@ public class StoreConfig {
           hotStatePersistenceFrequencyInEpochs,
           earliestAvailableBlockSlotFrequency,
           epochStateCacheSize,
-          initialCanonicalBlockRoot);
+          initialCanonicalBlockRoot,
+          cacheMemoryBudgetBytes,
+          stateDiffCacheSize);
     }
 
     public Builder stateCacheSize(final int stateCacheSize) {
@@ -170,6 +202,18 @@ public class StoreConfig {
       return this;
     }
 
+    public Builder cacheMemoryBudgetBytes(final long cacheMemoryBudgetBytes) {
+      checkArgument(cacheMemoryBudgetBytes >= 0, "Cache memory budget cannot be negative");
+      this.cacheMemoryBudgetBytes = cacheMemoryBudgetBytes;
+      return this;
+    }
+
+    public Builder stateDiffCacheSize(final int stateDiffCacheSize) {
+      validateCacheSize(stateDiffCacheSize);
+      this.stateDiffCacheSize = stateDiffCacheSize;
+      return this;
+    }
+
     public Builder initialCanonicalBlockRoot(final String initialCanonicalBlockRoot) {
       if (initialCanonicalBlockRoot != null) {
         this.initialCanonicalBlockRoot =
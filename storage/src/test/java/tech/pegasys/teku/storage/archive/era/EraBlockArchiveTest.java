@@ -0,0 +1,130 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class EraBlockArchiveTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+
+  @TempDir Path tempDir;
+
+  @Test
+  void shouldReturnArchivedBlocksAndSkipEmptySlots() throws IOException {
+    final List<SignedBeaconBlock> blocks = createBlocks(1, 0, 1, 5, slotsPerEra - 1);
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      archive.archive(UInt64.ONE, blocks.stream());
+
+      assertThat(archive.isEraArchived(UInt64.ONE)).isTrue();
+      assertThat(archive.isEraArchived(UInt64.ZERO)).isFalse();
+      assertThat(archive.isArchived(slot(1, 2))).isTrue();
+      assertThat(archive.getBlock(slot(1, 0))).contains(blocks.get(0));
+      assertThat(archive.getBlock(slot(1, 5))).contains(blocks.get(2));
+      assertThat(archive.getBlock(slot(1, 2))).isEmpty();
+      assertThat(archive.getBlock(slot(2, 0))).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldReturnLatestBlockAtSlotAcrossEras() throws IOException {
+    final List<SignedBeaconBlock> era1 = createBlocks(1, 3, 10);
+    final List<SignedBeaconBlock> era2 = createBlocks(2, 4);
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      archive.archive(UInt64.ONE, era1.stream());
+      archive.archive(UInt64.valueOf(2), era2.stream());
+
+      assertThat(archive.getLatestBlockAtSlot(slot(1, 9))).contains(era1.get(0));
+      assertThat(archive.getLatestBlockAtSlot(slot(1, 10))).contains(era1.get(1));
+      assertThat(archive.getLatestBlockAtSlot(slot(2, 2))).contains(era1.get(1));
+      assertThat(archive.getLatestBlockAtSlot(slot(3, 0))).contains(era2.get(0));
+      assertThat(archive.getLatestBlockAtSlot(slot(1, 2))).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldStreamBlocksInRange() throws IOException {
+    final List<SignedBeaconBlock> era1 = createBlocks(1, 3, 10, 20);
+    final List<SignedBeaconBlock> era2 = createBlocks(2, 0, 4);
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      archive.archive(UInt64.ONE, era1.stream());
+      archive.archive(UInt64.valueOf(2), era2.stream());
+
+      try (final Stream<SignedBeaconBlock> stream =
+          archive.streamBlocks(slot(1, 10), slot(2, 3))) {
+        assertThat(stream).containsExactly(era1.get(1), era1.get(2), era2.get(0));
+      }
+      assertThat(archive.streamBlocks(slot(2, 4), slot(1, 0))).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldLoadExistingEraFilesWhenReopened() throws IOException {
+    final List<SignedBeaconBlock> blocks = createBlocks(1, 0, 7);
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      archive.archive(UInt64.ONE, blocks.stream());
+    }
+
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      assertThat(archive.isEraArchived(UInt64.ONE)).isTrue();
+      assertThat(archive.getBlock(slot(1, 7))).contains(blocks.get(1));
+    }
+  }
+
+  @Test
+  void shouldRemoveIncompleteEraFilesOnStartup() throws IOException {
+    final Path incompleteFile = tempDir.resolve("blocks-000001.e2s.tmp");
+    Files.write(incompleteFile, new byte[] {1, 2, 3});
+
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      assertThat(archive.isEraArchived(UInt64.ONE)).isFalse();
+    }
+    assertThat(incompleteFile).doesNotExist();
+  }
+
+  @Test
+  void shouldRejectBlocksOutsideEra() throws IOException {
+    try (final EraBlockArchive archive = EraBlockArchive.create(spec, tempDir)) {
+      assertThatThrownBy(() -> archive.archive(UInt64.ONE, createBlocks(2, 0).stream()))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThat(archive.isEraArchived(UInt64.ONE)).isFalse();
+    }
+  }
+
+  private List<SignedBeaconBlock> createBlocks(final int era, final int... slotsInEra) {
+    return Arrays.stream(slotsInEra)
+        .mapToObj(slotInEra -> dataStructureUtil.randomSignedBeaconBlock(slot(era, slotInEra)))
+        .toList();
+  }
+
+  private UInt64 slot(final int era, final int slotInEra) {
+    return UInt64.valueOf((long) era * slotsPerEra + slotInEra);
+  }
+}
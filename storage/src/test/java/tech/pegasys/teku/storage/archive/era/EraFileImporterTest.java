@@ -0,0 +1,195 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.archive.era;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tech.pegasys.teku.storage.archive.era.EraBlockFile.SLOT_INDEX_TYPE;
+import static tech.pegasys.teku.storage.archive.era.EraFileReader.STATE_TYPE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xerial.snappy.SnappyFramedOutputStream;
+import tech.pegasys.teku.infrastructure.time.StubTimeProvider;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.generator.ChainBuilder;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+import tech.pegasys.teku.storage.server.Database;
+
+class EraFileImporterTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+  private final ChainBuilder chainBuilder = ChainBuilder.create(spec);
+  private final Database database = mock(Database.class);
+  private final StubTimeProvider timeProvider = StubTimeProvider.withTimeInSeconds(0);
+  private final Map<SlotAndBlockRoot, Bytes> importedBlocks = new HashMap<>();
+
+  @TempDir Path eraDir;
+
+  @BeforeEach
+  void setUp() {
+    chainBuilder.generateGenesis();
+    chainBuilder.generateBlocksUpToSlot(2L * slotsPerEra);
+    doAnswer(
+            invocation -> {
+              importedBlocks.putAll(invocation.getArgument(0));
+              return null;
+            })
+        .when(database)
+        .importFinalizedBlocks(any());
+  }
+
+  @Test
+  void shouldImportErasBackwardsFromEarliestBlock() throws Exception {
+    writeEraFile(1);
+    writeEraFile(2);
+    when(database.getEarliestAvailableBlock())
+        .thenReturn(Optional.of(chainBuilder.getBlockAtSlot(2L * slotsPerEra)));
+
+    final long count =
+        new EraFileImporter(spec, database, timeProvider, 2, true).importEraFiles(eraDir);
+
+    assertThat(count).isEqualTo(2L * slotsPerEra);
+    chainBuilder
+        .streamBlocksAndStates(0, 2L * slotsPerEra - 1)
+        .map(SignedBlockAndState::getBlock)
+        .forEach(
+            block ->
+                assertThat(importedBlocks.get(block.getSlotAndBlockRoot()))
+                    .isEqualTo(block.sszSerialize()));
+  }
+
+  @Test
+  void shouldOnlyImportBlocksBeforeEarliestBlock() throws Exception {
+    writeEraFile(1);
+    when(database.getEarliestAvailableBlock())
+        .thenReturn(Optional.of(chainBuilder.getBlockAtSlot(10)));
+
+    final long count =
+        new EraFileImporter(spec, database, timeProvider, 1, false).importEraFiles(eraDir);
+
+    assertThat(count).isEqualTo(10);
+    assertThat(importedBlocks.keySet())
+        .allMatch(slotAndBlockRoot -> slotAndBlockRoot.getSlot().isLessThan(10));
+  }
+
+  @Test
+  void shouldStopAtMissingEra() throws Exception {
+    writeEraFile(2);
+    when(database.getEarliestAvailableBlock())
+        .thenReturn(Optional.of(chainBuilder.getBlockAtSlot(2L * slotsPerEra)));
+
+    final long count =
+        new EraFileImporter(spec, database, timeProvider, 1, false).importEraFiles(eraDir);
+
+    assertThat(count).isEqualTo(slotsPerEra);
+  }
+
+  @Test
+  void shouldRejectEraWhichDoesNotConnectToEarliestBlock() throws Exception {
+    writeEraFile(2);
+    final SignedBeaconBlock unrelatedBlock =
+        new DataStructureUtil(spec).randomSignedBeaconBlock(2L * slotsPerEra);
+    when(database.getEarliestAvailableBlock()).thenReturn(Optional.of(unrelatedBlock));
+
+    assertThatThrownBy(
+            () ->
+                new EraFileImporter(spec, database, timeProvider, 1, false)
+                    .importEraFiles(eraDir))
+        .isInstanceOf(IllegalArgumentException.class);
+    verify(database, never()).importFinalizedBlocks(any());
+  }
+
+  @Test
+  void shouldNotImportWhileEarliestBlockIsWithinDataAvailabilityWindow() throws Exception {
+    final Spec denebSpec = TestSpecFactory.createMinimalDeneb();
+    final UInt64 earliestSlot = UInt64.valueOf(2L * slotsPerEra);
+    final SignedBeaconBlock earliestBlock =
+        new DataStructureUtil(denebSpec).randomSignedBeaconBlock(earliestSlot);
+    when(database.getEarliestAvailableBlock()).thenReturn(Optional.of(earliestBlock));
+    when(database.getGenesisTime()).thenReturn(Optional.of(UInt64.ZERO));
+    writeEraFile(2);
+    // The earliest block is well within the blob sidecar retention period
+    final StubTimeProvider denebTimeProvider =
+        StubTimeProvider.withTimeInSeconds(
+            denebSpec.computeTimeAtSlot(earliestSlot.plus(slotsPerEra), UInt64.ZERO));
+
+    final long count =
+        new EraFileImporter(denebSpec, database, denebTimeProvider, 1, false)
+            .importEraFiles(eraDir);
+
+    assertThat(count).isZero();
+    verify(database, never()).importFinalizedBlocks(any());
+  }
+
+  /** Writes a standard era file: blocks, then the era state and finally the state index. */
+  private void writeEraFile(final long era) throws IOException {
+    final UInt64 startSlot = UInt64.valueOf((era - 1) * slotsPerEra);
+    final UInt64 stateSlot = UInt64.valueOf(era * slotsPerEra);
+    final Path file = eraDir.resolve(String.format("minimal-%05d-0123abcd.era", era));
+    EraBlockFileWriter.write(
+        file,
+        startSlot,
+        slotsPerEra,
+        chainBuilder
+            .streamBlocksAndStates(startSlot, stateSlot.minus(1))
+            .map(SignedBlockAndState::getBlock));
+
+    final BeaconState state = chainBuilder.getStateAtSlot(stateSlot);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.APPEND)) {
+      final long stateRecordStart = channel.size();
+      EraBlockFileWriter.writeRecord(channel, STATE_TYPE, compress(state.sszSerialize()));
+      final long indexStart = channel.size();
+      final ByteBuffer index =
+          ByteBuffer.allocate(3 * Long.BYTES)
+              .order(ByteOrder.LITTLE_ENDIAN)
+              .putLong(stateSlot.longValue())
+              .putLong(stateRecordStart - indexStart)
+              .putLong(1);
+      EraBlockFileWriter.writeRecord(channel, SLOT_INDEX_TYPE, index.flip());
+    }
+  }
+
+  private static ByteBuffer compress(final Bytes data) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final SnappyFramedOutputStream snappy = new SnappyFramedOutputStream(out)) {
+      snappy.write(data.toArrayUnsafe());
+    }
+    return ByteBuffer.wrap(out.toByteArray());
+  }
+}
@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -29,8 +30,12 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import tech.pegasys.teku.ethereum.execution.types.Eth1Address;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.storage.storageSystem.SupportedDatabaseVersionArgumentsProvider;
 
 public class VersionedDatabaseFactoryTest {
@@ -145,6 +150,43 @@ public class VersionedDatabaseFactoryTest {
     assertThat(dbFactory.getDatabaseVersion()).isEqualTo(version);
   }
 
+  @Test
+  public void createDatabase_shouldRefuseToStartWithoutArchiveOnceBlocksAreArchived()
+      throws Exception {
+    final int slotsPerEra = spec.getGenesisSpecConfig().getSlotsPerHistoricalRoot();
+    final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+    final SignedBeaconBlock archivedBlock =
+        dataStructureUtil.randomSignedBeaconBlock(slotsPerEra + 1);
+    try (final Database db = createArchiveModeDatabaseFactory(true).createDatabase()) {
+      db.importFinalizedBlocks(
+          Map.of(
+              new SlotAndBlockRoot(archivedBlock.getSlot(), archivedBlock.getRoot()),
+              archivedBlock.sszSerialize()));
+      assertThat(db.archiveFinalizedBlocks(UInt64.valueOf(3 * slotsPerEra), 10)).isEqualTo(1);
+    }
+
+    assertThatThrownBy(createArchiveModeDatabaseFactory(false)::createDatabase)
+        .isInstanceOf(DatabaseStorageException.class)
+        .hasMessageContaining("--Xdata-storage-era-archive-enabled");
+
+    try (final Database db = createArchiveModeDatabaseFactory(true).createDatabase()) {
+      assertThat(db.getFinalizedBlockAtSlot(archivedBlock.getSlot())).contains(archivedBlock);
+    }
+  }
+
+  private DatabaseFactory createArchiveModeDatabaseFactory(final boolean eraBlockArchiveEnabled) {
+    return new VersionedDatabaseFactory(
+        new StubMetricsSystem(),
+        dataDir,
+        StorageConfiguration.builder()
+            .specProvider(spec)
+            .eth1DepositContract(eth1Address)
+            .dataStorageMode(StateStorageMode.ARCHIVE)
+            .eraBlockArchiveEnabled(eraBlockArchiveEnabled)
+            .build(),
+        Optional.empty());
+  }
+
   private void createDbDirectory(final Path dataPath) {
     final File dbDirectory =
         Paths.get(dataPath.toAbsolutePath().toString(), VersionedDatabaseFactory.DB_PATH).toFile();
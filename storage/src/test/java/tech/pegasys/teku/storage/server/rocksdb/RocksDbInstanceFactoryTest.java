@@ -0,0 +1,161 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.server.rocksdb;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.BYTES_SERIALIZER;
+import static tech.pegasys.teku.storage.server.kvstore.serialization.KvStoreSerializer.UINT64_SERIALIZER;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.storage.server.DatabaseVersion;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreAccessor.KvStoreTransaction;
+import tech.pegasys.teku.storage.server.kvstore.KvStoreConfiguration;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumn;
+import tech.pegasys.teku.storage.server.kvstore.schema.KvStoreColumnProfile;
+
+class RocksDbInstanceFactoryTest {
+  private static final UInt64 SMALL_KEY = UInt64.ONE;
+  private static final UInt64 LARGE_KEY = UInt64.valueOf(2);
+  private static final Bytes SMALL_VALUE = Bytes.fromHexString("0x1234");
+  // Well above ROCKSDB_MIN_BLOB_SIZE, so BlobDB columns store it in a blob file
+  private static final Bytes LARGE_VALUE = Bytes.wrap(createLargeValue(256 * 1024));
+
+  // One column per profile so each set of column family options is exercised
+  private static final List<KvStoreColumn<UInt64, Bytes>> COLUMNS =
+      Arrays.stream(KvStoreColumnProfile.values())
+          .map(
+              profile ->
+                  KvStoreColumn.create(
+                      profile.ordinal() + 1, UINT64_SERIALIZER, BYTES_SERIALIZER, profile))
+          .toList();
+
+  @TempDir Path dataDir;
+
+  @BeforeAll
+  static void setUp() {
+    assumeThat(DatabaseVersion.isRocksDbSupported())
+        .describedAs("RocksDB support required")
+        .isTrue();
+  }
+
+  @Test
+  void shouldRoundTripValuesWithColumnProfiles() throws Exception {
+    final KvStoreConfiguration configuration = createConfiguration(true);
+    try (KvStoreAccessor db = open(configuration)) {
+      writeValues(db);
+      assertValues(db);
+    }
+
+    // Reopening flushes the recovered write ahead log, moving large values to blob files
+    try (KvStoreAccessor db = open(configuration)) {
+      assertValues(db);
+    }
+    assertThat(blobFiles()).isNotEmpty();
+  }
+
+  @Test
+  void shouldRoundTripValuesWithoutColumnProfiles() throws Exception {
+    final KvStoreConfiguration configuration = createConfiguration(false);
+    try (KvStoreAccessor db = open(configuration)) {
+      writeValues(db);
+    }
+
+    try (KvStoreAccessor db = open(configuration)) {
+      assertValues(db);
+    }
+    assertThat(blobFiles()).isEmpty();
+  }
+
+  @Test
+  void shouldReopenDatabaseCreatedWithDefaultOptionsUsingColumnProfiles() throws Exception {
+    try (KvStoreAccessor db = open(createConfiguration(false))) {
+      writeValues(db);
+    }
+
+    final UInt64 newKey = UInt64.valueOf(3);
+    try (KvStoreAccessor db = open(createConfiguration(true))) {
+      assertValues(db);
+      try (KvStoreTransaction transaction = db.startTransaction()) {
+        COLUMNS.forEach(column -> transaction.put(column, newKey, LARGE_VALUE));
+        transaction.commit();
+      }
+    }
+
+    // And back again, in case column profiles have to be disabled after an upgrade
+    try (KvStoreAccessor db = open(createConfiguration(false))) {
+      assertValues(db);
+      COLUMNS.forEach(column -> assertThat(db.get(column, newKey)).contains(LARGE_VALUE));
+    }
+  }
+
+  private KvStoreConfiguration createConfiguration(final boolean columnProfilesEnabled) {
+    return KvStoreConfiguration.v6SingleDefaults()
+        .withDatabaseDir(dataDir)
+        .withColumnProfilesEnabled(columnProfilesEnabled);
+  }
+
+  private KvStoreAccessor open(final KvStoreConfiguration configuration) {
+    return RocksDbInstanceFactory.create(
+        new NoOpMetricsSystem(),
+        TekuMetricCategory.STORAGE,
+        configuration,
+        List.copyOf(COLUMNS),
+        List.of());
+  }
+
+  private void writeValues(final KvStoreAccessor db) {
+    try (KvStoreTransaction transaction = db.startTransaction()) {
+      for (final KvStoreColumn<UInt64, Bytes> column : COLUMNS) {
+        transaction.put(column, SMALL_KEY, SMALL_VALUE);
+        transaction.put(column, LARGE_KEY, LARGE_VALUE);
+      }
+      transaction.commit();
+    }
+  }
+
+  private void assertValues(final KvStoreAccessor db) {
+    for (final KvStoreColumn<UInt64, Bytes> column : COLUMNS) {
+      assertThat(db.get(column, SMALL_KEY)).contains(SMALL_VALUE);
+      assertThat(db.get(column, LARGE_KEY)).contains(LARGE_VALUE);
+    }
+  }
+
+  private List<Path> blobFiles() throws IOException {
+    try (Stream<Path> files = Files.list(dataDir)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(".blob")).toList();
+    }
+  }
+
+  private static byte[] createLargeValue(final int size) {
+    final byte[] value = new byte[size];
+    for (int i = 0; i < size; i++) {
+      value[i] = (byte) i;
+    }
+    return value;
+  }
+}
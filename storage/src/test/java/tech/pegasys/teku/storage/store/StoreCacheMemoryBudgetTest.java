@@ -0,0 +1,160 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.storage.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+import tech.pegasys.teku.infrastructure.ssz.tree.TreeNodeSizeEstimator;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
+import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
+import tech.pegasys.teku.spec.util.DataStructureUtil;
+
+class StoreCacheMemoryBudgetTest {
+  private final Spec spec = TestSpecFactory.createMinimalPhase0();
+  private final DataStructureUtil dataStructureUtil = new DataStructureUtil(spec);
+  private final BeaconState finalizedState = dataStructureUtil.randomBeaconState(64);
+
+  @Test
+  void shouldOnlyChargeStatesForChangesFromFinalizedState() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 0, finalizedState);
+    final Map<SlotAndBlockRoot, BeaconState> cache = budget.createCheckpointStateCache(10);
+    final BeaconState state = withSlot(finalizedState, 100);
+
+    cache.put(dataStructureUtil.randomSlotAndBlockRoot(), state);
+
+    assertThat(budget.getRetainedBytes())
+        .isPositive()
+        .isLessThan(TreeNodeSizeEstimator.estimateSize(state.getBackingNode()) / 10);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedStateWhenOverBudget() {
+    final BeaconState state1 = dataStructureUtil.randomBeaconState(64);
+    final BeaconState state2 = withSlot(state1, 100);
+    final long stateSize = TreeNodeSizeEstimator.estimateSize(state1.getBackingNode());
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(stateSize * 3 / 2, 0, finalizedState);
+    final Map<SlotAndBlockRoot, BeaconState> cache = budget.createCheckpointStateCache(10);
+    final SlotAndBlockRoot key1 = dataStructureUtil.randomSlotAndBlockRoot();
+    final SlotAndBlockRoot key2 = dataStructureUtil.randomSlotAndBlockRoot();
+
+    cache.put(key1, state1);
+    cache.put(key2, state2);
+
+    assertThat(cache).containsOnlyKeys(key2);
+  }
+
+  @Test
+  void shouldChargeStatesAgainstUpdatedFinalizedState() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 0, finalizedState);
+    final Map<SlotAndBlockRoot, BeaconState> cache = budget.createCheckpointStateCache(10);
+    final BeaconState newFinalizedState = withSlot(finalizedState, 100);
+
+    budget.updateFinalizedState(newFinalizedState);
+    cache.put(dataStructureUtil.randomSlotAndBlockRoot(), newFinalizedState);
+
+    assertThat(budget.getRetainedBytes()).isZero();
+  }
+
+  @Test
+  void shouldReweighCachedStatesWhenFinalizedStateChanges() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 0, finalizedState);
+    final Map<SlotAndBlockRoot, BeaconState> cache = budget.createCheckpointStateCache(10);
+    final BeaconState newFinalizedState = withSlot(finalizedState, 100);
+
+    cache.put(dataStructureUtil.randomSlotAndBlockRoot(), finalizedState);
+    assertThat(budget.getRetainedBytes()).isZero();
+
+    budget.updateFinalizedState(newFinalizedState);
+
+    assertThat(budget.getRetainedBytes()).isPositive();
+  }
+
+  @Test
+  void shouldRestoreEvictedStateFromDiff() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 10, finalizedState);
+    final Map<Bytes32, StateAndBlockSummary> cache = budget.createStateCache(1);
+    final BeaconState state =
+        finalizedState.updated(
+            mutableState -> {
+              mutableState.setSlot(UInt64.valueOf(100));
+              mutableState.getBalances().setElement(3, UInt64.valueOf(12345));
+            });
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+
+    cache.put(root, StateAndBlockSummary.create(state));
+    cache.put(dataStructureUtil.randomBytes32(), StateAndBlockSummary.create(finalizedState));
+
+    assertThat(cache).doesNotContainKey(root);
+    final Optional<StateAndBlockSummary> restored = budget.restoreState(root);
+    assertThat(restored).isPresent();
+    assertThat(restored.get().getState()).isEqualTo(state);
+    assertThat(restored.get().getRoot()).isEqualTo(StateAndBlockSummary.create(state).getRoot());
+    assertThat(budget.restoreState(root)).isEmpty();
+  }
+
+  @Test
+  void shouldRebaseRetainedDiffsWhenFinalizedStateChanges() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 10, finalizedState);
+    final Map<Bytes32, StateAndBlockSummary> cache = budget.createStateCache(1);
+    final BeaconState state =
+        finalizedState.updated(
+            mutableState -> {
+              mutableState.setSlot(UInt64.valueOf(100));
+              mutableState.getBalances().setElement(3, UInt64.valueOf(12345));
+            });
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+    cache.put(root, StateAndBlockSummary.create(state));
+    cache.put(dataStructureUtil.randomBytes32(), StateAndBlockSummary.create(state));
+    assertThat(budget.getRetainedBytes()).isPositive();
+
+    // once the evicted state is finalized its diff against the new finalized state is empty
+    budget.updateFinalizedState(state);
+
+    assertThat(budget.getRetainedBytes()).isZero();
+    final Optional<StateAndBlockSummary> restored = budget.restoreState(root);
+    assertThat(restored).isPresent();
+    assertThat(restored.get().getState()).isEqualTo(state);
+  }
+
+  @Test
+  void shouldNotRetainDiffsWhenDisabled() {
+    final StoreCacheMemoryBudget budget =
+        new StoreCacheMemoryBudget(Long.MAX_VALUE, 0, finalizedState);
+    final Map<Bytes32, StateAndBlockSummary> cache = budget.createStateCache(1);
+    final Bytes32 root = dataStructureUtil.randomBytes32();
+
+    cache.put(root, StateAndBlockSummary.create(withSlot(finalizedState, 100)));
+    cache.put(dataStructureUtil.randomBytes32(), StateAndBlockSummary.create(finalizedState));
+
+    assertThat(budget.restoreState(root)).isEmpty();
+  }
+
+  private BeaconState withSlot(final BeaconState state, final long slot) {
+    return state.updated(mutableState -> mutableState.setSlot(UInt64.valueOf(slot)));
+  }
+}
@@ -29,6 +29,7 @@ import tech.pegasys.teku.spec.datastructures.blocks.SignedBeaconBlock;
 import tech.pegasys.teku.spec.datastructures.blocks.SignedBlockAndState;
 import tech.pegasys.teku.spec.datastructures.blocks.SlotAndBlockRoot;
 import tech.pegasys.teku.spec.datastructures.blocks.StateAndBlockSummary;
+import tech.pegasys.teku.spec.datastructures.lightclient.LightClientUpdate;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.DataColumnSlotAndIdentifier;
@@ -232,4 +233,10 @@ public class StubStorageQueryChannel implements StorageQueryChannel {
   public SafeFuture<Optional<UInt64>> getEarliestDataColumnSidecarSlot() {
     return SafeFuture.completedFuture(Optional.empty());
   }
+
+  @Override
+  public SafeFuture<Optional<LightClientUpdate>> getLightClientUpdate(
+      final UInt64 syncCommitteePeriod) {
+    return SafeFuture.completedFuture(Optional.empty());
+  }
 }
@@ -16,9 +16,11 @@ package tech.pegasys.teku.storage.server.kvstore;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -256,12 +258,15 @@ public class MockKvStoreInstance implements KvStoreAccessor {
     }
   }
 
+  private record DeletedRange(KvStoreColumn<?, ?> column, Bytes fromKey, Bytes toKey) {}
+
   private static class MockKvStoreTransaction implements KvStoreTransaction {
 
     private final MockKvStoreInstance dbInstance;
     private final Map<KvStoreColumn<?, ?>, Map<Bytes, Bytes>> columnUpdates = new HashMap<>();
     private final Map<KvStoreColumn<?, ?>, Set<Bytes>> deletedColumnKeys = new HashMap<>();
     private final Map<KvStoreVariable<?>, Optional<Bytes>> variableUpdates = new HashMap<>();
+    private final List<DeletedRange> deletedRanges = new ArrayList<>();
     private boolean closed = false;
 
     public MockKvStoreTransaction(final MockKvStoreInstance mockRocksDbInstance) {
@@ -327,6 +332,16 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       variableUpdates.put(variable, Optional.empty());
     }
 
+    @Override
+    public <K extends Comparable<K>, V> void deleteRange(
+        final KvStoreColumn<K, V> column, final K fromKey, final K toKey) {
+      assertOpen();
+      dbInstance.assertValidColumn(column);
+      final Bytes fromKeyBytes = dbInstance.keyToBytes(column, fromKey);
+      final Bytes toKeyBytes = dbInstance.keyToBytes(column, toKey);
+      deletedRanges.add(new DeletedRange(column, fromKeyBytes, toKeyBytes));
+    }
+
     @Override
     public void commit() {
       assertOpen();
@@ -349,6 +364,13 @@ public class MockKvStoreInstance implements KvStoreAccessor {
             final NavigableMap<Bytes, Bytes> targetColumn = dbInstance.columnData.get(col);
             deletedKeys.forEach(targetColumn::remove);
           });
+      deletedRanges.forEach(
+          range ->
+              dbInstance
+                  .columnData
+                  .get(range.column())
+                  .subMap(range.fromKey(), true, range.toKey(), false)
+                  .clear());
     }
 
     private void assertOpen() {
@@ -364,6 +386,7 @@ public class MockKvStoreInstance implements KvStoreAccessor {
       variableUpdates.clear();
       columnUpdates.clear();
       deletedColumnKeys.clear();
+      deletedRanges.clear();
     }
 
     @Override
@@ -181,6 +181,17 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
       arity = "0..1")
   private String blobsArchivePath = null;
 
+  @Option(
+      names = {"--Xdata-storage-era-archive-enabled"},
+      hidden = true,
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Move finalized blocks of complete eras out of the database into era files. Not supported in minimal storage mode.",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      arity = "0..1")
+  private boolean eraBlockArchiveEnabled = StorageConfiguration.DEFAULT_ERA_BLOCK_ARCHIVE_ENABLED;
+
   @Option(
       names = {"--Xdata-storage-state-rebuild-timeout-seconds"},
       hidden = true,
@@ -224,6 +235,7 @@ public class BeaconNodeDataOptions extends ValidatorClientDataOptions {
                 .blobsPruningInterval(Duration.ofSeconds(blobsPruningIntervalSeconds))
                 .blobsPruningLimit(blobsPruningLimit)
                 .blobsArchivePath(blobsArchivePath)
+                .eraBlockArchiveEnabled(eraBlockArchiveEnabled)
                 .retainedSlots(dataStorageRetainedSlots)
                 .statePruningInterval(Duration.ofSeconds(statePruningIntervalSeconds))
                 .statePruningLimit(statePruningLimit));
@@ -94,6 +94,56 @@ public class BeaconRestApiOptions {
       hidden = true)
   private int maxPendingEvents = BeaconRestApiConfig.DEFAULT_MAX_EVENT_QUEUE_SIZE;
 
+  @Option(
+      names = {"--Xrest-api-max-pending-event-bytes"},
+      description = "Maximum size in bytes of events queued for a single event stream subscriber",
+      paramLabel = "<INTEGER>",
+      hidden = true)
+  private long maxPendingEventBytes = BeaconRestApiConfig.DEFAULT_MAX_PENDING_EVENT_BYTES;
+
+  @Option(
+      names = {"--Xrest-api-event-flush-interval"},
+      description =
+          "Time in milliseconds to collect events before writing them to an event stream client",
+      paramLabel = "<INTEGER>",
+      hidden = true)
+  private int eventFlushIntervalMs = BeaconRestApiConfig.DEFAULT_EVENT_FLUSH_INTERVAL_MS;
+
+  @Option(
+      names = {"--Xrest-api-response-cache-size-bytes"},
+      description =
+          "Maximum total size in bytes of serialized finalized block and state responses to cache (0 to disable)",
+      paramLabel = "<INTEGER>",
+      hidden = true)
+  private long responseCacheSizeBytes = BeaconRestApiConfig.DEFAULT_RESPONSE_CACHE_SIZE_BYTES;
+
+  @Option(
+      names = {"--Xrest-api-virtual-threads-enabled"},
+      description = "Handle REST API requests on virtual threads",
+      paramLabel = "<BOOLEAN>",
+      fallbackValue = "true",
+      arity = "0..1",
+      hidden = true)
+  private boolean restApiVirtualThreadsEnabled =
+      BeaconRestApiConfig.DEFAULT_REST_API_VIRTUAL_THREADS_ENABLED;
+
+  @Option(
+      names = {"--Xrest-api-max-concurrent-requests-per-endpoint"},
+      description =
+          "Maximum number of requests each REST API endpoint handles at once (0 for no limit). Validator required endpoints are never limited",
+      paramLabel = "<INTEGER>",
+      hidden = true)
+  private int maxConcurrentRequestsPerEndpoint =
+      BeaconRestApiConfig.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_ENDPOINT;
+
+  @Option(
+      names = {"--Xrest-api-max-request-queue-time"},
+      description =
+          "Time in milliseconds a request waits for a concurrency slot before being rejected",
+      paramLabel = "<INTEGER>",
+      hidden = true)
+  private int maxRequestQueueTimeMs = BeaconRestApiConfig.DEFAULT_MAX_REQUEST_QUEUE_TIME_MS;
+
   @Option(
       names = {"--Xrest-api-max-url-length"},
       description = "Set the maximum url length for rest api requests",
@@ -154,6 +204,12 @@ public class BeaconRestApiOptions {
                 .maxUrlLength(maxUrlLength)
                 .beaconLivenessTrackingEnabled(beaconLivenessTrackingEnabled)
                 .maxPendingEvents(maxPendingEvents)
+                .maxPendingEventBytes(maxPendingEventBytes)
+                .eventFlushIntervalMs(eventFlushIntervalMs)
+                .responseCacheSizeBytes(responseCacheSizeBytes)
+                .restApiVirtualThreadsEnabled(restApiVirtualThreadsEnabled)
+                .maxConcurrentRequestsPerEndpoint(maxConcurrentRequestsPerEndpoint)
+                .maxRequestQueueTimeMs(maxRequestQueueTimeMs)
                 .validatorThreads(Optional.ofNullable(validatorThreads)));
   }
 }
@@ -352,6 +352,28 @@ public class Eth2NetworkOptions {
       Eth2NetworkConfiguration
           .DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_TOTAL_BLOCK_AGGREGATION_TIME_LIMIT_MILLIS;
 
+  @Option(
+      names = {"--Xaggregating-attestation-pool-v2-incremental-packing-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Maintain block attestation packing incrementally as attestations arrive instead of aggregating when producing a block.",
+      arity = "0..1",
+      fallbackValue = "true",
+      showDefaultValue = Visibility.ALWAYS,
+      hidden = true)
+  private boolean aggregatingAttestationPoolV2IncrementalPackingEnabled =
+      Eth2NetworkConfiguration.DEFAULT_AGGREGATING_ATTESTATION_POOL_V2_INCREMENTAL_PACKING_ENABLED;
+
+  @Option(
+      names = {"--Xexecution-payload-prefetch-lead-time"},
+      paramLabel = "<NUMBER>",
+      description =
+          "Time in milliseconds before a local proposal slot at which the execution payload is requested in advance. 0 disables prefetching.",
+      arity = "1",
+      hidden = true)
+  private int executionPayloadPrefetchLeadTimeMillis =
+      Eth2NetworkConfiguration.DEFAULT_EXECUTION_PAYLOAD_PREFETCH_LEAD_TIME_MILLIS;
+
   public Eth2NetworkConfiguration getNetworkConfiguration() {
     return createEth2NetworkConfig(builder -> {});
   }
@@ -450,6 +472,9 @@ public class Eth2NetworkOptions {
             aggregatingAttestationPoolV2BlockAggregationTimeLimit)
         .aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit(
             aggregatingAttestationPoolV2TotalBlockAggregationTimeLimit)
+        .aggregatingAttestationPoolV2IncrementalPackingEnabled(
+            aggregatingAttestationPoolV2IncrementalPackingEnabled)
+        .executionPayloadPrefetchLeadTimeMillis(executionPayloadPrefetchLeadTimeMillis)
         .epochsStoreBlobs(epochsStoreBlobs)
         .forkChoiceUpdatedAlwaysSendPayloadAttributes(forkChoiceUpdatedAlwaysSendPayloadAttributes)
         .rustKzgEnabled(rustKzgEnabled);
@@ -21,6 +21,7 @@ import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfigurat
 import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_BUILDER_CIRCUIT_BREAKER_ENABLED;
 import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_BUILDER_CIRCUIT_BREAKER_WINDOW;
 import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_BUILDER_SET_USER_AGENT_HEADER;
+import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_ENGINE_SSZ_TRANSPORT_ENABLED;
 import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_EXCHANGE_CAPABILITIES_MONITORING_ENABLED;
 import static tech.pegasys.teku.services.executionlayer.ExecutionLayerConfiguration.DEFAULT_USE_SHOULD_OVERRIDE_BUILDER_FLAG;
 
@@ -146,6 +147,17 @@ public class ExecutionLayerOptions {
   private boolean exchangeCapabilitiesMonitoringEnabled =
       DEFAULT_EXCHANGE_CAPABILITIES_MONITORING_ENABLED;
 
+  @Option(
+      names = {"--Xee-ssz-transport-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description =
+          "Send execution payloads to the execution engine as SSZ when it advertises support for it, falling back to JSON-RPC otherwise. Requires an HTTP endpoint and exchange capabilities monitoring.",
+      arity = "0..1",
+      showDefaultValue = Visibility.ALWAYS,
+      fallbackValue = "true",
+      hidden = true)
+  private boolean engineSszTransportEnabled = DEFAULT_ENGINE_SSZ_TRANSPORT_ENABLED;
+
   public void configure(final Builder builder) {
     builder.executionLayer(
         b ->
@@ -161,7 +173,8 @@ public class ExecutionLayerOptions {
                 .builderBidCompareFactor(builderBidCompareFactor)
                 .builderSetUserAgentHeader(builderSetUserAgentHeader)
                 .useShouldOverrideBuilderFlag(useShouldOverrideBuilderFlag)
-                .exchangeCapabilitiesMonitoringEnabled(exchangeCapabilitiesMonitoringEnabled));
+                .exchangeCapabilitiesMonitoringEnabled(exchangeCapabilitiesMonitoringEnabled)
+                .engineSszTransportEnabled(engineSszTransportEnabled));
     depositOptions.configure(builder);
   }
 }
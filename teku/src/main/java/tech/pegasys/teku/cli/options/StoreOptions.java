@@ -20,6 +20,8 @@ import tech.pegasys.teku.config.TekuConfiguration;
 import tech.pegasys.teku.storage.store.StoreConfig;
 
 public class StoreOptions {
+  private static final long BYTES_PER_MB = 1024 * 1024;
+
   @Option(
       hidden = true,
       names = {"--Xhot-state-persistence-frequency"},
@@ -62,6 +64,24 @@ public class StoreOptions {
       arity = "1")
   private int checkpointStateCacheSize = StoreConfig.DEFAULT_CHECKPOINT_STATE_CACHE_SIZE;
 
+  @Option(
+      hidden = true,
+      names = {"--Xstore-cache-memory-budget"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Estimated memory in megabytes shared by the in-memory block, state and checkpoint state caches. A value of zero limits the caches by number of entries only.",
+      arity = "1")
+  private long cacheMemoryBudgetMb = StoreConfig.DEFAULT_CACHE_MEMORY_BUDGET_BYTES / BYTES_PER_MB;
+
+  @Option(
+      hidden = true,
+      names = {"--Xstore-state-diff-cache-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "Number of states evicted from the state cache to keep as diffs against the finalized state. Only applies when a cache memory budget is set.",
+      arity = "1")
+  private int stateDiffCacheSize = StoreConfig.DEFAULT_STATE_DIFF_CACHE_SIZE;
+
   @Option(
       names = {"--Xstore-earliest-available-block-slot-cache-seconds"},
       hidden = true,
@@ -89,6 +109,8 @@ public class StoreOptions {
                 .epochStateCacheSize(epochStateCacheSize)
                 .earliestAvailableBlockSlotFrequency(earliestAvailableBlockSlotQueryFrequency)
                 .checkpointStateCacheSize(checkpointStateCacheSize)
+                .cacheMemoryBudgetBytes(cacheMemoryBudgetMb * BYTES_PER_MB)
+                .stateDiffCacheSize(stateDiffCacheSize)
                 .initialCanonicalBlockRoot(initialCanonicalBlockRoot));
   }
 }
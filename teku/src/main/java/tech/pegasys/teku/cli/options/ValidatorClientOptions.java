@@ -63,6 +63,17 @@ public class ValidatorClientOptions {
   private boolean validatorClientSszBlocksEnabled =
       ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED;
 
+  @Option(
+      names = {"--Xbeacon-node-ssz-responses-enabled"},
+      paramLabel = "<BOOLEAN>",
+      description = "Prefer SSZ encoding for API responses other than blocks where supported",
+      hidden = true,
+      showDefaultValue = CommandLine.Help.Visibility.ALWAYS,
+      arity = "0..1",
+      fallbackValue = "true")
+  private boolean validatorClientSszResponsesEnabled =
+      ValidatorConfig.DEFAULT_VALIDATOR_CLIENT_SSZ_RESPONSES_ENABLED;
+
   @CommandLine.Option(
       names = {"--Xuse-post-validators-endpoint-enabled"},
       paramLabel = "<BOOLEAN>",
@@ -105,6 +116,7 @@ public class ValidatorClientOptions {
             config
                 .beaconNodeApiEndpoints(getBeaconNodeApiEndpoints())
                 .validatorClientUseSszBlocksEnabled(validatorClientSszBlocksEnabled)
+                .validatorClientSszResponsesEnabled(validatorClientSszResponsesEnabled)
                 .validatorClientUsePostValidatorsEndpointEnabled(
                     validatorClientUsePostValidatorsEndpointEnabled)
                 .failoversSendSubnetSubscriptionsEnabled(failoversSendSubnetSubscriptionsEnabled)
@@ -105,6 +105,16 @@ public class ValidatorKeysOptions {
   private int validatorExternalSignerConcurrentRequestLimit =
       ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
 
+  @CommandLine.Option(
+      names = {"--Xvalidators-external-signer-batch-size"},
+      paramLabel = "<INTEGER>",
+      description =
+          "The maximum number of signing requests of the same type to send to the signer in a single batch request. Batching also enables HTTP/2 for signer connections. Set to 0 to disable.",
+      hidden = true,
+      arity = "1")
+  private int validatorExternalSignerBatchSize =
+      ValidatorConfig.DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIZE;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -114,6 +124,7 @@ public class ValidatorKeysOptions {
                 .validatorExternalSignerUrl(parseValidatorExternalSignerUrl())
                 .validatorExternalSignerConcurrentRequestLimit(
                     validatorExternalSignerConcurrentRequestLimit)
+                .validatorExternalSignerBatchSize(validatorExternalSignerBatchSize)
                 .validatorExternalSignerTimeout(Duration.ofMillis(validatorExternalSignerTimeout))
                 .validatorExternalSignerKeystore(convertToPath(validatorExternalSignerKeystore))
                 .validatorExternalSignerKeystorePasswordFile(
@@ -189,6 +189,16 @@ public class ValidatorOptions {
       fallbackValue = "true")
   private boolean shutdownWhenValidatorSlashed = DEFAULT_SHUTDOWN_WHEN_VALIDATOR_SLASHED_ENABLED;
 
+  @Option(
+      names = {"--Xvalidator-duties-request-batch-size"},
+      paramLabel = "<INTEGER>",
+      showDefaultValue = Visibility.ALWAYS,
+      description =
+          "Maximum number of validators to include in a single attester or sync committee duties request. Larger validator sets are requested in parallel batches. Set to 0 to use a single request.",
+      hidden = true,
+      arity = "1")
+  private int dutiesRequestBatchSize = ValidatorConfig.DEFAULT_DUTIES_REQUEST_BATCH_SIZE;
+
   public void configure(final TekuConfiguration.Builder builder) {
     builder.validator(
         config ->
@@ -208,6 +218,7 @@ public class ValidatorOptions {
                 .executorThreads(executorThreads)
                 .exitWhenNoValidatorKeysEnabled(exitWhenNoValidatorKeysEnabled)
                 .shutdownWhenValidatorSlashedEnabled(shutdownWhenValidatorSlashed)
+                .dutiesRequestBatchSize(dutiesRequestBatchSize)
                 .executorMaxQueueSize(executorMaxQueueSize)
                 .beaconApiExecutorThreads(beaconApiExecutorThreads)
                 .beaconApiReadinessExecutorThreads(beaconApiReadinessExecutorThreads));
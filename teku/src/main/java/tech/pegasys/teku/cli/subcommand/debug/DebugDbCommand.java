@@ -44,6 +44,7 @@ import tech.pegasys.teku.infrastructure.async.AsyncRunnerFactory;
 import tech.pegasys.teku.infrastructure.async.MetricTrackingExecutorFactory;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
 import tech.pegasys.teku.infrastructure.ssz.SszList;
+import tech.pegasys.teku.infrastructure.time.SystemTimeProvider;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.networks.Eth2NetworkConfiguration;
 import tech.pegasys.teku.service.serviceutils.layout.DataDirLayout;
@@ -57,6 +58,7 @@ import tech.pegasys.teku.spec.datastructures.state.AnchorPoint;
 import tech.pegasys.teku.spec.datastructures.state.Checkpoint;
 import tech.pegasys.teku.spec.datastructures.state.beaconstate.BeaconState;
 import tech.pegasys.teku.spec.datastructures.util.SlotAndBlockRootAndBlobIndex;
+import tech.pegasys.teku.storage.archive.era.EraFileImporter;
 import tech.pegasys.teku.storage.server.Database;
 import tech.pegasys.teku.storage.server.DatabaseStorageException;
 import tech.pegasys.teku.storage.server.DepositStorage;
@@ -883,6 +885,57 @@ public class DebugDbCommand implements Runnable {
     return 0;
   }
 
+  @Command(
+      name = "import-era-files",
+      description =
+          "Backfills historic blocks from a directory of era files, instead of downloading them from peers",
+      mixinStandardHelpOptions = true,
+      showDefaultValues = true,
+      abbreviateSynopsis = true,
+      versionProvider = PicoCliVersionProvider.class,
+      synopsisHeading = "%n",
+      descriptionHeading = "%nDescription:%n%n",
+      optionListHeading = "%nOptions:%n",
+      footerHeading = "%n",
+      footer = "Teku is licensed under the Apache License 2.0")
+  public int importEraFiles(
+      @Mixin final BeaconNodeDataOptions beaconNodeDataOptions,
+      @Mixin final Eth2NetworkOptions eth2NetworkOptions,
+      @Option(
+              required = true,
+              names = {"--era-dir"},
+              description = "Directory containing the era files to import")
+          final Path eraDirectory,
+      @Option(
+              names = {"--parallelism"},
+              description = "Number of era files to verify concurrently",
+              defaultValue = "4",
+              showDefaultValue = Visibility.ALWAYS)
+          final int parallelism,
+      @Option(
+              names = {"--verify-state-roots"},
+              description =
+                  "Also check block and state roots against the state stored in each era file",
+              defaultValue = "false",
+              fallbackValue = "true",
+              arity = "0..1",
+              showDefaultValue = Visibility.ALWAYS)
+          final boolean verifyStateRoots)
+      throws Exception {
+    final Spec spec = eth2NetworkOptions.getNetworkConfiguration().getSpec();
+    try (final Database database = createDatabase(beaconNodeDataOptions, eth2NetworkOptions)) {
+      final long importedBlocks =
+          new EraFileImporter(
+                  spec, database, new SystemTimeProvider(), parallelism, verifyStateRoots)
+              .importEraFiles(eraDirectory);
+      System.out.printf("Imported %d blocks%n", importedBlocks);
+      database
+          .getEarliestAvailableBlockSlot()
+          .ifPresent(slot -> System.out.printf("Earliest available block slot is %s%n", slot));
+    }
+    return 0;
+  }
+
   private boolean canParseBlock(final Spec spec, final Bytes blockData) {
     try {
       spec.deserializeSignedBeaconBlock(blockData);
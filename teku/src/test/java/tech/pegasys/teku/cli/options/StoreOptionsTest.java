@@ -39,6 +39,28 @@ public class StoreOptionsTest extends AbstractBeaconNodeCommandTest {
     assertThat(globalConfiguration.getHotStatePersistenceFrequencyInEpochs()).isEqualTo(2);
   }
 
+  @Test
+  public void cacheMemoryBudget_shouldConvertMegabytesToBytes() {
+    final String[] args = {"--Xstore-cache-memory-budget", "512"};
+    final StoreConfig storeConfig =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(storeConfig.getCacheMemoryBudgetBytes()).isEqualTo(512L * 1024 * 1024);
+  }
+
+  @Test
+  public void cacheMemoryBudget_shouldBeDisabledByDefault() {
+    final StoreConfig storeConfig = getTekuConfigurationFromArguments().beaconChain().storeConfig();
+    assertThat(storeConfig.getCacheMemoryBudgetBytes()).isZero();
+  }
+
+  @Test
+  public void stateDiffCacheSize_shouldRespectCLIArg() {
+    final String[] args = {"--Xstore-state-diff-cache-size", "16"};
+    final StoreConfig storeConfig =
+        getTekuConfigurationFromArguments(args).beaconChain().storeConfig();
+    assertThat(storeConfig.getStateDiffCacheSize()).isEqualTo(16);
+  }
+
   @Test
   public void hotStatePersistenceFrequency_invalidNumber() {
     final String[] args = {
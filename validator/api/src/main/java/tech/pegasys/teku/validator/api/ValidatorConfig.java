@@ -49,6 +49,7 @@ public class ValidatorConfig {
   public static final boolean DEFAULT_FAILOVERS_PUBLISH_SIGNED_DUTIES_ENABLED = true;
   public static final boolean DEFAULT_EXIT_WHEN_NO_VALIDATOR_KEYS_ENABLED = false;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_BLOCKS_ENABLED = true;
+  public static final boolean DEFAULT_VALIDATOR_CLIENT_SSZ_RESPONSES_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_CLIENT_USE_POST_VALIDATORS_ENDPOINT_ENABLED = true;
   public static final boolean DEFAULT_DOPPELGANGER_DETECTION_ENABLED = false;
   public static final boolean DEFAULT_SHUTDOWN_WHEN_VALIDATOR_SLASHED_ENABLED = false;
@@ -58,6 +59,8 @@ public class ValidatorConfig {
   public static final int DEFAULT_EXECUTOR_MAX_QUEUE_SIZE_ALL_SUBNETS = 60_000;
   public static final Duration DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT = Duration.ofSeconds(5);
   public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT = 32;
+  public static final int DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIZE = 0;
+  public static final int DEFAULT_DUTIES_REQUEST_BATCH_SIZE = 0;
   public static final boolean DEFAULT_VALIDATOR_KEYSTORE_LOCKING_ENABLED = true;
   public static final boolean DEFAULT_VALIDATOR_EXTERNAL_SIGNER_SLASHING_PROTECTION_ENABLED = true;
   public static final boolean DEFAULT_GENERATE_EARLY_ATTESTATIONS = true;
@@ -88,6 +91,9 @@ public class ValidatorConfig {
   private final boolean validatorKeystoreLockingEnabled;
   private final Optional<List<URI>> beaconNodeApiEndpoints;
   private final int validatorExternalSignerConcurrentRequestLimit;
+  private final int validatorExternalSignerBatchSize;
+  private final int dutiesRequestBatchSize;
+  private final boolean validatorClientSszResponsesEnabled;
   private final boolean generateEarlyAttestations;
   private final Optional<Eth1Address> proposerDefaultFeeRecipient;
   private final Optional<String> proposerConfigSource;
@@ -158,7 +164,10 @@ public class ValidatorConfig {
       final Optional<String> sentryNodeConfigurationFile,
       final boolean isLocalSlashingProtectionSynchronizedModeEnabled,
       final boolean dvtSelectionsEndpointEnabled,
-      final boolean attestationsV2ApisEnabled) {
+      final boolean attestationsV2ApisEnabled,
+      final int validatorExternalSignerBatchSize,
+      final int dutiesRequestBatchSize,
+      final boolean validatorClientSszResponsesEnabled) {
     this.validatorKeys = validatorKeys;
     this.validatorExternalSignerPublicKeySources = validatorExternalSignerPublicKeySources;
     this.validatorExternalSignerUrl = validatorExternalSignerUrl;
@@ -205,6 +214,9 @@ public class ValidatorConfig {
         isLocalSlashingProtectionSynchronizedModeEnabled;
     this.dvtSelectionsEndpointEnabled = dvtSelectionsEndpointEnabled;
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
+    this.validatorExternalSignerBatchSize = validatorExternalSignerBatchSize;
+    this.dutiesRequestBatchSize = dutiesRequestBatchSize;
+    this.validatorClientSszResponsesEnabled = validatorClientSszResponsesEnabled;
 
     LOG.debug(
         "Executor queue - {} threads, max queue size {} ", executorThreads, executorMaxQueueSize);
@@ -246,6 +258,22 @@ public class ValidatorConfig {
     return validatorExternalSignerConcurrentRequestLimit;
   }
 
+  public int getValidatorExternalSignerBatchSize() {
+    return validatorExternalSignerBatchSize;
+  }
+
+  public boolean isValidatorExternalSignerBatchingEnabled() {
+    return validatorExternalSignerBatchSize > 0;
+  }
+
+  public int getDutiesRequestBatchSize() {
+    return dutiesRequestBatchSize;
+  }
+
+  public boolean isValidatorClientSszResponsesEnabled() {
+    return validatorClientSszResponsesEnabled;
+  }
+
   public Pair<Path, Path> getValidatorExternalSignerKeystorePasswordFilePair() {
     return Pair.of(validatorExternalSignerKeystore, validatorExternalSignerKeystorePasswordFile);
   }
@@ -393,6 +421,10 @@ public class ValidatorConfig {
     private Optional<String> validatorExternalSignerUserInfo = Optional.empty();
     private int validatorExternalSignerConcurrentRequestLimit =
         DEFAULT_VALIDATOR_EXTERNAL_SIGNER_CONCURRENT_REQUEST_LIMIT;
+    private int validatorExternalSignerBatchSize = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_BATCH_SIZE;
+    private int dutiesRequestBatchSize = DEFAULT_DUTIES_REQUEST_BATCH_SIZE;
+    private boolean validatorClientSszResponsesEnabled =
+        DEFAULT_VALIDATOR_CLIENT_SSZ_RESPONSES_ENABLED;
     private Duration validatorExternalSignerTimeout = DEFAULT_VALIDATOR_EXTERNAL_SIGNER_TIMEOUT;
     private Path validatorExternalSignerKeystore;
     private Path validatorExternalSignerKeystorePasswordFile;
@@ -495,6 +527,25 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorExternalSignerBatchSize(final int validatorExternalSignerBatchSize) {
+      if (validatorExternalSignerBatchSize < 0) {
+        throw new InvalidConfigurationException(
+            String.format(
+                "Invalid validatorExternalSignerBatchSize: %s", validatorExternalSignerBatchSize));
+      }
+      this.validatorExternalSignerBatchSize = validatorExternalSignerBatchSize;
+      return this;
+    }
+
+    public Builder dutiesRequestBatchSize(final int dutiesRequestBatchSize) {
+      if (dutiesRequestBatchSize < 0) {
+        throw new InvalidConfigurationException(
+            String.format("Invalid dutiesRequestBatchSize: %s", dutiesRequestBatchSize));
+      }
+      this.dutiesRequestBatchSize = dutiesRequestBatchSize;
+      return this;
+    }
+
     public Builder validatorExternalSignerKeystore(final Path validatorExternalSignerKeystore) {
       this.validatorExternalSignerKeystore = validatorExternalSignerKeystore;
       return this;
@@ -593,6 +644,12 @@ public class ValidatorConfig {
       return this;
     }
 
+    public Builder validatorClientSszResponsesEnabled(
+        final boolean validatorClientSszResponsesEnabled) {
+      this.validatorClientSszResponsesEnabled = validatorClientSszResponsesEnabled;
+      return this;
+    }
+
     public Builder validatorClientUsePostValidatorsEndpointEnabled(
         final boolean validatorClientUsePostValidatorsEndpointEnabled) {
       this.validatorClientUsePostValidatorsEndpointEnabled =
@@ -756,7 +813,10 @@ public class ValidatorConfig {
           sentryNodeConfigurationFile,
           isLocalSlashingProtectionSynchronizedModeEnabled,
           dvtSelectionsEndpointEnabled,
-          attestationsV2ApisEnabled);
+          attestationsV2ApisEnabled,
+          validatorExternalSignerBatchSize,
+          dutiesRequestBatchSize,
+          validatorClientSszResponsesEnabled);
     }
 
     private void validateExternalSignerUrlAndPublicKeys() {
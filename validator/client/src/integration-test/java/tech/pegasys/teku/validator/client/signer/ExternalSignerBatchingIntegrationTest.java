@@ -0,0 +1,295 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+import static tech.pegasys.teku.validator.client.signer.ExternalSigner.slashableAttestationMessage;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher.EXTERNAL_SIGNER_BATCH_ENDPOINT;
+import static tech.pegasys.teku.validator.client.signer.ExternalSignerTestUtil.validateMetrics;
+
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockserver.verify.VerificationTimes;
+import tech.pegasys.teku.bls.BLSKeyPair;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.bls.BLSTestUtil;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.StubAsyncRunner;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.infrastructure.unsigned.UInt64;
+import tech.pegasys.teku.spec.Spec;
+import tech.pegasys.teku.spec.TestSpecFactory;
+import tech.pegasys.teku.spec.datastructures.operations.AttestationData;
+
+public class ExternalSignerBatchingIntegrationTest extends AbstractExternalSignerIntegrationTest {
+  private static final BLSKeyPair OTHER_KEYPAIR = BLSTestUtil.randomKeyPair(5678);
+  private static final int TASK_QUEUE_LIMIT = 8;
+
+  private final StubAsyncRunner asyncRunner = new StubAsyncRunner();
+  private final ThrottlingTaskQueueWithPriority batchingQueue =
+      ThrottlingTaskQueueWithPriority.create(
+          TASK_QUEUE_LIMIT,
+          metricsSystem,
+          TekuMetricCategory.VALIDATOR,
+          "externalSignerBatchingTest");
+  private final AttestationData attestationData = dataStructureUtil.randomAttestationData();
+  private final BLSSignature signature1 = dataStructureUtil.randomSignature();
+  private final BLSSignature signature2 = dataStructureUtil.randomSignature();
+
+  private ExternalSigner batchingSigner1;
+  private ExternalSigner batchingSigner2;
+
+  @Override
+  public Spec getSpec() {
+    return TestSpecFactory.createMinimalPhase0();
+  }
+
+  @BeforeEach
+  void setupBatching() throws Exception {
+    createBatchingSigners(4);
+  }
+
+  @Test
+  void shouldSendAttestationsInSingleBatch() {
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withBody(batchResponse(signature1, signature2)));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signAttestationData(attestationData, forkInfo);
+    assertThat(result1).isNotDone();
+
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+    client.verify(
+        request().withMethod("POST").withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT),
+        VerificationTimes.exactly(1));
+    client.verify(
+        request().withPath(ExternalSigner.EXTERNAL_SIGNER_ENDPOINT + "/.*"),
+        VerificationTimes.never());
+    validateMetrics(metricsSystem, 2, 0, 0);
+  }
+
+  @Test
+  void shouldSendBatchImmediatelyWhenFull() throws Exception {
+    createBatchingSigners(2);
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withBody(batchResponse(signature1, signature2)));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signAttestationData(attestationData, forkInfo);
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+
+    // The scheduled flush finds nothing left to send
+    asyncRunner.executeQueuedActions();
+    client.verify(
+        request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT), VerificationTimes.exactly(1));
+  }
+
+  @Test
+  void shouldFallBackToIndividualRequestsWhenBatchingIsNotSupported() {
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withStatusCode(SC_NOT_FOUND));
+    client
+        .when(request().withPath(signEndpoint(KEYPAIR)))
+        .respond(response().withBody(signature1.toString()));
+    client
+        .when(request().withPath(signEndpoint(OTHER_KEYPAIR)))
+        .respond(response().withBody(signature2.toString()));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signAttestationData(attestationData, forkInfo);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+
+    // Later requests skip batching entirely
+    assertThat(batchingSigner1.signAttestationData(attestationData, forkInfo).join())
+        .isEqualTo(signature1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    client.verify(
+        request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT), VerificationTimes.exactly(1));
+    client.verify(request().withPath(signEndpoint(KEYPAIR)), VerificationTimes.exactly(2));
+    validateMetrics(metricsSystem, 3, 0, 0);
+  }
+
+  @Test
+  void shouldFailOnlyRefusedEntryWhenSignerReportsSlashingCondition() {
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(
+            response()
+                .withBody(
+                    "[{\"signature\":\""
+                        + signature1
+                        + "\"},{\"status\":"
+                        + SC_PRECONDITION_FAILED
+                        + ",\"error\":\"slashable\"}]"));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signAttestationData(attestationData, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signAttestationData(attestationData, forkInfo);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThatThrownBy(result2::join)
+        .hasCauseInstanceOf(ExternalSignerException.class)
+        .hasMessageEndingWith(slashableAttestationMessage(attestationData).get());
+    validateMetrics(metricsSystem, 1, 1, 0);
+  }
+
+  @Test
+  void shouldBatchAggregationSlotsWhileTaskQueueIsSaturated() {
+    saturateTaskQueue();
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withBody(batchResponse(signature1, signature2)));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signAggregationSlot(UInt64.ONE, forkInfo);
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signAggregationSlot(UInt64.ONE, forkInfo);
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+  }
+
+  @Test
+  void shouldBatchValidatorRegistrationsWhileTaskQueueIsSaturated() {
+    saturateTaskQueue();
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withBody(batchResponse(signature1, signature2)));
+
+    final SafeFuture<BLSSignature> result1 =
+        batchingSigner1.signValidatorRegistration(
+            dataStructureUtil.randomValidatorRegistration(KEYPAIR.getPublicKey()));
+    final SafeFuture<BLSSignature> result2 =
+        batchingSigner2.signValidatorRegistration(
+            dataStructureUtil.randomValidatorRegistration(OTHER_KEYPAIR.getPublicKey()));
+    asyncRunner.executeQueuedActions();
+
+    assertThat(result1.join()).isEqualTo(signature1);
+    assertThat(result2.join()).isEqualTo(signature2);
+  }
+
+  @Test
+  void shouldThrottleIndividualRequestsWhenBatchingIsNotSupported() {
+    client
+        .when(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT))
+        .respond(response().withStatusCode(SC_NOT_FOUND));
+    client
+        .when(request().withPath(signEndpoint(KEYPAIR)))
+        .respond(response().withBody(signature1.toString()));
+    final SafeFuture<BLSSignature> firstResult =
+        batchingSigner1.signAggregationSlot(UInt64.ONE, forkInfo);
+    asyncRunner.executeQueuedActions();
+    assertThat(firstResult.join()).isEqualTo(signature1);
+
+    final SafeFuture<Void> blockingTask = saturateTaskQueue();
+    final SafeFuture<BLSSignature> result =
+        batchingSigner1.signAggregationSlot(UInt64.ONE, forkInfo);
+    assertThat(result).isNotDone();
+
+    blockingTask.complete(null);
+    assertThat(result.join()).isEqualTo(signature1);
+  }
+
+  @Test
+  void shouldNotBatchBlocks() {
+    client.when(request()).respond(response().withBody(signature1.toString()));
+
+    assertThat(
+            batchingSigner1.signBlock(dataStructureUtil.randomBeaconBlock(10), forkInfo).join())
+        .isEqualTo(signature1);
+    assertThat(asyncRunner.hasDelayedActions()).isFalse();
+    client.verify(request().withPath(EXTERNAL_SIGNER_BATCH_ENDPOINT), VerificationTimes.never());
+  }
+
+  private SafeFuture<Void> saturateTaskQueue() {
+    final SafeFuture<Void> blockingTask = new SafeFuture<>();
+    for (int i = 0; i < TASK_QUEUE_LIMIT; i++) {
+      batchingQueue.queueTask(() -> blockingTask).ifExceptionGetsHereRaiseABug();
+    }
+    return blockingTask;
+  }
+
+  private void createBatchingSigners(final int maxBatchSize) throws Exception {
+    final URL url = URI.create("http://127.0.0.1:" + client.getLocalPort()).toURL();
+    final HttpClient httpClient = HttpClient.newHttpClient();
+    final ExternalSignerBatcher batcher =
+        new ExternalSignerBatcher(
+            httpClient, url, TIMEOUT, maxBatchSize, asyncRunner, metricsSystem);
+    batchingSigner1 = createSigner(httpClient, url, KEYPAIR, batcher);
+    batchingSigner2 = createSigner(httpClient, url, OTHER_KEYPAIR, batcher);
+  }
+
+  private ExternalSigner createSigner(
+      final HttpClient httpClient,
+      final URL url,
+      final BLSKeyPair keyPair,
+      final ExternalSignerBatcher batcher) {
+    return new ExternalSigner(
+        spec,
+        httpClient,
+        url,
+        keyPair.getPublicKey(),
+        TIMEOUT,
+        batchingQueue,
+        metricsSystem,
+        Optional.of(batcher));
+  }
+
+  private static String signEndpoint(final BLSKeyPair keyPair) {
+    return ExternalSigner.EXTERNAL_SIGNER_ENDPOINT
+        + "/"
+        + keyPair.getPublicKey().toBytesCompressed().toString();
+  }
+
+  private static String batchResponse(final BLSSignature... signatures) {
+    final StringBuilder body = new StringBuilder("[");
+    for (int i = 0; i < signatures.length; i++) {
+      if (i > 0) {
+        body.append(',');
+      }
+      body.append("{\"signature\":\"").append(signatures[i]).append("\"}");
+    }
+    return body.append(']').toString();
+  }
+}
@@ -14,11 +14,17 @@
 package tech.pegasys.teku.validator.client;
 
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.Function;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes32;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
@@ -46,6 +52,11 @@ abstract class AbstractAttestationDutySchedulingStrategy
   protected final OwnedValidators validators;
   protected final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions;
 
+  // Duties are rescheduled from scratch whenever they are reloaded but the slot signature only
+  // depends on the validator and slot, so only validators whose duties moved need to sign again
+  private final NavigableMap<UInt64, Map<BLSPublicKey, SafeFuture<BLSSignature>>>
+      slotSignaturesBySlot = new ConcurrentSkipListMap<>();
+
   AbstractAttestationDutySchedulingStrategy(
       final Spec spec,
       final ForkProvider forkProvider,
@@ -141,9 +152,7 @@ abstract class AbstractAttestationDutySchedulingStrategy
       final int aggregatorModulo,
       final SafeFuture<Optional<AttestationData>> unsignedAttestationFuture,
       final Optional<DvtAttestationAggregations> dvtAttestationAggregations) {
-    return forkProvider
-        .getForkInfo(slot)
-        .thenCompose(forkInfo -> validator.getSigner().signAggregationSlot(slot, forkInfo))
+    return getSlotSignature(validator, slot)
         .thenCompose(
             slotSignature ->
                 dvtAttestationAggregations
@@ -183,4 +192,22 @@ abstract class AbstractAttestationDutySchedulingStrategy
               return null;
             });
   }
+
+  private SafeFuture<BLSSignature> getSlotSignature(final Validator validator, final UInt64 slot) {
+    slotSignaturesBySlot
+        .headMap(slot.minusMinZero(2L * spec.atSlot(slot).getSlotsPerEpoch()), false)
+        .clear();
+    final Map<BLSPublicKey, SafeFuture<BLSSignature>> slotSignatures =
+        slotSignaturesBySlot.computeIfAbsent(slot, __ -> new ConcurrentHashMap<>());
+    final SafeFuture<BLSSignature> slotSignature =
+        slotSignatures.computeIfAbsent(
+            validator.getPublicKey(),
+            __ ->
+                forkProvider
+                    .getForkInfo(slot)
+                    .thenCompose(
+                        forkInfo -> validator.getSigner().signAggregationSlot(slot, forkInfo)));
+    return slotSignature.catchAndRethrow(
+        __ -> slotSignatures.remove(validator.getPublicKey(), slotSignature));
+  }
 }
@@ -13,7 +13,12 @@
 
 package tech.pegasys.teku.validator.client;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -27,11 +32,25 @@ public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implement
   private static final Logger LOG = LogManager.getLogger();
   protected final OwnedValidators validators;
   private final ValidatorIndexProvider validatorIndexProvider;
+  private final int requestBatchSize;
 
   protected AbstractDutyLoader(
       final OwnedValidators validators, final ValidatorIndexProvider validatorIndexProvider) {
+    this(validators, validatorIndexProvider, 0);
+  }
+
+  /**
+   * @param requestBatchSize the maximum number of validator indices to include in a single duties
+   *     request. Larger validator sets are split into batches which are requested in parallel and
+   *     combined with {@link #combineDuties(List)}. Set to 0 to always use a single request.
+   */
+  protected AbstractDutyLoader(
+      final OwnedValidators validators,
+      final ValidatorIndexProvider validatorIndexProvider,
+      final int requestBatchSize) {
     this.validators = validators;
     this.validatorIndexProvider = validatorIndexProvider;
+    this.requestBatchSize = requestBatchSize;
   }
 
   @Override
@@ -45,7 +64,7 @@ public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implement
                 LOG.trace("No duties because no validator indices are known");
                 return SafeFuture.completedFuture(Optional.empty());
               }
-              return requestDuties(epoch, validatorIndices)
+              return requestDutiesInBatches(epoch, validatorIndices)
                   .thenApply(
                       maybeDuties ->
                           maybeDuties.orElseThrow(
@@ -57,8 +76,45 @@ public abstract class AbstractDutyLoader<D, S extends ScheduledDuties> implement
             });
   }
 
+  private SafeFuture<Optional<D>> requestDutiesInBatches(
+      final UInt64 epoch, final IntCollection validatorIndices) {
+    if (requestBatchSize <= 0 || validatorIndices.size() <= requestBatchSize) {
+      return requestDuties(epoch, validatorIndices);
+    }
+    final List<SafeFuture<Optional<D>>> batchRequests = new ArrayList<>();
+    IntList batch = new IntArrayList(requestBatchSize);
+    for (final IntIterator iterator = validatorIndices.iterator(); iterator.hasNext(); ) {
+      batch.add(iterator.nextInt());
+      if (batch.size() == requestBatchSize || !iterator.hasNext()) {
+        batchRequests.add(requestDuties(epoch, batch));
+        batch = new IntArrayList(requestBatchSize);
+      }
+    }
+    LOG.trace(
+        "Requesting duties for {} validators in {} batches",
+        validatorIndices.size(),
+        batchRequests.size());
+    return SafeFuture.collectAll(batchRequests.stream())
+        .thenApply(
+            results -> {
+              if (results.stream().anyMatch(Optional::isEmpty)) {
+                return Optional.empty();
+              }
+              return Optional.of(combineDuties(results.stream().map(Optional::get).toList()));
+            });
+  }
+
   protected abstract SafeFuture<Optional<D>> requestDuties(
       UInt64 epoch, IntCollection validatorIndices);
 
+  /**
+   * Combines the duties loaded by separate batch requests. Only called for loaders created with a
+   * request batch size, which must override it.
+   */
+  protected D combineDuties(final List<D> batches) {
+    throw new UnsupportedOperationException(
+        getClass().getSimpleName() + " does not support batched duty requests");
+  }
+
   protected abstract SafeFuture<S> scheduleAllDuties(UInt64 epoch, D duties);
 }
@@ -14,8 +14,11 @@
 package tech.pegasys.teku.validator.client;
 
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.List;
 import java.util.Optional;
+import org.apache.tuweni.bytes.Bytes32;
 import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuties;
+import tech.pegasys.teku.ethereum.json.types.validator.AttesterDuty;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -33,7 +36,21 @@ public class AttestationDutyLoader
       final ValidatorIndexProvider validatorIndexProvider,
       final ValidatorApiChannel validatorApiChannel,
       final AttestationDutySchedulingStrategySelector attestationDutySchedulingStrategySelector) {
-    super(validators, validatorIndexProvider);
+    this(
+        validators,
+        validatorIndexProvider,
+        validatorApiChannel,
+        attestationDutySchedulingStrategySelector,
+        0);
+  }
+
+  public AttestationDutyLoader(
+      final OwnedValidators validators,
+      final ValidatorIndexProvider validatorIndexProvider,
+      final ValidatorApiChannel validatorApiChannel,
+      final AttestationDutySchedulingStrategySelector attestationDutySchedulingStrategySelector,
+      final int requestBatchSize) {
+    super(validators, validatorIndexProvider, requestBatchSize);
     this.validatorApiChannel = validatorApiChannel;
     this.attestationDutySchedulingStrategySelector = attestationDutySchedulingStrategySelector;
   }
@@ -47,6 +64,20 @@ public class AttestationDutyLoader
     return validatorApiChannel.getAttestationDuties(epoch, validatorIndices);
   }
 
+  @Override
+  protected AttesterDuties combineDuties(final List<AttesterDuties> batches) {
+    final Bytes32 dependentRoot = batches.getFirst().getDependentRoot();
+    if (batches.stream().anyMatch(batch -> !batch.getDependentRoot().equals(dependentRoot))) {
+      // The chain changed between batches so the duties may not be consistent, load them again
+      throw new NodeDataUnavailableException(
+          "Dependent root changed while requesting attestation duties in batches");
+    }
+    final List<AttesterDuty> duties =
+        batches.stream().flatMap(batch -> batch.getDuties().stream()).toList();
+    return new AttesterDuties(
+        batches.stream().anyMatch(AttesterDuties::isExecutionOptimistic), dependentRoot, duties);
+  }
+
   @Override
   protected SafeFuture<SlotBasedScheduledDuties<?, ?>> scheduleAllDuties(
       final UInt64 epoch, final AttesterDuties duties) {
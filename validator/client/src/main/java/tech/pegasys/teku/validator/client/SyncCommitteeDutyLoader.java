@@ -14,6 +14,7 @@
 package tech.pegasys.teku.validator.client;
 
 import it.unimi.dsi.fastutil.ints.IntCollection;
+import java.util.List;
 import java.util.Optional;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.ethereum.json.types.validator.SyncCommitteeDuties;
@@ -49,7 +50,29 @@ public class SyncCommitteeDutyLoader
       final ForkProvider forkProvider,
       final MetricsSystem metricsSystem,
       final boolean useDvtEndpoint) {
-    super(validators, validatorIndexProvider);
+    this(
+        validators,
+        validatorIndexProvider,
+        spec,
+        validatorApiChannel,
+        chainHeadTracker,
+        forkProvider,
+        metricsSystem,
+        useDvtEndpoint,
+        0);
+  }
+
+  public SyncCommitteeDutyLoader(
+      final OwnedValidators validators,
+      final ValidatorIndexProvider validatorIndexProvider,
+      final Spec spec,
+      final ValidatorApiChannel validatorApiChannel,
+      final ChainHeadTracker chainHeadTracker,
+      final ForkProvider forkProvider,
+      final MetricsSystem metricsSystem,
+      final boolean useDvtEndpoint,
+      final int requestBatchSize) {
+    super(validators, validatorIndexProvider, requestBatchSize);
     this.spec = spec;
     this.validatorApiChannel = validatorApiChannel;
     this.chainHeadTracker = chainHeadTracker;
@@ -72,16 +95,20 @@ public class SyncCommitteeDutyLoader
   @Override
   protected SafeFuture<Optional<SyncCommitteeDuties>> requestDuties(
       final UInt64 epoch, final IntCollection validatorIndices) {
-    return validatorApiChannel
-        .getSyncCommitteeDuties(epoch, validatorIndices)
-        .thenPeek(
-            maybeDuties ->
-                currentSyncDutyCount.set(maybeDuties.map(d -> d.getDuties().size()).orElse(0)));
+    return validatorApiChannel.getSyncCommitteeDuties(epoch, validatorIndices);
+  }
+
+  @Override
+  protected SyncCommitteeDuties combineDuties(final List<SyncCommitteeDuties> batches) {
+    return new SyncCommitteeDuties(
+        batches.stream().anyMatch(SyncCommitteeDuties::isExecutionOptimistic),
+        batches.stream().flatMap(batch -> batch.getDuties().stream()).toList());
   }
 
   @Override
   protected SafeFuture<SyncCommitteeScheduledDuties> scheduleAllDuties(
       final UInt64 epoch, final SyncCommitteeDuties duties) {
+    currentSyncDutyCount.set(duties.getDuties().size());
     final UInt64 lastEpochInCommitteePeriod =
         spec.getSyncCommitteeUtilRequired(spec.computeStartSlotAtEpoch(epoch))
             .computeFirstEpochOfNextSyncCommitteePeriod(epoch)
@@ -34,6 +34,7 @@ import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 import tech.pegasys.teku.bls.BLSPublicKey;
 import tech.pegasys.teku.infrastructure.async.AsyncRunner;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.events.EventChannels;
 import tech.pegasys.teku.infrastructure.exceptions.ExceptionUtil;
 import tech.pegasys.teku.infrastructure.exceptions.InvalidConfigurationException;
@@ -94,6 +95,7 @@ public class ValidatorClientService extends Service {
   private static final Duration DOPPELGANGER_DETECTOR_TIMEOUT = Duration.ofMinutes(15);
   private static final int DOPPELGANGER_DETECTOR_MAX_EPOCHS = 2;
   private static final int MIN_SIZE_TO_SCHEDULE_ATTESTATION_DUTIES_IN_BATCHES = 1000;
+  private static final int MAX_CONCURRENT_ATTESTATION_SIGNING_REQUESTS = 512;
   private final EventChannels eventChannels;
   private final ValidatorLoader validatorLoader;
   private final BeaconNodeApi beaconNodeApi;
@@ -472,12 +474,18 @@ public class ValidatorClientService extends Service {
             forkProvider, validatorApiChannel, blockContainerSigner, spec, validatorDutyMetrics);
     final boolean dvtSelectionsEndpointEnabled =
         config.getValidatorConfig().isDvtSelectionsEndpointEnabled();
+    final int dutiesRequestBatchSize = config.getValidatorConfig().getDutiesRequestBatchSize();
     final AttestationDutyFactory attestationDutyFactory =
         new AttestationDutyFactory(
             spec,
             forkProvider,
             validatorApiChannel,
             validatorDutyMetrics,
+            ThrottlingTaskQueue.create(
+                MAX_CONCURRENT_ATTESTATION_SIGNING_REQUESTS,
+                metricsSystem,
+                TekuMetricCategory.VALIDATOR,
+                "attestation_signing_queue_size"),
             dvtSelectionsEndpointEnabled);
     final BeaconCommitteeSubscriptions beaconCommitteeSubscriptions =
         new BeaconCommitteeSubscriptions(validatorApiChannel);
@@ -518,7 +526,8 @@ public class ValidatorClientService extends Service {
                     MIN_SIZE_TO_SCHEDULE_ATTESTATION_DUTIES_IN_BATCHES,
                     dvtSelectionsEndpointEnabled,
                     attestationDutyDefaultSchedulingStrategy,
-                    attestationDutyBatchSchedulingStrategy)));
+                    attestationDutyBatchSchedulingStrategy),
+                dutiesRequestBatchSize));
     final DutyLoader<?> blockDutyLoader =
         new RetryingDutyLoader<>(
             asyncRunner,
@@ -552,7 +561,8 @@ public class ValidatorClientService extends Service {
                   chainHeadTracker,
                   forkProvider,
                   metricsSystem,
-                  dvtSelectionsEndpointEnabled));
+                  dvtSelectionsEndpointEnabled,
+                  dutiesRequestBatchSize));
       validatorTimingChannels.add(
           new SyncCommitteeScheduler(
               metricsSystem, spec, syncCommitteeDutyLoader, new Random()::nextInt));
@@ -15,6 +15,7 @@ package tech.pegasys.teku.validator.client.duties.attestations;
 
 import static tech.pegasys.teku.infrastructure.logging.ValidatorLogger.VALIDATOR_LOGGER;
 
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
@@ -30,6 +31,7 @@ public class AttestationDutyFactory
   private final ForkProvider forkProvider;
   private final ValidatorApiChannel validatorApiChannel;
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final ThrottlingTaskQueue attestationSigningQueue;
   private final boolean isDvtEnabled;
 
   public AttestationDutyFactory(
@@ -37,11 +39,13 @@ public class AttestationDutyFactory
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
       final ValidatorDutyMetrics validatorDutyMetrics,
+      final ThrottlingTaskQueue attestationSigningQueue,
       final boolean isDvtEnabled) {
     this.spec = spec;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.attestationSigningQueue = attestationSigningQueue;
     this.isDvtEnabled = isDvtEnabled;
   }
 
@@ -54,7 +58,8 @@ public class AttestationDutyFactory
         forkProvider,
         validatorApiChannel,
         new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
-        validatorDutyMetrics);
+        validatorDutyMetrics,
+        attestationSigningQueue);
   }
 
   @Override
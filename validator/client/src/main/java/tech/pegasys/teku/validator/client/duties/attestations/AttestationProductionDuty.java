@@ -15,17 +15,23 @@ package tech.pegasys.teku.validator.client.duties.attestations;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.CREATE_TOTAL;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN_ALL;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.metrics.Validator.DutyType;
 import tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
@@ -39,6 +45,7 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
 import tech.pegasys.teku.spec.datastructures.operations.SingleAttestationSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.validator.api.ValidatorApiChannel;
 import tech.pegasys.teku.validator.client.ForkProvider;
 import tech.pegasys.teku.validator.client.Validator;
@@ -57,6 +64,11 @@ public class AttestationProductionDuty implements Duty {
   private final ValidatorApiChannel validatorApiChannel;
   private final SendingStrategy<Attestation> sendingStrategy;
   private final ValidatorDutyMetrics validatorDutyMetrics;
+  private final ThrottlingTaskQueue signingQueue;
+  private final SigningRootUtil signingRootUtil;
+
+  // Post-electra every committee attests to the same data, so most validators share a root
+  private final Map<AttestationData, Bytes> signingRoots = new ConcurrentHashMap<>();
 
   public AttestationProductionDuty(
       final Spec spec,
@@ -64,13 +76,16 @@ public class AttestationProductionDuty implements Duty {
       final ForkProvider forkProvider,
       final ValidatorApiChannel validatorApiChannel,
       final SendingStrategy<Attestation> sendingStrategy,
-      final ValidatorDutyMetrics validatorDutyMetrics) {
+      final ValidatorDutyMetrics validatorDutyMetrics,
+      final ThrottlingTaskQueue signingQueue) {
     this.spec = spec;
     this.slot = slot;
     this.forkProvider = forkProvider;
     this.validatorApiChannel = validatorApiChannel;
     this.sendingStrategy = sendingStrategy;
     this.validatorDutyMetrics = validatorDutyMetrics;
+    this.signingQueue = signingQueue;
+    this.signingRootUtil = new SigningRootUtil(spec);
   }
 
   @Override
@@ -120,11 +135,36 @@ public class AttestationProductionDuty implements Duty {
       final UInt64 slot,
       final ForkInfo forkInfo,
       final Int2ObjectMap<ScheduledCommittee> validatorsByCommitteeIndex) {
-    return validatorsByCommitteeIndex.int2ObjectEntrySet().stream()
-        .flatMap(
+    final List<SafeFuture<ProductionResult<Attestation>>> results = new ArrayList<>();
+    validatorsByCommitteeIndex
+        .int2ObjectEntrySet()
+        .forEach(
             entry ->
-                produceAttestationsForCommittee(slot, forkInfo, entry.getIntKey(), entry.getValue())
-                    .stream());
+                results.addAll(
+                    produceAttestationsForCommittee(
+                        slot, forkInfo, entry.getIntKey(), entry.getValue())));
+    recordSignAllTime(results);
+    return results.stream();
+  }
+
+  /**
+   * Records the time from the first attestation data becoming available until every validator in
+   * this slot has a signed attestation (or has failed).
+   */
+  private void recordSignAllTime(final List<SafeFuture<ProductionResult<Attestation>>> results) {
+    final SafeFuture<?>[] attestationDataFutures =
+        validatorsByCommitteeIndex.values().stream()
+            .map(ScheduledCommittee::getAttestationDataFuture)
+            .toArray(SafeFuture<?>[]::new);
+    SafeFuture.anyOf(attestationDataFutures)
+        .alwaysRun(
+            () ->
+                validatorDutyMetrics
+                    .record(
+                        () -> SafeFuture.allOf(results.toArray(SafeFuture<?>[]::new)),
+                        this,
+                        SIGN_ALL)
+                    .ifExceptionGetsHereRaiseABug());
   }
 
   private List<SafeFuture<ProductionResult<Attestation>>> produceAttestationsForCommittee(
@@ -236,9 +276,12 @@ public class AttestationProductionDuty implements Duty {
       final ForkInfo forkInfo,
       final AttestationData attestationData,
       final ValidatorWithAttestationDutyInfo validator) {
-    return validator
-        .signer()
-        .signAttestationData(attestationData, forkInfo)
+    final Bytes signingRoot =
+        signingRoots.computeIfAbsent(
+            attestationData,
+            data -> signingRootUtil.signingRootForSignAttestationData(data, forkInfo));
+    return signingQueue
+        .queueTask(() -> signAttestationData(validator, forkInfo, attestationData, signingRoot))
         .thenApply(
             signature ->
                 signedAttestationProducer.createSignedAttestation(
@@ -249,6 +292,20 @@ public class AttestationProductionDuty implements Duty {
                     validator.publicKey(), attestationData.getBeaconBlockRoot(), attestation));
   }
 
+  // the queue bounds how many signing requests are in flight across all duties, tasks must not
+  // throw as the queue would otherwise never release their slot
+  private SafeFuture<BLSSignature> signAttestationData(
+      final ValidatorWithAttestationDutyInfo validator,
+      final ForkInfo forkInfo,
+      final AttestationData attestationData,
+      final Bytes signingRoot) {
+    try {
+      return validator.signer().signAttestationData(attestationData, forkInfo, signingRoot);
+    } catch (final Throwable t) {
+      return SafeFuture.failedFuture(t);
+    }
+  }
+
   private Attestation createSignedAttestation(
       final AttestationSchema<?> attestationSchema,
       final AttestationData attestationData,
@@ -17,6 +17,7 @@ import com.google.common.annotations.VisibleForTesting;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.function.Supplier;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import tech.pegasys.teku.bls.BLSPublicKey;
@@ -24,6 +25,7 @@ import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueueWithPriority;
 import tech.pegasys.teku.spec.Spec;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.validator.client.signer.ExternalSigner;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher;
 
 class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
 
@@ -34,6 +36,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
   private final Duration externalSignerTimeout;
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
+  private final Optional<ExternalSignerBatcher> externalSignerBatcher;
   private final boolean readOnly;
 
   ExternalValidatorProvider(
@@ -44,6 +47,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
       final Duration externalSignerTimeout,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
+      final Optional<ExternalSignerBatcher> externalSignerBatcher,
       final boolean readOnly) {
     this.spec = spec;
     this.externalSignerHttpClientFactory = externalSignerHttpClientFactory;
@@ -52,6 +56,7 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
     this.externalSignerTimeout = externalSignerTimeout;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
+    this.externalSignerBatcher = externalSignerBatcher;
     this.readOnly = readOnly;
   }
 
@@ -74,7 +79,8 @@ class ExternalValidatorProvider implements ValidatorSource.ValidatorProvider {
         publicKey,
         externalSignerTimeout,
         externalSignerTaskQueue,
-        metricsSystem);
+        metricsSystem,
+        externalSignerBatcher);
   }
 
   @VisibleForTesting
@@ -45,6 +45,7 @@ import tech.pegasys.teku.validator.client.restapi.ValidatorTypes;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.DeleteKeyResult;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.ExternalValidator;
 import tech.pegasys.teku.validator.client.restapi.apis.schema.PostKeyResult;
+import tech.pegasys.teku.validator.client.signer.ExternalSignerBatcher;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerStatusLogger;
 import tech.pegasys.teku.validator.client.signer.ExternalSignerUpcheck;
 
@@ -56,6 +57,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
   private final PublicKeyLoader publicKeyLoader;
   private final ThrottlingTaskQueueWithPriority externalSignerTaskQueue;
   private final MetricsSystem metricsSystem;
+  private final Optional<ExternalSignerBatcher> externalSignerBatcher;
   private final Map<BLSPublicKey, URL> externalValidatorSourceMap = new ConcurrentHashMap<>();
 
   private ExternalValidatorSource(
@@ -65,6 +67,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final PublicKeyLoader publicKeyLoader,
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
       final MetricsSystem metricsSystem,
+      final Optional<ExternalSignerBatcher> externalSignerBatcher,
       final boolean readOnly,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     super(readOnly, maybeDataDirLayout);
@@ -74,6 +77,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     this.publicKeyLoader = publicKeyLoader;
     this.externalSignerTaskQueue = externalSignerTaskQueue;
     this.metricsSystem = metricsSystem;
+    this.externalSignerBatcher = externalSignerBatcher;
   }
 
   public static ExternalValidatorSource create(
@@ -87,6 +91,17 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
       final ThrottlingTaskQueueWithPriority externalSignerTaskQueue,
       final Optional<DataDirLayout> maybeDataDirLayout) {
     setupExternalSignerStatusLogging(config, externalSignerHttpClientFactory, asyncRunner);
+    final Optional<ExternalSignerBatcher> externalSignerBatcher =
+        config.isValidatorExternalSignerBatchingEnabled()
+            ? Optional.of(
+                new ExternalSignerBatcher(
+                    externalSignerHttpClientFactory.get(),
+                    config.getValidatorExternalSignerUrl(),
+                    config.getValidatorExternalSignerTimeout(),
+                    config.getValidatorExternalSignerBatchSize(),
+                    asyncRunner,
+                    metricsSystem))
+            : Optional.empty();
     return new ExternalValidatorSource(
         spec,
         config,
@@ -94,6 +109,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
         publicKeyLoader,
         externalSignerTaskQueue,
         metricsSystem,
+        externalSignerBatcher,
         readOnly,
         maybeDataDirLayout);
   }
@@ -123,6 +139,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
                     config.getValidatorExternalSignerTimeout(),
                     externalSignerTaskQueue,
                     metricsSystem,
+                    getExternalSignerBatcher(config.getValidatorExternalSignerUrl()),
                     readOnly))
         .toList();
   }
@@ -156,6 +173,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
           config.getValidatorExternalSignerTimeout(),
           externalSignerTaskQueue,
           metricsSystem,
+          getExternalSignerBatcher(externalSignerUrl),
           readOnly);
 
     } catch (IOException e) {
@@ -236,6 +254,7 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
               config.getValidatorExternalSignerTimeout(),
               externalSignerTaskQueue,
               metricsSystem,
+              getExternalSignerBatcher(url),
               readOnly);
 
       externalValidatorSourceMap.put(publicKey, url);
@@ -247,6 +266,16 @@ public class ExternalValidatorSource extends AbstractValidatorSource implements
     }
   }
 
+  /** Batching is only used for validators signed by the configured external signer. */
+  private Optional<ExternalSignerBatcher> getExternalSignerBatcher(final URL externalSignerUrl) {
+    return externalSignerBatcher.filter(
+        batcher ->
+            batcher
+                .getSigningServiceUrl()
+                .toExternalForm()
+                .equals(externalSignerUrl.toExternalForm()));
+  }
+
   private static void setupExternalSignerStatusLogging(
       final ValidatorConfig config,
       final Supplier<HttpClient> externalSignerHttpClientFactory,
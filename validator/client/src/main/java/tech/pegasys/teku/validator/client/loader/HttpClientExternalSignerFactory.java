@@ -52,7 +52,13 @@ public class HttpClientExternalSignerFactory implements Supplier<HttpClient> {
 
   @Override
   public HttpClient get() {
-    final HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+    // Batched signing sends fewer, larger requests which benefit from multiplexing over a single
+    // connection. The client falls back to HTTP/1.1 if the signer doesn't support HTTP/2.
+    final HttpClient.Version version =
+        validatorConfig.isValidatorExternalSignerBatchingEnabled()
+            ? HttpClient.Version.HTTP_2
+            : HttpClient.Version.HTTP_1_1;
+    final HttpClient.Builder builder = HttpClient.newBuilder().version(version);
     if (isTLSEnabled()) {
       validatorConfig
           .getValidatorExternalSignerUserInfo()
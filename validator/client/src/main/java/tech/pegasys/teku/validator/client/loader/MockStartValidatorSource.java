@@ -88,6 +88,7 @@ public class MockStartValidatorSource implements ValidatorSource {
         config.getValidatorExternalSignerTimeout(),
         externalSignerTaskQueue,
         metricsSystem,
+        Optional.empty(),
         true);
   }
 
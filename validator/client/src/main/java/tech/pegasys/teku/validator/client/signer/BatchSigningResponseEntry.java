@@ -0,0 +1,78 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.ethereum.json.types.EthereumTypes.SIGNATURE_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.RAW_INTEGER_TYPE;
+import static tech.pegasys.teku.infrastructure.json.types.CoreTypes.STRING_TYPE;
+
+import java.util.Optional;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+
+/**
+ * A single result of a batch signing request. Successful entries carry a signature, failed entries
+ * carry the status code the signer would have returned for an individual request.
+ */
+public record BatchSigningResponseEntry(
+    Optional<BLSSignature> signature, Optional<Integer> status, Optional<String> error) {
+
+  static DeserializableTypeDefinition<BatchSigningResponseEntry> getJsonTypeDefinition() {
+    return DeserializableTypeDefinition.object(
+            BatchSigningResponseEntry.class, BatchSigningResponseEntryBuilder.class)
+        .initializer(BatchSigningResponseEntryBuilder::new)
+        .finisher(BatchSigningResponseEntryBuilder::build)
+        .withOptionalField(
+            "signature",
+            SIGNATURE_TYPE,
+            BatchSigningResponseEntry::signature,
+            BatchSigningResponseEntryBuilder::signature)
+        .withOptionalField(
+            "status",
+            RAW_INTEGER_TYPE,
+            BatchSigningResponseEntry::status,
+            BatchSigningResponseEntryBuilder::status)
+        .withOptionalField(
+            "error",
+            STRING_TYPE,
+            BatchSigningResponseEntry::error,
+            BatchSigningResponseEntryBuilder::error)
+        .build();
+  }
+
+  static class BatchSigningResponseEntryBuilder {
+    private Optional<BLSSignature> signature = Optional.empty();
+    private Optional<Integer> status = Optional.empty();
+    private Optional<String> error = Optional.empty();
+
+    BatchSigningResponseEntryBuilder signature(final Optional<BLSSignature> signature) {
+      this.signature = signature;
+      return this;
+    }
+
+    BatchSigningResponseEntryBuilder status(final Optional<Integer> status) {
+      this.status = status;
+      return this;
+    }
+
+    BatchSigningResponseEntryBuilder error(final Optional<String> error) {
+      this.error = error;
+      return this;
+    }
+
+    BatchSigningResponseEntry build() {
+      return new BatchSigningResponseEntry(signature, status, error);
+    }
+  }
+}
@@ -76,6 +76,7 @@ public class ExternalSigner implements Signer {
   private final ThrottlingTaskQueueWithPriority taskQueue;
   private final SigningRootUtil signingRootUtil;
   private final SchemaDefinitionCache schemaDefinitionCache;
+  private final Optional<ExternalSignerBatcher> batcher;
 
   private final Counter successCounter;
   private final Counter failedCounter;
@@ -89,7 +90,28 @@ public class ExternalSigner implements Signer {
       final Duration timeout,
       final ThrottlingTaskQueueWithPriority taskQueue,
       final MetricsSystem metricsSystem) {
+    this(
+        spec,
+        httpClient,
+        signingServiceUrl,
+        blsPublicKey,
+        timeout,
+        taskQueue,
+        metricsSystem,
+        Optional.empty());
+  }
+
+  public ExternalSigner(
+      final Spec spec,
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final BLSPublicKey blsPublicKey,
+      final Duration timeout,
+      final ThrottlingTaskQueueWithPriority taskQueue,
+      final MetricsSystem metricsSystem,
+      final Optional<ExternalSignerBatcher> batcher) {
     this.spec = spec;
+    this.batcher = batcher;
     this.httpClient = httpClient;
     this.signingServiceUrl = signingServiceUrl;
     this.blsPublicKey = blsPublicKey;
@@ -137,8 +159,17 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signAttestationData(
       final AttestationData attestationData, final ForkInfo forkInfo) {
+    return signAttestationData(
+        attestationData,
+        forkInfo,
+        signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo));
+  }
+
+  @Override
+  public SafeFuture<BLSSignature> signAttestationData(
+      final AttestationData attestationData, final ForkInfo forkInfo, final Bytes signingRoot) {
     return sign(
-        signingRootUtil.signingRootForSignAttestationData(attestationData, forkInfo),
+        signingRoot,
         SignType.ATTESTATION,
         Map.of(SignType.ATTESTATION.getName(), attestationData, FORK_INFO, forkInfo),
         slashableAttestationMessage(attestationData));
@@ -158,18 +189,16 @@ public class ExternalSigner implements Signer {
 
   @Override
   public SafeFuture<BLSSignature> signAggregationSlot(final UInt64 slot, final ForkInfo forkInfo) {
-    return taskQueue.queueTask(
-        () ->
-            sign(
-                signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
-                SignType.AGGREGATION_SLOT,
-                Map.of(
-                    SignType.AGGREGATION_SLOT.getName(),
-                    new AggregationSlotWrapper(slot),
-                    FORK_INFO,
-                    forkInfo),
-                slashableGenericMessage("aggregation slot")),
-        true);
+    return sign(
+        signingRootUtil.signingRootForSignAggregationSlot(slot, forkInfo),
+        SignType.AGGREGATION_SLOT,
+        Map.of(
+            SignType.AGGREGATION_SLOT.getName(),
+            new AggregationSlotWrapper(slot),
+            FORK_INFO,
+            forkInfo),
+        slashableGenericMessage("aggregation slot"),
+        request -> taskQueue.queueTask(request, true));
   }
 
   @Override
@@ -255,13 +284,12 @@ public class ExternalSigner implements Signer {
   @Override
   public SafeFuture<BLSSignature> signValidatorRegistration(
       final ValidatorRegistration validatorRegistration) {
-    return taskQueue.queueTask(
-        () ->
-            sign(
-                signingRootUtil.signingRootForValidatorRegistration(validatorRegistration),
-                SignType.VALIDATOR_REGISTRATION,
-                Map.of(SignType.VALIDATOR_REGISTRATION.getName(), validatorRegistration),
-                slashableGenericMessage("validator registration")));
+    return sign(
+        signingRootUtil.signingRootForValidatorRegistration(validatorRegistration),
+        SignType.VALIDATOR_REGISTRATION,
+        Map.of(SignType.VALIDATOR_REGISTRATION.getName(), validatorRegistration),
+        slashableGenericMessage("validator registration"),
+        taskQueue::queueTask);
   }
 
   @Override
@@ -279,29 +307,61 @@ public class ExternalSigner implements Signer {
       final SignType type,
       final Map<String, Object> metadata,
       final Supplier<String> slashableMessage) {
-    final String publicKey = blsPublicKey.toBytesCompressed().toString();
-    return SafeFuture.of(
-            () -> {
-              final String requestBody = createSigningRequestBody(signingRoot, type, metadata);
-              final URI uri =
-                  signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
-              final HttpRequest request =
-                  HttpRequest.newBuilder()
-                      .uri(uri)
-                      .timeout(timeout)
-                      .header("Content-Type", "application/json")
-                      .POST(BodyPublishers.ofString(requestBody))
-                      .build();
-              return httpClient
-                  .sendAsync(request, BodyHandlers.ofString())
-                  .handleAsync(
-                      (response, error) ->
-                          this.getBlsSignatureResponder(
-                              uri, type, response, error, slashableMessage));
+    return sign(signingRoot, type, metadata, slashableMessage, Supplier::get);
+  }
+
+  /**
+   * Signs via the batcher when it can batch the type, otherwise sends an individual request
+   * through {@code individualRequestQueue}. Batched requests are not throttled individually, the
+   * batcher already bounds them to one HTTP request per batch.
+   */
+  private SafeFuture<BLSSignature> sign(
+      final Bytes signingRoot,
+      final SignType type,
+      final Map<String, Object> metadata,
+      final Supplier<String> slashableMessage,
+      final Function<Supplier<SafeFuture<BLSSignature>>, SafeFuture<BLSSignature>>
+          individualRequestQueue) {
+    return SafeFuture.of(() -> createSigningRequestBody(signingRoot, type, metadata))
+        .thenCompose(
+            requestBody -> {
+              final Supplier<SafeFuture<BLSSignature>> individualRequest =
+                  () ->
+                      individualRequestQueue.apply(
+                          () -> sendSigningRequest(requestBody, type, slashableMessage));
+              return batcher
+                  .filter(b -> b.canBatch(type))
+                  .map(
+                      b ->
+                          b.sign(
+                              blsPublicKey, type, requestBody, slashableMessage, individualRequest))
+                  .orElseGet(individualRequest);
             })
         .whenComplete(this::recordMetrics);
   }
 
+  private SafeFuture<BLSSignature> sendSigningRequest(
+      final String requestBody, final SignType type, final Supplier<String> slashableMessage) {
+    final String publicKey = blsPublicKey.toBytesCompressed().toString();
+    return SafeFuture.of(
+        () -> {
+          final URI uri =
+              signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_ENDPOINT + "/" + publicKey);
+          final HttpRequest request =
+              HttpRequest.newBuilder()
+                  .uri(uri)
+                  .timeout(timeout)
+                  .header("Content-Type", "application/json")
+                  .POST(BodyPublishers.ofString(requestBody))
+                  .build();
+          return httpClient
+              .sendAsync(request, BodyHandlers.ofString())
+              .handleAsync(
+                  (response, error) ->
+                      this.getBlsSignatureResponder(uri, type, response, error, slashableMessage));
+        });
+  }
+
   private String createSigningRequestBody(
       final Bytes signingRoot, final SignType type, final Map<String, Object> metadata) {
     try {
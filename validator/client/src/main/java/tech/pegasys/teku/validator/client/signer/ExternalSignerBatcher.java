@@ -0,0 +1,356 @@
+/*
+ * Copyright Consensys Software Inc., 2025
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+
+package tech.pegasys.teku.validator.client.signer;
+
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_METHOD_NOT_ALLOWED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_FOUND;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NOT_IMPLEMENTED;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
+import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_PRECONDITION_FAILED;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+import tech.pegasys.teku.bls.BLSPublicKey;
+import tech.pegasys.teku.bls.BLSSignature;
+import tech.pegasys.teku.infrastructure.async.AsyncRunner;
+import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.json.JsonUtil;
+import tech.pegasys.teku.infrastructure.json.types.DeserializableTypeDefinition;
+import tech.pegasys.teku.infrastructure.metrics.TekuMetricCategory;
+import tech.pegasys.teku.validator.api.signer.SignType;
+
+/**
+ * Groups signing requests of the same type into bulk requests to the external signer.
+ *
+ * <p>Requests are collected for a short window after the first request of a type arrives, or until
+ * the maximum batch size is reached, and then sent as a single POST to {@link
+ * #EXTERNAL_SIGNER_BATCH_ENDPOINT}. The body is a JSON array of {@code {"identifier": <public key>,
+ * "request": <signing request body>}} objects and the signer responds with an array of {@link
+ * BatchSigningResponseEntry} in the same order.
+ *
+ * <p>If the signer responds with 404, 405 or 501 it is assumed not to support batching. The pending
+ * requests, and all later ones, are then sent individually.
+ */
+public class ExternalSignerBatcher {
+  private static final Logger LOG = LogManager.getLogger();
+
+  public static final String EXTERNAL_SIGNER_BATCH_ENDPOINT = "/api/v1/eth2/batch_sign";
+  static final Duration BATCH_WINDOW = Duration.ofMillis(10);
+
+  /** Duties signed by many validators at the same point of every slot or epoch. */
+  private static final Set<SignType> BATCHED_SIGN_TYPES =
+      EnumSet.of(
+          SignType.RANDAO_REVEAL,
+          SignType.ATTESTATION,
+          SignType.AGGREGATION_SLOT,
+          SignType.AGGREGATE_AND_PROOF,
+          SignType.SYNC_COMMITTEE_MESSAGE,
+          SignType.SYNC_COMMITTEE_SELECTION_PROOF,
+          SignType.SYNC_COMMITTEE_CONTRIBUTION_AND_PROOF,
+          SignType.VALIDATOR_REGISTRATION);
+
+  private static final DeserializableTypeDefinition<List<BatchSigningResponseEntry>>
+      RESPONSE_TYPE =
+          DeserializableTypeDefinition.listOf(BatchSigningResponseEntry.getJsonTypeDefinition());
+
+  private final HttpClient httpClient;
+  private final URL signingServiceUrl;
+  private final Duration timeout;
+  private final int maxBatchSize;
+  private final AsyncRunner asyncRunner;
+
+  private final Map<SignType, List<PendingRequest>> pendingRequests =
+      new EnumMap<>(SignType.class);
+  private volatile boolean batchingSupported = true;
+
+  private final LabelledMetric<OperationTimer> batchDuration;
+  private final LabelledMetric<Counter> batchCounter;
+  private final Counter batchedRequestsCounter;
+
+  public ExternalSignerBatcher(
+      final HttpClient httpClient,
+      final URL signingServiceUrl,
+      final Duration timeout,
+      final int maxBatchSize,
+      final AsyncRunner asyncRunner,
+      final MetricsSystem metricsSystem) {
+    this.httpClient = httpClient;
+    this.signingServiceUrl = signingServiceUrl;
+    this.timeout = timeout;
+    this.maxBatchSize = maxBatchSize;
+    this.asyncRunner = asyncRunner;
+    this.batchDuration =
+        metricsSystem.createLabelledTimer(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batch_request_duration",
+            "Time taken for batch requests to the external signer to complete",
+            "type");
+    this.batchCounter =
+        metricsSystem.createLabelledCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batch_requests_total",
+            "Completed external signer batch requests",
+            "result");
+    this.batchedRequestsCounter =
+        metricsSystem.createCounter(
+            TekuMetricCategory.VALIDATOR,
+            "external_signer_batched_signing_requests_total",
+            "Number of signing requests sent to the external signer as part of a batch");
+  }
+
+  public URL getSigningServiceUrl() {
+    return signingServiceUrl;
+  }
+
+  public boolean canBatch(final SignType type) {
+    return batchingSupported && BATCHED_SIGN_TYPES.contains(type);
+  }
+
+  /**
+   * Queues a signing request to be sent as part of the next batch for its type.
+   *
+   * @param singleRequest sends the request individually, used if the signer doesn't support
+   *     batching
+   */
+  public SafeFuture<BLSSignature> sign(
+      final BLSPublicKey publicKey,
+      final SignType type,
+      final String requestBody,
+      final Supplier<String> slashableMessage,
+      final Supplier<SafeFuture<BLSSignature>> singleRequest) {
+    if (!batchingSupported) {
+      return singleRequest.get();
+    }
+    final PendingRequest request =
+        new PendingRequest(
+            publicKey.toBytesCompressed().toHexString(),
+            requestBody,
+            slashableMessage,
+            singleRequest,
+            new SafeFuture<>());
+    final List<PendingRequest> batch;
+    final boolean firstInBatch;
+    final boolean batchFull;
+    synchronized (this) {
+      batch = pendingRequests.computeIfAbsent(type, __ -> new ArrayList<>());
+      batch.add(request);
+      firstInBatch = batch.size() == 1;
+      batchFull = batch.size() >= maxBatchSize;
+      if (batchFull) {
+        pendingRequests.remove(type);
+      }
+    }
+
+    if (batchFull) {
+      sendBatch(type, batch);
+    } else if (firstInBatch) {
+      asyncRunner
+          .runAfterDelay(() -> flush(type, batch), BATCH_WINDOW)
+          .finish(error -> LOG.error("Failed to send external signer batch", error));
+    }
+    return request.result();
+  }
+
+  private void flush(final SignType type, final List<PendingRequest> batch) {
+    synchronized (this) {
+      // The batch may already have been sent because it reached the maximum size
+      if (!pendingRequests.remove(type, batch)) {
+        return;
+      }
+    }
+    sendBatch(type, batch);
+  }
+
+  private void sendBatch(final SignType type, final List<PendingRequest> batch) {
+    final URI uri;
+    final HttpRequest httpRequest;
+    try {
+      uri = signingServiceUrl.toURI().resolve(EXTERNAL_SIGNER_BATCH_ENDPOINT);
+      httpRequest =
+          HttpRequest.newBuilder()
+              .uri(uri)
+              .timeout(timeout)
+              .header("Content-Type", "application/json")
+              .POST(BodyPublishers.ofString(createBatchRequestBody(batch)))
+              .build();
+    } catch (final URISyntaxException | JsonProcessingException e) {
+      batch.forEach(
+          request ->
+              request
+                  .result()
+                  .completeExceptionally(
+                      new ExternalSignerException("Unable to create batch signing request", e)));
+      return;
+    }
+
+    final OperationTimer.TimingContext timingContext =
+        batchDuration.labels(type.getName()).startTimer();
+    SafeFuture.of(
+            () ->
+                httpClient
+                    .sendAsync(httpRequest, BodyHandlers.ofString())
+                    .handleAsync(
+                        (response, error) -> {
+                          handleBatchResponse(uri, type, batch, response, error);
+                          return null;
+                        }))
+        .alwaysRun(timingContext::stopTimer)
+        .finish(error -> failAll(batch, error));
+  }
+
+  private String createBatchRequestBody(final List<PendingRequest> batch)
+      throws JsonProcessingException {
+    return JsonUtil.serialize(
+        gen -> {
+          gen.writeStartArray();
+          for (final PendingRequest request : batch) {
+            gen.writeStartObject();
+            gen.writeStringField("identifier", request.identifier());
+            gen.writeFieldName("request");
+            gen.writeRawValue(request.requestBody());
+            gen.writeEndObject();
+          }
+          gen.writeEndArray();
+        });
+  }
+
+  private void handleBatchResponse(
+      final URI uri,
+      final SignType type,
+      final List<PendingRequest> batch,
+      final HttpResponse<String> response,
+      final Throwable error) {
+    if (error != null) {
+      batchCounter.labels("failed").inc();
+      failAll(batch, new ExternalSignerException(uri, type, error.getMessage(), error));
+      return;
+    }
+
+    final int statusCode = response.statusCode();
+    if (statusCode == SC_NOT_FOUND
+        || statusCode == SC_METHOD_NOT_ALLOWED
+        || statusCode == SC_NOT_IMPLEMENTED) {
+      batchCounter.labels("unsupported").inc();
+      if (batchingSupported) {
+        batchingSupported = false;
+        LOG.info(
+            "External signer does not support batch signing (status code {}). "
+                + "Sending signing requests individually.",
+            statusCode);
+      }
+      batch.forEach(this::sendIndividually);
+      return;
+    }
+
+    if (statusCode != SC_OK) {
+      batchCounter.labels("failed").inc();
+      failAll(
+          batch,
+          new ExternalSignerException(
+              uri, type, "Invalid batch response status code: " + statusCode));
+      return;
+    }
+
+    final List<BatchSigningResponseEntry> entries;
+    try {
+      entries = JsonUtil.parse(response.body(), RESPONSE_TYPE);
+    } catch (final IllegalArgumentException | JsonProcessingException e) {
+      batchCounter.labels("failed").inc();
+      failAll(
+          batch,
+          new ExternalSignerException(uri, type, "Returned an invalid batch response", e));
+      return;
+    }
+    if (entries.size() != batch.size()) {
+      batchCounter.labels("failed").inc();
+      failAll(
+          batch,
+          new ExternalSignerException(
+              uri,
+              type,
+              "Expected " + batch.size() + " batch results but got " + entries.size()));
+      return;
+    }
+
+    batchCounter.labels("success").inc();
+    batchedRequestsCounter.inc(batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      completeRequest(uri, type, batch.get(i), entries.get(i));
+    }
+  }
+
+  private void completeRequest(
+      final URI uri,
+      final SignType type,
+      final PendingRequest request,
+      final BatchSigningResponseEntry entry) {
+    if (entry.signature().isPresent()) {
+      request.result().complete(entry.signature().get());
+    } else if (entry.status().map(status -> status == SC_PRECONDITION_FAILED).orElse(false)) {
+      request
+          .result()
+          .completeExceptionally(new ExternalSignerException(request.slashableMessage().get()));
+    } else {
+      request
+          .result()
+          .completeExceptionally(
+              new ExternalSignerException(
+                  uri,
+                  type,
+                  "Batch entry failed with status "
+                      + entry.status().map(Object::toString).orElse("unknown")
+                      + entry.error().map(message -> ": " + message).orElse("")));
+    }
+  }
+
+  private void sendIndividually(final PendingRequest request) {
+    try {
+      request.singleRequest().get().propagateTo(request.result());
+    } catch (final Throwable t) {
+      request.result().completeExceptionally(t);
+    }
+  }
+
+  private void failAll(final List<PendingRequest> batch, final Throwable error) {
+    batch.forEach(request -> request.result().completeExceptionally(error));
+  }
+
+  private record PendingRequest(
+      String identifier,
+      String requestBody,
+      Supplier<String> slashableMessage,
+      Supplier<SafeFuture<BLSSignature>> singleRequest,
+      SafeFuture<BLSSignature> result) {}
+}
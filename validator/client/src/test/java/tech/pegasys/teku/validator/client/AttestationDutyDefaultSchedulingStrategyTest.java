@@ -17,6 +17,7 @@ import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -149,6 +150,52 @@ class AttestationDutyDefaultSchedulingStrategyTest {
     verify(beaconCommitteeSubscriptions).sendRequests();
   }
 
+  @Test
+  void shouldReuseSlotSignatureWhenDutiesAreRescheduled() {
+    final UInt64 slot = UInt64.ONE;
+    final int validatorIndex = VALIDATOR_INDICES.getInt(0);
+    final AttesterDuty duty = new AttesterDuty(validatorKey, validatorIndex, 1, 3, 4, 0, slot);
+
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    assertThat(
+            dutySchedulingStrategy.scheduleAllDuties(
+                UInt64.ONE,
+                new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty))))
+        .isCompleted();
+    assertThat(
+            dutySchedulingStrategy.scheduleAllDuties(
+                UInt64.ONE,
+                new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty))))
+        .isCompleted();
+
+    verify(signer).signAggregationSlot(slot, forkInfo);
+    verify(beaconCommitteeSubscriptions, times(2))
+        .subscribeToBeaconCommittee(
+            new CommitteeSubscriptionRequest(validatorIndex, 3, UInt64.valueOf(4), slot, true));
+  }
+
+  @Test
+  void shouldSignSlotAgainWhenPreviousSigningFailed() {
+    final UInt64 slot = UInt64.ONE;
+    final AttesterDuty duty =
+        new AttesterDuty(validatorKey, VALIDATOR_INDICES.getInt(0), 1, 3, 4, 0, slot);
+
+    when(scheduledDuties.scheduleProduction(any(), any(), any())).thenReturn(new SafeFuture<>());
+    when(signer.signAggregationSlot(slot, forkInfo))
+        .thenReturn(SafeFuture.failedFuture(new RuntimeException("Nope")))
+        .thenReturn(SafeFuture.completedFuture(dataStructureUtil.randomSignature()));
+
+    dutySchedulingStrategy.scheduleAllDuties(
+        UInt64.ONE, new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)));
+    dutySchedulingStrategy.scheduleAllDuties(
+        UInt64.ONE, new AttesterDuties(false, dataStructureUtil.randomBytes32(), List.of(duty)));
+
+    verify(signer, times(2)).signAggregationSlot(slot, forkInfo);
+  }
+
   @Test
   void shouldSendSubscriptionRequestsWhenAllDutiesAreScheduled() {
     final AttesterDuties duties =
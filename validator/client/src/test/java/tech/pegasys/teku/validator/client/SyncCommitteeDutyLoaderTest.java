@@ -16,12 +16,16 @@ package tech.pegasys.teku.validator.client;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.assertThatSafeFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 
+import it.unimi.dsi.fastutil.ints.IntList;
 import it.unimi.dsi.fastutil.ints.IntSet;
 import java.util.List;
 import java.util.Map;
@@ -162,6 +166,69 @@ class SyncCommitteeDutyLoaderTest {
     assertThatCode(() -> loadDuties(epoch)).doesNotThrowAnyException();
   }
 
+  @Test
+  void shouldRequestDutiesInBatches() {
+    final UInt64 epoch = UInt64.valueOf(56);
+    final SyncCommitteeDutyLoader batchingDutyLoader =
+        new SyncCommitteeDutyLoader(
+            validators,
+            validatorIndexProvider,
+            spec,
+            validatorApiChannel,
+            chainHeadTracker,
+            forkProvider,
+            metricsSystem,
+            false,
+            1);
+    final SyncCommitteeDuty duty1 =
+        new SyncCommitteeDuty(validator1.getPublicKey(), validator1Index, IntSet.of(1, 6, 25));
+    final SyncCommitteeDuty duty2 =
+        new SyncCommitteeDuty(validator2.getPublicKey(), validator2Index, IntSet.of(7, 50, 38));
+    when(validatorApiChannel.getSyncCommitteeDuties(
+            eq(epoch), argThat(indices -> indices.equals(IntList.of(validator1Index)))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(new SyncCommitteeDuties(false, List.of(duty1)))));
+    when(validatorApiChannel.getSyncCommitteeDuties(
+            eq(epoch), argThat(indices -> indices.equals(IntList.of(validator2Index)))))
+        .thenReturn(
+            SafeFuture.completedFuture(
+                Optional.of(new SyncCommitteeDuties(true, List.of(duty2)))));
+
+    final SafeFuture<Optional<SyncCommitteeScheduledDuties>> result =
+        batchingDutyLoader.loadDutiesForEpoch(epoch);
+
+    assertThatSafeFuture(result).isCompletedWithNonEmptyOptional();
+    assertThat(safeJoin(result).orElseThrow().countDuties()).isEqualTo(2);
+    verify(validatorApiChannel, times(2)).getSyncCommitteeDuties(eq(epoch), any());
+  }
+
+  @Test
+  void shouldFailWhenAnyBatchIsUnavailable() {
+    final UInt64 epoch = UInt64.valueOf(56);
+    final SyncCommitteeDutyLoader batchingDutyLoader =
+        new SyncCommitteeDutyLoader(
+            validators,
+            validatorIndexProvider,
+            spec,
+            validatorApiChannel,
+            chainHeadTracker,
+            forkProvider,
+            metricsSystem,
+            false,
+            1);
+    when(validatorApiChannel.getSyncCommitteeDuties(
+            eq(epoch), argThat(indices -> indices.equals(IntList.of(validator1Index)))))
+        .thenReturn(
+            SafeFuture.completedFuture(Optional.of(new SyncCommitteeDuties(false, List.of()))));
+    when(validatorApiChannel.getSyncCommitteeDuties(
+            eq(epoch), argThat(indices -> indices.equals(IntList.of(validator2Index)))))
+        .thenReturn(SafeFuture.completedFuture(Optional.empty()));
+
+    assertThatSafeFuture(batchingDutyLoader.loadDutiesForEpoch(epoch))
+        .isCompletedExceptionallyWith(NodeDataUnavailableException.class);
+  }
+
   private SyncCommitteeScheduledDuties loadDuties(final UInt64 epoch) {
     final SafeFuture<Optional<SyncCommitteeScheduledDuties>> result =
         dutyLoader.loadDutiesForEpoch(epoch);
@@ -31,6 +31,7 @@ import static tech.pegasys.teku.infrastructure.async.SafeFuture.failedFuture;
 import static tech.pegasys.teku.infrastructure.async.SafeFutureAssert.safeJoin;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.CREATE_TOTAL;
 import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN;
+import static tech.pegasys.teku.infrastructure.metrics.Validator.ValidatorDutyMetricsSteps.SIGN_ALL;
 import static tech.pegasys.teku.spec.SpecMilestone.ELECTRA;
 import static tech.pegasys.teku.spec.SpecMilestone.PHASE0;
 
@@ -38,11 +39,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import org.mockito.ArgumentCaptor;
 import tech.pegasys.teku.bls.BLSSignature;
 import tech.pegasys.teku.infrastructure.async.SafeFuture;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.logging.ValidatorLogger;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.ssz.collections.SszBitlist;
@@ -56,6 +59,7 @@ import tech.pegasys.teku.spec.datastructures.operations.AttestationSchema;
 import tech.pegasys.teku.spec.datastructures.operations.SingleAttestationSchema;
 import tech.pegasys.teku.spec.datastructures.state.ForkInfo;
 import tech.pegasys.teku.spec.schemas.SchemaDefinitions;
+import tech.pegasys.teku.spec.signatures.SigningRootUtil;
 import tech.pegasys.teku.spec.signatures.Signer;
 import tech.pegasys.teku.spec.util.DataStructureUtil;
 import tech.pegasys.teku.validator.api.FileBackedGraffitiProvider;
@@ -96,7 +100,8 @@ class AttestationProductionDutyTest {
             forkProvider,
             validatorApiChannel,
             new BatchAttestationSendingStrategy<>(validatorApiChannel::sendSignedAttestations),
-            validatorDutyMetrics);
+            validatorDutyMetrics,
+            ThrottlingTaskQueue.create(2));
 
     when(forkProvider.getForkInfo(any())).thenReturn(completedFuture(fork));
     when(validatorApiChannel.sendSignedAttestations(any()))
@@ -313,7 +318,9 @@ class AttestationProductionDutyTest {
     final int validator2CommitteeSize = 39;
     final AttestationData attestationData = expectCreateAttestationData(committeeIndex);
     final RuntimeException signingFailure = new RuntimeException("Gosh darn");
-    when(validator1.getSigner().signAttestationData(attestationData, fork))
+    when(validator1
+            .getSigner()
+            .signAttestationData(attestationData, fork, signingRootFor(attestationData)))
         .thenReturn(failedFuture(signingFailure));
     final Attestation expectedAttestation =
         expectSignAttestation(
@@ -615,6 +622,43 @@ class AttestationProductionDutyTest {
         .record(any(), any(AttestationProductionDuty.class), eq(CREATE_TOTAL));
     verify(validatorDutyMetrics, times(3))
         .record(any(), any(AttestationProductionDuty.class), eq(SIGN));
+    verify(validatorDutyMetrics).record(any(), any(AttestationProductionDuty.class), eq(SIGN_ALL));
+  }
+
+  @TestTemplate
+  public void shouldShareSigningRootBetweenCommitteesWithSameAttestationData() {
+    final Validator validator1 = createValidator();
+    final Validator validator2 = createValidator();
+    final Validator validator3 = createValidator();
+    final AttestationData attestationData = dataStructureUtil.randomAttestationData(SLOT);
+    when(validatorApiChannel.createAttestationData(SLOT, 0))
+        .thenReturn(completedFuture(Optional.of(attestationData)));
+    when(validatorApiChannel.createAttestationData(SLOT, 1))
+        .thenReturn(completedFuture(Optional.of(attestationData)));
+    final Attestation expectedAttestation1 =
+        expectSignAttestation(validator1, 10, 0, 1, 10, attestationData);
+    final Attestation expectedAttestation2 =
+        expectSignAttestation(validator2, 20, 1, 2, 10, attestationData);
+    final Attestation expectedAttestation3 =
+        expectSignAttestation(validator3, 30, 1, 3, 10, attestationData);
+
+    duty.addValidator(validator1, 0, 1, 10, 10);
+    duty.addValidator(validator2, 1, 2, 20, 10);
+    duty.addValidator(validator3, 1, 3, 30, 10);
+
+    performAndReportDuty();
+
+    // signers are only stubbed for the signing root of the shared attestation data
+    final ArgumentCaptor<List<Attestation>> argumentCaptor = ArgumentCaptor.forClass(List.class);
+    verify(validatorApiChannel).sendSignedAttestations(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue())
+        .containsExactlyInAnyOrder(
+            expectedAttestation1, expectedAttestation2, expectedAttestation3);
+    verify(validatorDutyMetrics).record(any(), any(AttestationProductionDuty.class), eq(SIGN_ALL));
+  }
+
+  private Bytes signingRootFor(final AttestationData attestationData) {
+    return new SigningRootUtil(spec).signingRootForSignAttestationData(attestationData, fork);
   }
 
   private Validator createValidator() {
@@ -631,7 +675,9 @@ class AttestationProductionDutyTest {
       final int committeeSize,
       final AttestationData attestationData) {
     final BLSSignature signature = dataStructureUtil.randomSignature();
-    when(validator.getSigner().signAttestationData(attestationData, fork))
+    when(validator
+            .getSigner()
+            .signAttestationData(attestationData, fork, signingRootFor(attestationData)))
         .thenReturn(completedFuture(signature));
 
     return createExpectedAttestation(
@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import tech.pegasys.teku.infrastructure.async.ThrottlingTaskQueue;
 import tech.pegasys.teku.infrastructure.metrics.StubMetricsSystem;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
 import tech.pegasys.teku.spec.Spec;
@@ -45,7 +46,12 @@ class AttestationDutyFactoryTest {
       final boolean dvtEnabled, final Class<?> expectedAggregatorClass) {
     final AttestationDutyFactory attestationDutyFactory =
         new AttestationDutyFactory(
-            spec, forkProvider, validatorApiChannel, validatorDutyMetrics, dvtEnabled);
+            spec,
+            forkProvider,
+            validatorApiChannel,
+            validatorDutyMetrics,
+            ThrottlingTaskQueue.create(1),
+            dvtEnabled);
     final AggregationDuty aggregationDuty =
         attestationDutyFactory.createAggregationDuty(slot, validator);
 
@@ -113,10 +113,10 @@ class OkHttpValidatorTypeDefClientTest extends AbstractTypeDefRequestTestBase {
     super.beforeEach(specContext);
     typeDefClient =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), false, false, false);
     okHttpValidatorTypeDefClientWithPreferredSsz =
         new OkHttpValidatorTypeDefClient(
-            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, false);
+            okHttpClient, mockWebServer.url("/"), specContext.getSpec(), true, false, false);
     sszRegisterValidatorsRequest =
         new RegisterValidatorsRequest(mockWebServer.url("/"), okHttpClient, true);
   }
@@ -20,12 +20,14 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_NO_CONTEN
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.ATTESTATION_DATA_ROOT;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.COMMITTEE_INDEX;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT;
 import static tech.pegasys.teku.spec.SpecMilestone.ELECTRA;
 
 import java.util.Optional;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.apache.tuweni.bytes.Bytes32;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -61,6 +63,7 @@ public class CreateAggregateAttestationRequestElectraTest extends AbstractTypeDe
             attestationHashTreeRoot,
             Optional.of(committeeIndex),
             false,
+            false,
             spec);
 
     createAggregateAttestationRequest.submit();
@@ -104,6 +107,7 @@ public class CreateAggregateAttestationRequestElectraTest extends AbstractTypeDe
             attestation.hashTreeRoot(),
             Optional.of(committeeIndex),
             false,
+            false,
             spec);
 
     final Optional<ObjectAndMetaData<Attestation>> maybeAttestationAndMetaData =
@@ -114,6 +118,44 @@ public class CreateAggregateAttestationRequestElectraTest extends AbstractTypeDe
     assertThat(maybeAttestationAndMetaData.get().getMilestone()).isEqualTo(specMilestone);
   }
 
+  @TestTemplate
+  public void shouldGetAggregateAttestationAsSsz() throws Exception {
+    final Attestation attestation = dataStructureUtil.randomAttestation();
+    final UInt64 committeeIndex =
+        UInt64.valueOf(
+            attestation.getCommitteeBitsRequired().streamAllSetBits().findFirst().orElseThrow());
+
+    final Buffer responseBody = new Buffer();
+    responseBody.write(attestation.sszSerialize().toArrayUnsafe());
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+            .setHeader(HEADER_CONSENSUS_VERSION, specMilestone.lowerCaseName())
+            .setBody(responseBody));
+
+    createAggregateAttestationRequest =
+        new CreateAggregateAttestationRequest(
+            mockWebServer.url("/"),
+            okHttpClient,
+            new SchemaDefinitionCache(spec),
+            slot,
+            attestation.hashTreeRoot(),
+            Optional.of(committeeIndex),
+            false,
+            true,
+            spec);
+
+    final Optional<ObjectAndMetaData<Attestation>> maybeAttestationAndMetaData =
+        createAggregateAttestationRequest.submit();
+
+    final RecordedRequest request = mockWebServer.takeRequest();
+    assertThat(request.getHeader("Accept")).contains("application/octet-stream");
+    assertThat(maybeAttestationAndMetaData).isPresent();
+    assertThat(maybeAttestationAndMetaData.get().getData()).isEqualTo(attestation);
+    assertThat(maybeAttestationAndMetaData.get().getMilestone()).isEqualTo(specMilestone);
+  }
+
   @TestTemplate
   public void shouldThrowWhenCommitteeIndexIsMissing() {
     final Attestation attestation = dataStructureUtil.randomAttestation();
@@ -126,6 +168,7 @@ public class CreateAggregateAttestationRequestElectraTest extends AbstractTypeDe
             attestation.hashTreeRoot(),
             Optional.empty(),
             false,
+            false,
             spec);
     assertThatThrownBy(() -> createAggregateAttestationRequest.submit())
         .isInstanceOf(IllegalArgumentException.class)
@@ -61,6 +61,7 @@ public class CreateAggregateAttestationRequestTest extends AbstractTypeDefReques
             attestationHashTreeRoot,
             Optional.empty(),
             false,
+            false,
             spec);
   }
 
@@ -96,6 +97,7 @@ public class CreateAggregateAttestationRequestTest extends AbstractTypeDefReques
             attestation.hashTreeRoot(),
             Optional.empty(),
             false,
+            false,
             spec);
     final Optional<ObjectAndMetaData<Attestation>> maybeAttestation = request.submit();
     assertThat(maybeAttestation).isPresent();
@@ -135,6 +137,7 @@ public class CreateAggregateAttestationRequestTest extends AbstractTypeDefReques
             attestationHashTreeRoot,
             Optional.of(dataStructureUtil.randomUInt64()),
             true,
+            false,
             spec);
     request.submit();
     final RecordedRequest request = mockWebServer.takeRequest();
@@ -155,6 +158,7 @@ public class CreateAggregateAttestationRequestTest extends AbstractTypeDefReques
             attestation.hashTreeRoot(),
             Optional.empty(),
             true,
+            false,
             spec);
     assertThatThrownBy(() -> request.submit())
         .isInstanceOf(IllegalArgumentException.class)
@@ -24,6 +24,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_OK;
 import java.util.Optional;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.TestTemplate;
 import tech.pegasys.teku.infrastructure.unsigned.UInt64;
@@ -42,7 +43,7 @@ class CreateAttestationDataRequestTest extends AbstractTypeDefRequestTestBase {
 
   @BeforeEach
   void setupRequest() {
-    request = new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient);
+    request = new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, false);
   }
 
   @TestTemplate
@@ -102,4 +103,40 @@ class CreateAttestationDataRequestTest extends AbstractTypeDefRequestTestBase {
 
     assertThat(attestationData.get()).isEqualTo(expectedAttestationData);
   }
+
+  @TestTemplate
+  public void dataCanBeReadAsSsz() throws Exception {
+    final AttestationData expectedAttestationData = dataStructureUtil.randomAttestationData();
+    final Buffer responseBody = new Buffer();
+    responseBody.write(expectedAttestationData.sszSerialize().toArrayUnsafe());
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", OCTET_STREAM_CONTENT_TYPE)
+            .setBody(responseBody));
+
+    final Optional<AttestationData> attestationData =
+        new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, true)
+            .submit(UInt64.ONE, 1);
+
+    final RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    assertThat(recordedRequest.getHeader("Accept")).contains("application/octet-stream");
+    assertThat(attestationData).contains(expectedAttestationData);
+  }
+
+  @TestTemplate
+  public void dataCanBeReadAsJsonWhenSszPreferred() throws Exception {
+    final AttestationData expectedAttestationData = dataStructureUtil.randomAttestationData();
+    mockWebServer.enqueue(
+        new MockResponse()
+            .setResponseCode(SC_OK)
+            .setHeader("Content-Type", JSON_CONTENT_TYPE)
+            .setBody(serializeSszObjectToJsonWithDataWrapper(expectedAttestationData)));
+
+    final Optional<AttestationData> attestationData =
+        new CreateAttestationDataRequest(mockWebServer.url("/"), okHttpClient, true)
+            .submit(UInt64.ONE, 1);
+
+    assertThat(attestationData).contains(expectedAttestationData);
+  }
 }
@@ -108,6 +108,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
             okHttpClient,
             spec,
             validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+            validatorConfig.isValidatorClientSszResponsesEnabled(),
             validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
             asyncRunner,
             readinessAsyncRunner,
@@ -121,6 +122,7 @@ public class RemoteBeaconNodeApi implements BeaconNodeApi {
                         okHttpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientSszResponsesEnabled(),
                         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
                         asyncRunner,
                         readinessAsyncRunner,
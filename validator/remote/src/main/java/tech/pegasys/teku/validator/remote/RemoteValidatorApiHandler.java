@@ -376,13 +376,19 @@ public class RemoteValidatorApiHandler implements RemoteValidatorApiChannel {
       final OkHttpClient httpClient,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszResponseEncoding,
       final boolean usePostValidatorsEndpoint,
       final AsyncRunner asyncRunner,
       final AsyncRunner readinessAsyncRunner,
       final boolean attestationsV2ApisEnabled) {
     final OkHttpValidatorTypeDefClient typeDefClient =
         new OkHttpValidatorTypeDefClient(
-            httpClient, endpoint, spec, preferSszBlockEncoding, attestationsV2ApisEnabled);
+            httpClient,
+            endpoint,
+            spec,
+            preferSszBlockEncoding,
+            preferSszResponseEncoding,
+            attestationsV2ApisEnabled);
     return new RemoteValidatorApiHandler(
         endpoint, typeDefClient, asyncRunner, readinessAsyncRunner, usePostValidatorsEndpoint);
   }
@@ -212,6 +212,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
         httpClient,
         spec,
         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+        validatorConfig.isValidatorClientSszResponsesEnabled(),
         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
         asyncRunner,
         readinessAsyncRunner,
@@ -234,6 +235,7 @@ public class SentryBeaconNodeApi implements BeaconNodeApi {
                         httpClient,
                         spec,
                         validatorConfig.isValidatorClientUseSszBlocksEnabled(),
+                        validatorConfig.isValidatorClientSszResponsesEnabled(),
                         validatorConfig.isValidatorClientUsePostValidatorsEndpointEnabled(),
                         asyncRunner,
                         readinessAsyncRunner,
@@ -84,6 +84,7 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
 
   private final Spec spec;
   private final boolean preferSszBlockEncoding;
+  private final boolean preferSszResponseEncoding;
   private final SchemaDefinitionCache schemaDefinitionCache;
   private final boolean attestationsV2ApisEnabled;
 
@@ -92,11 +93,13 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
       final HttpUrl baseEndpoint,
       final Spec spec,
       final boolean preferSszBlockEncoding,
+      final boolean preferSszResponseEncoding,
       final boolean attestationsV2ApisEnabled) {
     super(baseEndpoint, okHttpClient);
     this.spec = spec;
     schemaDefinitionCache = new SchemaDefinitionCache(spec);
     this.preferSszBlockEncoding = preferSszBlockEncoding;
+    this.preferSszResponseEncoding = preferSszResponseEncoding;
     this.attestationsV2ApisEnabled = attestationsV2ApisEnabled;
   }
 
@@ -173,7 +176,8 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
       final UInt64 slot, final int committeeIndex) {
 
     final CreateAttestationDataRequest createAttestationDataRequest =
-        new CreateAttestationDataRequest(getBaseEndpoint(), getOkHttpClient());
+        new CreateAttestationDataRequest(
+            getBaseEndpoint(), getOkHttpClient(), preferSszResponseEncoding);
     return createAttestationDataRequest.submit(slot, committeeIndex);
   }
 
@@ -255,6 +259,7 @@ public class OkHttpValidatorTypeDefClient extends OkHttpValidatorMinimalTypeDefC
             attestationHashTreeRoot,
             committeeIndex,
             attestationsV2ApisEnabled,
+            preferSszResponseEncoding,
             spec);
     return createAggregateAttestationRequest.submit();
   }
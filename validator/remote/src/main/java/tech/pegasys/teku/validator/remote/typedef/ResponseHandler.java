@@ -25,6 +25,7 @@ import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_SERVICE_U
 import static tech.pegasys.teku.infrastructure.http.HttpStatusCodes.SC_TOO_MANY_REQUESTS;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.net.MediaType;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.io.IOException;
@@ -34,6 +35,7 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.bytes.Bytes;
 import tech.pegasys.teku.api.exceptions.RemoteServiceNotAvailableException;
 import tech.pegasys.teku.infrastructure.json.JsonUtil;
 import tech.pegasys.teku.infrastructure.json.types.DeserializableOneOfTypeDefinition;
@@ -47,6 +49,7 @@ public class ResponseHandler<TObject> {
   private final Int2ObjectMap<ResponseHandler.Handler<TObject>> handlers =
       new Int2ObjectOpenHashMap<>();
   private final Optional<SerializableTypeDefinition<TObject>> maybeTypeDefinition;
+  private Optional<SszDecoder<TObject>> maybeSszDecoder = Optional.empty();
 
   public ResponseHandler(final Optional<SerializableTypeDefinition<TObject>> maybeTypeDefinition) {
     this.maybeTypeDefinition = maybeTypeDefinition;
@@ -85,6 +88,16 @@ public class ResponseHandler<TObject> {
     return this;
   }
 
+  /**
+   * Decodes successful responses with {@code application/octet-stream} content using the given
+   * decoder rather than the JSON type definition. Requests still need to ask for SSZ in their
+   * {@code Accept} header, otherwise the beacon node replies with JSON.
+   */
+  public ResponseHandler<TObject> withSszDecoder(final SszDecoder<TObject> sszDecoder) {
+    this.maybeSszDecoder = Optional.of(sszDecoder);
+    return this;
+  }
+
   public ResponseHandler<TObject> withHandler(
       final Handler<TObject> handler, final int... responseCodes) {
     for (final int responseCode : responseCodes) {
@@ -96,6 +109,10 @@ public class ResponseHandler<TObject> {
   private Optional<TObject> defaultOkHandler(final Request request, final Response response)
       throws IOException {
     final ResponseBody responseBody = response.body();
+    if (responseBody != null && maybeSszDecoder.isPresent() && isOctetStream(response)) {
+      return Optional.of(
+          maybeSszDecoder.get().decode(response, Bytes.wrap(responseBody.bytes())));
+    }
     if (responseBody != null && maybeTypeDefinition.isPresent()) {
       try {
         final SerializableTypeDefinition<TObject> typeDefinition = maybeTypeDefinition.get();
@@ -105,9 +122,10 @@ public class ResponseHandler<TObject> {
                   responseBody.string(),
                   (DeserializableOneOfTypeDefinition<? extends TObject>) typeDefinition));
         } else {
+          // parse straight from the response stream rather than buffering the body as a string
           return Optional.of(
               JsonUtil.parse(
-                  responseBody.string(),
+                  responseBody.byteStream(),
                   (DeserializableTypeDefinition<? extends TObject>) typeDefinition));
         }
 
@@ -118,6 +136,11 @@ public class ResponseHandler<TObject> {
     return Optional.empty();
   }
 
+  private static boolean isOctetStream(final Response response) {
+    final String contentType = response.header("Content-Type");
+    return contentType != null && MediaType.parse(contentType).is(MediaType.OCTET_STREAM);
+  }
+
   public Optional<TObject> handleResponse(final Request request, final Response response)
       throws IOException {
     return handlers
@@ -139,6 +162,10 @@ public class ResponseHandler<TObject> {
     Optional<TObject> handleResponse(Request request, Response response) throws IOException;
   }
 
+  public interface SszDecoder<TObject> {
+    TObject decode(Response response, Bytes body);
+  }
+
   private Optional<TObject> noValueHandler(final Request request, final Response response) {
     return Optional.empty();
   }
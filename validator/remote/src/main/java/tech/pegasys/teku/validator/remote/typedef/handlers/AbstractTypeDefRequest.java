@@ -36,6 +36,9 @@ import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
 import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public abstract class AbstractTypeDefRequest {
+  // application/octet-stream is preferred, but will accept application/json
+  protected static final Map<String, String> PREFER_SSZ_HEADERS =
+      Map.of("Accept", "application/octet-stream;q=0.9, application/json;q=0.4");
   private static final MediaType APPLICATION_JSON =
       MediaType.parse("application/json; charset=utf-8");
   private static final MediaType OCTET_STREAM = MediaType.parse("application/octet-stream");
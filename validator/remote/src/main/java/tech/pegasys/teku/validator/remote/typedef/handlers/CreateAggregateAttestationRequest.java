@@ -13,8 +13,10 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static java.util.Collections.emptyMap;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.ATTESTATION_DATA_ROOT;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.COMMITTEE_INDEX;
+import static tech.pegasys.teku.infrastructure.http.RestApiConstants.HEADER_CONSENSUS_VERSION;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_AGGREGATE;
 import static tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod.GET_AGGREGATE_V2;
@@ -42,6 +44,7 @@ public class CreateAggregateAttestationRequest extends AbstractTypeDefRequest {
   final Bytes32 attestationHashTreeRoot;
   final Optional<UInt64> committeeIndex;
   final boolean attestationsV2ApisEnabled;
+  private final boolean preferSszEncoding;
 
   public CreateAggregateAttestationRequest(
       final HttpUrl baseEndpoint,
@@ -51,8 +54,10 @@ public class CreateAggregateAttestationRequest extends AbstractTypeDefRequest {
       final Bytes32 attestationHashTreeRoot,
       final Optional<UInt64> committeeIndex,
       final boolean attestationsV2ApisEnabled,
+      final boolean preferSszEncoding,
       final Spec spec) {
     super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
     this.schemaDefinitionCache = schemaDefinitionCache;
     this.specMilestone = spec.atSlot(slot).getMilestone();
     this.slot = slot;
@@ -99,13 +104,28 @@ public class CreateAggregateAttestationRequest extends AbstractTypeDefRequest {
                     GetAggregateAttestationResponse::setData)
                 .build();
     final ResponseHandler<GetAggregateAttestationResponseV2> responseHandler =
-        new ResponseHandler<>(getAggregateAttestationTypeDef);
+        new ResponseHandler<>(getAggregateAttestationTypeDef)
+            .withSszDecoder(
+                (response, body) -> {
+                  final String version = response.header(HEADER_CONSENSUS_VERSION);
+                  final GetAggregateAttestationResponseV2 aggregateResponse =
+                      new GetAggregateAttestationResponseV2(attestationSchema.sszDeserialize(body));
+                  aggregateResponse.setSpecMilestone(
+                      version == null ? specMilestone : SpecMilestone.forName(version));
+                  return aggregateResponse;
+                });
     final Map<String, String> queryParams = new HashMap<>();
     queryParams.put(SLOT, slot.toString());
     queryParams.put(ATTESTATION_DATA_ROOT, attestationHashTreeRoot.toHexString());
     queryParams.put(COMMITTEE_INDEX, committeeIndex.toString());
 
-    return get(GET_AGGREGATE_V2, queryParams, responseHandler)
+    return get(
+            GET_AGGREGATE_V2,
+            emptyMap(),
+            queryParams,
+            emptyMap(),
+            preferSszEncoding ? PREFER_SSZ_HEADERS : emptyMap(),
+            responseHandler)
         .map(
             getAggregateAttestationResponse ->
                 new ObjectAndMetaData<>(
@@ -13,6 +13,7 @@
 
 package tech.pegasys.teku.validator.remote.typedef.handlers;
 
+import static java.util.Collections.emptyMap;
 import static tech.pegasys.teku.ethereum.json.types.SharedApiTypes.withDataWrapper;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.COMMITTEE_INDEX;
 import static tech.pegasys.teku.infrastructure.http.RestApiConstants.SLOT;
@@ -28,18 +29,29 @@ import tech.pegasys.teku.validator.remote.apiclient.ValidatorApiMethod;
 import tech.pegasys.teku.validator.remote.typedef.ResponseHandler;
 
 public class CreateAttestationDataRequest extends AbstractTypeDefRequest {
+  private final boolean preferSszEncoding;
 
-  public CreateAttestationDataRequest(final HttpUrl baseEndpoint, final OkHttpClient okHttpClient) {
+  public CreateAttestationDataRequest(
+      final HttpUrl baseEndpoint,
+      final OkHttpClient okHttpClient,
+      final boolean preferSszEncoding) {
     super(baseEndpoint, okHttpClient);
+    this.preferSszEncoding = preferSszEncoding;
   }
 
   public Optional<AttestationData> submit(final UInt64 slot, final int committeeIndex) {
     final Map<String, String> queryParams = new HashMap<>();
     queryParams.put(SLOT, slot.toString());
     queryParams.put(COMMITTEE_INDEX, Integer.toString(committeeIndex));
+    final ResponseHandler<AttestationData> responseHandler =
+        new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA))
+            .withSszDecoder((response, body) -> AttestationData.SSZ_SCHEMA.sszDeserialize(body));
     return get(
         ValidatorApiMethod.GET_ATTESTATION_DATA,
+        emptyMap(),
         queryParams,
-        new ResponseHandler<>(withDataWrapper(AttestationData.SSZ_SCHEMA)));
+        emptyMap(),
+        preferSszEncoding ? PREFER_SSZ_HEADERS : emptyMap(),
+        responseHandler);
   }
 }
@@ -112,8 +112,7 @@ public class ProduceBlockRequest extends AbstractTypeDefRequest {
         builderBoostFactor -> queryParams.put(BUILDER_BOOST_FACTOR, builderBoostFactor.toString()));
 
     if (this.preferSszBlockEncoding) {
-      // application/octet-stream is preferred, but will accept application/json
-      headers.put("Accept", "application/octet-stream;q=0.9, application/json;q=0.4");
+      headers.putAll(PREFER_SSZ_HEADERS);
     }
 
     return get(